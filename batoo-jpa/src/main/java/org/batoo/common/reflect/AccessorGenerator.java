@@ -0,0 +1,568 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.common.reflect;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.batoo.common.log.BLogger;
+import org.batoo.common.log.BLoggerFactory;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates the bytecode of the field, constructor and method accessors.
+ * <p>
+ * The accessors are defined in the package and the class loader of the accessed class, therefore can access the members directly,
+ * without reflection or the internal JDK APIs. On JDK 15+ the accessors are defined as hidden nestmates of the accessed class through
+ * <code>MethodHandles.Lookup</code>, which also gives them access to the private members. On JDK 9+ the non private members are
+ * accessed through the classes defined with <code>Lookup.defineClass</code>, and only on JDK 6 - 8 the classes are defined through
+ * <code>ClassLoader.defineClass</code>. The members that cannot be accessed are left to the reflective accessors.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+final class AccessorGenerator {
+
+	private static final BLogger LOG = BLoggerFactory.getLogger(AccessorGenerator.class);
+
+	private static final String SUFFIX_FIELD_ACCESSOR = "$$BatooAccessor$";
+	private static final String SUFFIX_CONSTRUCTOR_ACCESSOR = "$$BatooConstructor$";
+	private static final String SUFFIX_METHOD_ACCESSOR = "$$BatooMethod$";
+
+	private static final String CONSTRUCTOR_INIT = "<init>";
+	private static final String METHOD_NEW_INSTANCE = "newInstance";
+	private static final String METHOD_INVOKE = "invoke";
+	private static final String METHOD_VALUE_OF = "valueOf";
+	private static final String METHOD_GET_OBJECT = "getObject";
+	private static final String METHOD_SET_OBJECT = "setObject";
+
+	private static final String DESCRIPTOR_OBJECT = Type.getDescriptor(Object.class);
+	private static final String DESCRIPTOR_CLASS = Type.getDescriptor(Class.class);
+
+	private static final String INTERNAL_FIELD_ACCESSOR = Type.getInternalName(GeneratedFieldAccessor.class);
+	private static final String INTERNAL_CONSTRUCTOR_ACCESSOR = Type.getInternalName(ConstructorAccessor.class);
+	private static final String INTERNAL_METHOD_ACCESSOR = Type.getInternalName(MethodAccessor.class);
+	private static final String INTERNAL_INVOCATION_TARGET_EXCEPTION = Type.getInternalName(InvocationTargetException.class);
+	private static final String INTERNAL_THROWABLE = Type.getInternalName(Throwable.class);
+	private static final String INTERNAL_BOOLEAN = Type.getInternalName(Boolean.class);
+	private static final String INTERNAL_CHARACTER = Type.getInternalName(Character.class);
+	private static final String INTERNAL_NUMBER = Type.getInternalName(Number.class);
+
+	private static final Object LOOKUP;
+	private static final Method PRIVATE_LOOKUP_IN;
+	private static final Method LOOKUP_DEFINE_CLASS;
+	private static final Method LOOKUP_DEFINE_HIDDEN_CLASS;
+	private static final Method LOOKUP_LOOKUP_CLASS;
+	private static final Object HIDDEN_CLASS_OPTIONS;
+
+	static {
+		Object lookup = null;
+		Method privateLookupIn = null;
+		Method defineClass = null;
+		Method defineHiddenClass = null;
+		Method lookupClass = null;
+		Object hiddenClassOptions = null;
+
+		// resolved reflectively as the sources are Java 6
+		try {
+			final Class<?> methodHandlesClass = Class.forName("java.lang.invoke.MethodHandles");
+			final Class<?> lookupType = Class.forName("java.lang.invoke.MethodHandles$Lookup");
+
+			lookup = methodHandlesClass.getMethod("lookup").invoke(null);
+			privateLookupIn = methodHandlesClass.getMethod("privateLookupIn", Class.class, lookupType);
+			defineClass = lookupType.getMethod("defineClass", byte[].class);
+			lookupClass = lookupType.getMethod("lookupClass");
+
+			final Class<?> optionType = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+			hiddenClassOptions = Array.newInstance(optionType, 1);
+			Array.set(hiddenClassOptions, 0, optionType.getField("NESTMATE").get(null));
+
+			defineHiddenClass = lookupType.getMethod("defineHiddenClass", byte[].class, Boolean.TYPE, hiddenClassOptions.getClass());
+		}
+		catch (final Exception e) {
+			AccessorGenerator.LOG.debug("Hidden classes are not available, falling back to the named classes");
+		}
+
+		LOOKUP = lookup;
+		PRIVATE_LOOKUP_IN = privateLookupIn;
+		LOOKUP_DEFINE_CLASS = defineClass;
+		LOOKUP_DEFINE_HIDDEN_CLASS = defineHiddenClass;
+		LOOKUP_LOOKUP_CLASS = lookupClass;
+		HIDDEN_CLASS_OPTIONS = hiddenClassOptions;
+	}
+
+	private AccessorGenerator() {
+		super();
+	}
+
+	private static void box(MethodVisitor mv, Class<?> type) {
+		if (type == Void.TYPE) {
+			mv.visitInsn(Opcodes.ACONST_NULL);
+
+			return;
+		}
+
+		if (!type.isPrimitive()) {
+			return;
+		}
+
+		final Class<?> wrapperType;
+		if (type == Boolean.TYPE) {
+			wrapperType = Boolean.class;
+		}
+		else if (type == Byte.TYPE) {
+			wrapperType = Byte.class;
+		}
+		else if (type == Character.TYPE) {
+			wrapperType = Character.class;
+		}
+		else if (type == Double.TYPE) {
+			wrapperType = Double.class;
+		}
+		else if (type == Float.TYPE) {
+			wrapperType = Float.class;
+		}
+		else if (type == Integer.TYPE) {
+			wrapperType = Integer.class;
+		}
+		else if (type == Long.TYPE) {
+			wrapperType = Long.class;
+		}
+		else {
+			wrapperType = Short.class;
+		}
+
+		mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(wrapperType), AccessorGenerator.METHOD_VALUE_OF, "(" + Type.getDescriptor(type)
+			+ ")" + Type.getDescriptor(wrapperType));
+	}
+
+	/**
+	 * Returns if the member of the class can be accessed by a generated accessor.
+	 * 
+	 * @since 2.0.1
+	 */
+	private static boolean canGenerate(Class<?> owner, int modifiers) {
+		// only the hidden nestmates can access the private members
+		if ((AccessorGenerator.LOOKUP_DEFINE_HIDDEN_CLASS == null)
+			&& (Modifier.isPrivate(modifiers) || Modifier.isPrivate(owner.getModifiers()))) {
+			return false;
+		}
+
+		// system classes cannot be extended with new classes
+		return (owner.getClassLoader() != null) && !owner.getName().startsWith("java.");
+	}
+
+	/**
+	 * Returns the generated accessor for the constructor.
+	 * 
+	 * @param constructor
+	 *            the constructor
+	 * @return the generated accessor or <code>null</code> if the constructor cannot be accessed directly
+	 * 
+	 * @since 2.0.1
+	 */
+	static ConstructorAccessor createConstructorAccessor(Constructor<?> constructor) {
+		final Class<?> owner = constructor.getDeclaringClass();
+		if (!AccessorGenerator.canGenerate(owner, constructor.getModifiers()) || Modifier.isAbstract(owner.getModifiers())) {
+			return null;
+		}
+
+		for (final Class<?> parameterType : constructor.getParameterTypes()) {
+			if (!AccessorGenerator.isAccessible(owner, parameterType)) {
+				return null;
+			}
+		}
+
+		final String descriptor = Type.getConstructorDescriptor(constructor);
+		final String className = owner.getName() + AccessorGenerator.SUFFIX_CONSTRUCTOR_ACCESSOR + Integer.toHexString(descriptor.hashCode());
+
+		try {
+			final Class<?> accessorClass = AccessorGenerator.defineClass(owner, className,
+				AccessorGenerator.createConstructorByteCode(className, constructor, descriptor));
+
+			return (ConstructorAccessor) accessorClass.newInstance();
+		}
+		catch (final Exception e) {
+			AccessorGenerator.LOG.debug(e, "Cannot generate constructor accessor for {0}", constructor);
+		}
+		catch (final LinkageError e) {
+			AccessorGenerator.LOG.debug(e, "Cannot generate constructor accessor for {0}", constructor);
+		}
+
+		return null;
+	}
+
+	private static byte[] createConstructorByteCode(String className, Constructor<?> constructor, String descriptor) {
+		final String accessorName = className.replace('.', '/');
+		final String ownerName = Type.getInternalName(constructor.getDeclaringClass());
+
+		final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER, accessorName, null,
+			AccessorGenerator.INTERNAL_CONSTRUCTOR_ACCESSOR, null);
+
+		// public <init>()
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, AccessorGenerator.CONSTRUCTOR_INIT, "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, AccessorGenerator.INTERNAL_CONSTRUCTOR_ACCESSOR, AccessorGenerator.CONSTRUCTOR_INIT, "()V");
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// public Object newInstance(Object[] args) { return new Owner((T0) args[0], ...); }
+		mv = cw.visitMethod(Opcodes.ACC_PUBLIC, AccessorGenerator.METHOD_NEW_INSTANCE, "([" + AccessorGenerator.DESCRIPTOR_OBJECT + ")"
+			+ AccessorGenerator.DESCRIPTOR_OBJECT, null, null);
+		mv.visitCode();
+		mv.visitTypeInsn(Opcodes.NEW, ownerName);
+		mv.visitInsn(Opcodes.DUP);
+
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			mv.visitVarInsn(Opcodes.ALOAD, 1);
+			mv.visitIntInsn(Opcodes.SIPUSH, i);
+			mv.visitInsn(Opcodes.AALOAD);
+
+			AccessorGenerator.unbox(mv, parameterTypes[i]);
+		}
+
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, ownerName, AccessorGenerator.CONSTRUCTOR_INIT, descriptor);
+		mv.visitInsn(Opcodes.ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Returns the generated accessor for the field.
+	 * 
+	 * @param field
+	 *            the field
+	 * @return the generated accessor or <code>null</code> if the field cannot be accessed directly
+	 * 
+	 * @since 2.0.1
+	 */
+	static AbstractAccessor createFieldAccessor(Field field) {
+		final Class<?> owner = field.getDeclaringClass();
+		final int modifiers = field.getModifiers();
+		if (!AccessorGenerator.canGenerate(owner, modifiers) || Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)
+			|| !AccessorGenerator.isAccessible(owner, field.getType())) {
+			return null;
+		}
+
+		final String className = owner.getName() + AccessorGenerator.SUFFIX_FIELD_ACCESSOR + field.getName();
+
+		try {
+			final Class<?> accessorClass = AccessorGenerator.defineClass(owner, className, AccessorGenerator.createFieldByteCode(className, field));
+
+			return (AbstractAccessor) accessorClass.getConstructor(Class.class).newInstance(field.getType());
+		}
+		catch (final Exception e) {
+			AccessorGenerator.LOG.debug(e, "Cannot generate field accessor for {0}", field);
+		}
+		catch (final LinkageError e) {
+			AccessorGenerator.LOG.debug(e, "Cannot generate field accessor for {0}", field);
+		}
+
+		return null;
+	}
+
+	private static byte[] createFieldByteCode(String className, Field field) {
+		final String accessorName = className.replace('.', '/');
+		final String ownerName = Type.getInternalName(field.getDeclaringClass());
+
+		final Class<?> fieldType = field.getType();
+		final String fieldDescriptor = Type.getDescriptor(fieldType);
+
+		final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER, accessorName, null,
+			AccessorGenerator.INTERNAL_FIELD_ACCESSOR, null);
+
+		// public <init>(Class type)
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, AccessorGenerator.CONSTRUCTOR_INIT, "(" + AccessorGenerator.DESCRIPTOR_CLASS + ")V",
+			null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitVarInsn(Opcodes.ALOAD, 1);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, AccessorGenerator.INTERNAL_FIELD_ACCESSOR, AccessorGenerator.CONSTRUCTOR_INIT, "("
+			+ AccessorGenerator.DESCRIPTOR_CLASS + ")V");
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// protected Object getObject(Object instance) { return (Object) ((Owner) instance).field; }
+		mv = cw.visitMethod(Opcodes.ACC_PROTECTED, AccessorGenerator.METHOD_GET_OBJECT, "(" + AccessorGenerator.DESCRIPTOR_OBJECT + ")"
+			+ AccessorGenerator.DESCRIPTOR_OBJECT, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 1);
+		mv.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+		mv.visitFieldInsn(Opcodes.GETFIELD, ownerName, field.getName(), fieldDescriptor);
+		AccessorGenerator.box(mv, fieldType);
+		mv.visitInsn(Opcodes.ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// protected void setObject(Object instance, Object value) { ((Owner) instance).field = (Type) value; }
+		mv = cw.visitMethod(Opcodes.ACC_PROTECTED, AccessorGenerator.METHOD_SET_OBJECT, "(" + AccessorGenerator.DESCRIPTOR_OBJECT
+			+ AccessorGenerator.DESCRIPTOR_OBJECT + ")V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 1);
+		mv.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+		mv.visitVarInsn(Opcodes.ALOAD, 2);
+		AccessorGenerator.unbox(mv, fieldType);
+		mv.visitFieldInsn(Opcodes.PUTFIELD, ownerName, field.getName(), fieldDescriptor);
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Returns the generated accessor for the method.
+	 * 
+	 * @param method
+	 *            the method
+	 * @return the generated accessor or <code>null</code> if the method cannot be accessed directly
+	 * 
+	 * @since 2.0.1
+	 */
+	static MethodAccessor createMethodAccessor(Method method) {
+		final Class<?> owner = method.getDeclaringClass();
+		if (!AccessorGenerator.canGenerate(owner, method.getModifiers()) || !AccessorGenerator.isAccessible(owner, method.getReturnType())) {
+			return null;
+		}
+
+		for (final Class<?> parameterType : method.getParameterTypes()) {
+			if (!AccessorGenerator.isAccessible(owner, parameterType)) {
+				return null;
+			}
+		}
+
+		final String descriptor = Type.getMethodDescriptor(method);
+		final String className = owner.getName() + AccessorGenerator.SUFFIX_METHOD_ACCESSOR + method.getName() + "$"
+			+ Integer.toHexString(descriptor.hashCode());
+
+		try {
+			final Class<?> accessorClass = AccessorGenerator.defineClass(owner, className,
+				AccessorGenerator.createMethodByteCode(className, method, descriptor));
+
+			return (MethodAccessor) accessorClass.newInstance();
+		}
+		catch (final Exception e) {
+			AccessorGenerator.LOG.debug(e, "Cannot generate method accessor for {0}", method);
+		}
+		catch (final LinkageError e) {
+			AccessorGenerator.LOG.debug(e, "Cannot generate method accessor for {0}", method);
+		}
+
+		return null;
+	}
+
+	private static byte[] createMethodByteCode(String className, Method method, String descriptor) {
+		final String accessorName = className.replace('.', '/');
+		final Class<?> owner = method.getDeclaringClass();
+		final String ownerName = Type.getInternalName(owner);
+		final boolean isStatic = Modifier.isStatic(method.getModifiers());
+
+		final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER, accessorName, null,
+			AccessorGenerator.INTERNAL_METHOD_ACCESSOR, null);
+
+		// public <init>()
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, AccessorGenerator.CONSTRUCTOR_INIT, "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, AccessorGenerator.INTERNAL_METHOD_ACCESSOR, AccessorGenerator.CONSTRUCTOR_INIT, "()V");
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// public Object invoke(Object obj, Object[] args) {
+		// try { return ((Owner) obj).method((T0) args[0], ...); } catch (Throwable t) { throw new InvocationTargetException(t); }
+		// }
+		mv = cw.visitMethod(Opcodes.ACC_PUBLIC, AccessorGenerator.METHOD_INVOKE, "(" + AccessorGenerator.DESCRIPTOR_OBJECT + "["
+			+ AccessorGenerator.DESCRIPTOR_OBJECT + ")" + AccessorGenerator.DESCRIPTOR_OBJECT, null, null);
+		mv.visitCode();
+
+		if (!isStatic) {
+			mv.visitVarInsn(Opcodes.ALOAD, 1);
+			mv.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+		}
+
+		final Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			mv.visitVarInsn(Opcodes.ALOAD, 2);
+			mv.visitIntInsn(Opcodes.SIPUSH, i);
+			mv.visitInsn(Opcodes.AALOAD);
+
+			AccessorGenerator.unbox(mv, parameterTypes[i]);
+		}
+
+		// only the invocation itself is guarded, so that the exceptions of the method are told apart
+		final Label start = new Label();
+		final Label end = new Label();
+		final Label handler = new Label();
+		mv.visitTryCatchBlock(start, end, handler, AccessorGenerator.INTERNAL_THROWABLE);
+
+		mv.visitLabel(start);
+		if (isStatic) {
+			mv.visitMethodInsn(Opcodes.INVOKESTATIC, ownerName, method.getName(), descriptor);
+		}
+		else if (owner.isInterface()) {
+			mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, ownerName, method.getName(), descriptor);
+		}
+		else {
+			mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ownerName, method.getName(), descriptor);
+		}
+		mv.visitLabel(end);
+
+		AccessorGenerator.box(mv, method.getReturnType());
+		mv.visitInsn(Opcodes.ARETURN);
+
+		mv.visitLabel(handler);
+		mv.visitVarInsn(Opcodes.ASTORE, 3);
+		mv.visitTypeInsn(Opcodes.NEW, AccessorGenerator.INTERNAL_INVOCATION_TARGET_EXCEPTION);
+		mv.visitInsn(Opcodes.DUP);
+		mv.visitVarInsn(Opcodes.ALOAD, 3);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, AccessorGenerator.INTERNAL_INVOCATION_TARGET_EXCEPTION, AccessorGenerator.CONSTRUCTOR_INIT, "("
+			+ Type.getDescriptor(Throwable.class) + ")V");
+		mv.visitInsn(Opcodes.ATHROW);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Defines the accessor class for the owner.
+	 * <p>
+	 * On JDK 15+ the accessor is defined as a hidden nestmate of the owner, which is not registered to the class loader, therefore the
+	 * accessor is defined per call. Otherwise the accessor is defined with its name in the package of the owner and reused.
+	 * 
+	 * @since 2.0.1
+	 */
+	private static Class<?> defineClass(Class<?> owner, String className, byte[] byteCode) throws Exception {
+		if (AccessorGenerator.LOOKUP_DEFINE_HIDDEN_CLASS == null) {
+			return AccessorGenerator.defineNamedClass(owner, className, byteCode);
+		}
+
+		final Object lookup = AccessorGenerator.PRIVATE_LOOKUP_IN.invoke(null, owner, AccessorGenerator.LOOKUP);
+		final Object hiddenLookup = AccessorGenerator.LOOKUP_DEFINE_HIDDEN_CLASS.invoke(lookup, byteCode, Boolean.TRUE,
+			AccessorGenerator.HIDDEN_CLASS_OPTIONS);
+
+		return (Class<?>) AccessorGenerator.LOOKUP_LOOKUP_CLASS.invoke(hiddenLookup);
+	}
+
+	private static synchronized Class<?> defineNamedClass(Class<?> owner, String className, byte[] byteCode) throws Exception {
+		final ClassLoader classLoader = owner.getClassLoader();
+
+		// might have been defined before or by another thread meanwhile
+		final Class<?> existing = AccessorGenerator.tryLoadClass(classLoader, className);
+		if (existing != null) {
+			return existing;
+		}
+
+		if (AccessorGenerator.LOOKUP_DEFINE_CLASS != null) {
+			final Object lookup = AccessorGenerator.PRIVATE_LOOKUP_IN.invoke(null, owner, AccessorGenerator.LOOKUP);
+
+			return (Class<?>) AccessorGenerator.LOOKUP_DEFINE_CLASS.invoke(lookup, byteCode);
+		}
+
+		// JDK 6 - 8, protected method invocation
+		final Method method = ClassLoader.class.getDeclaredMethod("defineClass", String.class, byte[].class, Integer.TYPE, Integer.TYPE);
+
+		method.setAccessible(true);
+		try {
+			return (Class<?>) method.invoke(classLoader, className, byteCode, Integer.valueOf(0), Integer.valueOf(byteCode.length));
+		}
+		finally {
+			method.setAccessible(false);
+		}
+	}
+
+	private static String getPackageName(Class<?> clazz) {
+		final String name = clazz.getName();
+		final int index = name.lastIndexOf('.');
+
+		return index > 0 ? name.substring(0, index) : "";
+	}
+
+	/**
+	 * Returns if the type can be referenced from the package of the owner.
+	 * 
+	 * @since 2.0.1
+	 */
+	private static boolean isAccessible(Class<?> owner, Class<?> type) {
+		while (type.isArray()) {
+			type = type.getComponentType();
+		}
+
+		if (type.isPrimitive() || Modifier.isPublic(type.getModifiers())) {
+			return true;
+		}
+
+		if (Modifier.isPrivate(type.getModifiers())) {
+			return false;
+		}
+
+		return (type.getClassLoader() == owner.getClassLoader()) && AccessorGenerator.getPackageName(type).equals(AccessorGenerator.getPackageName(owner));
+	}
+
+	private static Class<?> tryLoadClass(ClassLoader classLoader, String className) {
+		try {
+			return Class.forName(className, false, classLoader);
+		}
+		catch (final ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static void unbox(MethodVisitor mv, Class<?> type) {
+		if (!type.isPrimitive()) {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+		}
+		else if (type == Boolean.TYPE) {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, AccessorGenerator.INTERNAL_BOOLEAN);
+			mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, AccessorGenerator.INTERNAL_BOOLEAN, "booleanValue", "()Z");
+		}
+		else if (type == Character.TYPE) {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, AccessorGenerator.INTERNAL_CHARACTER);
+			mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, AccessorGenerator.INTERNAL_CHARACTER, "charValue", "()C");
+		}
+		else {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, AccessorGenerator.INTERNAL_NUMBER);
+			mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, AccessorGenerator.INTERNAL_NUMBER, type.getName() + "Value", "()" + Type.getDescriptor(type));
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.common.reflect;
+
+/**
+ * Base class for the field accessors generated by {@link AccessorGenerator}.
+ * <p>
+ * The generated subclass reads and writes the field with direct <code>getfield</code> / <code>putfield</code> instructions in
+ * {@link #getObject(Object)} / {@link #setObject(Object, Object)}, boxing and unboxing the primitive values. The numeric primitive values
+ * are unboxed through {@link Number}, so any number is narrowed or widened by the generated code itself; only the boxed number fields
+ * are converted by this class.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public abstract class GeneratedFieldAccessor extends AbstractAccessor {
+
+	private final Class<?> type;
+	private final boolean numberType;
+
+	/**
+	 * @param type
+	 *            the type of the field
+	 * 
+	 * @since 2.0.1
+	 */
+	protected GeneratedFieldAccessor(Class<?> type) {
+		super();
+
+		this.type = type;
+
+		this.numberType = !type.isPrimitive() && Number.class.isAssignableFrom(type);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public Object get(Object instance) {
+		return this.getObject(instance);
+	}
+
+	/**
+	 * Returns the value of the field, primitive values boxed.
+	 * 
+	 * @param instance
+	 *            the instance of which the field value to return
+	 * @return the value of the field
+	 * 
+	 * @since 2.0.1
+	 */
+	protected abstract Object getObject(Object instance);
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public void set(Object instance, Object value) {
+		if (instance == null) {
+			throw new NullPointerException();
+		}
+
+		if (this.numberType) {
+			if ((value != null) && (value.getClass() != this.type)) {
+				value = ReflectHelper.convertNumber((Number) value, this.type);
+			}
+		}
+		else if (this.type == Boolean.TYPE) {
+			if (value instanceof Number) {
+				value = ((Number) value).byteValue() == 0 ? Boolean.FALSE : Boolean.TRUE;
+			}
+		}
+		else if (this.type == Character.TYPE) {
+			if (value == null) {
+				value = Character.valueOf('\u0000');
+			}
+		}
+
+		this.setObject(instance, value);
+	}
+
+	/**
+	 * Sets the value of the field, primitive values boxed.
+	 * 
+	 * @param instance
+	 *            the instance of which the field will be set
+	 * @param value
+	 *            the value to set
+	 * 
+	 * @since 2.0.1
+	 */
+	protected abstract void setObject(Object instance, Object value);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.common.reflect;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * The interface to invoke methods.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public abstract class MethodAccessor {
+
+	/**
+	 * Invokes the method.
+	 * 
+	 * @param obj
+	 *            the object the underlying method is invoked from, ignored for static methods
+	 * @param args
+	 *            the arguments
+	 * @return the result of the method, primitives boxed and <code>null</code> for void methods
+	 * 
+	 * @exception IllegalAccessException
+	 *                if the underlying method is inaccessible.
+	 * @exception IllegalArgumentException
+	 *                if the method is an instance method and the specified object argument is not an instance of the class or interface
+	 *                declaring the underlying method; if the number of actual and formal parameters differ; if an unwrapping conversion
+	 *                for primitive arguments fails.
+	 * @exception InvocationTargetException
+	 *                if the underlying method throws an exception.
+	 * 
+	 * @see Method#invoke(Object, Object...)
+	 * 
+	 * @since 2.0.1
+	 */
+	public abstract Object invoke(Object obj, Object[] args) throws IllegalArgumentException, InvocationTargetException, IllegalAccessException;
+}
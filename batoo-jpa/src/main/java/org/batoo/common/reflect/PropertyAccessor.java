@@ -18,12 +18,13 @@
  */
 package org.batoo.common.reflect;
 
-import java.lang.reflect.Method;
-
 import org.batoo.common.BatooException;
 
 /**
  * Accessor implementation of {@link AbstractAccessor} for the members of properties.
+ * <p>
+ * The reader and the writer are invoked through the {@link MethodAccessor}s created by {@link ReflectHelper#createMethodAccessor(java.lang.reflect.Method)},
+ * which are generated unless the methods cannot be accessed directly.
  * 
  * @author hceylan
  * @since 2.0.1
@@ -31,8 +32,10 @@ import org.batoo.common.BatooException;
 public class PropertyAccessor extends AbstractAccessor {
 
 	private final String name;
-	private final Method reader;
-	private final Method writer;
+	private final Class<?> type;
+	private final boolean numberType;
+	private final MethodAccessor reader;
+	private final MethodAccessor writer;
 
 	/**
 	 * 
@@ -44,11 +47,18 @@ public class PropertyAccessor extends AbstractAccessor {
 		super();
 
 		this.name = descriptor.getName();
-		this.reader = descriptor.getReader();
-		this.writer = descriptor.getWriter();
+		this.type = descriptor.getReader().getReturnType();
+
+		this.reader = ReflectHelper.createMethodAccessor(descriptor.getReader());
+		this.writer = ReflectHelper.createMethodAccessor(descriptor.getWriter());
 
-		this.reader.setAccessible(true);
-		this.writer.setAccessible(true);
+		// the generated writer unboxes the primitive numbers through Number, the reflective writer and the boxed numbers need the exact type
+		if (this.type.isPrimitive()) {
+			this.numberType = (this.writer instanceof SimpleMethodAccessor) && (this.type != Boolean.TYPE) && (this.type != Character.TYPE);
+		}
+		else {
+			this.numberType = Number.class.isAssignableFrom(this.type);
+		}
 	}
 
 	/**
@@ -63,14 +73,14 @@ public class PropertyAccessor extends AbstractAccessor {
 
 				enhancedInstance.__enhanced__$$__setInternalCall(true);
 				try {
-					return this.reader.invoke(instance);
+					return this.reader.invoke(instance, null);
 				}
 				finally {
 					enhancedInstance.__enhanced__$$__setInternalCall(true);
 				}
 			}
 			else {
-				return this.reader.invoke(instance);
+				return this.reader.invoke(instance, null);
 			}
 		}
 		catch (final Exception e) {
@@ -84,20 +94,24 @@ public class PropertyAccessor extends AbstractAccessor {
 	 */
 	@Override
 	public void set(Object instance, Object value) {
+		if (this.numberType && (value != null) && (value.getClass() != this.type)) {
+			value = ReflectHelper.convertNumber((Number) value, this.type);
+		}
+
 		try {
 			if (instance instanceof InternalInstance) {
 				final InternalInstance enhancedInstance = (InternalInstance) instance;
 
 				enhancedInstance.__enhanced__$$__setInternalCall(true);
 				try {
-					this.writer.invoke(instance, value);
+					this.writer.invoke(instance, new Object[] { value });
 				}
 				finally {
 					enhancedInstance.__enhanced__$$__setInternalCall(true);
 				}
 			}
 			else {
-				this.writer.invoke(instance, value);
+				this.writer.invoke(instance, new Object[] { value });
 			}
 
 		}
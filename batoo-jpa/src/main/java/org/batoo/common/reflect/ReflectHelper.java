@@ -139,6 +139,11 @@ public class ReflectHelper {
 	 * @since 2.0.1
 	 */
 	public static ConstructorAccessor createConstructor(Constructor<?> constructor) {
+		final ConstructorAccessor accessor = AccessorGenerator.createConstructorAccessor(constructor);
+		if (accessor != null) {
+			return accessor;
+		}
+
 		try {
 			Class.forName("sun.reflect.ConstructorAccessor");
 		}
@@ -187,6 +192,24 @@ public class ReflectHelper {
 		return member.getDeclaringClass().getName() + "." + member.getName();
 	}
 
+	/**
+	 * Creates and returns a fast method accessor.
+	 * 
+	 * @param method
+	 *            the original method
+	 * @return the method accessor
+	 * 
+	 * @since 2.0.1
+	 */
+	public static MethodAccessor createMethodAccessor(Method method) {
+		final MethodAccessor accessor = AccessorGenerator.createMethodAccessor(method);
+		if (accessor != null) {
+			return accessor;
+		}
+
+		return new SimpleMethodAccessor(method);
+	}
+
 	/**
 	 * Returns the accessor for the member
 	 * 
@@ -198,6 +221,11 @@ public class ReflectHelper {
 	 */
 	public static AbstractAccessor getAccessor(Member javaMember) {
 		if (javaMember instanceof Field) {
+			final AbstractAccessor accessor = AccessorGenerator.createFieldAccessor((Field) javaMember);
+			if (accessor != null) {
+				return accessor;
+			}
+
 			return ReflectHelper.unsafe != null ? new UnsafeFieldAccessor((Field) javaMember) : new FieldAccessor((Field) javaMember);
 		}
 		else {
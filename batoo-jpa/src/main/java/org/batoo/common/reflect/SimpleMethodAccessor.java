@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.common.reflect;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Method accessor based on reflection, for the methods that cannot be accessed by a generated accessor.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class SimpleMethodAccessor extends MethodAccessor {
+
+	private final Method method;
+
+	/**
+	 * @param method
+	 *            the method
+	 * 
+	 * @since 2.0.1
+	 */
+	public SimpleMethodAccessor(Method method) {
+		super();
+
+		this.method = method;
+		this.method.setAccessible(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public Object invoke(Object obj, Object[] args) throws IllegalArgumentException, InvocationTargetException, IllegalAccessException {
+		return this.method.invoke(obj, args);
+	}
+}
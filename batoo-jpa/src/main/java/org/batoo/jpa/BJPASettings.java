@@ -49,6 +49,48 @@ public interface BJPASettings {
 	 */
 	String SLOW_SQL_THRESHOLD = "org.batoo.jpa.slow_sql_threshold";
 
+	/**
+	 * String value, the folder to cache the enhanced entity classes across the entity manager factories and JVMs. If not specified the
+	 * enhanced classes are not cached on disk.
+	 */
+	String ENHANCER_CACHE = "org.batoo.jpa.enhancer_cache";
+
+	/**
+	 * Boolean value, indicating that the entity classes should be enhanced in parallel before the metamodel is built, defaults to false.
+	 */
+	String PARALLEL_ENHANCEMENT = "org.batoo.jpa.parallel_enhancement";
+
+	/**
+	 * Boolean value, indicating that the annotated class index created by the Batoo maven plugin should be used instead of scanning the
+	 * persistence roots, defaults to true.
+	 */
+	String ANNOTATED_CLASS_INDEX = "org.batoo.jpa.annotated_class_index";
+
+	/**
+	 * Boolean value, indicating that the deployment snapshot created by the Batoo maven plugin should be used when it matches the
+	 * persistence unit, defaults to true.
+	 */
+	String DEPLOYMENT_SNAPSHOT = "org.batoo.jpa.deployment_snapshot";
+
+	/**
+	 * Boolean value, indicating that the SQL statements and the select plans of the entities should be prepared when the entity manager
+	 * factory is created rather than on their first use, defaults to false.
+	 */
+	String WARM_UP = "org.batoo.jpa.warm_up";
+
+	/**
+	 * Boolean value, indicating that the entities should be warmed up in parallel, defaults to true.
+	 */
+	String PARALLEL_WARM_UP = "org.batoo.jpa.parallel_warm_up";
+
+	/**
+	 * Boolean query hint, indicating that the collections fetched by the query should be loaded with a separate query per collection.
+	 * <p>
+	 * If not specified the collections are split only when the query is distinct and fetches two or more collections of the selected
+	 * entity, as splitting a non-distinct query no longer repeats the selected entities per collection element.
+	 */
+	String SPLIT_FETCHES = "org.batoo.jpa.split_fetches";
+
 	/**
 	 * Default value for {@link #SLOW_SQL_THRESHOLD} that is 2500.
 	 */
@@ -100,10 +142,20 @@ public interface BJPASettings {
 	String MAX_FETCH_JOIN_DEPTH = "org.batoo.jdbc.max_fetch_join_depth";
 
 	/**
-	 * The size of the datasource statement cache size
+	 * Integer value, the JDBC fetch size of the statements.
+	 * <p>
+	 * Also an integer query hint to set the fetch size of the query.
 	 */
 	String FETCH_SIZE = "org.batoo.jdbc.fetch_size";
 
+	/**
+	 * Boolean value or query hint, indicating that the fetch size of the queries should be adapted to the sizes of their previous
+	 * results.
+	 * <p>
+	 * Ignored for the queries that have their fetch size set by the {@link #FETCH_SIZE} hint.
+	 */
+	String ADAPTIVE_FETCH_SIZE = "org.batoo.jdbc.adaptive_fetch_size";
+
 	/**
 	 * The size of the insert statements batch
 	 */
@@ -136,6 +188,20 @@ public interface BJPASettings {
 
 	String DEFAULT_DATASOURCE_POOL = "org.batoo.jpa.jdbc.datasource.HikariCPDataSource";
 
+	/**
+	 * Prefix of the properties that set the optimizer of a sequence or table generator, as <code>hilo</code>, <code>pooled</code> or
+	 * <code>pooled-lo</code>. The name of the generator follows the prefix, e.g. <code>org.batoo.jpa.id_optimizer.FOO_GEN</code>.
+	 * <p>
+	 * The property overrides the {@link org.batoo.jpa.annotations.IdOptimizer} annotation and is the way to set the optimizer of the
+	 * generators declared in the mapping files, as the orm schema has no place for it.
+	 */
+	String ID_OPTIMIZER = "org.batoo.jpa.id_optimizer";
+
+	/**
+	 * Integer value between 0 and 1023 identifying the node in the time-ordered ids, defaults to a random value.
+	 */
+	String NODE_ID = "org.batoo.jpa.node_id";
+
 	/**
 	 * Hint for the the pluggable data source
 	 */
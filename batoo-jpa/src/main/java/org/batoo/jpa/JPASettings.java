@@ -25,6 +25,14 @@ package org.batoo.jpa;
  */
 public interface JPASettings extends BJPASettings {
 
+	/**
+	 * Query hint or find property to fetch the entities with a {@link org.batoo.jpa.core.FetchGraph}. The associations not in the graph
+	 * are treated as lazy where possible.
+	 * <p/>
+	 * See JPA 2.1 section 3.7.4.1
+	 */
+	String FETCH_GRAPH = "javax.persistence.fetchgraph";
+
 	/**
 	 * The name of a JDBC driver to use to connect to the database.
 	 * <p/>
@@ -72,6 +80,14 @@ public interface JPASettings extends BJPASettings {
 	 */
 	String JTA_DATASOURCE = "javax.persistence.jtaDataSource";
 
+	/**
+	 * Query hint or find property to fetch the entities with a {@link org.batoo.jpa.core.FetchGraph}. The associations in the graph are
+	 * fetched in addition to the eager associations.
+	 * <p/>
+	 * See JPA 2.1 section 3.7.4.2
+	 */
+	String LOAD_GRAPH = "javax.persistence.loadgraph";
+
 	/**
 	 * Used to request (hint) a pessimistic lock scope.
 	 * <p/>
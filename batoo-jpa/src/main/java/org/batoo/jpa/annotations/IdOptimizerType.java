@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.annotations;
+
+/**
+ * Optimizer types for the sequence and table generators.
+ * <p>
+ * Each type obtains a single value from the database per block of <code>allocationSize</code> ids.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public enum IdOptimizerType {
+
+	/**
+	 * the value is the hi part, the block is <code>[initialValue + (value - initialValue) * allocationSize, +allocationSize)</code>. The
+	 * sequence increments by one.
+	 */
+	HILO, //
+
+	/**
+	 * the value is the upper bound of the block, the block is <code>(value - allocationSize, value]</code>. The sequence increments by
+	 * <code>allocationSize</code>.
+	 */
+	POOLED, //
+
+	/**
+	 * the value is the lower bound of the block, the block is <code>[value, value + allocationSize)</code>. The sequence increments by
+	 * <code>allocationSize</code>.
+	 */
+	POOLED_LO;//
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies the group a lazy basic attribute, <code>@Basic(fetch = FetchType.LAZY)</code>, is loaded with.
+ * <p>
+ * On first access to a lazy attribute all the lazy attributes of its group are loaded with a single select. Lazy attributes without a
+ * group belong to the default group.
+ * 
+ * @since 2.0.1
+ * @author hceylan
+ */
+@Target({ FIELD, METHOD })
+@Retention(RUNTIME)
+public @interface LazyGroup {
+
+	/**
+	 * Returns the name of the group.
+	 * 
+	 * @return the name of the group
+	 * 
+	 * @since 2.0.1
+	 */
+	String value();
+}
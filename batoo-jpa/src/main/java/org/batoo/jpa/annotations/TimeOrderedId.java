@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that the id attribute is assigned a time-ordered value generated in-process, without a database round trip.
+ * <p>
+ * <code>long</code> / {@link Long} attributes receive 64-bit ids composed of the timestamp, the node id and a sequence;
+ * {@link String} attributes receive the textual form of a UUID version 7. The node id is configured with the
+ * {@link org.batoo.jpa.BJPASettings#NODE_ID} property. Entities using this generator remain eligible for batch inserts.
+ * <p>
+ * The orm schema has no element for the time-ordered ids, therefore the ids mapped in the mapping files cannot be time-ordered and the
+ * annotation is not considered for the id attributes that are mapped in the mapping files.
+ * 
+ * @since 2.0.1
+ * @author hceylan
+ */
+@Target({ FIELD, METHOD })
+@Retention(RUNTIME)
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core;
+
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.commons.lang.StringUtils;
+import org.batoo.jpa.JPASettings;
+
+import com.google.common.base.Splitter;
+
+/**
+ * The graph of the attributes to fetch with a query or a find operation.
+ * <p>
+ * The graph is passed with the {@link JPASettings#FETCH_GRAPH} or {@link JPASettings#LOAD_GRAPH} hints, either as an instance or in
+ * its string form, such as <code>"customer, items.product"</code>.
+ * <p>
+ * When used as a fetch graph, the associations in the graph are join fetched and the associations not in the graph are treated as
+ * lazy where possible. When used as a load graph, the associations in the graph are join fetched in addition to the eager
+ * associations.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class FetchGraph {
+
+	private final TreeMap<String, FetchGraph> attributes = new TreeMap<String, FetchGraph>();
+
+	/**
+	 * Returns the fetch graph for the hint value.
+	 * 
+	 * @param value
+	 *            the hint value, either a {@link FetchGraph} or its string form
+	 * @return the fetch graph
+	 * 
+	 * @since 2.0.1
+	 */
+	public static FetchGraph fromHint(Object value) {
+		if (value instanceof FetchGraph) {
+			return (FetchGraph) value;
+		}
+
+		if (value instanceof String) {
+			return FetchGraph.parse((String) value);
+		}
+
+		throw new IllegalArgumentException("Illegal fetch graph: " + value);
+	}
+
+	/**
+	 * Parses the fetch graph in the form of comma separated attribute paths, such as <code>"customer, items.product"</code>.
+	 * 
+	 * @param graph
+	 *            the string form of the graph
+	 * @return the fetch graph
+	 * 
+	 * @since 2.0.1
+	 */
+	public static FetchGraph parse(String graph) {
+		final FetchGraph fetchGraph = new FetchGraph();
+
+		for (final String path : Splitter.on(',').trimResults().omitEmptyStrings().split(graph)) {
+			fetchGraph.addAttributes(path);
+		}
+
+		return fetchGraph;
+	}
+
+	/**
+	 * 
+	 * @since 2.0.1
+	 */
+	public FetchGraph() {
+		super();
+	}
+
+	/**
+	 * Adds the attributes to the graph. The attributes may be paths, such as <code>"items.product"</code>.
+	 * 
+	 * @param paths
+	 *            the paths of the attributes
+	 * @return the graph itself
+	 * 
+	 * @since 2.0.1
+	 */
+	public FetchGraph addAttributes(String... paths) {
+		for (final String path : paths) {
+			FetchGraph graph = this;
+
+			for (final String name : Splitter.on('.').trimResults().split(path)) {
+				if (StringUtils.isBlank(name)) {
+					throw new IllegalArgumentException("Illegal attribute path: " + path);
+				}
+
+				graph = graph.addSubgraph(name);
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds the attribute to the graph and returns the subgraph of the attribute.
+	 * 
+	 * @param name
+	 *            the name of the attribute
+	 * @return the subgraph of the attribute
+	 * 
+	 * @since 2.0.1
+	 */
+	public FetchGraph addSubgraph(String name) {
+		FetchGraph subgraph = this.attributes.get(name);
+		if (subgraph == null) {
+			subgraph = new FetchGraph();
+			this.attributes.put(name, subgraph);
+		}
+
+		return subgraph;
+	}
+
+	/**
+	 * Returns if the graph contains the attribute.
+	 * 
+	 * @param name
+	 *            the name of the attribute
+	 * @return true if the graph contains the attribute, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean contains(String name) {
+		return this.attributes.containsKey(name);
+	}
+
+	/**
+	 * Returns the names of the attributes in the graph.
+	 * 
+	 * @return the names of the attributes in the graph
+	 * 
+	 * @since 2.0.1
+	 */
+	public Set<String> getAttributeNames() {
+		return this.attributes.keySet();
+	}
+
+	/**
+	 * Returns the canonical form of the graph that is used to cache the SQL generated for the graph.
+	 * 
+	 * @return the canonical form of the graph
+	 * 
+	 * @since 2.0.1
+	 */
+	public String getKey() {
+		final StringBuilder key = new StringBuilder();
+
+		this.appendKey(key);
+
+		return key.toString();
+	}
+
+	private void appendKey(StringBuilder key) {
+		boolean first = true;
+		for (final Entry<String, FetchGraph> entry : this.attributes.entrySet()) {
+			if (!first) {
+				key.append(",");
+			}
+
+			first = false;
+
+			key.append(entry.getKey());
+
+			if (entry.getValue().attributes.size() > 0) {
+				key.append("(");
+				entry.getValue().appendKey(key);
+				key.append(")");
+			}
+		}
+	}
+
+	/**
+	 * Returns the subgraph of the attribute.
+	 * 
+	 * @param name
+	 *            the name of the attribute
+	 * @return the subgraph of the attribute or <code>null</code> if the graph does not contain the attribute
+	 * 
+	 * @since 2.0.1
+	 */
+	public FetchGraph getSubgraph(String name) {
+		return this.attributes.get(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public String toString() {
+		return "FetchGraph [" + this.getKey() + "]";
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The continuation token of the keyset pagination.
+ * <p>
+ * Holds the values of the <code>ORDER BY</code> expressions of the last row of a page, the next page starts right after the row. The
+ * ordering of the query must be unique, typically by ending with the id.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class Keyset implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Object[] values;
+
+	/**
+	 * Returns the keyset for the first page.
+	 * 
+	 * @return the keyset for the first page
+	 * 
+	 * @since 2.0.1
+	 */
+	public static Keyset first() {
+		return new Keyset();
+	}
+
+	/**
+	 * @param values
+	 *            the values of the <code>ORDER BY</code> expressions of the last row of the previous page
+	 * 
+	 * @since 2.0.1
+	 */
+	public Keyset(Object... values) {
+		super();
+
+		this.values = values.clone();
+	}
+
+	/**
+	 * Returns the values of the <code>ORDER BY</code> expressions of the last row of the previous page.
+	 * 
+	 * @return the values of the <code>ORDER BY</code> expressions of the last row of the previous page
+	 * 
+	 * @since 2.0.1
+	 */
+	public Object[] getValues() {
+		return this.values.clone();
+	}
+
+	/**
+	 * Returns if the keyset is for the first page.
+	 * 
+	 * @return true if the keyset is for the first page, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean isFirst() {
+		return this.values.length == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public String toString() {
+		return "Keyset " + Arrays.toString(this.values);
+	}
+}
@@ -261,7 +261,7 @@ public abstract class AbstractCriteriaQueryImpl<T> extends BaseQueryImpl<T> impl
 			select.append(" DISTINCT");
 		}
 		select.append("\n");
-		select.append(BatooUtils.indent(this.selection.generateSqlSelect(this, true)));
+		select.append(BatooUtils.indent(this.generateSqlSelectList()));
 
 		// generate from chunk
 		final List<String> froms = Lists.newArrayList();
@@ -328,6 +328,17 @@ public abstract class AbstractCriteriaQueryImpl<T> extends BaseQueryImpl<T> impl
 		return "(" + restriction + ")";
 	}
 
+	/**
+	 * Returns the select list of the query.
+	 * 
+	 * @return the select list
+	 * 
+	 * @since 2.0.1
+	 */
+	protected String generateSqlSelectList() {
+		return this.selection.generateSqlSelect(this, true);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
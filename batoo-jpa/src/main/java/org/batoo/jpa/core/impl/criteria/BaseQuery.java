@@ -90,6 +90,15 @@ public interface BaseQuery<T> {
 	 */
 	String getAlias(AbstractSelection<?> selection);
 
+	/**
+	 * Returns the fetch size estimated from the sizes of the previous results of the query.
+	 * 
+	 * @return the estimated fetch size or <code>0</code> if the query has not been run
+	 * 
+	 * @since 2.0.1
+	 */
+	int getFetchSizeEstimate();
+
 	/**
 	 * @param tableAlias
 	 *            the alias of the table
@@ -176,6 +185,16 @@ public interface BaseQuery<T> {
 	 */
 	boolean isInternal();
 
+	/**
+	 * Records the size of a result of the query to estimate the fetch size.
+	 * 
+	 * @param rows
+	 *            the number of rows in the result
+	 * 
+	 * @since 2.0.1
+	 */
+	void recordResultSize(int rows);
+
 	/**
 	 * Adds the parameter to the SQL parameters queue.
 	 * 
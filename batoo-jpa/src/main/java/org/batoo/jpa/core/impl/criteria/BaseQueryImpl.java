@@ -50,6 +50,8 @@ import com.google.common.collect.Sets;
  */
 public abstract class BaseQueryImpl<T> implements BaseQuery<T> {
 
+	private static final int MAX_FETCH_SIZE = 10000;
+
 	private final MetamodelImpl metamodel;
 
 	private int nextEntityAlias;
@@ -65,6 +67,8 @@ public abstract class BaseQueryImpl<T> implements BaseQuery<T> {
 
 	private final List<AbstractParameterExpressionImpl<?>> sqlParameters = Lists.newArrayList();
 
+	private volatile int resultSizeEstimate;
+
 	/**
 	 * @param metamodel
 	 *            the metamodel
@@ -137,6 +141,21 @@ public abstract class BaseQueryImpl<T> implements BaseQuery<T> {
 		return alias;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public int getFetchSizeEstimate() {
+		final int estimate = this.resultSizeEstimate;
+		if (estimate == 0) {
+			return 0;
+		}
+
+		// one extra row lets the driver detect the end of the result without another round trip
+		return Math.min(estimate + 1, BaseQueryImpl.MAX_FETCH_SIZE);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -279,6 +298,18 @@ public abstract class BaseQueryImpl<T> implements BaseQuery<T> {
 	 */
 	public abstract boolean isQuery();
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public void recordResultSize(int rows) {
+		final int estimate = this.resultSizeEstimate;
+
+		// moving average, racing updates only lose a sample
+		this.resultSizeEstimate = estimate == 0 ? Math.max(rows, 1) : Math.max((((3 * estimate) + rows) + 3) / 4, 1);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
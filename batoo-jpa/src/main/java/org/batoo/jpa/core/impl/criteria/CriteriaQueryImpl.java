@@ -24,11 +24,20 @@ import java.util.List;
 
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
 
+import org.batoo.jpa.core.impl.criteria.expression.AbstractExpression;
+import org.batoo.jpa.core.impl.criteria.expression.ParameterExpressionImpl;
+import org.batoo.jpa.core.impl.criteria.join.FetchImpl;
+import org.batoo.jpa.core.impl.criteria.path.BasicPath;
+import org.batoo.jpa.core.impl.model.EntityTypeImpl;
 import org.batoo.jpa.core.impl.model.MetamodelImpl;
+import org.batoo.jpa.core.impl.model.mapping.SingularMappingEx;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
@@ -45,7 +54,15 @@ import com.google.common.collect.Lists;
  */
 public class CriteriaQueryImpl<T> extends AbstractCriteriaQueryImpl<T> implements CriteriaQuery<T> {
 
+	/**
+	 * The prefix of the aliases of the <code>ORDER BY</code> expressions selected for the keyset pagination.
+	 */
+	public static final String KEYSET_ALIAS = "KS_";
+
 	private final ArrayList<OrderImpl> orderList = Lists.newArrayList();
+	private Boolean splitFetches;
+	private volatile List<CriteriaQueryImpl<?>> splitQueries;
+	private boolean keyset;
 
 	/**
 	 * @param metamodel
@@ -81,6 +98,150 @@ public class CriteriaQueryImpl<T> extends AbstractCriteriaQueryImpl<T> implement
 		super(metamodel, qlString);
 	}
 
+	/**
+	 * Converts the query to count its results.
+	 * <p>
+	 * The fetches and the ordering are dropped as they do not change the count. Must be called before the query is compiled.
+	 * 
+	 * @return self as the count query
+	 * 
+	 * @since 2.0.1
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public CriteriaQueryImpl<Long> convertToCount() {
+		if ((this.getGroupList().size() > 0) || (this.getGroupRestriction() != null)) {
+			throw new IllegalStateException("Count queries cannot be derived from grouped queries");
+		}
+
+		final AbstractSelection<T> selection = this.ensureSelection();
+
+		this.orderList.clear();
+		for (final Root<?> r : this.getRoots()) {
+			((RootImpl<?>) r).getFetchRoot().clearFetches();
+		}
+
+		final CriteriaBuilderImpl cb = this.getMetamodel().getEntityManagerFactory().getCriteriaBuilder();
+
+		final Expression<Long> count;
+		if (this.isDistinct()) {
+			if (!(selection instanceof AbstractExpression)) {
+				throw new IllegalStateException("Count queries cannot be derived from distinct multi selections");
+			}
+
+			count = cb.countDistinct((AbstractExpression<?>) selection);
+			this.distinct(false);
+		}
+		else {
+			count = cb.count(this.getRoots().iterator().next());
+		}
+
+		final CriteriaQueryImpl countQuery = this;
+		countQuery.select(count);
+
+		return countQuery;
+	}
+
+	/**
+	 * Converts the query to fetch a page of the keyset pagination.
+	 * <p>
+	 * The <code>ORDER BY</code> expressions are additionally selected with the aliases {@link #KEYSET_ALIAS} + index. The query for the
+	 * subsequent pages is further restricted to the rows after the keyset, the keyset values are bound to the parameters named
+	 * {@link #KEYSET_ALIAS} + index. Must be called before the query is compiled.
+	 * 
+	 * @param continuation
+	 *            true for the subsequent pages, false for the first page
+	 * @return self
+	 * 
+	 * @since 2.0.1
+	 */
+	public CriteriaQueryImpl<T> convertToKeyset(boolean continuation) {
+		if (this.orderList.isEmpty()) {
+			throw new IllegalStateException("Keyset pagination requires an ordered query");
+		}
+
+		if ((this.getGroupList().size() > 0) || (this.getGroupRestriction() != null)) {
+			throw new IllegalStateException("Keyset pagination is not supported for grouped queries");
+		}
+
+		for (final OrderImpl order : this.orderList) {
+			if (!(order.getExpression() instanceof BasicPath)) {
+				throw new IllegalStateException("Keyset pagination requires the query to be ordered by basic attributes");
+			}
+		}
+
+		this.keyset = true;
+
+		if (continuation) {
+			final CriteriaBuilderImpl cb = this.getMetamodel().getEntityManagerFactory().getCriteriaBuilder();
+
+			final List<ParameterExpressionImpl<?>> parameters = Lists.newArrayList();
+			for (int i = 0; i < this.orderList.size(); i++) {
+				parameters.add(cb.parameter(this.orderList.get(i).getExpression().getJavaType(), CriteriaQueryImpl.KEYSET_ALIAS + i));
+			}
+
+			// (k0 > ?) OR (k0 = ? AND k1 > ?) OR ...
+			final List<Predicate> alternatives = Lists.newArrayList();
+			for (int i = 0; i < this.orderList.size(); i++) {
+				final List<Predicate> conditions = Lists.newArrayList();
+				for (int j = 0; j < i; j++) {
+					conditions.add(cb.equal(this.orderList.get(j).getExpression(), parameters.get(j)));
+				}
+
+				conditions.add(this.createKeysetComparison(cb, this.orderList.get(i), parameters.get(i), false));
+
+				alternatives.add(cb.and(conditions.toArray(new Predicate[conditions.size()])));
+			}
+
+			// the bound on the first key lets the database range scan its index
+			final Predicate keysetRestriction = cb.and(//
+				this.createKeysetComparison(cb, this.orderList.get(0), parameters.get(0), true), //
+				cb.or(alternatives.toArray(new Predicate[alternatives.size()])));
+
+			if (this.getRestriction() != null) {
+				this.where(this.getRestriction(), keysetRestriction);
+			}
+			else {
+				this.where(keysetRestriction);
+			}
+		}
+
+		return this;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Predicate createKeysetComparison(CriteriaBuilderImpl cb, OrderImpl order, ParameterExpressionImpl parameter, boolean inclusive) {
+		final Expression key = order.getExpression();
+
+		if (order.isAscending()) {
+			return inclusive ? cb.greaterThanOrEqualTo(key, parameter) : cb.greaterThan(key, parameter);
+		}
+
+		return inclusive ? cb.lessThanOrEqualTo(key, parameter) : cb.lessThan(key, parameter);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private CriteriaQueryImpl<?> createSplitQuery(EntityTypeImpl<?> entity, FetchImpl<?, ?> fetch) {
+		final CriteriaBuilderImpl cb = this.getMetamodel().getEntityManagerFactory().getCriteriaBuilder();
+
+		final CriteriaQueryImpl q = cb.createQuery(entity.getJavaType());
+		q.internal();
+		q.splitFetches(false);
+
+		final RootImpl r = q.from(entity);
+		q.select(r);
+
+		r.getFetchRoot().fetch(fetch.getAttribute().getName(), JoinType.INNER).copyFetches(fetch);
+
+		final SingularMappingEx<?, ?> idMapping = entity.getRootType().getIdMapping();
+		final ParameterExpressionImpl<?> pe = cb.parameter(idMapping.getAttribute().getJavaType());
+		q.where(r.get(idMapping.getAttribute().getName()).in(pe));
+
+		// force sql compilation
+		q.getSql();
+
+		return q;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -119,6 +280,8 @@ public class CriteriaQueryImpl<T> extends AbstractCriteriaQueryImpl<T> implement
 	 */
 	@Override
 	public String generateSql() {
+		this.prepareSplitQueries();
+
 		if (this.orderList.size() > 0) {
 			final String orderBy = Joiner.on(", ").join(Lists.transform(this.orderList, new Function<OrderImpl, String>() {
 
@@ -136,6 +299,26 @@ public class CriteriaQueryImpl<T> extends AbstractCriteriaQueryImpl<T> implement
 		return super.generateSql();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String generateSqlSelectList() {
+		if (!this.keyset) {
+			return super.generateSqlSelectList();
+		}
+
+		// the keyset pages additionally select the keys so that the keyset of the last row can be read
+		final StringBuilder select = new StringBuilder(super.generateSqlSelectList());
+		for (int i = 0; i < this.orderList.size(); i++) {
+			select.append(",\n").append(this.orderList.get(i).getExpression().generateSqlSelect(this, false));
+			select.append(" AS ").append(CriteriaQueryImpl.KEYSET_ALIAS).append(i);
+		}
+
+		return select.toString();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -148,6 +331,19 @@ public class CriteriaQueryImpl<T> extends AbstractCriteriaQueryImpl<T> implement
 		return orderList;
 	}
 
+	/**
+	 * Returns the queries to load the collections that are split from the query.
+	 * 
+	 * @return the queries to load the collections that are split from the query
+	 * 
+	 * @since 2.0.1
+	 */
+	public List<CriteriaQueryImpl<?>> getSplitQueries() {
+		this.getSql();
+
+		return this.splitQueries;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -241,6 +437,43 @@ public class CriteriaQueryImpl<T> extends AbstractCriteriaQueryImpl<T> implement
 		return this;
 	}
 
+	private void prepareSplitQueries() {
+		if (this.splitQueries != null) {
+			return;
+		}
+
+		final List<CriteriaQueryImpl<?>> _splitQueries = Lists.newArrayList();
+
+		final AbstractSelection<T> selection = this.ensureSelection();
+		// splitting changes the number of rows returned, so without the hint only distinct queries are split
+		final boolean split = (this.splitFetches != null) ? this.splitFetches : this.isDistinct();
+		if (split && (selection instanceof RootImpl)) {
+			final RootImpl<T> r = (RootImpl<T>) selection;
+			final EntityTypeImpl<T> entity = r.getEntity();
+
+			// the collections are loaded by the ids of the root instances, so only single basic ids qualify
+			final SingularMappingEx<? super T, ?> idMapping = entity.getRootType().hasSingleIdAttribute() ? entity.getRootType().getIdMapping() : null;
+			if ((idMapping != null) && (idMapping.getAttribute().getPersistentAttributeType() == PersistentAttributeType.BASIC)) {
+				final List<FetchImpl<T, ?>> pluralFetches = r.getFetchRoot().getPluralFetches();
+
+				// every collection fetched multiplies the rows returned, distinct queries are split only if there are two or more
+				final int threshold = Boolean.TRUE.equals(this.splitFetches) ? 1 : 2;
+				if (pluralFetches.size() >= threshold) {
+					// keep the JPQL with the fetches
+					this.getJpql();
+
+					r.getFetchRoot().removeFetches(pluralFetches);
+
+					for (final FetchImpl<T, ?> fetch : pluralFetches) {
+						_splitQueries.add(this.createSplitQuery(entity, fetch));
+					}
+				}
+			}
+		}
+
+		this.splitQueries = _splitQueries;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -250,6 +483,26 @@ public class CriteriaQueryImpl<T> extends AbstractCriteriaQueryImpl<T> implement
 		return (CriteriaQueryImpl<T>) super.select(selection);
 	}
 
+	/**
+	 * Sets if the collections fetched by the query should be loaded with a separate query per collection.
+	 * <p>
+	 * If not set the collections are split only when the query is distinct and fetches two or more collections of the selected entity,
+	 * since otherwise the root entities would no longer be repeated per collection element.
+	 * <p>
+	 * Must be called before the query is compiled.
+	 * 
+	 * @param splitFetches
+	 *            true to split the collection fetches, false to join fetch the collections in the same query
+	 * @return self
+	 * 
+	 * @since 2.0.1
+	 */
+	public CriteriaQueryImpl<T> splitFetches(boolean splitFetches) {
+		this.splitFetches = splitFetches;
+
+		return this;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
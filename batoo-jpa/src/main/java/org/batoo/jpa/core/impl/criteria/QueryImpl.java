@@ -50,13 +50,20 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.mutable.MutableInt;
 import org.batoo.common.log.BLogger;
 import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.JPASettings;
+import org.batoo.jpa.core.FetchGraph;
+import org.batoo.jpa.core.Keyset;
 import org.batoo.jpa.core.impl.criteria.expression.AbstractParameterExpressionImpl;
 import org.batoo.jpa.core.impl.criteria.expression.EntityConstantExpression;
 import org.batoo.jpa.core.impl.criteria.expression.ParameterExpressionImpl;
+import org.batoo.jpa.core.impl.criteria.join.AbstractFrom;
+import org.batoo.jpa.core.impl.criteria.join.FetchImpl;
+import org.batoo.jpa.core.impl.criteria.jpql.JpqlQuery;
 import org.batoo.jpa.core.impl.instance.ManagedInstance;
 import org.batoo.jpa.core.impl.manager.EntityManagerImpl;
 import org.batoo.jpa.core.impl.manager.SessionImpl;
 import org.batoo.jpa.core.impl.model.MetamodelImpl;
+import org.batoo.jpa.core.impl.model.mapping.JoinedMapping;
 import org.batoo.jpa.jdbc.PreparedStatementProxy;
 import org.batoo.jpa.jdbc.ValueConverter;
 import org.batoo.jpa.jdbc.adapter.JdbcAdaptor.PaginationParamsOrder;
@@ -77,15 +84,28 @@ import com.google.common.collect.Sets;
 public class QueryImpl<X> implements TypedQuery<X>, Query {
 
 	private static final int MAX_COL_LENGTH = 30;
+	private static final int SPLIT_BATCH_SIZE = 100;
+	private static final int DEFAULT_PRESIZE = 10;
+	private static final int MAX_PRESIZE = 10000;
 
 	private static final BLogger LOG = BLoggerFactory.getLogger(QueryImpl.class);
 
 	private final EntityManagerImpl em;
-	private final BaseQuery<X> q;
+	private BaseQuery<X> q;
 	private String sql;
 	private final Map<String, Object> hints = Maps.newHashMap();
 	private int startPosition = 0;
 	private int maxResult = Integer.MAX_VALUE;
+	private Keyset keyset;
+	private Keyset nextKeyset;
+	private CriteriaQueryImpl<X> keysetQuery;
+	private Map<ParameterExpressionImpl<?>, Object> keysetParameters;
+	private Integer fetchSize;
+	private Boolean adaptiveFetchSize;
+	private JpqlQuery variantSource;
+	private FetchGraph fetchGraph;
+	private boolean loadGraph;
+	private Boolean splitFetches;
 
 	private final Map<ParameterExpressionImpl<?>, Object> parameters = Maps.newHashMap();
 
@@ -123,6 +143,28 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		this.pmdBroken = entityManager.getJdbcAdaptor().isPmdBroken();
 	}
 
+	private void applyFetchSize(PreparedStatement statement) throws SQLException {
+		int fetchSize = 0;
+
+		if (this.fetchSize != null) {
+			fetchSize = this.fetchSize;
+		}
+		else {
+			if (this.isAdaptiveFetchSize()) {
+				fetchSize = this.q.getFetchSizeEstimate();
+			}
+
+			// no need to buffer more rows than the max results
+			if ((this.maxResult != Integer.MAX_VALUE) && (this.maxResult < (fetchSize > 0 ? fetchSize : statement.getFetchSize()))) {
+				fetchSize = Math.max(this.maxResult, 1);
+			}
+		}
+
+		if (fetchSize > 0) {
+			statement.setFetchSize(fetchSize);
+		}
+	}
+
 	private Object[] applyParameters(Connection connection) {
 		// are all params set
 		for (final ParameterExpressionImpl<?> param : this.parameters.keySet()) {
@@ -139,7 +181,11 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 
 		final MetamodelImpl metamodel = this.em.getMetamodel();
 
-		final List<AbstractParameterExpressionImpl<?>> sqlParameters = this.q.getSqlParameters();
+		// keyset pages run the keyset variant of the query with the parameter values mapped to its parameters
+		final BaseQuery<X> query = (this.keysetQuery != null) ? this.keysetQuery : this.q;
+		final Map<ParameterExpressionImpl<?>, Object> values = (this.keysetQuery != null) ? this.keysetParameters : this.parameters;
+
+		final List<AbstractParameterExpressionImpl<?>> sqlParameters = query.getSqlParameters();
 
 		int paramCount = 0;
 		for (int i = 0; i < sqlParameters.size(); i++) {
@@ -189,7 +235,7 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 					((EntityConstantExpression<?>) parameter).setParameter(metamodel, connection, parameters, sqlIndex);
 				}
 				else {
-					((ParameterExpressionImpl<?>) parameter).setParameter(metamodel, connection, parameters, sqlIndex, this.parameters.get(parameter));
+					((ParameterExpressionImpl<?>) parameter).setParameter(metamodel, connection, parameters, sqlIndex, values.get(parameter));
 				}
 			}
 
@@ -253,7 +299,7 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 				((EntityConstantExpression<?>) parameter).setParameter(metamodel, connection, parameters, sqlIndex);
 			}
 			else {
-				((ParameterExpressionImpl<?>) parameter).setParameter(metamodel, connection, parameters, sqlIndex, this.parameters.get(parameter));
+				((ParameterExpressionImpl<?>) parameter).setParameter(metamodel, connection, parameters, sqlIndex, values.get(parameter));
 			}
 		}
 
@@ -318,6 +364,8 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 				statement = connection.prepareStatement(_sql);
 			}
 
+			this.applyFetchSize(statement);
+
 			this.fillStatement(statement, parameters, repeat);
 
 			resultSet = statement.executeQuery();
@@ -399,6 +447,41 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		QueryImpl.LOG.debug(dump.toString(), this.data.size());
 	}
 
+	/**
+	 * Creates a query that counts the results of this query.
+	 * <p>
+	 * The count query drops the fetches and the ordering of this query and ignores the first and max results. The parameter values bound
+	 * so far are bound to the count query as well. The count query is cached alongside the JPQL of this query.
+	 * 
+	 * @return the count query
+	 * 
+	 * @since 2.0.1
+	 */
+	public QueryImpl<Long> createCountQuery() {
+		if (!(this.q instanceof CriteriaQueryImpl)) {
+			throw new IllegalStateException("Count queries can only be derived from select queries");
+		}
+
+		final JpqlQuery jpqlQuery = this.em.getEntityManagerFactory().getJpqlQuery(this.q.getJpql());
+		final QueryImpl<Long> countQuery = new QueryImpl<Long>(jpqlQuery.getCountQuery(), this.em);
+
+		for (final Entry<ParameterExpressionImpl<?>, Object> entry : this.parameters.entrySet()) {
+			if (entry.getValue() == Void.TYPE) {
+				continue;
+			}
+
+			// the parameters used only by the dropped ordering are not in the count query
+			final ParameterExpressionImpl<?> countParameter = countQuery.getCountParameter(entry.getKey());
+			if (countParameter != null) {
+				countQuery.putParam(countParameter, entry.getValue());
+			}
+		}
+
+		countQuery.setFlushMode(this.flushMode);
+
+		return countQuery;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -568,6 +651,28 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		}
 	}
 
+	/**
+	 * Returns the parameter of the count query that corresponds to the parameter of the query the count query is derived from.
+	 * <p>
+	 * The count query is parsed afresh so the parameters are matched by their name or position. The parameters of the criteria queries
+	 * that have neither are rendered to the JPQL with their generated aliases, which the count query parses as names.
+	 * 
+	 * @since 2.0.1
+	 */
+	private ParameterExpressionImpl<?> getCountParameter(ParameterExpressionImpl<?> parameter) {
+		final Integer position = parameter.getPosition();
+		final boolean positional = (parameter.getName() == null) && (position != null) && position.toString().equals(parameter.getAlias());
+		final String name = parameter.getName() != null ? parameter.getName() : parameter.getAlias();
+
+		for (final ParameterExpressionImpl<?> countParameter : this.parameters.keySet()) {
+			if (positional ? position.equals(countParameter.getPosition()) : (name != null) && name.equals(countParameter.getName())) {
+				return countParameter;
+			}
+		}
+
+		return null;
+	}
+
 	/**
 	 * Returns the criteria query of the typed query.
 	 * 
@@ -579,6 +684,19 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		return this.q;
 	}
 
+	private int getExpectedSize(ResultSet rs) throws SQLException {
+		if (this.maxResult != Integer.MAX_VALUE) {
+			return Math.min(this.maxResult, QueryImpl.MAX_PRESIZE);
+		}
+
+		final int fetchSize = rs.getFetchSize();
+		if (fetchSize > 0) {
+			return Math.min(fetchSize, QueryImpl.MAX_PRESIZE);
+		}
+
+		return QueryImpl.DEFAULT_PRESIZE;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -606,6 +724,20 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		return Maps.newHashMap(this.hints);
 	}
 
+	private JpqlQuery getHintSource(String hintName) {
+		for (final Object value : this.parameters.values()) {
+			if (value != Void.TYPE) {
+				throw new IllegalStateException("Hint " + hintName + " must be set before the parameters are bound");
+			}
+		}
+
+		if (!(this.q instanceof CriteriaQueryImpl)) {
+			throw new IllegalArgumentException("Hint " + hintName + " can only be applied to select queries");
+		}
+
+		return this.getVariantSource();
+	}
+
 	/**
 	 * Returns the JPQL that representing the query.
 	 * 
@@ -635,6 +767,17 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		return this.maxResult;
 	}
 
+	/**
+	 * Returns the keyset to fetch the page after the last page returned by {@link #getResultList()}.
+	 * 
+	 * @return the keyset for the next page, or <code>null</code> if keyset pagination is not used or the last page was empty
+	 * 
+	 * @since 2.0.1
+	 */
+	public Keyset getNextKeyset() {
+		return this.nextKeyset;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -752,16 +895,22 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 
 		final Connection connection = this.em.getConnection();
 		try {
+			if (this.keyset != null) {
+				this.prepareKeyset();
+			}
+
 			final LockModeType lockMode = this.getLockMode();
-			final boolean hasLock = (lockMode == LockModeType.PESSIMISTIC_READ) || (lockMode == LockModeType.PESSIMISTIC_WRITE)
-				|| (lockMode == LockModeType.PESSIMISTIC_FORCE_INCREMENT);
-			if (hasLock) {
+			if (QueryImpl.isPessimistic(lockMode)) {
 				this.sql = this.em.getJdbcAdaptor().applyLock(this.sql, lockMode);
 			}
 
 			final Object[] parameters = this.applyParameters(connection);
 
-			return this.buildResultSet(connection, parameters);
+			final List<X> results = this.buildResultSet(connection, parameters);
+
+			this.loadSplitFetches(results);
+
+			return results;
 		}
 		finally {
 			this.em.getSession().releaseLoadTracker();
@@ -789,6 +938,15 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		return resultList.get(0);
 	}
 
+	private JpqlQuery getVariantSource() {
+		// the variants are always derived from the original query so that the changes compose
+		if (this.variantSource == null) {
+			this.variantSource = this.em.getEntityManagerFactory().getJpqlQuery(this.q.getJpql());
+		}
+
+		return this.variantSource;
+	}
+
 	/**
 	 * Handles and returns the value created from the result set.
 	 * 
@@ -802,29 +960,58 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 	private List<X> handle(ResultSet rs) throws SQLException {
 		this.md = rs.getMetaData();
 
-		final CriteriaQueryImpl<X> cq = (CriteriaQueryImpl<X>) this.q;
+		final CriteriaQueryImpl<X> cq = (this.keysetQuery != null) ? this.keysetQuery : (CriteriaQueryImpl<X>) this.q;
 		final AbstractSelection<X> selection = cq.getSelection();
 		final boolean debug = QueryImpl.LOG.isDebugEnabled();
 		if (debug) {
 			this.prepareLabels(this.md);
 		}
 
-		this.results = Lists.newArrayList();
+		final int expectedSize = this.getExpectedSize(rs);
+		this.results = Lists.newArrayListWithCapacity(expectedSize);
+
+		// entities are unique per session so they are compared by identity, other selections by equality
+		final Set<Object> distinctResults;
+		if (cq.isDistinct()) {
+			distinctResults = (selection instanceof AbstractFrom) ? Sets.newIdentityHashSet() : Sets.newHashSetWithExpectedSize(expectedSize);
+		}
+		else {
+			distinctResults = null;
+		}
+
+		final Object[] keys = (this.keyset != null) ? new Object[cq.getOrderList().size()] : null;
+		int rows = 0;
 
 		final SessionImpl session = this.em.getSession();
 
 		// process the resultset
 		while (rs.next()) {
 			final X instance = selection.handle(this, session, rs);
-			if (!cq.isDistinct() || !this.results.contains(instance)) {
+			if ((distinctResults == null) || distinctResults.add(instance)) {
 				this.results.add(instance);
 			}
 
+			if (keys != null) {
+				for (int i = 0; i < keys.length; i++) {
+					keys[i] = rs.getObject(CriteriaQueryImpl.KEYSET_ALIAS + i);
+				}
+			}
+
+			rows++;
+
 			if (debug) {
 				this.storeData(rs);
 			}
 		}
 
+		if (keys != null) {
+			this.nextKeyset = rows > 0 ? new Keyset(keys) : null;
+		}
+
+		if ((this.fetchSize == null) && this.isAdaptiveFetchSize()) {
+			this.q.recordResultSize(rows);
+		}
+
 		final LockModeType lockMode = this.getLockMode();
 		if (lockMode != null) {
 			for (int i = 0; i < this.results.size(); i++) {
@@ -839,6 +1026,14 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		return this.results;
 	}
 
+	private boolean isAdaptiveFetchSize() {
+		if (this.adaptiveFetchSize != null) {
+			return this.adaptiveFetchSize;
+		}
+
+		return this.em.getEntityManagerFactory().isAdaptiveFetchSize();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -848,10 +1043,114 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		return this.parameters.containsKey(param);
 	}
 
+	private static boolean isPessimistic(LockModeType lockMode) {
+		return (lockMode == LockModeType.PESSIMISTIC_READ) || (lockMode == LockModeType.PESSIMISTIC_WRITE)
+			|| (lockMode == LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void loadSplitFetches(List<X> results) {
+		if (!(this.q instanceof CriteriaQueryImpl)) {
+			return;
+		}
+
+		final CriteriaQueryImpl<X> cq = (this.keysetQuery != null) ? this.keysetQuery : (CriteriaQueryImpl<X>) this.q;
+
+		final List<CriteriaQueryImpl<?>> splitQueries = cq.getSplitQueries();
+		if (splitQueries.isEmpty()) {
+			return;
+		}
+
+		final SessionImpl session = this.em.getSession();
+
+		// only the instances loaded by this query need their collections
+		final Map<Object, ManagedInstance<?>> instances = Maps.newLinkedHashMap();
+		for (final X result : results) {
+			final ManagedInstance<X> instance = session.get(result);
+			if ((instance != null) && instance.isLoading()) {
+				instances.put(instance.getId().getId(), instance);
+			}
+		}
+
+		if (instances.isEmpty()) {
+			return;
+		}
+
+		final List<Object> ids = Lists.newArrayList(instances.keySet());
+
+		for (final CriteriaQueryImpl<?> splitQuery : splitQueries) {
+			final FetchImpl<?, ?> fetch = (FetchImpl<?, ?>) ((RootImpl<?>) splitQuery.getSelection()).getFetchRoot().getFetches().iterator().next();
+			final JoinedMapping<?, ?, ?> mapping = fetch.getMapping();
+
+			for (final ManagedInstance<?> instance : instances.values()) {
+				mapping.initialize(instance);
+				instance.setJoinLoaded(mapping);
+			}
+
+			// the root instances are still loading so the split queries stitch the children into their collections
+			for (final List<Object> batch : Lists.partition(ids, QueryImpl.SPLIT_BATCH_SIZE)) {
+				final QueryImpl query = new QueryImpl(splitQuery, this.em);
+
+				// the collections are loaded under the same hints and pessimistic lock as the root instances,
+				// optimistic locks are not repeated as the root instances have already been locked
+				if (QueryImpl.isPessimistic(this.lockMode)) {
+					query.lockMode = this.lockMode;
+				}
+
+				query.flushMode = this.flushMode;
+				query.fetchSize = this.fetchSize;
+				query.adaptiveFetchSize = this.adaptiveFetchSize;
+				query.hints.putAll(this.hints);
+
+				query.putParam(splitQuery.getParameters().iterator().next(), batch);
+				query.getResultListImpl();
+			}
+		}
+	}
+
 	private int max(int length1, int length2) {
 		return Math.min(QueryImpl.MAX_COL_LENGTH, Math.max(length1, length2));
 	}
 
+	private void prepareKeyset() {
+		if (!(this.q instanceof CriteriaQueryImpl)) {
+			throw new IllegalStateException("Keyset pagination requires a select query");
+		}
+
+		if (this.startPosition != 0) {
+			throw new IllegalStateException("Keyset pagination cannot be combined with the first result");
+		}
+
+		final CriteriaQueryImpl<X> cq = (CriteriaQueryImpl<X>) this.q;
+
+		if (!this.keyset.isFirst() && (this.keyset.getValues().length != cq.getOrderList().size())) {
+			throw new IllegalArgumentException("Keyset has " + this.keyset.getValues().length + " values but the query is ordered by "
+				+ cq.getOrderList().size() + " expressions");
+		}
+
+		final JpqlQuery source = this.getVariantSource();
+		this.keysetQuery = (CriteriaQueryImpl<X>) source.getVariantQuery(this.fetchGraph, this.loadGraph, this.splitFetches, !this.keyset.isFirst());
+
+		// the variant is parsed from the same JPQL so its parameters have the same aliases as the ones of the query
+		final Map<String, Object> values = Maps.newHashMap();
+		for (final Entry<ParameterExpressionImpl<?>, Object> entry : this.parameters.entrySet()) {
+			values.put(entry.getKey().getAlias(), entry.getValue());
+		}
+
+		if (!this.keyset.isFirst()) {
+			for (int i = 0; i < this.keyset.getValues().length; i++) {
+				values.put(CriteriaQueryImpl.KEYSET_ALIAS + i, this.keyset.getValues()[i]);
+			}
+		}
+
+		this.keysetParameters = Maps.newHashMap();
+		for (final ParameterExpression<?> parameter : this.keysetQuery.getParameters()) {
+			this.keysetParameters.put((ParameterExpressionImpl<?>) parameter, values.get(((ParameterExpressionImpl<?>) parameter).getAlias()));
+		}
+
+		this.sql = this.keysetQuery.getSql();
+	}
+
 	private void prepareLabels(final ResultSetMetaData md) throws SQLException {
 		this.labels = new String[md.getColumnCount()];
 
@@ -869,6 +1168,17 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 		return this;
 	}
 
+	@SuppressWarnings("unchecked")
+	private void replaceQuery(BaseQuery<?> q) {
+		this.q = (BaseQuery<X>) q;
+		this.sql = this.q.getSql();
+
+		this.parameters.clear();
+		for (final ParameterExpression<?> p : this.q.getParameters()) {
+			this.parameters.put((ParameterExpressionImpl<?>) p, Void.TYPE);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -897,11 +1207,60 @@ public class QueryImpl<X> implements TypedQuery<X>, Query {
 	 */
 	@Override
 	public TypedQuery<X> setHint(String hintName, Object value) {
+		if (JPASettings.FETCH_GRAPH.equals(hintName) || JPASettings.LOAD_GRAPH.equals(hintName)) {
+			final JpqlQuery source = this.getHintSource(hintName);
+
+			this.fetchGraph = FetchGraph.fromHint(value);
+			this.loadGraph = JPASettings.LOAD_GRAPH.equals(hintName);
+
+			this.replaceQuery(source.getVariantQuery(this.fetchGraph, this.loadGraph, this.splitFetches, null));
+		}
+		else if (JPASettings.FETCH_SIZE.equals(hintName)) {
+			this.fetchSize = (value instanceof Number) ? ((Number) value).intValue() : Integer.valueOf(String.valueOf(value));
+		}
+		else if (JPASettings.ADAPTIVE_FETCH_SIZE.equals(hintName)) {
+			this.adaptiveFetchSize = (value instanceof Boolean) ? (Boolean) value : Boolean.valueOf(String.valueOf(value));
+		}
+		else if (JPASettings.SPLIT_FETCHES.equals(hintName)) {
+			final JpqlQuery source = this.getHintSource(hintName);
+
+			this.splitFetches = (value instanceof Boolean) ? (Boolean) value : Boolean.valueOf(String.valueOf(value));
+
+			this.replaceQuery(source.getVariantQuery(this.fetchGraph, this.loadGraph, this.splitFetches, null));
+		}
+
 		this.hints.put(hintName, value);
 
 		return this;
 	}
 
+	/**
+	 * Sets the keyset to use keyset pagination.
+	 * <p>
+	 * Instead of skipping the first results, the rows are restricted to the ones after the keyset in the order of the query. The size of the
+	 * page is set with {@link #setMaxResults(int)} and the keyset for the next page is returned by {@link #getNextKeyset()}. The query
+	 * must be ordered uniquely by basic attributes.
+	 * 
+	 * @param keyset
+	 *            the keyset, {@link Keyset#first()} for the first page or <code>null</code> to turn off keyset pagination
+	 * @return self
+	 * 
+	 * @since 2.0.1
+	 */
+	public QueryImpl<X> setKeyset(Keyset keyset) {
+		this.keyset = keyset;
+
+		// back to the query itself
+		if (keyset == null) {
+			this.keysetQuery = null;
+			this.keysetParameters = null;
+
+			this.sql = this.q.getSql();
+		}
+
+		return this;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
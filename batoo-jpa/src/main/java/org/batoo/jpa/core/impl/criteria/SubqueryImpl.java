@@ -268,6 +268,15 @@ public class SubqueryImpl<T> extends AbstractExpression<T> implements Subquery<T
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public int getFetchSizeEstimate() {
+		return this.query.getFetchSizeEstimate();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -484,6 +493,15 @@ public class SubqueryImpl<T> extends AbstractExpression<T> implements Subquery<T
 		return false;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public void recordResultSize(int rows) {
+		this.query.recordResultSize(rows);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -38,6 +38,7 @@ import javax.persistence.metamodel.SingularAttribute;
 import javax.persistence.metamodel.Type.PersistenceType;
 
 import org.apache.commons.lang.StringUtils;
+import org.batoo.jpa.core.FetchGraph;
 import org.batoo.jpa.core.impl.collections.ManagedCollection;
 import org.batoo.jpa.core.impl.criteria.AbstractCriteriaQueryImpl;
 import org.batoo.jpa.core.impl.criteria.BaseQueryImpl;
@@ -110,6 +111,7 @@ public class FetchParentImpl<Z, X> implements FetchParent<Z, X>, Joinable {
 	private String[] fields;
 	private String keyColumnAlias;
 	private AbstractColumn keyColumn;
+	private FetchGraph fetchGraph;
 
 	/**
 	 * @param entity
@@ -145,6 +147,65 @@ public class FetchParentImpl<Z, X> implements FetchParent<Z, X>, Joinable {
 		}
 	}
 
+	/**
+	 * Fetches the associations in the graph.
+	 * 
+	 * @param graph
+	 *            the fetch graph
+	 * @param loadGraph
+	 *            true if the graph is a load graph, false if it is a fetch graph
+	 * 
+	 * @since 2.0.1
+	 */
+	public void applyFetchGraph(FetchGraph graph, boolean loadGraph) {
+		// the associations not in a fetch graph are treated as lazy when the instances are loaded
+		if (!loadGraph) {
+			this.fetchGraph = graph;
+		}
+
+		for (final String name : graph.getAttributeNames()) {
+			final AbstractMapping<?, ?, ?> _mapping = this.getMapping(name);
+			if (_mapping == null) {
+				throw new IllegalArgumentException("Cannot dereference attribute " + name + " in the fetch graph");
+			}
+
+			// basic attributes are always selected
+			if (!(_mapping instanceof JoinedMapping)) {
+				continue;
+			}
+
+			final FetchImpl<X, Object> fetch = this.fetch(name, JoinType.LEFT);
+			fetch.applyFetchGraph(graph.getSubgraph(name), loadGraph);
+		}
+	}
+
+	/**
+	 * Removes all the fetches of the fetch parent and its joins.
+	 * 
+	 * @since 2.0.1
+	 */
+	public void clearFetches() {
+		this.fetches.clear();
+
+		for (final FetchImpl<X, ?> join : this.joins) {
+			join.clearFetches();
+		}
+	}
+
+	/**
+	 * Fetches the same associations as the source fetch parent.
+	 * 
+	 * @param source
+	 *            the source fetch parent
+	 * 
+	 * @since 2.0.1
+	 */
+	public void copyFetches(FetchParentImpl<?, ?> source) {
+		for (final FetchImpl<?, ?> fetch : source.fetches.values()) {
+			this.fetch(fetch.getAttribute().getName(), fetch.getJoinType()).copyFetches(fetch);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -459,6 +520,11 @@ public class FetchParentImpl<Z, X> implements FetchParent<Z, X>, Joinable {
 				this.joinFields.put(column, fieldAlias);
 			}
 			else {
+				// lazy basic attributes are loaded by the instance on first access
+				if ((column.getMapping() instanceof BasicMappingImpl) && ((BasicMappingImpl<?, ?>) column.getMapping()).getAttribute().isLazy()) {
+					continue;
+				}
+
 				fieldAlias = tableAlias + "_F" + query.getFieldAlias(tableAlias, column);
 
 				if ((column.getMapping() instanceof BasicMappingImpl)
@@ -617,13 +683,13 @@ public class FetchParentImpl<Z, X> implements FetchParent<Z, X>, Joinable {
 	@SuppressWarnings("unchecked")
 	private <Y extends X> ManagedInstance<Y> getInstance(SessionImpl session, ResultSet row) throws SQLException {
 		// get the id of for the instance
-		final ManagedId<X> managedId = this.entity.getId(session, row, this.idFields);
-		if (managedId == null) {
+		final Object id = this.entity.getIdValue(session, row, this.idFields);
+		if (id == null) {
 			return null;
 		}
 
 		// look for it in the session
-		ManagedInstance<Y> instance = session.get(managedId);
+		ManagedInstance<Y> instance = session.get(this.entity, id);
 
 		// if found then return it
 		if (instance != null) {
@@ -645,6 +711,8 @@ public class FetchParentImpl<Z, X> implements FetchParent<Z, X>, Joinable {
 			return instance;
 		}
 
+		final ManagedId<X> managedId = new ManagedId<X>(id, this.entity);
+
 		// if no inheritance then initialize and return
 		if (this.entity.getInheritanceType() == null) {
 			instance = (ManagedInstance<Y>) this.entity.getManagedInstanceById(session, managedId, false);
@@ -696,6 +764,26 @@ public class FetchParentImpl<Z, X> implements FetchParent<Z, X>, Joinable {
 		return null;
 	}
 
+	/**
+	 * Returns the fetches of collections, that is plural associations and element collections.
+	 * 
+	 * @return the fetches of collections
+	 * 
+	 * @since 2.0.1
+	 */
+	public List<FetchImpl<X, ?>> getPluralFetches() {
+		final List<FetchImpl<X, ?>> pluralFetches = Lists.newArrayList();
+
+		for (final FetchImpl<X, ?> fetch : this.fetches.values()) {
+			final MappingType mappingType = fetch.getMapping().getMappingType();
+			if ((mappingType == MappingType.PLURAL_ASSOCIATION) || (mappingType == MappingType.ELEMENT_COLLECTION)) {
+				pluralFetches.add(fetch);
+			}
+		}
+
+		return pluralFetches;
+	}
+
 	/**
 	 * Returns the alias of the primary table.
 	 * 
@@ -1019,6 +1107,10 @@ public class FetchParentImpl<Z, X> implements FetchParent<Z, X>, Joinable {
 	private void initializeInstance(SessionImpl session, ResultSet row, ManagedInstance<? extends X> managedInstance) throws SQLException {
 		managedInstance.setLoading(true);
 
+		if (this.fetchGraph != null) {
+			managedInstance.setFetchGraph(this.fetchGraph);
+		}
+
 		final X instance = managedInstance.getInstance();
 
 		for (int i = 0; i < this.fields.length; i++) {
@@ -1092,4 +1184,18 @@ public class FetchParentImpl<Z, X> implements FetchParent<Z, X>, Joinable {
 
 		return fetch;
 	}
+
+	/**
+	 * Removes the fetches so that they are not joined by the query.
+	 * 
+	 * @param fetches
+	 *            the fetches to remove
+	 * 
+	 * @since 2.0.1
+	 */
+	public void removeFetches(Collection<FetchImpl<X, ?>> fetches) {
+		for (final FetchImpl<X, ?> fetch : fetches) {
+			this.fetches.remove(fetch.getMapping());
+		}
+	}
 }
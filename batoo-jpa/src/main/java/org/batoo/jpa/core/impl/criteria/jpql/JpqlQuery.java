@@ -50,6 +50,7 @@ import org.antlr.runtime.tree.Tree;
 import org.apache.commons.lang.StringUtils;
 import org.batoo.common.log.BLogger;
 import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.core.FetchGraph;
 import org.batoo.jpa.core.impl.criteria.AbstractSelection;
 import org.batoo.jpa.core.impl.criteria.BaseQuery;
 import org.batoo.jpa.core.impl.criteria.BaseQueryImpl;
@@ -118,6 +119,7 @@ public class JpqlQuery {
 	private final Map<BaseQuery<?>, Map<String, AbstractFrom<?, ?>>> aliasMap = Maps.newHashMap();
 	private final Map<String, ParameterExpressionImpl<?>> namedParamMap = Maps.newHashMap();
 	private HashMap<String, Object> hints;
+	private final HashMap<String, BaseQuery<?>> variantQueries = Maps.newHashMap();
 
 	private LockModeType lockMode;
 	private long lastUsed;
@@ -177,6 +179,20 @@ public class JpqlQuery {
 		this.q = this.parse(cb);
 	}
 
+	/**
+	 * Checks the syntax of the JPQL without resolving it against a metamodel.
+	 * 
+	 * @param qlString
+	 *            the JPQL
+	 * @throws PersistenceException
+	 *             thrown if the JPQL cannot be parsed
+	 * 
+	 * @since 2.0.1
+	 */
+	public static void checkSyntax(String qlString) {
+		JpqlQuery.parse(qlString);
+	}
+
 	/**
 	 * Constructs the query object.
 	 * 
@@ -1567,6 +1583,41 @@ public class JpqlQuery {
 			+ exprDef.getCharPositionInLine());
 	}
 
+	/**
+	 * Returns the query that counts the results of the query.
+	 * <p>
+	 * The query is parsed afresh and converted to count, the fetches and the ordering are dropped.
+	 * 
+	 * @return the count query
+	 * 
+	 * @since 2.0.1
+	 */
+	public BaseQuery<Long> getCountQuery() {
+		final String key = "count";
+
+		synchronized (this.variantQueries) {
+			@SuppressWarnings("unchecked")
+			BaseQuery<Long> countQuery = (BaseQuery<Long>) this.variantQueries.get(key);
+			if (countQuery != null) {
+				return countQuery;
+			}
+
+			final BaseQuery<?> q = new JpqlQuery(this.metamodel.getEntityManagerFactory(), this.qlString).q;
+			if (!(q instanceof CriteriaQueryImpl)) {
+				throw new IllegalArgumentException("Count queries can only be derived from select queries: " + this.qlString);
+			}
+
+			countQuery = ((CriteriaQueryImpl<?>) q).convertToCount();
+
+			// force sql compilation
+			countQuery.getSql();
+
+			this.variantQueries.put(key, countQuery);
+
+			return countQuery;
+		}
+	}
+
 	/**
 	 * Returns the time query last used.
 	 * 
@@ -1589,6 +1640,70 @@ public class JpqlQuery {
 		return this.qlString;
 	}
 
+	/**
+	 * Returns the query with the fetch graph applied to its selection root, its collection fetches split or joined and converted to a
+	 * keyset page as specified.
+	 * <p>
+	 * The query is parsed afresh so that it gets its own set of parameters, with the same aliases as the ones of the original query,
+	 * and its SQL is cached per variant. All the changes are applied to the original query so that the outcome does not depend on the
+	 * order they are requested.
+	 * 
+	 * @param graph
+	 *            the fetch graph or null
+	 * @param loadGraph
+	 *            true if the graph is a load graph, false for a fetch graph
+	 * @param splitFetches
+	 *            true to load the collections with separate queries, false to join fetch them, null for the default
+	 * @param keyset
+	 *            true for the subsequent pages of the keyset pagination, false for the first page, null for no keyset pagination
+	 * @return the query variant
+	 * 
+	 * @since 2.0.1
+	 */
+	public BaseQuery<?> getVariantQuery(FetchGraph graph, boolean loadGraph, Boolean splitFetches, Boolean keyset) {
+		final String key = (graph != null ? (loadGraph ? "load:" : "fetch:") + graph.getKey() : "") //
+			+ "|split:" + splitFetches + "|keyset:" + keyset;
+
+		synchronized (this.variantQueries) {
+			BaseQuery<?> variantQuery = this.variantQueries.get(key);
+			if (variantQuery != null) {
+				return variantQuery;
+			}
+
+			variantQuery = new JpqlQuery(this.metamodel.getEntityManagerFactory(), this.qlString).q;
+
+			if (!(variantQuery instanceof CriteriaQueryImpl)) {
+				throw new IllegalArgumentException("Fetch graphs, split fetches and keysets can only be applied to select queries: "
+					+ this.qlString);
+			}
+
+			final CriteriaQueryImpl<?> cq = (CriteriaQueryImpl<?>) variantQuery;
+
+			if (graph != null) {
+				if (!(cq.getSelection() instanceof RootImpl)) {
+					throw new IllegalArgumentException("Fetch graphs can only be applied to queries selecting a single entity: " + this.qlString);
+				}
+
+				((RootImpl<?>) cq.getSelection()).getFetchRoot().applyFetchGraph(graph, loadGraph);
+			}
+
+			if (splitFetches != null) {
+				cq.splitFetches(splitFetches);
+			}
+
+			if (keyset != null) {
+				cq.convertToKeyset(keyset);
+			}
+
+			// force sql compilation
+			variantQuery.getSql();
+
+			this.variantQueries.put(key, variantQuery);
+
+			return variantQuery;
+		}
+	}
+
 	/**
 	 * Parses the JPQL.
 	 * 
@@ -1599,7 +1714,7 @@ public class JpqlQuery {
 	 * @since 2.0.0
 	 */
 	private BaseQueryImpl<?> parse(CriteriaBuilderImpl cb) {
-		final CommonTree tree = this.parse(this.qlString);
+		final CommonTree tree = JpqlQuery.parse(this.qlString);
 
 		JpqlQuery.LOG.debug("Parsed query successfully {0}", //
 			JpqlQuery.LOG.lazyBoxed(this.qlString, new Object[] { tree.toStringTree() }));
@@ -1607,7 +1722,7 @@ public class JpqlQuery {
 		return this.construct(cb, tree);
 	}
 
-	private CommonTree parse(String query) {
+	private static CommonTree parse(String query) {
 		try {
 			final JpqlLexer lexer = new JpqlLexer(new ANTLRStringStream(query));
 			final CommonTokenStream tokenStream = new CommonTokenStream(lexer);
@@ -71,6 +71,9 @@ public class DdlManager extends DeploymentManager<EntityTypeImpl<?>> {
 	 * @since 2.0.0
 	 */
 	public static void perform(DataSource datasource, MetamodelImpl metamodel, DDLMode ddlMode) throws BatooException {
+		// one metadata sweep per schema, the parallel table operations then diff against it
+		metamodel.performSchemaRead(datasource, ddlMode);
+
 		new DdlManager(datasource, metamodel, ddlMode, DdlPhase.TABLES).perform();
 		new DdlManager(datasource, metamodel, ddlMode, DdlPhase.FOREIGN_KEYS).perform();
 	}
@@ -21,14 +21,12 @@ package org.batoo.jpa.core.impl.deployment;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.Callable;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -41,9 +39,8 @@ import org.batoo.jpa.core.impl.model.TypeImpl;
 import org.batoo.common.util.IncrementalNamingThreadFactory;
 import org.batoo.jpa.parser.metadata.NamedQueryMetadata;
 
-import com.google.common.base.Function;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
+import com.google.common.collect.Maps;
 
 /**
  * Abstract base class for Deployment Managers.
@@ -86,90 +83,12 @@ public abstract class DeploymentManager<X> {
 		NAMED_QUERIES
 	}
 
-	private static class DeploymentUnitFuture extends FutureTask<Void> implements Comparable<DeploymentUnitFuture> {
-
-		private final DeploymentUnitTask task;
-
-		/**
-		 * @param task
-		 *            the deployment unit task.
-		 * 
-		 * @since 2.0.0
-		 */
-		public DeploymentUnitFuture(DeploymentUnitTask task) {
-			super(task);
-
-			this.task = task;
-		}
-
-		/**
-		 * {@inheritDoc}
-		 * 
-		 */
-		@Override
-		public int compareTo(DeploymentUnitFuture o) {
-			return this.task.compareTo(o.task);
-		}
-
-		/**
-		 * {@inheritDoc}
-		 * 
-		 */
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj) {
-				return true;
-			}
-
-			if (obj == null) {
-				return false;
-			}
-
-			if (this.getClass() != obj.getClass()) {
-				return false;
-			}
-
-			final DeploymentUnitFuture other = (DeploymentUnitFuture) obj;
-			if (this.task == null) {
-				if (other.task != null) {
-					return false;
-				}
-			}
-			else if (!this.task.equals(other.task)) {
-				return false;
-			}
-
-			return true;
-		}
-
-		/**
-		 * {@inheritDoc}
-		 * 
-		 */
-		@Override
-		public int hashCode() {
-			final int prime = 31;
-			int result = 1;
-			result = (prime * result) + ((this.task == null) ? 0 : this.task.hashCode());
-			return result;
-		}
-
-		/**
-		 * {@inheritDoc}
-		 * 
-		 */
-		@Override
-		public String toString() {
-			return "DeploymentUnitFuture [task=" + this.task + "]";
-		}
-	}
-
 	private final BLogger log;
+	private final String name;
 	private final MetamodelImpl metamodel;
 	private final List<ManagedType<?>> types = Lists.newArrayList();
 	private final Collection<NamedQueryMetadata> namedQueries = Lists.newArrayList();
 
-	private final Set<TypeImpl<?>> performed = Collections.synchronizedSet(Sets.<TypeImpl<?>> newHashSet());
 	private final ThreadPoolExecutor executer;
 	private final Context context;
 
@@ -185,11 +104,11 @@ public abstract class DeploymentManager<X> {
 	 *            the context for the operation
 	 * @since 2.0.0
 	 */
-	@SuppressWarnings({ "unchecked" })
 	public DeploymentManager(BLogger log, String name, MetamodelImpl metamodel, Context context) {
 		super();
 
 		this.log = log;
+		this.name = name;
 		this.metamodel = metamodel;
 		this.context = context;
 
@@ -209,13 +128,7 @@ public abstract class DeploymentManager<X> {
 
 		final int nThreads = Runtime.getRuntime().availableProcessors() * 2;
 		this.executer = new ThreadPoolExecutor(nThreads, nThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
-			new IncrementalNamingThreadFactory(name)) {
-
-			@Override
-			protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
-				return (RunnableFuture<T>) new DeploymentUnitFuture((DeploymentUnitTask) callable);
-			}
-		};
+			new IncrementalNamingThreadFactory(name));
 
 		this.log.debug("Number of threads is {0}", nThreads);
 	}
@@ -251,27 +164,6 @@ public abstract class DeploymentManager<X> {
 		this.handleException(t.getCause());
 	}
 
-	/**
-	 * Returns if the type has performed.
-	 * 
-	 * @param type
-	 *            the type
-	 * @return true if the type has performed
-	 * 
-	 * @since 2.0.0
-	 */
-	public boolean hasPerformed(TypeImpl<?> type) {
-		if (type == null) {
-			return true;
-		}
-
-		if (!this.types.contains(type)) {
-			return true;
-		}
-
-		return this.performed.contains(type);
-	}
-
 	/**
 	 * Performs the deployment unit for all the types.
 	 * 
@@ -281,55 +173,73 @@ public abstract class DeploymentManager<X> {
 	protected final void perform() throws BatooException {
 		final long start = System.currentTimeMillis();
 
-		// Submit the tasks
-		final List<Future<?>> futures = Lists.newArrayList();
+		final List<DeploymentUnitTask> tasks = Lists.newArrayList();
 
 		if (this.context == Context.NAMED_QUERIES) {
 			for (final NamedQueryMetadata query : this.namedQueries) {
-				futures.add(this.executer.submit(new DeploymentUnitTask(this, query)));
+				tasks.add(new DeploymentUnitTask(this, query));
 			}
 		}
 		else {
-			final List<DeploymentUnitTask> unSortedTasks = Lists.newArrayList(Lists.transform(this.types, new Function<ManagedType<?>, DeploymentUnitTask>() {
+			for (final ManagedType<?> type : this.types) {
+				tasks.add(new DeploymentUnitTask(this, type));
+			}
 
-				@Override
-				public DeploymentUnitTask apply(ManagedType<?> type) {
-					return new DeploymentUnitTask(DeploymentManager.this, type);
-				}
-			}));
+			// submit the embeddables and mapped superclasses first
+			Collections.sort(tasks);
+		}
 
-			final List<DeploymentUnitTask> sortedTasks = Lists.newArrayList();
+		// build the dependency graph, a task is scheduled once the tasks it depends on have performed
+		final Map<Object, DeploymentUnitTask> tasksByUnit = Maps.newHashMap();
+		for (final DeploymentUnitTask task : tasks) {
+			tasksByUnit.put(task.getUnit(), task);
+		}
 
-			while (unSortedTasks.size() > 0) {
-				for (final Iterator<DeploymentUnitTask> i = unSortedTasks.iterator(); i.hasNext();) {
-					final DeploymentUnitTask task = i.next();
+		for (final DeploymentUnitTask task : tasks) {
+			for (final TypeImpl<?> dependency : task.getDependencies()) {
+				final DeploymentUnitTask dependencyTask = tasksByUnit.get(dependency);
+				if (dependencyTask != null) {
+					task.addDependency(dependencyTask);
+				}
+			}
+		}
 
-					boolean hasDependency = false;
-					for (final DeploymentUnitTask other : unSortedTasks) {
-						if (task.compareTo(other) > 0) {
-							hasDependency = true;
-							break;
-						}
-					}
+		final CompletionService<Void> completionService = new ExecutorCompletionService<Void>(this.executer);
+		final Map<Future<Void>, DeploymentUnitTask> running = Maps.newHashMap();
 
-					if (!hasDependency) {
-						i.remove();
-						sortedTasks.add(task);
+		DeploymentUnitTask slowest = null;
+		long total = 0;
 
-						break;
-					}
+		// run the tasks until all perform or one bails out with an exception
+		try {
+			for (final DeploymentUnitTask task : tasks) {
+				if (task.isReady()) {
+					running.put(completionService.submit(task), task);
 				}
 			}
 
-			for (final DeploymentUnitTask task : sortedTasks) {
-				futures.add(this.executer.submit(task));
-			}
-		}
+			int remaining = tasks.size();
+			while (remaining > 0) {
+				if (running.isEmpty()) {
+					throw new BatooException("Cyclic dependency between deployment units");
+				}
+
+				final Future<Void> future = completionService.take();
+				final DeploymentUnitTask task = running.remove(future);
 
-		// wait until tasks finish or one bails out with an exception
-		try {
-			for (final Future<?> future : futures) {
 				future.get();
+				remaining--;
+
+				total += task.getDuration();
+				if ((slowest == null) || (slowest.getDuration() < task.getDuration())) {
+					slowest = task;
+				}
+
+				for (final DeploymentUnitTask dependent : task.getDependents()) {
+					if (dependent.dependencyPerformed()) {
+						running.put(completionService.submit(dependent), dependent);
+					}
+				}
 			}
 		}
 		catch (final Exception t) {
@@ -339,7 +249,14 @@ public abstract class DeploymentManager<X> {
 			this.executer.shutdownNow();
 		}
 
-		this.log.debug("Deployment pass took {0} msecs", System.currentTimeMillis() - start);
+		if (slowest != null) {
+			this.log.debug("Deployment pass {0} performed {1} unit(s) in {2} msecs, total unit time {3} msecs, slowest unit {4} took {5} msecs", //
+				this.name, tasks.size(), System.currentTimeMillis() - start, TimeUnit.NANOSECONDS.toMillis(total), slowest.getUnit(),
+				TimeUnit.NANOSECONDS.toMillis(slowest.getDuration()));
+		}
+		else {
+			this.log.debug("Deployment pass {0} took {1} msecs", this.name, System.currentTimeMillis() - start);
+		}
 	}
 
 	/**
@@ -355,17 +272,4 @@ public abstract class DeploymentManager<X> {
 	 */
 	public abstract Void perform(X type) throws BatooException;
 
-	/**
-	 * Marks the type as performed.
-	 * 
-	 * @param type
-	 *            the type to mark
-	 * 
-	 * @since 2.0.0
-	 */
-	public void performed(X type) {
-		if (!(type instanceof NamedQueryMetadata)) {
-			this.performed.add((TypeImpl<?>) type);
-		}
-	}
 }
@@ -19,22 +19,25 @@
 
 package org.batoo.jpa.core.impl.deployment;
 
+import java.util.List;
 import java.util.concurrent.Callable;
 
-import javax.persistence.metamodel.ManagedType;
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.batoo.jpa.core.impl.model.EmbeddableTypeImpl;
 import org.batoo.jpa.core.impl.model.EntityTypeImpl;
 import org.batoo.jpa.core.impl.model.IdentifiableTypeImpl;
 import org.batoo.jpa.core.impl.model.MappedSuperclassTypeImpl;
+import org.batoo.jpa.core.impl.model.TypeImpl;
 import org.batoo.jpa.core.impl.model.attribute.AssociatedSingularAttribute;
-import org.batoo.jpa.parser.metadata.NamedQueryMetadata;
+
+import com.google.common.collect.Lists;
 
 /**
  * Implementation for deployment unit tasks.
  * <p>
- * Implements common behavior like ordering and waiting for the super type to perform first.
+ * Implements common behavior like ordering and tracking the tasks that depend on the task. The task is scheduled only after the tasks for
+ * its super type and id dependencies have performed.
  * 
  * @author hceylan
  * @since 2.0.0
@@ -46,6 +49,10 @@ public final class DeploymentUnitTask implements Callable<Void>, Comparable<Depl
 	@SuppressWarnings("rawtypes")
 	private final DeploymentManager manager;
 
+	private final List<DeploymentUnitTask> dependents = Lists.newArrayList();
+	private int pendingDependencies;
+	private volatile long duration;
+
 	/**
 	 * @param manager
 	 *            the deployment unit manager
@@ -61,6 +68,20 @@ public final class DeploymentUnitTask implements Callable<Void>, Comparable<Depl
 		this.unit = unit;
 	}
 
+	/**
+	 * Adds the task as dependency of this task.
+	 * 
+	 * @param dependency
+	 *            the task this task depends on
+	 * 
+	 * @since 2.0.1
+	 */
+	public void addDependency(DeploymentUnitTask dependency) {
+		dependency.dependents.add(this);
+
+		this.pendingDependencies++;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -68,14 +89,13 @@ public final class DeploymentUnitTask implements Callable<Void>, Comparable<Depl
 	@Override
 	@SuppressWarnings({ "unchecked" })
 	public final Void call() throws Exception {
-		this.waitForSuper();
-		this.waitforIdDependency();
+		final long start = System.nanoTime();
 
 		try {
 			return this.manager.perform(this.unit);
 		}
 		finally {
-			this.manager.performed(this.unit);
+			this.duration = System.nanoTime() - start;
 		}
 	}
 
@@ -85,46 +105,18 @@ public final class DeploymentUnitTask implements Callable<Void>, Comparable<Depl
 	 */
 	@Override
 	public int compareTo(DeploymentUnitTask o) {
-		// named queries has no precedence
-		if (this.unit instanceof NamedQueryMetadata) {
-			return 0;
-		}
-
-		final ManagedType<?> thisUnit = (ManagedType<?>) this.unit;
-		final ManagedType<?> otherUnit = (ManagedType<?>) o.unit;
-
-		// if this type is Embeddable and the other type is not then perform this earlier
-		if ((thisUnit instanceof EmbeddableTypeImpl) && (!(otherUnit instanceof EmbeddableTypeImpl))) {
-			return -1;
-		}
-
-		// if the other type is Embeddable and this type is not then perform the other earlier
-		if ((otherUnit instanceof EmbeddableTypeImpl) && (!(thisUnit instanceof EmbeddableTypeImpl))) {
-			return 1;
-		}
-
-		// if this type is a MappedSuperClass and the other type is not then perform this earlier
-		if ((thisUnit instanceof MappedSuperclassTypeImpl) && (!(otherUnit instanceof MappedSuperclassTypeImpl))) {
-			return -1;
-		}
-
-		// if the other type is a MappedSuperClass and this type is not then perform this later
-		if ((otherUnit instanceof MappedSuperclassTypeImpl) && (!(thisUnit instanceof MappedSuperclassTypeImpl))) {
-			return 1;
-		}
-
-		// if this type is super type of other type then perform this earlier
-		if (thisUnit.getJavaType().isAssignableFrom(otherUnit.getJavaType())) {
-			return -1;
-		}
-
-		// if the other type is super type of this type then perform other earlier
-		if (otherUnit.getJavaType().isAssignableFrom(thisUnit.getJavaType())) {
-			return 1;
-		}
+		return this.getRank() - o.getRank();
+	}
 
-		// No precedence
-		return 0;
+	/**
+	 * Marks one of the dependencies of the task as performed.
+	 * 
+	 * @return true if all the dependencies of the task have performed and the task is ready to be scheduled
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean dependencyPerformed() {
+		return --this.pendingDependencies == 0;
 	}
 
 	/**
@@ -158,6 +150,86 @@ public final class DeploymentUnitTask implements Callable<Void>, Comparable<Depl
 		return true;
 	}
 
+	/**
+	 * Returns the units this task must be performed after, that is the super type and the types of the derived ids.
+	 * 
+	 * @param <X>
+	 *            the type of the entity
+	 * @return the units this task must be performed after
+	 * 
+	 * @since 2.0.1
+	 */
+	@SuppressWarnings("unchecked")
+	public <X> List<TypeImpl<?>> getDependencies() {
+		final List<TypeImpl<?>> dependencies = Lists.newArrayList();
+
+		if (this.unit instanceof IdentifiableTypeImpl) {
+			final IdentifiableTypeImpl<?> supertype = ((IdentifiableTypeImpl<?>) this.unit).getSupertype();
+			if (supertype != null) {
+				dependencies.add(supertype);
+			}
+		}
+
+		if (this.unit instanceof EntityTypeImpl) {
+			final EntityTypeImpl<X> entity = (EntityTypeImpl<X>) this.unit;
+			if (!entity.hasSingleIdAttribute()) {
+				for (final SingularAttribute<? super X, ?> idAttribute : entity.getIdClassAttributes()) {
+					if (idAttribute instanceof AssociatedSingularAttribute) {
+						dependencies.add(((AssociatedSingularAttribute<? super X, ?>) idAttribute).getType());
+					}
+				}
+			}
+		}
+
+		return dependencies;
+	}
+
+	/**
+	 * Returns the tasks that depend on this task.
+	 * 
+	 * @return the tasks that depend on this task
+	 * 
+	 * @since 2.0.1
+	 */
+	public List<DeploymentUnitTask> getDependents() {
+		return this.dependents;
+	}
+
+	/**
+	 * Returns the time the task took to perform.
+	 * 
+	 * @return the time the task took to perform in nanoseconds
+	 * 
+	 * @since 2.0.1
+	 */
+	public long getDuration() {
+		return this.duration;
+	}
+
+	private int getRank() {
+		// the super types and id dependencies are ordered by the dependency graph
+		if (this.unit instanceof EmbeddableTypeImpl) {
+			return 0;
+		}
+
+		if (this.unit instanceof MappedSuperclassTypeImpl) {
+			return 1;
+		}
+
+		return 2;
+	}
+
+	/**
+	 * Returns the unit of the task.
+	 * 
+	 * @return the unit of the task
+	 * 
+	 * @since 2.0.1
+	 */
+	public Object getUnit() {
+		return this.unit;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -172,6 +244,17 @@ public final class DeploymentUnitTask implements Callable<Void>, Comparable<Depl
 		return result;
 	}
 
+	/**
+	 * Returns if all the dependencies of the task have performed.
+	 * 
+	 * @return true if the task is ready to be scheduled, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean isReady() {
+		return this.pendingDependencies == 0;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -180,34 +263,4 @@ public final class DeploymentUnitTask implements Callable<Void>, Comparable<Depl
 	public String toString() {
 		return "DeploymentUnitTask [unit=" + this.unit + "]";
 	}
-
-	@SuppressWarnings("unchecked")
-	private <X> void waitforIdDependency() throws InterruptedException {
-		if (this.unit instanceof EntityTypeImpl) {
-			final EntityTypeImpl<X> entity = (EntityTypeImpl<X>) this.unit;
-			if (!entity.hasSingleIdAttribute()) {
-				for (final SingularAttribute<? super X, ?> idAttribute : entity.getIdClassAttributes()) {
-					if (idAttribute instanceof AssociatedSingularAttribute) {
-						final EntityTypeImpl<?> type = ((AssociatedSingularAttribute<? super X, ?>) idAttribute).getType();
-
-						while (!this.manager.hasPerformed(type)) {
-							Thread.sleep(10);
-						}
-					}
-				}
-			}
-		}
-	}
-
-	@SuppressWarnings("unchecked")
-	private void waitForSuper() throws InterruptedException {
-		if (this.unit instanceof IdentifiableTypeImpl) {
-			final IdentifiableTypeImpl<?> supertype = ((IdentifiableTypeImpl<?>) this.unit).getSupertype();
-
-			// if the super type hasn't performed yet, then wait for to finish
-			while (!this.manager.hasPerformed(supertype)) {
-				Thread.sleep(10);
-			}
-		}
-	}
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.impl.deployment;
+
+import javax.persistence.metamodel.EntityType;
+
+import org.batoo.common.BatooException;
+import org.batoo.common.log.BLogger;
+import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.core.impl.model.EntityTypeImpl;
+import org.batoo.jpa.core.impl.model.MetamodelImpl;
+
+/**
+ * Deployment manager to prepare the SQL statements and the select plans of the entities ahead of their first use.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class WarmUpManager extends DeploymentManager<EntityTypeImpl<?>> {
+
+	private static final BLogger LOG = BLoggerFactory.getLogger(WarmUpManager.class);
+
+	/**
+	 * Performs the warm up operations.
+	 * 
+	 * @param metamodel
+	 *            the metamodel
+	 * @param parallel
+	 *            true to warm up the entities in parallel, false to warm them up in the calling thread
+	 * @return the duration of the warm up in milliseconds
+	 * @throws BatooException
+	 *             thrown in case of an underlying exception
+	 * 
+	 * @since 2.0.1
+	 */
+	public static long perform(MetamodelImpl metamodel, boolean parallel) throws BatooException {
+		final long start = System.currentTimeMillis();
+
+		if (parallel) {
+			new WarmUpManager(metamodel).perform();
+		}
+		else {
+			for (final EntityType<?> type : metamodel.getEntities()) {
+				((EntityTypeImpl<?>) type).warmUp();
+			}
+		}
+
+		final long duration = System.currentTimeMillis() - start;
+
+		WarmUpManager.LOG.info("Warmed up {0} entities in {1} msecs", metamodel.getEntities().size(), duration);
+
+		return duration;
+	}
+
+	private WarmUpManager(MetamodelImpl metamodel) {
+		super(WarmUpManager.LOG, "Warm Up Manager", metamodel, Context.ENTITIES);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public Void perform(EntityTypeImpl<?> type) throws BatooException {
+		type.warmUp();
+
+		return null;
+	}
+}
@@ -110,6 +110,19 @@ public class Enhanced implements EnhancedInstance {
 		return;
 	}
 
+	@SuppressWarnings("unused")
+	private void __enhanced_$$__lazy(String method) {
+		if (this.__enhanced_$$__internal) {
+			return;
+		}
+
+		if (this.__enhanced__$$__managedInstance == null) {
+			return;
+		}
+
+		this.__enhanced__$$__managedInstance.loadLazy(method);
+	}
+
 	public Object get__enhanced__$$__id() {
 		return this.__enhanced_$$__id;
 	}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.impl.instance;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.batoo.common.log.BLogger;
+import org.batoo.common.log.BLoggerFactory;
+import org.batoo.common.util.IncrementalNamingThreadFactory;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Cache of the enhanced class bytecode.
+ * <p>
+ * The bytecode prepared by {@link #warmUp(Collection)} is kept in memory until the class is enhanced. If a cache folder is given the
+ * bytecode is also stored on disk, keyed by the hash of the bytecode of the original class and its super classes and the bytecode of the
+ * {@link Enhancer}, so that the classes are not enhanced again by the later entity manager factories and JVMs. Hashing the enhancer
+ * rather than the Batoo version invalidates the cache on every change to the enhancer, including the development builds that carry no
+ * version.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class EnhancedClassCache {
+
+	private static final BLogger LOG = BLoggerFactory.getLogger(EnhancedClassCache.class);
+
+	private static final String FORMAT_VERSION = "1";
+	private static final int BUFFER_SIZE = 8192;
+
+	private static byte[] enhancerByteCode;
+
+	private static synchronized byte[] getEnhancerByteCode() throws IOException {
+		if (EnhancedClassCache.enhancerByteCode == null) {
+			EnhancedClassCache.enhancerByteCode = EnhancedClassCache.readByteCode(Enhancer.class);
+		}
+
+		return EnhancedClassCache.enhancerByteCode;
+	}
+
+	private static byte[] read(InputStream is) throws IOException {
+		try {
+			final ByteArrayOutputStream os = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[EnhancedClassCache.BUFFER_SIZE];
+
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				os.write(buffer, 0, read);
+			}
+
+			return os.toByteArray();
+		}
+		finally {
+			is.close();
+		}
+	}
+
+	private static byte[] readByteCode(Class<?> clazz) throws IOException {
+		final ClassLoader classLoader = clazz.getClassLoader() != null ? clazz.getClassLoader() : ClassLoader.getSystemClassLoader();
+		final InputStream is = classLoader.getResourceAsStream(clazz.getName().replace('.', '/') + ".class");
+		if (is == null) {
+			throw new IOException("Cannot read the bytecode of " + clazz.getName());
+		}
+
+		return EnhancedClassCache.read(is);
+	}
+
+	private final File folder;
+	private final Map<String, byte[]> prepared = Maps.newConcurrentMap();
+
+	/**
+	 * @param folder
+	 *            the folder to store the enhanced classes or <code>null</code> to keep the bytecode only in memory
+	 * 
+	 * @since 2.0.1
+	 */
+	public EnhancedClassCache(File folder) {
+		super();
+
+		this.folder = folder;
+
+		if (this.folder != null) {
+			this.folder.mkdirs();
+		}
+	}
+
+	private byte[] create(Class<?> clazz) throws Exception {
+		if (this.folder == null) {
+			return Enhancer.create(clazz);
+		}
+
+		final File file = new File(this.folder, clazz.getName() + Enhancer.SUFFIX_ENHANCED + "-" + this.hash(clazz) + ".class");
+		if (file.isFile()) {
+			EnhancedClassCache.LOG.debug("Enhanced class {0} found in the cache", clazz.getName());
+
+			return EnhancedClassCache.read(new FileInputStream(file));
+		}
+
+		final byte[] byteCode = Enhancer.create(clazz);
+
+		// write to a temporary file first so that the concurrent readers never see a partial class
+		final File tempFile = File.createTempFile(clazz.getName(), ".tmp", this.folder);
+		final OutputStream os = new FileOutputStream(tempFile);
+		try {
+			os.write(byteCode);
+		}
+		finally {
+			os.close();
+		}
+
+		if (!tempFile.renameTo(file)) {
+			tempFile.delete();
+		}
+
+		return byteCode;
+	}
+
+	/**
+	 * Returns the enhanced bytecode of the class.
+	 * 
+	 * @param clazz
+	 *            the class to enhance
+	 * @return the enhanced bytecode
+	 * @throws Exception
+	 *             thrown in case of an error
+	 * 
+	 * @since 2.0.1
+	 */
+	public byte[] getByteCode(Class<?> clazz) throws Exception {
+		final byte[] byteCode = this.prepared.remove(clazz.getName());
+		if (byteCode != null) {
+			return byteCode;
+		}
+
+		return this.create(clazz);
+	}
+
+	private String hash(Class<?> clazz) throws Exception {
+		final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+
+		digest.update(EnhancedClassCache.FORMAT_VERSION.getBytes("UTF-8"));
+
+		digest.update(EnhancedClassCache.getEnhancerByteCode());
+
+		// the enhanced class overrides the methods of the super classes as well
+		for (Class<?> current = clazz; current != Object.class; current = current.getSuperclass()) {
+			digest.update(EnhancedClassCache.readByteCode(current));
+		}
+
+		final StringBuilder hash = new StringBuilder();
+		for (final byte b : digest.digest()) {
+			hash.append(Integer.toHexString((b & 0xff) | 0x100).substring(1));
+		}
+
+		return hash.toString();
+	}
+
+	/**
+	 * Prepares the enhanced bytecode of the classes in parallel.
+	 * <p>
+	 * The classes that fail to prepare are enhanced when their types are created.
+	 * 
+	 * @param classes
+	 *            the classes to enhance
+	 * 
+	 * @since 2.0.1
+	 */
+	public void warmUp(Collection<Class<?>> classes) {
+		final long start = System.currentTimeMillis();
+
+		final int nThreads = Runtime.getRuntime().availableProcessors();
+		final ExecutorService executor = Executors.newFixedThreadPool(nThreads, new IncrementalNamingThreadFactory("Enhancer"));
+
+		try {
+			final List<Future<Void>> futures = Lists.newArrayList();
+			for (final Class<?> clazz : classes) {
+				if (Enhancer.isEnhanced(clazz)) {
+					continue;
+				}
+
+				futures.add(executor.submit(new Callable<Void>() {
+
+					@Override
+					public Void call() throws Exception {
+						EnhancedClassCache.this.prepared.put(clazz.getName(), EnhancedClassCache.this.create(clazz));
+
+						return null;
+					}
+				}));
+			}
+
+			for (final Future<Void> future : futures) {
+				try {
+					future.get();
+				}
+				catch (final Exception e) {
+					EnhancedClassCache.LOG.debug(e, "Cannot prepare the enhanced class");
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		EnhancedClassCache.LOG.debug("Enhancement warm up of {0} classes took {1} msecs", classes.size(), System.currentTimeMillis() - start);
+	}
+}
@@ -76,12 +76,14 @@ public final class Enhancer {
 	private static final String METHOD_ENHANCED_IS_INITIALIZED = "__enhanced__$$__isInitialized";
 	private static final String METHOD_ENHANCED_SET_INITIALIZED = "__enhanced__$$__setInitialized";
 	private static final String METHOD_ENHANCED_CHECK = "__enhanced_$$__check";
+	private static final String METHOD_ENHANCED_LAZY = "__enhanced_$$__lazy";
 	private static final String METHOD_GET_ENTITY_MANAGER = "getEntityManager";
 	private static final String METHOD_ENHANCED_GET_MANAGED_INSTANCE = "__enhanced__$$__getManagedInstance";
 	private static final String METHOD_ENHANCED_SET_MANAGED_INSTANCE = "__enhanced__$$__setManagedInstance";
 	private static final String METHOD_ENHANCED_SET_INTERNAL = "__enhanced__$$__setInternalCall";
 	private static final String METHOD_FIND = "find";
 	private static final String METHOD_CHANGED = "changed";
+	private static final String METHOD_LOAD_LAZY = "loadLazy";
 
 	private static final String DESCRIPTOR_BOOLEAN = Type.getDescriptor(Boolean.TYPE);
 	private static final String DESCRIPTOR_MANAGED_INSTANCE = Type.getDescriptor(ManagedInstance.class);
@@ -134,6 +136,7 @@ public final class Enhancer {
 		Enhancer.createMethodIsInitialized(enhancedClassName, descEnhancer, cw);
 		Enhancer.createMethodSetInitialized(enhancedClassName, descEnhancer, cw);
 		Enhancer.createMethodCheck(enhancedClassName, descEnhancer, cw);
+		Enhancer.createMethodLazy(enhancedClassName, descEnhancer, cw);
 		Enhancer.createMethodGetManagedInstance(enhancedClassName, descEnhancer, cw);
 		Enhancer.createMethodSetManagedInstance(enhancedClassName, descEnhancer, cw);
 		Enhancer.createMethodSetInternal(enhancedClassName, descEnhancer, cw);
@@ -338,6 +341,46 @@ public final class Enhancer {
 		mv.visitEnd();
 	}
 
+	private static void createMethodLazy(final String enhancedClassName, final String descEnhancer, final ClassWriter cw) {
+		final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PRIVATE, Enhancer.METHOD_ENHANCED_LAZY, Enhancer.makeDescription(Void.TYPE, String.class), null, null);
+		mv.visitCode();
+
+		final Label lCheckInternal = new Label();
+		final Label lCheckManaged = new Label();
+		final Label lLoad = new Label();
+		final Label lOut = new Label();
+
+		// if (this.__enhanced__$$__internal) { return }
+		mv.visitLabel(lCheckInternal);
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitFieldInsn(Opcodes.GETFIELD, enhancedClassName, Enhancer.FIELD_ENHANCED_INTERNAL, Enhancer.DESCRIPTOR_BOOLEAN);
+		mv.visitJumpInsn(Opcodes.IFEQ, lCheckManaged);
+		mv.visitInsn(Opcodes.RETURN);
+
+		// if (this.__enhanced__$$__managedInstance == null) { return }
+		mv.visitLabel(lCheckManaged);
+		mv.visitFrame(Opcodes.F_NEW, 2, new Object[] { enhancedClassName, Type.getInternalName(String.class) }, 0, new Object[] {});
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitFieldInsn(Opcodes.GETFIELD, enhancedClassName, Enhancer.FIELD_ENHANCED_MANAGED_INSTANCE, Enhancer.DESCRIPTOR_MANAGED_INSTANCE);
+		mv.visitJumpInsn(Opcodes.IFNONNULL, lLoad);
+		mv.visitInsn(Opcodes.RETURN);
+
+		// this.__enhanced__$$__managedInstance.loadLazy(method);
+		mv.visitLabel(lLoad);
+		mv.visitFrame(Opcodes.F_NEW, 2, new Object[] { enhancedClassName, Type.getInternalName(String.class) }, 0, new Object[] {});
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitFieldInsn(Opcodes.GETFIELD, enhancedClassName, Enhancer.FIELD_ENHANCED_MANAGED_INSTANCE, Enhancer.DESCRIPTOR_MANAGED_INSTANCE);
+		mv.visitVarInsn(Opcodes.ALOAD, 1);
+		mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Enhancer.INTERNAL_MANAGED_INSTANCE, Enhancer.METHOD_LOAD_LAZY, Enhancer.makeDescription(Void.TYPE, String.class));
+		mv.visitInsn(Opcodes.RETURN);
+
+		mv.visitLabel(lOut);
+		mv.visitLocalVariable(Enhancer.THIS, descEnhancer, null, lCheckInternal, lOut, 0);
+		mv.visitLocalVariable("method", Type.getDescriptor(String.class), null, lCheckInternal, lOut, 1);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
 	private static void createMethodSetInitialized(final String enhancedClassName, final String descEnhancer, final ClassWriter cw) {
 		final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, Enhancer.METHOD_ENHANCED_SET_INITIALIZED, Enhancer.makeDescription(Void.TYPE), null, null);
 		mv.visitCode();
@@ -463,6 +506,11 @@ public final class Enhancer {
 		mv.visitVarInsn(Opcodes.ALOAD, 0);
 		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, enhancedClassName, Enhancer.METHOD_ENHANCED_CHECK, Enhancer.makeDescription(Void.TYPE));
 
+		// this.__enhanced_$$__lazy("method");
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitLdcInsn(method.getName());
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, enhancedClassName, Enhancer.METHOD_ENHANCED_LAZY, Enhancer.makeDescription(Void.TYPE, String.class));
+
 		mv.visitVarInsn(Opcodes.ALOAD, 0); // load this
 
 		// infer the method parameters
@@ -507,8 +555,27 @@ public final class Enhancer {
 	 * 
 	 * @since 2.0.0
 	 */
-	@SuppressWarnings("unchecked")
 	public static <T> Class<T> enhance(EntityType<T> type) throws Exception {
+		return Enhancer.enhance(type, null);
+	}
+
+	/**
+	 * Enhances a type using the cache of the enhanced classes.
+	 * 
+	 * @param <T>
+	 *            the type of the entity
+	 * @param type
+	 *            the type for the class
+	 * @param cache
+	 *            the cache of the enhanced classes or <code>null</code>
+	 * @return the enhanced class
+	 * @throws Exception
+	 *             thrown if the enhancement fails
+	 * 
+	 * @since 2.0.1
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Class<T> enhance(EntityType<T> type, EnhancedClassCache cache) throws Exception {
 		final Class<T> javaType = type.getJavaType();
 		final ClassLoader classLoader = javaType.getClassLoader();
 		final String className = type.getJavaType().getName() + Enhancer.CLASS_ENHANCED_SUFFIX;
@@ -519,15 +586,21 @@ public final class Enhancer {
 			return enhancedClass;
 		}
 
-		return Enhancer.enhance0(javaType, classLoader, className);
-	}
+		// the bytecode is generated outside the lock, only the definition of the class is serialized
+		final byte[] byteCode = cache != null ? cache.getByteCode(javaType) : Enhancer.create(javaType);
 
-	private synchronized static <T> Class<T> enhance0(final Class<T> javaType, final ClassLoader classLoader, final String className) throws Exception {
-		final byte[] byteCode = Enhancer.create(javaType);
+		return Enhancer.enhance0(classLoader, byteCode, className);
+	}
 
-		final Class<T> enhancedClass = Enhancer.loadClass(classLoader, byteCode, className);
+	@SuppressWarnings("unchecked")
+	private synchronized static <T> Class<T> enhance0(final ClassLoader classLoader, final byte[] byteCode, final String className) throws Exception {
+		// might have been defined by another thread meanwhile
+		final Class<T> enhancedClass = (Class<T>) Enhancer.tryLoadClass(classLoader, className);
+		if (enhancedClass != null) {
+			return enhancedClass;
+		}
 
-		return enhancedClass;
+		return Enhancer.loadClass(classLoader, byteCode, className);
 	}
 
 	private static void getDescriptor(final StringBuffer buf, final Class<?> c) {
@@ -623,6 +696,19 @@ public final class Enhancer {
 		return Opcodes.IRETURN;
 	}
 
+	/**
+	 * Returns if the enhanced class of the class has already been loaded.
+	 * 
+	 * @param clazz
+	 *            the class
+	 * @return true if the enhanced class of the class has already been loaded, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	static boolean isEnhanced(Class<?> clazz) {
+		return Enhancer.tryLoadClass(clazz.getClassLoader(), clazz.getName() + Enhancer.CLASS_ENHANCED_SUFFIX) != null;
+	}
+
 	/**
 	 * Loads the class.
 	 * 
@@ -23,9 +23,9 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -33,15 +33,18 @@ import java.util.Map;
 import java.util.Set;
 
 import javax.persistence.LockModeType;
+import javax.persistence.PersistenceException;
 import javax.persistence.metamodel.Attribute.PersistentAttributeType;
 import javax.persistence.metamodel.PluralAttribute.CollectionType;
 
 import org.apache.commons.lang.ObjectUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.mutable.MutableBoolean;
 import org.batoo.common.log.BLogger;
 import org.batoo.common.log.BLoggerFactory;
 import org.batoo.common.reflect.AbstractAccessor;
 import org.batoo.common.util.Pair;
+import org.batoo.jpa.core.FetchGraph;
 import org.batoo.jpa.core.impl.manager.EntityManagerImpl;
 import org.batoo.jpa.core.impl.manager.SessionImpl;
 import org.batoo.jpa.core.impl.model.EntityTypeImpl;
@@ -59,7 +62,6 @@ import org.batoo.jpa.jdbc.mapping.SingularMapping;
 import org.batoo.jpa.parser.metadata.EntityListenerMetadata.EntityListenerType;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 /**
@@ -82,9 +84,12 @@ public class ManagedInstance<X> {
 	private Status oldStatus;
 	private LockModeType lockMode;
 
-	private final HashMap<AbstractMapping<?, ?, ?>, Object> snapshot = Maps.newHashMap();
-	private final HashSet<String> joinsLoaded;
-	private final ArrayList<PluralMappingEx<?, ?, ?>> collectionsChanged;
+	private Object[] snapshot;
+	private BitSet joinsLoaded;
+	private BitSet lazyGroupsPending;
+	private BitSet lazyAssigned;
+	private FetchGraph fetchGraph;
+	private ArrayList<PluralMappingEx<?, ?, ?>> collectionsChanged;
 
 	private boolean loading;
 	private boolean loadingFromCache;
@@ -123,9 +128,6 @@ public class ManagedInstance<X> {
 		this.instance = instance;
 		this.lockMode = ManagedInstance.LOCK_CONTEXT.get();
 
-		this.collectionsChanged = Lists.newArrayList();
-		this.joinsLoaded = Sets.newHashSet();
-
 		this.status = Status.MANAGED;
 	}
 
@@ -147,6 +149,27 @@ public class ManagedInstance<X> {
 		type.setId(session, instance, id.getId());
 
 		this.id = id;
+
+		this.resetLazyGroups();
+	}
+
+	/**
+	 * Returns the lazy groups the entity has not loaded.
+	 * 
+	 * @param entity
+	 *            the entity
+	 * @return the lazy groups not loaded or <code>null</code> if the entity has all its lazy groups
+	 * 
+	 * @since 2.0.1
+	 */
+	private static BitSet getLazyGroupsPending(Object entity) {
+		if (!(entity instanceof EnhancedInstance)) {
+			return null;
+		}
+
+		final ManagedInstance<?> managedInstance = ((EnhancedInstance) entity).__enhanced__$$__getManagedInstance();
+
+		return managedInstance != null ? managedInstance.lazyGroupsPending : null;
 	}
 
 	/**
@@ -336,7 +359,7 @@ public class ManagedInstance<X> {
 	 * @since 2.0.0
 	 */
 	public void changed() {
-		if (!this.changed && (this.collectionsChanged.size() == 0)) {
+		if (!this.changed && (this.collectionsChanged == null)) {
 			this.session.setChanged(this);
 
 		}
@@ -367,7 +390,7 @@ public class ManagedInstance<X> {
 	 */
 	public void checkUpdated() {
 		// no snapshot, nothing to check
-		if ((this.snapshot.size() == 0) || this.changed) {
+		if ((this.snapshot == null) || this.changed) {
 			return;
 		}
 
@@ -377,10 +400,14 @@ public class ManagedInstance<X> {
 	}
 
 	private boolean checkUpdatedImpl() {
+		final AbstractMapping<?, ?, ?>[] mappings = this.type.getMappingsSingular();
+		final Object[] _snapshot = this.snapshot;
+
 		// iterate over old values
-		for (final AbstractMapping<?, ?, ?> mapping : this.type.getMappingsSingular()) {
+		for (int i = 0; i < mappings.length; i++) {
+			final AbstractMapping<?, ?, ?> mapping = mappings[i];
 			final Object newValue = mapping.get(this.instance);
-			final Object oldValue = this.snapshot.get(mapping);
+			final Object oldValue = _snapshot[i];
 
 			// if it is changed then mark as changed and bail out
 			if (mapping.getAttribute().getPersistentAttributeType() == PersistentAttributeType.BASIC) {
@@ -581,6 +608,49 @@ public class ManagedInstance<X> {
 		return this.session;
 	}
 
+	/**
+	 * Returns the mappings that the update leaves out.
+	 * <p>
+	 * These are the streaming lobs whose values are the same as in the snapshot and the lazy attributes that are neither loaded nor set.
+	 * The lob values are compared by identity, as the streams and locators cannot be compared by their content.
+	 * 
+	 * @return the mappings skipped by the update
+	 * 
+	 * @since 2.0.1
+	 */
+	public Set<BasicMappingImpl<?, ?>> getSkippedMappings() {
+		final int[] ordinals = this.type.getStreamingLobOrdinals();
+		final boolean checkLobs = (ordinals.length > 0) && (this.snapshot != null);
+		if (!checkLobs && (this.lazyGroupsPending == null)) {
+			return Collections.emptySet();
+		}
+
+		final AbstractMapping<?, ?, ?>[] mappings = this.type.getMappingsSingular();
+
+		final Set<BasicMappingImpl<?, ?>> skippedMappings = Sets.newHashSet();
+		if (checkLobs) {
+			for (final int ordinal : ordinals) {
+				final BasicMappingImpl<?, ?> mapping = (BasicMappingImpl<?, ?>) mappings[ordinal];
+				if (this.snapshot[ordinal] == mapping.get(this.instance)) {
+					skippedMappings.add(mapping);
+				}
+			}
+		}
+
+		if (this.lazyGroupsPending != null) {
+			for (int group = this.lazyGroupsPending.nextSetBit(0); group >= 0; group = this.lazyGroupsPending.nextSetBit(group + 1)) {
+				for (final int ordinal : this.type.getLazyGroupMappings(group)) {
+					// the values the application has set are written
+					if ((this.lazyAssigned == null) || !this.lazyAssigned.get(ordinal)) {
+						skippedMappings.add((BasicMappingImpl<?, ?>) mappings[ordinal]);
+					}
+				}
+			}
+		}
+
+		return skippedMappings;
+	}
+
 	/**
 	 * Returns the status.
 	 * 
@@ -591,6 +661,7 @@ public class ManagedInstance<X> {
 		return this.status;
 	}
 
+
 	/**
 	 * Returns the type.
 	 * 
@@ -612,8 +683,13 @@ public class ManagedInstance<X> {
 	public void handleAdditions(EntityManagerImpl entityManager) {
 		ManagedInstance.LOG.debug("Inspecting additions for instance {0}", this);
 
-		for (int i = 0; i < this.collectionsChanged.size(); i++) {
-			final PluralMappingEx<?, ?, ?> collection = this.collectionsChanged.get(i);
+		final ArrayList<PluralMappingEx<?, ?, ?>> _collectionsChanged = this.collectionsChanged;
+		if (_collectionsChanged == null) {
+			return;
+		}
+
+		for (int i = 0; i < _collectionsChanged.size(); i++) {
+			final PluralMappingEx<?, ?, ?> collection = _collectionsChanged.get(i);
 
 			if (collection instanceof PluralAssociationMappingImpl) {
 				((PluralAssociationMappingImpl<?, ?, ?>) collection).persistAdditions(entityManager, this);
@@ -632,8 +708,13 @@ public class ManagedInstance<X> {
 	public void handleOrphans(EntityManagerImpl entityManager) {
 		ManagedInstance.LOG.debug("Inspecting orphans for instance {0}", this);
 
-		for (int i = 0; i < this.collectionsChanged.size(); i++) {
-			final PluralMappingEx<?, ?, ?> collection = this.collectionsChanged.get(i);
+		final ArrayList<PluralMappingEx<?, ?, ?>> _collectionsChanged = this.collectionsChanged;
+		if (_collectionsChanged == null) {
+			return;
+		}
+
+		for (int i = 0; i < _collectionsChanged.size(); i++) {
+			final PluralMappingEx<?, ?, ?> collection = _collectionsChanged.get(i);
 			if (collection.isAssociation()) {
 				((PluralAssociationMappingImpl<?, ?, ?>) collection).removeOrphans(entityManager, this);
 			}
@@ -679,11 +760,11 @@ public class ManagedInstance<X> {
 	 * @since 2.0.0
 	 */
 	public boolean hasSelfUpdate() {
-		if (!this.changed && (this.snapshot.size() == 0)) {
+		if (!this.changed && (this.snapshot == null)) {
 			return false;
 		}
 
-		if (this.collectionsChanged.size() > 0) {
+		if (this.collectionsChanged != null) {
 			return true;
 		}
 
@@ -806,15 +887,42 @@ public class ManagedInstance<X> {
 	public boolean isJoinLoaded(String attributeName) {
 		final AbstractMapping<?, ?, ?> mapping = this.type.getRootMapping().getMapping(attributeName);
 
-		if ((mapping instanceof BasicMappingImpl) || (mapping instanceof EmbeddedMappingImpl)) {
+		if (mapping instanceof BasicMappingImpl) {
+			final int group = this.type.getLazyGroupOrdinal(((BasicMappingImpl<?, ?>) mapping).getAttribute());
+
+			return (group < 0) || (this.lazyGroupsPending == null) || !this.lazyGroupsPending.get(group);
+		}
+
+		if (mapping instanceof EmbeddedMappingImpl) {
 			return true;
 		}
 
+		// the eager associations left out of the fetch graph are referenced but not loaded
+		if (mapping instanceof SingularAssociationMappingImpl) {
+			final Object associate = ((SingularAssociationMappingImpl<?, ?>) mapping).get(this.instance);
+			if ((associate instanceof EnhancedInstance) && !((EnhancedInstance) associate).__enhanced__$$__isInitialized()) {
+				return false;
+			}
+		}
+
 		if (((AssociationMappingImpl<?, ?, ?>) mapping).isEager()) {
 			return true;
 		}
 
-		return this.joinsLoaded.contains(mapping.getPath());
+		return this.isJoinLoaded(this.type.getJoinOrdinal((JoinedMapping<?, ?, ?>) mapping));
+	}
+
+	/**
+	 * Returns if the mapping is left out of the fetch graph and should be treated as lazy.
+	 * 
+	 * @since 2.0.1
+	 */
+	private boolean isLazyInGraph(FetchGraph graph, JoinedMapping<?, ?, ?> mapping) {
+		return (graph != null) && !graph.contains(StringUtils.substringBefore(mapping.getPath(), "."));
+	}
+
+	private boolean isJoinLoaded(int ordinal) {
+		return (ordinal >= 0) && (this.joinsLoaded != null) && this.joinsLoaded.get(ordinal);
 	}
 
 	/**
@@ -850,6 +958,156 @@ public class ManagedInstance<X> {
 		return this.refreshing;
 	}
 
+	/**
+	 * Loads the lazy attributes the method accesses, if not loaded yet.
+	 * <p>
+	 * Getters of lazy attributes load the lazy group of the attribute, other methods do not load. Setters of lazy attributes do not load,
+	 * once all the attributes of a group are set the group is no longer loaded.
+	 * 
+	 * @param methodName
+	 *            the name of the method invoked on the instance
+	 * 
+	 * @since 2.0.1
+	 */
+	public void loadLazy(String methodName) {
+		if (this.lazyGroupsPending == null) {
+			return;
+		}
+
+		// setters of the lazy attributes assign the value, no need to load
+		final int assigned = this.type.getLazySetterOrdinal(methodName);
+		if (assigned >= 0) {
+			this.lazyAssigned(assigned);
+
+			return;
+		}
+
+		final int group = this.type.getLazyGroupOrdinal(methodName);
+		if (group < 0) {
+			return;
+		}
+
+		if (this.status == Status.DETACHED) {
+			throw new PersistenceException("Lazy attributes of the detached instance cannot be loaded: " + this);
+		}
+
+		final Connection connection = this.session.getEntityManager().getConnection();
+
+		try {
+			this.loadLazyGroup(connection, group);
+		}
+		catch (final SQLException e) {
+			throw new PersistenceException("Unable to load the lazy attributes of the instance: " + this, e);
+		}
+	}
+
+	private void loadLazyGroup(Connection connection, int group) throws SQLException {
+		if ((this.lazyGroupsPending == null) || !this.lazyGroupsPending.get(group)) {
+			return;
+		}
+
+		ManagedInstance.LOG.debug("Loading lazy group {0} of instance {1}", group, this);
+
+		// clear first so that the accessors invoked while loading do not recurse
+		final BitSet pending = this.lazyGroupsPending;
+		pending.clear(group);
+		if (pending.isEmpty()) {
+			this.lazyGroupsPending = null;
+		}
+
+		final AbstractMapping<?, ?, ?>[] mappings = this.type.getMappingsSingular();
+
+		// the values the application has already set must survive the load
+		final int[] ordinals = this.type.getLazyGroupMappings(group);
+		Object[] assignedValues = null;
+		if (this.lazyAssigned != null) {
+			for (int i = 0; i < ordinals.length; i++) {
+				if (this.lazyAssigned.get(ordinals[i])) {
+					if (assignedValues == null) {
+						assignedValues = new Object[ordinals.length];
+					}
+
+					assignedValues[i] = mappings[ordinals[i]].get(this.instance);
+				}
+			}
+		}
+
+		try {
+			this.type.performLazyLoad(connection, this, group);
+		}
+		catch (final SQLException e) {
+			pending.set(group);
+			this.lazyGroupsPending = pending;
+
+			this.restoreLazyAssigned(mappings, ordinals, assignedValues, false);
+
+			throw e;
+		}
+
+		// the loaded values are not changes
+		if (this.snapshot != null) {
+			for (final int ordinal : ordinals) {
+				this.snapshot[ordinal] = mappings[ordinal].get(this.instance);
+			}
+		}
+
+		this.restoreLazyAssigned(mappings, ordinals, assignedValues, true);
+	}
+
+	/**
+	 * Marks the lazy attribute as set by the application.
+	 * <p>
+	 * If all the attributes of the lazy group are set then the group is no longer pending.
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the singular mapping of the attribute
+	 * 
+	 * @since 2.0.1
+	 */
+	private void lazyAssigned(int ordinal) {
+		final BasicMappingImpl<?, ?> mapping = (BasicMappingImpl<?, ?>) this.type.getMappingsSingular()[ordinal];
+
+		final int group = this.type.getLazyGroupOrdinal(mapping.getAttribute());
+		if (!this.lazyGroupsPending.get(group)) {
+			return;
+		}
+
+		if (this.lazyAssigned == null) {
+			this.lazyAssigned = new BitSet();
+		}
+
+		this.lazyAssigned.set(ordinal);
+
+		for (final int groupOrdinal : this.type.getLazyGroupMappings(group)) {
+			if (!this.lazyAssigned.get(groupOrdinal)) {
+				return;
+			}
+		}
+
+		this.lazyGroupAssigned(group);
+	}
+
+	/**
+	 * Marks the lazy group as fully set, so that it is no longer loaded.
+	 * 
+	 * @param group
+	 *            the ordinal of the lazy group
+	 * 
+	 * @since 2.0.1
+	 */
+	private void lazyGroupAssigned(int group) {
+		if (this.lazyAssigned != null) {
+			for (final int ordinal : this.type.getLazyGroupMappings(group)) {
+				this.lazyAssigned.clear(ordinal);
+			}
+		}
+
+		this.lazyGroupsPending.clear(group);
+		if (this.lazyGroupsPending.isEmpty()) {
+			this.lazyGroupsPending = null;
+		}
+	}
+
 	/**
 	 * Merges the instance state with the <code>entity</code>.
 	 * 
@@ -870,10 +1128,30 @@ public class ManagedInstance<X> {
 		LinkedList<ManagedInstance<?>> instances) {
 		this.snapshot();
 
+		// the lazy groups the entity has not loaded are left as they are
+		final BitSet entityLazyGroupsPending = ManagedInstance.getLazyGroupsPending(entity);
+
 		for (final BasicMappingImpl<?, ?> mapping : this.type.getBasicMappings()) {
+			if (entityLazyGroupsPending != null) {
+				final int group = this.type.getLazyGroupOrdinal(mapping.getAttribute());
+				if ((group >= 0) && entityLazyGroupsPending.get(group)) {
+					continue;
+				}
+			}
+
 			mapping.set(this.instance, mapping.get(entity));
 		}
 
+		// the lazy groups copied from the entity are fully assigned
+		if (this.lazyGroupsPending != null) {
+			final BitSet pending = (BitSet) this.lazyGroupsPending.clone();
+			for (int group = pending.nextSetBit(0); group >= 0; group = pending.nextSetBit(group + 1)) {
+				if ((entityLazyGroupsPending == null) || !entityLazyGroupsPending.get(group)) {
+					this.lazyGroupAssigned(group);
+				}
+			}
+		}
+
 		for (final AssociationMappingImpl<?, ?, ?> association : this.type.getAssociations()) {
 			association.mergeWith(entityManager, this, entity, requiresFlush, processed, instances);
 		}
@@ -889,12 +1167,16 @@ public class ManagedInstance<X> {
 	public void processJoinedMappings() {
 		ManagedInstance.LOG.debug("Post processing associations for instance {0}", this);
 
-		final HashSet<String> _joinsLoaded = this.joinsLoaded;
+		// the fetch graph applies to this load only
+		final FetchGraph _fetchGraph = this.fetchGraph;
+		this.fetchGraph = null;
 
-		for (final PluralMappingEx<?, ?, ?> mapping : this.type.getMappingsPlural()) {
-			final HashSet<String> joinsLoaded2 = _joinsLoaded;
-			if (!joinsLoaded2.contains(mapping.getPath())) {
-				if (mapping.isEager()) {
+		// ordinals of the joins are laid out as the plural mappings followed by the singular associations
+		final PluralMappingEx<?, ?, ?>[] mappingsPlural = this.type.getMappingsPlural();
+		for (int i = 0; i < mappingsPlural.length; i++) {
+			final PluralMappingEx<?, ?, ?> mapping = mappingsPlural[i];
+			if (!this.isJoinLoaded(i)) {
+				if (mapping.isEager() && !this.isLazyInGraph(_fetchGraph, mapping)) {
 					mapping.load(this);
 				}
 				else {
@@ -906,14 +1188,16 @@ public class ManagedInstance<X> {
 		final X _instance = this.instance;
 		final EntityManagerImpl entityManager = this.session.getEntityManager();
 
-		for (final SingularAssociationMappingImpl<?, ?> mapping : this.type.getAssociationsSingular()) {
+		final SingularAssociationMappingImpl<?, ?>[] associationsSingular = this.type.getAssociationsSingular();
+		for (int i = 0; i < associationsSingular.length; i++) {
+			final SingularAssociationMappingImpl<?, ?> mapping = associationsSingular[i];
 			if (mapping.isEager()) {
-				if (!_joinsLoaded.contains(mapping.getPath())) {
+				if (!this.isJoinLoaded(mappingsPlural.length + i)) {
 					mapping.initialize(this);
 				}
 				else {
 					final Object associate = mapping.get(_instance);
-					if (associate instanceof EnhancedInstance) {
+					if ((associate instanceof EnhancedInstance) && !this.isLazyInGraph(_fetchGraph, mapping)) {
 						final EnhancedInstance enhancedInstance = (EnhancedInstance) associate;
 						if (!enhancedInstance.__enhanced__$$__isInitialized()) {
 							final ManagedInstance<?> associateManagedInstance = enhancedInstance.__enhanced__$$__getManagedInstance();
@@ -944,6 +1228,9 @@ public class ManagedInstance<X> {
 
 		this.type.performRefresh(connection, this, lockMode, processed);
 
+		// lazy attributes are not refreshed but reloaded on next access
+		this.resetLazyGroups();
+
 		for (final AssociationMappingImpl<?, ?, ?> association : this.type.getAssociations()) {
 			association.refresh(this, processed);
 		}
@@ -957,12 +1244,57 @@ public class ManagedInstance<X> {
 	public void reset() {
 		ManagedInstance.LOG.trace("Reset instance {0}", this);
 
-		this.collectionsChanged.clear();
+		this.collectionsChanged = null;
 
 		this.changed = false;
 
-		this.snapshot.clear();
-		this.snapshot();
+		this.snapshot(true);
+	}
+
+	/**
+	 * Restores the values of the lazy attributes that were set by the application before their group is loaded.
+	 * 
+	 * @param mappings
+	 *            the singular mappings of the type
+	 * @param ordinals
+	 *            the ordinals of the mappings in the lazy group
+	 * @param assignedValues
+	 *            the values set by the application or <code>null</code>
+	 * @param loaded
+	 *            true if the group is loaded
+	 * 
+	 * @since 2.0.1
+	 */
+	private void restoreLazyAssigned(AbstractMapping<?, ?, ?>[] mappings, int[] ordinals, Object[] assignedValues, boolean loaded) {
+		if (assignedValues == null) {
+			return;
+		}
+
+		for (int i = 0; i < ordinals.length; i++) {
+			final int ordinal = ordinals[i];
+			if (this.lazyAssigned.get(ordinal)) {
+				mappings[ordinal].set(this.instance, assignedValues[i]);
+
+				if (loaded) {
+					this.lazyAssigned.clear(ordinal);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Marks all the lazy groups of the instance as not loaded.
+	 * 
+	 * @since 2.0.1
+	 */
+	private void resetLazyGroups() {
+		this.lazyAssigned = null;
+
+		final int lazyGroupCount = this.type.getLazyGroupCount();
+		if (lazyGroupCount > 0) {
+			this.lazyGroupsPending = new BitSet(lazyGroupCount);
+			this.lazyGroupsPending.set(0, lazyGroupCount);
+		}
 	}
 
 	/**
@@ -974,8 +1306,12 @@ public class ManagedInstance<X> {
 	 * @since 2.0.0
 	 */
 	public void setChanged(PluralMappingEx<?, ?, ?> association) {
-		if ((this.collectionsChanged.size() == 0) && !this.changed) {
-			this.session.setChanged(this);
+		if (this.collectionsChanged == null) {
+			if (!this.changed) {
+				this.session.setChanged(this);
+			}
+
+			this.collectionsChanged = Lists.newArrayList();
 		}
 
 		this.collectionsChanged.add(association);
@@ -990,7 +1326,28 @@ public class ManagedInstance<X> {
 	 * @since 2.0.0
 	 */
 	public void setJoinLoaded(JoinedMapping<?, ?, ?> mapping) {
-		this.joinsLoaded.add(mapping.getPath());
+		final int ordinal = this.type.getJoinOrdinal(mapping);
+		if (ordinal < 0) {
+			return;
+		}
+
+		if (this.joinsLoaded == null) {
+			this.joinsLoaded = new BitSet(this.type.getMappingsPlural().length + this.type.getAssociationsSingular().length);
+		}
+
+		this.joinsLoaded.set(ordinal);
+	}
+
+	/**
+	 * Sets the fetch graph the instance is being loaded with.
+	 * 
+	 * @param fetchGraph
+	 *            the fetch graph
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setFetchGraph(FetchGraph fetchGraph) {
+		this.fetchGraph = fetchGraph;
 	}
 
 	/**
@@ -1047,17 +1404,39 @@ public class ManagedInstance<X> {
 	}
 
 	/**
-	 * Creates a snapshot of the entity.
+	 * Creates a snapshot of the entity if there is none.
 	 * 
 	 * @since 2.0.0
 	 */
 	private void snapshot() {
+		this.snapshot(false);
+	}
+
+	/**
+	 * Creates a snapshot of the entity.
+	 * <p>
+	 * The values are kept in the order of the singular mappings of the type.
+	 * 
+	 * @param refresh
+	 *            true to take the snapshot again if there is already one
+	 * 
+	 * @since 2.0.1
+	 */
+	private void snapshot(boolean refresh) {
+		final AbstractMapping<?, ?, ?>[] mappings = this.type.getMappingsSingular();
+
+		if (this.snapshot == null) {
+			this.snapshot = new Object[mappings.length];
+		}
+		else if (!refresh) {
+			return;
+		}
+
 		ManagedInstance.LOG.trace("Snapshot generated for instance {0}", this);
 
-		if (this.snapshot.size() == 0) {
-			for (final AbstractMapping<?, ?, ?> mapping : this.type.getMappingsSingular()) {
-				this.snapshot.put(mapping, mapping.get(this.instance));
-			}
+		final Object[] _snapshot = this.snapshot;
+		for (int i = 0; i < mappings.length; i++) {
+			_snapshot[i] = mappings[i].get(this.instance);
 		}
 	}
 
@@ -19,12 +19,13 @@
 
 package org.batoo.jpa.core.impl.manager;
 
-import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
 import javax.persistence.PersistenceException;
 
+import org.batoo.common.reflect.MethodAccessor;
+import org.batoo.common.reflect.ReflectHelper;
 import org.batoo.jpa.parser.AbstractLocator;
 import org.batoo.jpa.parser.MappingException;
 import org.batoo.jpa.parser.metadata.EntityListenerMetadata.EntityListenerType;
@@ -55,9 +56,11 @@ public class Callback {
 		CALLBACK
 	}
 
+	private static final Object[] NO_ARGUMENTS = new Object[] {};
+
 	private final EntityListenerType listenerType;
 	private final CallbackType callbackType;
-	private Method method;
+	private final MethodAccessor accessor;
 	private Object instance;
 
 	/**
@@ -80,16 +83,16 @@ public class Callback {
 		this.callbackType = callbackType;
 		this.listenerType = listenerType;
 
-		this.method = AccessController.doPrivileged(new PrivilegedAction<Method>() {
+		this.accessor = AccessController.doPrivileged(new PrivilegedAction<MethodAccessor>() {
 
 			@Override
-			public Method run() {
+			public MethodAccessor run() {
 				try {
 					if (callbackType == CallbackType.CALLBACK) {
-						return clazz.getMethod(name);
+						return ReflectHelper.createMethodAccessor(clazz.getMethod(name));
 					}
 					else {
-						return clazz.getMethod(name, Object.class);
+						return ReflectHelper.createMethodAccessor(clazz.getMethod(name, Object.class));
 					}
 				}
 				catch (final Exception e) {
@@ -117,10 +120,10 @@ public class Callback {
 	public void fire(Object instance) {
 		try {
 			if (this.callbackType == CallbackType.CALLBACK) {
-				this.method.invoke(instance);
+				this.accessor.invoke(instance, Callback.NO_ARGUMENTS);
 			}
 			else {
-				this.method.invoke(this.instance, instance);
+				this.accessor.invoke(this.instance, new Object[] { instance });
 			}
 		}
 		catch (final Exception e) {
@@ -108,7 +108,7 @@ public class CallbackManager {
 		this.postLoad = this.getCallbacks(callbacks, EntityListenerType.POST_LOAD);
 		this.postPersist = this.getCallbacks(callbacks, EntityListenerType.POST_PERSIST);
 		this.postRemove = this.getCallbacks(callbacks, EntityListenerType.POST_REMOVE);
-		this.postUpdate = this.getCallbacks(callbacks, EntityListenerType.POST_REMOVE);
+		this.postUpdate = this.getCallbacks(callbacks, EntityListenerType.POST_UPDATE);
 		this.prePersist = this.getCallbacks(callbacks, EntityListenerType.PRE_PERSIST);
 		this.preRemove = this.getCallbacks(callbacks, EntityListenerType.PRE_REMOVE);
 		this.preUpdate = this.getCallbacks(callbacks, EntityListenerType.PRE_UPDATE);
@@ -147,31 +147,7 @@ public class CallbackManager {
 	 * @since 2.0.0
 	 */
 	public void fireCallbacks(Object instance, EntityListenerType type) {
-		Callback[] callbacks = null;
-
-		switch (type) {
-			case POST_LOAD:
-				callbacks = this.postLoad;
-				break;
-			case POST_REMOVE:
-				callbacks = this.postRemove;
-				break;
-			case POST_PERSIST:
-				callbacks = this.postPersist;
-				break;
-			case POST_UPDATE:
-				callbacks = this.postUpdate;
-				break;
-			case PRE_PERSIST:
-				callbacks = this.prePersist;
-				break;
-			case PRE_REMOVE:
-				callbacks = this.preRemove;
-				break;
-			case PRE_UPDATE:
-				callbacks = this.preUpdate;
-				break;
-		}
+		final Callback[] callbacks = this.getCallbacks(type);
 
 		if (callbacks != null) {
 			for (final Callback callback : callbacks) {
@@ -205,6 +181,34 @@ public class CallbackManager {
 		return availability.updateAvailability(this);
 	}
 
+	/**
+	 * Returns the callbacks of the type.
+	 * 
+	 * @param type
+	 *            the listener type
+	 * @return the callbacks of the type or <code>null</code> if there are no callbacks of the type
+	 * 
+	 * @since 2.0.1
+	 */
+	public Callback[] getCallbacks(EntityListenerType type) {
+		switch (type) {
+			case POST_LOAD:
+				return this.postLoad;
+			case POST_REMOVE:
+				return this.postRemove;
+			case POST_PERSIST:
+				return this.postPersist;
+			case POST_UPDATE:
+				return this.postUpdate;
+			case PRE_PERSIST:
+				return this.prePersist;
+			case PRE_REMOVE:
+				return this.preRemove;
+			default:
+				return this.preUpdate;
+		}
+	}
+
 	private Callback[] getCallbacks(Map<EntityListenerType, List<Callback>> callbacks, EntityListenerType type) {
 		final List<Callback> list = callbacks.get(type);
 
@@ -19,6 +19,7 @@
 
 package org.batoo.jpa.core.impl.manager;
 
+import java.io.File;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -42,6 +43,7 @@ import javax.persistence.Query;
 import javax.sql.DataSource;
 import javax.validation.Validation;
 import javax.validation.ValidationException;
+import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
 import javax.validation.groups.Default;
 
@@ -59,6 +61,8 @@ import org.batoo.jpa.core.impl.criteria.jpql.JpqlQuery;
 import org.batoo.jpa.core.impl.deployment.DdlManager;
 import org.batoo.jpa.core.impl.deployment.LinkManager;
 import org.batoo.jpa.core.impl.deployment.NamedQueriesManager;
+import org.batoo.jpa.core.impl.deployment.WarmUpManager;
+import org.batoo.jpa.core.impl.instance.EnhancedClassCache;
 import org.batoo.jpa.core.impl.model.MetamodelImpl;
 import org.batoo.jpa.jdbc.datasource.AbstractDataSource;
 import org.batoo.jpa.jdbc.DDLMode;
@@ -66,6 +70,7 @@ import org.batoo.jpa.jdbc.DataSourceProxy;
 import org.batoo.jpa.jdbc.PreparedStatementProxy.SqlLoggingType;
 import org.batoo.jpa.jdbc.adapter.AbstractJdbcAdaptor;
 import org.batoo.jpa.jdbc.adapter.JdbcAdaptor;
+import org.batoo.jpa.jdbc.generator.TimeOrderedIdGenerator;
 import org.batoo.jpa.parser.AbstractLocator;
 import org.batoo.jpa.parser.PersistenceParser;
 import org.batoo.jpa.parser.metadata.NamedQueryMetadata;
@@ -104,11 +109,17 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 	private final ClassLoader classloader;
 
 	private final ValidatorFactory validationFactory;
+	private final Validator validator;
 	private final Class<?>[] persistValidators;
 	private final Class<?>[] updateValidators;
 	private final Class<?>[] removeValidators;
 
 	private final int maxFetchJoinDepth;
+	private final boolean adaptiveFetchSize;
+	private final EnhancedClassCache enhancedClassCache;
+	private final boolean parallelEnhancement;
+	private final boolean parallelWarmUp;
+	private final int nodeId;
 
 	private boolean open;
 
@@ -131,12 +142,14 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 		final boolean hasValidators = parser.hasValidators();
 		if (hasValidators) {
 			this.validationFactory = this.createValidationFactory();
+			this.validator = this.validationFactory.getValidator();
 			this.persistValidators = this.getValidatorsFor(parser, JPASettings.PERSIST_VALIDATION_GROUP);
 			this.updateValidators = this.getValidatorsFor(parser, JPASettings.UPDATE_VALIDATION_GROUP);
 			this.removeValidators = this.getValidatorsFor(parser, JPASettings.REMOVE_VALIDATION_GROUP);
 		}
 		else {
 			this.validationFactory = null;
+			this.validator = null;
 			this.persistValidators = null;
 			this.updateValidators = null;
 			this.removeValidators = null;
@@ -151,6 +164,24 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 			throw new IllegalArgumentException("Illegal value " + this.getProperty(BJPASettings.SQL_LOGGING) + " for " + BJPASettings.SQL_LOGGING);
 		}
 
+		this.adaptiveFetchSize = this.getProperty(BJPASettings.ADAPTIVE_FETCH_SIZE) != null ? //
+			Boolean.valueOf((String) this.getProperty(BJPASettings.ADAPTIVE_FETCH_SIZE)) : //
+			false;
+
+		this.enhancedClassCache = this.getProperty(BJPASettings.ENHANCER_CACHE) != null ? //
+			new EnhancedClassCache(new File((String) this.getProperty(BJPASettings.ENHANCER_CACHE))) : //
+			new EnhancedClassCache(null);
+
+		this.parallelEnhancement = this.getProperty(BJPASettings.PARALLEL_ENHANCEMENT) != null ? //
+			Boolean.valueOf((String) this.getProperty(BJPASettings.PARALLEL_ENHANCEMENT)) : //
+			false;
+
+		this.parallelWarmUp = this.getProperty(BJPASettings.PARALLEL_WARM_UP) != null ? //
+			Boolean.valueOf((String) this.getProperty(BJPASettings.PARALLEL_WARM_UP)) : //
+			true;
+
+		this.nodeId = this.readNodeId();
+
 		this.dataSource = this.createDatasource(name, parser);
 
 		this.ddlMode = this.readDdlMode();
@@ -177,6 +208,10 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 
 		NamedQueriesManager.perform(this.metamodel, this.criteriaBuilder);
 
+		if ((this.getProperty(BJPASettings.WARM_UP) != null) && Boolean.valueOf((String) this.getProperty(BJPASettings.WARM_UP))) {
+			this.warmUp();
+		}
+
 		// lets init static metamodel class if exist
 		this.metamodel.initStaticMetamodels();
 		//
@@ -544,6 +579,17 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 		}
 	}
 
+	/**
+	 * Returns the cache of the enhanced classes.
+	 * 
+	 * @return the cache of the enhanced classes
+	 * 
+	 * @since 2.0.1
+	 */
+	public EnhancedClassCache getEnhancedClassCache() {
+		return this.enhancedClassCache;
+	}
+
 	/**
 	 * Returns the global max fetch join depth.
 	 * 
@@ -555,6 +601,39 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 		return this.maxFetchJoinDepth;
 	}
 
+	/**
+	 * Returns if the fetch size of the queries should be adapted to the sizes of their previous results.
+	 * 
+	 * @return true if the fetch size of the queries should be adapted to the sizes of their previous results, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean isAdaptiveFetchSize() {
+		return this.adaptiveFetchSize;
+	}
+
+	/**
+	 * Returns if the entity classes should be enhanced in parallel before the metamodel is built.
+	 * 
+	 * @return true if the entity classes should be enhanced in parallel, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean isParallelEnhancement() {
+		return this.parallelEnhancement;
+	}
+
+	/**
+	 * Returns the node id used in the time-ordered ids.
+	 * 
+	 * @return the node id used in the time-ordered ids
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getNodeId() {
+		return this.nodeId;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -674,6 +753,17 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 		return validationGroups.toArray(new Class[validationGroups.size()]);
 	}
 
+	/**
+	 * Returns the shared validator.
+	 * 
+	 * @return the shared validator
+	 * 
+	 * @since 2.0.1
+	 */
+	public Validator getValidator() {
+		return this.validator;
+	}
+
 	/**
 	 * Returns if the persistence unit has validators
 	 * 
@@ -719,6 +809,26 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 		return DDLMode.valueOf(ddlMode.toUpperCase());
 	}
 
+	private int readNodeId() {
+		final Object nodeId = this.getProperty(BJPASettings.NODE_ID);
+
+		if (nodeId == null) {
+			return TimeOrderedIdGenerator.randomNodeId();
+		}
+
+		try {
+			final int value = Integer.parseInt(nodeId.toString().trim());
+			if ((value >= 0) && (value <= TimeOrderedIdGenerator.MAX_NODE_ID)) {
+				return value;
+			}
+		}
+		catch (final NumberFormatException e) {
+			// fall through
+		}
+
+		throw new IllegalArgumentException("Illegal value " + nodeId + " for " + BJPASettings.NODE_ID);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -731,4 +841,17 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Serializa
 		}
 		return null;
 	}
+
+	/**
+	 * Prepares the SQL statements, the select plans and the mappings of all the entities ahead of their first use.
+	 * <p>
+	 * Performed at creation if {@link BJPASettings#WARM_UP} is set, in parallel unless {@link BJPASettings#PARALLEL_WARM_UP} is false.
+	 * 
+	 * @return the duration of the warm up in milliseconds
+	 * 
+	 * @since 2.0.1
+	 */
+	public long warmUp() {
+		return WarmUpManager.perform(this.metamodel, this.parallelWarmUp);
+	}
 }
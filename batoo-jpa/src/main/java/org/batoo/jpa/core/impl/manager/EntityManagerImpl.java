@@ -47,6 +47,8 @@ import org.apache.commons.lang.mutable.MutableBoolean;
 import org.batoo.common.log.BLogger;
 import org.batoo.common.log.BLoggerFactory;
 import org.batoo.common.util.StringUtils;
+import org.batoo.jpa.JPASettings;
+import org.batoo.jpa.core.FetchGraph;
 import org.batoo.jpa.core.impl.criteria.CriteriaBuilderImpl;
 import org.batoo.jpa.core.impl.criteria.CriteriaDeleteImpl;
 import org.batoo.jpa.core.impl.criteria.CriteriaQueryImpl;
@@ -481,7 +483,7 @@ public class EntityManagerImpl implements EntityManager {
 		this.session.setLoadTracker();
 
 		try {
-			final ManagedInstance<? extends T> instance = this.session.get(new ManagedId<T>(primaryKey, type));
+			final ManagedInstance<? extends T> instance = this.session.get(type, primaryKey);
 			if (instance != null) {
 				if (instance.getInstance() instanceof EnhancedInstance) {
 					final EnhancedInstance enhanced = (EnhancedInstance) instance.getInstance();
@@ -504,6 +506,16 @@ public class EntityManagerImpl implements EntityManager {
 			}
 
 			try {
+				if (properties != null) {
+					if (properties.get(JPASettings.FETCH_GRAPH) != null) {
+						return type.performSelect(this, primaryKey, lockMode, FetchGraph.fromHint(properties.get(JPASettings.FETCH_GRAPH)), false);
+					}
+
+					if (properties.get(JPASettings.LOAD_GRAPH) != null) {
+						return type.performSelect(this, primaryKey, lockMode, FetchGraph.fromHint(properties.get(JPASettings.LOAD_GRAPH)), true);
+					}
+				}
+
 				return type.performSelect(this, primaryKey, lockMode);
 			}
 			catch (final NoResultException e) {
@@ -672,16 +684,13 @@ public class EntityManagerImpl implements EntityManager {
 
 		// try to locate in the session
 		final EntityTypeImpl<T> type = this.metamodel.entity(entityClass);
-		final ManagedId<T> managedId = new ManagedId<T>(primaryKey, type);
-
-		// try to locate in the session
-		ManagedInstance<? extends T> instance = this.session.get(managedId);
+		ManagedInstance<? extends T> instance = this.session.get(type, primaryKey);
 		if (instance != null) {
 			return instance.getInstance();
 		}
 
 		// create a lazy instance
-		instance = type.getManagedInstanceById(this.session, managedId, true);
+		instance = type.getManagedInstanceById(this.session, new ManagedId<T>(primaryKey, type), true);
 		this.session.put(instance);
 
 		// and return it
@@ -22,7 +22,6 @@ package org.batoo.jpa.core.impl.manager;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -44,7 +43,6 @@ import org.batoo.jpa.core.impl.model.MetamodelImpl;
 import org.batoo.jpa.parser.metadata.EntityListenerMetadata.EntityListenerType;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 /**
@@ -62,7 +60,7 @@ public class SessionImpl {
 	private final MetamodelImpl metamodel;
 	private final long sessionId;
 
-	private final HashMap<ManagedId<?>, ManagedInstance<?>> repository = Maps.newHashMap();
+	private final SessionRepository repository = new SessionRepository();
 
 	private final ArrayList<ManagedInstance<?>> newEntities = Lists.newArrayList();
 	private final ArrayList<ManagedInstance<?>> externalEntities = Lists.newArrayList();
@@ -142,11 +140,10 @@ public class SessionImpl {
 	public void clear() {
 		SessionImpl.LOG.debug("Session clearing {0}", this);
 
-		for (final ManagedInstance<?> instance : this.repository.values()) {
+		for (final ManagedInstance<?> instance : this.repository.clear()) {
 			instance.setStatus(Status.DETACHED);
 		}
 
-		this.repository.clear();
 		this.externalEntities.clear();
 		this.changedEntities.clear();
 	}
@@ -375,20 +372,15 @@ public class SessionImpl {
 
 		SessionImpl.LOG.debug("Flushing session {0}: updates {1}, removals {2}", this, sortedUpdates.length, sortedRemovals.length);
 
-		// validations
+		// validations, updates consist of only the new and the changed instances
 		final EntityManagerFactoryImpl entityManagerFactory = this.em.getEntityManagerFactory();
 		if (entityManagerFactory.hasValidators()) {
-			final Set<ConstraintViolation<?>> violations = Sets.newHashSet();
+			Set<ConstraintViolation<?>> violations = null;
 
-			for (final ManagedInstance<?> instance : sortedUpdates) {
-				violations.addAll(instance.getType().runValidators(entityManagerFactory, instance));
-			}
-
-			for (final ManagedInstance<?> instance : sortedRemovals) {
-				violations.addAll(instance.getType().runValidators(entityManagerFactory, instance));
-			}
+			violations = this.runValidators(entityManagerFactory, sortedUpdates, violations);
+			violations = this.runValidators(entityManagerFactory, sortedRemovals, violations);
 
-			if (violations.size() > 0) {
+			if (violations != null) {
 				throw new ConstraintViolationException("Cannot flush due to validation errors.", violations);
 			}
 		}
@@ -457,6 +449,26 @@ public class SessionImpl {
 		return (ManagedInstance<Y>) this.repository.get(id);
 	}
 
+	/**
+	 * Returns the managed instance instance in the session without allocating a managed id.
+	 * 
+	 * @param type
+	 *            the type of the entity
+	 * @param id
+	 *            the raw id
+	 * @param <X>
+	 *            the type of the entity
+	 * @param <Y>
+	 *            the actual type of the instance
+	 * @return the managed instance or null
+	 * 
+	 * @since 2.0.1
+	 */
+	@SuppressWarnings("unchecked")
+	public <Y, X> ManagedInstance<Y> get(EntityTypeImpl<X> type, Object id) {
+		return (ManagedInstance<Y>) this.repository.get(type.getRootType(), id);
+	}
+
 	/**
 	 * Returns the managed instance instance in the session
 	 * 
@@ -490,9 +502,7 @@ public class SessionImpl {
 			throw new PersistenceException(entity.getClass().getName() + " is not a persistence class");
 		}
 
-		final ManagedId<X> id = type.getId(entity);
-
-		return (ManagedInstance<X>) this.repository.get(id);
+		return (ManagedInstance<X>) this.repository.get(type.getRootType(), type.getIdValue(entity));
 	}
 
 	/**
@@ -661,9 +671,8 @@ public class SessionImpl {
 		final EntityTypeImpl<?> type = this.metamodel.entity(clazz);
 		final ManagedId<?> instanceId = type.getId(entity);
 
-		final ManagedInstance<?> instance = this.repository.get(instanceId);
+		final ManagedInstance<?> instance = this.repository.remove(instanceId);
 		if (instance != null) {
-			this.repository.remove(instanceId);
 			this.changedEntities.remove(instance);
 			this.externalEntities.remove(instance);
 			this.newEntities.remove(instance);
@@ -672,6 +681,36 @@ public class SessionImpl {
 		return instance;
 	}
 
+	/**
+	 * Runs the validators for the instances.
+	 * 
+	 * @param entityManagerFactory
+	 *            the entity manager factory
+	 * @param instances
+	 *            the instances to validate
+	 * @param violations
+	 *            the violations so far, may be <code>null</code>
+	 * @return the violations or <code>null</code> if there are no violations
+	 * 
+	 * @since 2.0.1
+	 */
+	private Set<ConstraintViolation<?>> runValidators(EntityManagerFactoryImpl entityManagerFactory, ManagedInstance<?>[] instances,
+		Set<ConstraintViolation<?>> violations) {
+		for (final ManagedInstance<?> instance : instances) {
+			final Set<ConstraintViolation<Object>> instanceViolations = instance.getType().runValidators(entityManagerFactory, instance);
+
+			if (!instanceViolations.isEmpty()) {
+				if (violations == null) {
+					violations = Sets.newHashSet();
+				}
+
+				violations.addAll(instanceViolations);
+			}
+		}
+
+		return violations;
+	}
+
 	/**
 	 * Marks the instance as changed.
 	 * 
@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ * 
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+
+package org.batoo.jpa.core.impl.manager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import org.batoo.jpa.core.impl.instance.ManagedId;
+import org.batoo.jpa.core.impl.instance.ManagedInstance;
+import org.batoo.jpa.core.impl.model.EntityTypeImpl;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * The identity map of the session.
+ * <p>
+ * The instances are partitioned per root entity type. Entities with single integral ids are kept in open addressing tables keyed by
+ * primitive <code>long</code>s, entities with other single ids in open addressing tables keyed by the id itself, so that lookups
+ * neither allocate {@link ManagedId}s nor box the keys. Entities with composite ids are kept by their {@link ManagedId}s.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class SessionRepository {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * The partition of a single root entity type.
+	 * 
+	 * @author hceylan
+	 * @since 2.0.1
+	 */
+	private static abstract class Partition {
+
+		/**
+		 * Clears the partition adding the instances to the <code>instances</code>.
+		 * 
+		 * @param instances
+		 *            the list to add the instances to
+		 * 
+		 * @since 2.0.1
+		 */
+		public abstract void drainTo(ArrayList<ManagedInstance<?>> instances);
+
+		/**
+		 * Returns the managed instance with the id.
+		 * 
+		 * @param id
+		 *            the id
+		 * @return the managed instance or <code>null</code>
+		 * 
+		 * @since 2.0.1
+		 */
+		public abstract ManagedInstance<?> get(Object id);
+
+		/**
+		 * Puts the managed instance with the id.
+		 * 
+		 * @param id
+		 *            the id
+		 * @param instance
+		 *            the managed instance
+		 * 
+		 * @since 2.0.1
+		 */
+		public abstract void put(Object id, ManagedInstance<?> instance);
+
+		/**
+		 * Removes the managed instance with the id.
+		 * 
+		 * @param id
+		 *            the id
+		 * @return the removed managed instance or <code>null</code>
+		 * 
+		 * @since 2.0.1
+		 */
+		public abstract ManagedInstance<?> remove(Object id);
+	}
+
+	/**
+	 * The partition for the integral ids.
+	 * 
+	 * @author hceylan
+	 * @since 2.0.1
+	 */
+	private static final class LongPartition extends Partition {
+
+		private static int slot(long key, int mask) {
+			final long h = key * 0x9E3779B97F4A7C15L;
+
+			return (int) (h ^ (h >>> 32)) & mask;
+		}
+
+		private long[] keys = new long[SessionRepository.INITIAL_CAPACITY];
+		private ManagedInstance<?>[] values = new ManagedInstance[SessionRepository.INITIAL_CAPACITY];
+		private int size;
+
+		@Override
+		public void drainTo(ArrayList<ManagedInstance<?>> instances) {
+			for (final ManagedInstance<?> instance : this.values) {
+				if (instance != null) {
+					instances.add(instance);
+				}
+			}
+
+			this.keys = new long[SessionRepository.INITIAL_CAPACITY];
+			this.values = new ManagedInstance[SessionRepository.INITIAL_CAPACITY];
+			this.size = 0;
+		}
+
+		@Override
+		public ManagedInstance<?> get(Object id) {
+			if (!(id instanceof Number)) {
+				return null;
+			}
+
+			final long key = ((Number) id).longValue();
+			final long[] _keys = this.keys;
+			final ManagedInstance<?>[] _values = this.values;
+			final int mask = _values.length - 1;
+
+			for (int i = LongPartition.slot(key, mask); _values[i] != null; i = (i + 1) & mask) {
+				if (_keys[i] == key) {
+					return _values[i];
+				}
+			}
+
+			return null;
+		}
+
+		@Override
+		public void put(Object id, ManagedInstance<?> instance) {
+			if ((this.size + 1) << 1 > this.values.length) {
+				this.resize();
+			}
+
+			this.putImpl(((Number) id).longValue(), instance);
+		}
+
+		private void putImpl(long key, ManagedInstance<?> instance) {
+			final long[] _keys = this.keys;
+			final ManagedInstance<?>[] _values = this.values;
+			final int mask = _values.length - 1;
+
+			int i = LongPartition.slot(key, mask);
+			while (_values[i] != null) {
+				if (_keys[i] == key) {
+					_values[i] = instance;
+
+					return;
+				}
+
+				i = (i + 1) & mask;
+			}
+
+			_keys[i] = key;
+			_values[i] = instance;
+			this.size++;
+		}
+
+		@Override
+		public ManagedInstance<?> remove(Object id) {
+			if (!(id instanceof Number)) {
+				return null;
+			}
+
+			final long key = ((Number) id).longValue();
+			final long[] _keys = this.keys;
+			final ManagedInstance<?>[] _values = this.values;
+			final int mask = _values.length - 1;
+
+			int gap = LongPartition.slot(key, mask);
+			while ((_values[gap] != null) && (_keys[gap] != key)) {
+				gap = (gap + 1) & mask;
+			}
+
+			final ManagedInstance<?> removed = _values[gap];
+			if (removed == null) {
+				return null;
+			}
+
+			// shift back the entries of the cluster that can no longer be reached
+			for (int i = (gap + 1) & mask; _values[i] != null; i = (i + 1) & mask) {
+				if (((i - LongPartition.slot(_keys[i], mask)) & mask) >= ((i - gap) & mask)) {
+					_keys[gap] = _keys[i];
+					_values[gap] = _values[i];
+					gap = i;
+				}
+			}
+
+			_values[gap] = null;
+			this.size--;
+
+			return removed;
+		}
+
+		private void resize() {
+			final long[] oldKeys = this.keys;
+			final ManagedInstance<?>[] oldValues = this.values;
+
+			this.keys = new long[oldValues.length << 1];
+			this.values = new ManagedInstance[oldValues.length << 1];
+			this.size = 0;
+
+			for (int i = 0; i < oldValues.length; i++) {
+				if (oldValues[i] != null) {
+					this.putImpl(oldKeys[i], oldValues[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The partition for the single non-integral ids, such as strings.
+	 * 
+	 * @author hceylan
+	 * @since 2.0.1
+	 */
+	private static final class ObjectPartition extends Partition {
+
+		private static int slot(Object key, int mask) {
+			final int h = key.hashCode() * 0x9E3779B9;
+
+			return (h ^ (h >>> 16)) & mask;
+		}
+
+		private Object[] keys = new Object[SessionRepository.INITIAL_CAPACITY];
+		private ManagedInstance<?>[] values = new ManagedInstance[SessionRepository.INITIAL_CAPACITY];
+		private int size;
+
+		@Override
+		public void drainTo(ArrayList<ManagedInstance<?>> instances) {
+			for (final ManagedInstance<?> instance : this.values) {
+				if (instance != null) {
+					instances.add(instance);
+				}
+			}
+
+			this.keys = new Object[SessionRepository.INITIAL_CAPACITY];
+			this.values = new ManagedInstance[SessionRepository.INITIAL_CAPACITY];
+			this.size = 0;
+		}
+
+		@Override
+		public ManagedInstance<?> get(Object id) {
+			final Object[] _keys = this.keys;
+			final ManagedInstance<?>[] _values = this.values;
+			final int mask = _values.length - 1;
+
+			for (int i = ObjectPartition.slot(id, mask); _values[i] != null; i = (i + 1) & mask) {
+				if (id.equals(_keys[i])) {
+					return _values[i];
+				}
+			}
+
+			return null;
+		}
+
+		@Override
+		public void put(Object id, ManagedInstance<?> instance) {
+			if ((this.size + 1) << 1 > this.values.length) {
+				this.resize();
+			}
+
+			this.putImpl(id, instance);
+		}
+
+		private void putImpl(Object key, ManagedInstance<?> instance) {
+			final Object[] _keys = this.keys;
+			final ManagedInstance<?>[] _values = this.values;
+			final int mask = _values.length - 1;
+
+			int i = ObjectPartition.slot(key, mask);
+			while (_values[i] != null) {
+				if (key.equals(_keys[i])) {
+					_values[i] = instance;
+
+					return;
+				}
+
+				i = (i + 1) & mask;
+			}
+
+			_keys[i] = key;
+			_values[i] = instance;
+			this.size++;
+		}
+
+		@Override
+		public ManagedInstance<?> remove(Object id) {
+			final Object[] _keys = this.keys;
+			final ManagedInstance<?>[] _values = this.values;
+			final int mask = _values.length - 1;
+
+			int gap = ObjectPartition.slot(id, mask);
+			while ((_values[gap] != null) && !id.equals(_keys[gap])) {
+				gap = (gap + 1) & mask;
+			}
+
+			final ManagedInstance<?> removed = _values[gap];
+			if (removed == null) {
+				return null;
+			}
+
+			// shift back the entries of the cluster that can no longer be reached
+			for (int i = (gap + 1) & mask; _values[i] != null; i = (i + 1) & mask) {
+				if (((i - ObjectPartition.slot(_keys[i], mask)) & mask) >= ((i - gap) & mask)) {
+					_keys[gap] = _keys[i];
+					_values[gap] = _values[i];
+					gap = i;
+				}
+			}
+
+			_keys[gap] = null;
+			_values[gap] = null;
+			this.size--;
+
+			return removed;
+		}
+
+		private void resize() {
+			final Object[] oldKeys = this.keys;
+			final ManagedInstance<?>[] oldValues = this.values;
+
+			this.keys = new Object[oldValues.length << 1];
+			this.values = new ManagedInstance[oldValues.length << 1];
+			this.size = 0;
+
+			for (int i = 0; i < oldValues.length; i++) {
+				if (oldValues[i] != null) {
+					this.putImpl(oldKeys[i], oldValues[i]);
+				}
+			}
+		}
+	}
+
+	private static boolean isIntegral(Class<?> javaType) {
+		return (javaType == Long.class) || (javaType == Long.TYPE) //
+			|| (javaType == Integer.class) || (javaType == Integer.TYPE) //
+			|| (javaType == Short.class) || (javaType == Short.TYPE);
+	}
+
+	private final IdentityHashMap<EntityTypeImpl<?>, Partition> partitions = Maps.newIdentityHashMap();
+	private final HashMap<ManagedId<?>, ManagedInstance<?>> composites = Maps.newHashMap();
+
+	private EntityTypeImpl<?> lastType;
+	private Partition lastPartition;
+
+	/**
+	 * Clears the repository.
+	 * 
+	 * @return the instances that were in the repository
+	 * 
+	 * @since 2.0.1
+	 */
+	public ArrayList<ManagedInstance<?>> clear() {
+		final ArrayList<ManagedInstance<?>> instances = Lists.newArrayList(this.composites.values());
+
+		for (final Partition partition : this.partitions.values()) {
+			partition.drainTo(instances);
+		}
+
+		this.composites.clear();
+
+		return instances;
+	}
+
+	/**
+	 * Returns the managed instance with the id.
+	 * 
+	 * @param rootType
+	 *            the root type of the entity
+	 * @param id
+	 *            the raw id
+	 * @return the managed instance or <code>null</code>
+	 * 
+	 * @since 2.0.1
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public ManagedInstance<?> get(EntityTypeImpl<?> rootType, Object id) {
+		if (id == null) {
+			return null;
+		}
+
+		final Partition partition = this.getPartition(rootType, false);
+		if (partition != null) {
+			return partition.get(id);
+		}
+
+		if (this.composites.isEmpty()) {
+			return null;
+		}
+
+		return this.composites.get(new ManagedId(id, rootType));
+	}
+
+	/**
+	 * Returns the managed instance with the managed id.
+	 * 
+	 * @param id
+	 *            the managed id
+	 * @return the managed instance or <code>null</code>
+	 * 
+	 * @since 2.0.1
+	 */
+	public ManagedInstance<?> get(ManagedId<?> id) {
+		if ((id == null) || (id.getId() == null)) {
+			return this.composites.get(id);
+		}
+
+		final Partition partition = this.getPartition(id.getType(), false);
+		if (partition != null) {
+			return partition.get(id.getId());
+		}
+
+		return this.composites.get(id);
+	}
+
+	private Partition getPartition(EntityTypeImpl<?> rootType, boolean create) {
+		if (rootType == this.lastType) {
+			return this.lastPartition;
+		}
+
+		Partition partition = this.partitions.get(rootType);
+		if (partition == null) {
+			// composite ids are kept by their managed ids
+			if (!create || !rootType.hasSingleIdAttribute()) {
+				return null;
+			}
+
+			partition = SessionRepository.isIntegral(rootType.getIdMapping().getJavaType()) ? new LongPartition() : new ObjectPartition();
+			this.partitions.put(rootType, partition);
+		}
+
+		this.lastType = rootType;
+		this.lastPartition = partition;
+
+		return partition;
+	}
+
+	/**
+	 * Puts the managed instance with the managed id.
+	 * 
+	 * @param id
+	 *            the managed id
+	 * @param instance
+	 *            the managed instance
+	 * 
+	 * @since 2.0.1
+	 */
+	public void put(ManagedId<?> id, ManagedInstance<?> instance) {
+		if ((id == null) || (id.getId() == null)) {
+			this.composites.put(id, instance);
+
+			return;
+		}
+
+		final Partition partition = this.getPartition(id.getType(), true);
+		if (partition != null) {
+			partition.put(id.getId(), instance);
+		}
+		else {
+			this.composites.put(id, instance);
+		}
+	}
+
+	/**
+	 * Removes the managed instance with the managed id.
+	 * 
+	 * @param id
+	 *            the managed id
+	 * @return the removed managed instance or <code>null</code>
+	 * 
+	 * @since 2.0.1
+	 */
+	public ManagedInstance<?> remove(ManagedId<?> id) {
+		if ((id == null) || (id.getId() == null)) {
+			return this.composites.remove(id);
+		}
+
+		final Partition partition = this.getPartition(id.getType(), false);
+		if (partition != null) {
+			return partition.remove(id.getId());
+		}
+
+		return this.composites.remove(id);
+	}
+}
@@ -26,14 +26,15 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
-import javax.naming.directory.BasicAttribute;
 import javax.persistence.InheritanceType;
 import javax.persistence.LockModeType;
 import javax.persistence.PersistenceException;
@@ -41,12 +42,14 @@ import javax.persistence.criteria.Fetch;
 import javax.persistence.criteria.FetchParent;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Path;
+import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.Attribute.PersistentAttributeType;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.SingularAttribute;
 import javax.validation.ConstraintViolation;
-import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
+import javax.validation.GroupSequence;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.mutable.MutableBoolean;
@@ -56,6 +59,7 @@ import org.batoo.common.reflect.ReflectHelper;
 import org.batoo.common.util.BatooUtils;
 import org.batoo.common.util.FinalWrapper;
 import org.batoo.jpa.annotations.FetchStrategyType;
+import org.batoo.jpa.core.FetchGraph;
 import org.batoo.jpa.core.impl.criteria.CriteriaBuilderImpl;
 import org.batoo.jpa.core.impl.criteria.CriteriaQueryImpl;
 import org.batoo.jpa.core.impl.criteria.QueryImpl;
@@ -72,6 +76,7 @@ import org.batoo.jpa.core.impl.manager.EntityManagerImpl;
 import org.batoo.jpa.core.impl.manager.SessionImpl;
 import org.batoo.jpa.core.impl.model.attribute.AssociatedSingularAttribute;
 import org.batoo.jpa.core.impl.model.attribute.AttributeImpl;
+import org.batoo.jpa.core.impl.model.attribute.BasicAttribute;
 import org.batoo.jpa.core.impl.model.mapping.AbstractMapping;
 import org.batoo.jpa.core.impl.model.mapping.AssociationMappingImpl;
 import org.batoo.jpa.core.impl.model.mapping.BasicMappingImpl;
@@ -119,6 +124,10 @@ import com.google.common.collect.Sets;
  */
 public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements EntityType<X>, EntityTypeDescriptor {
 
+	private static final int VALIDATION_PERSIST = 0;
+	private static final int VALIDATION_UPDATE = 1;
+	private static final int VALIDATION_REMOVE = 2;
+
 	private final EntityMetadata metadata;
 	private final String name;
 	private EntityTable primaryTable;
@@ -131,6 +140,7 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 	private final ConstructorAccessor constructor;
 
 	private CriteriaQueryImpl<X> selectCriteria;
+	private final HashMap<String, CriteriaQueryImpl<X>> graphSelectCriterias = Maps.newHashMap();
 	private CriteriaQueryImpl<X> refreshCriteria;
 	private int dependencyCount;
 	private boolean canBatchRemoves;
@@ -151,6 +161,13 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 	private FinalWrapper<PluralAssociationMappingImpl<?, ?, ?>[]> associationsPlural;
 	private FinalWrapper<SingularAssociationMappingImpl<?, ?>[]> associationsSingular;
 	private FinalWrapper<SingularAssociationMappingImpl<?, ?>[]> associationsSingularLazy;
+	private FinalWrapper<HashMap<String, Integer>> joinOrdinals;
+	private final HashMap<String, Integer> lazyMethods = Maps.newHashMap();
+	private final String[] lazyGroupNames;
+	private FinalWrapper<LazyAttributeGroup[]> lazyGroups;
+	private FinalWrapper<HashMap<String, Integer>> lazySetters;
+	private FinalWrapper<int[]> streamingLobOrdinals;
+	private FinalWrapper<boolean[]> validationGroups;
 	private final Map<Method, Method> idMethods = Maps.newHashMap();
 
 	private SingularMappingEx<? super X, ?> idMapping;
@@ -191,6 +208,7 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 		this.maxFetchJoinDepth = metamodel.getEntityManagerFactory().getMaxFetchJoinDepth();
 
 		this.addAttributes(metadata);
+		this.lazyGroupNames = this.initLazyMethods();
 		this.initTables(metadata);
 		this.entityMapping = new EntityMapping<X>(this);
 		this.linkMappings();
@@ -242,7 +260,7 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 
 	private ConstructorAccessor enhance() {
 		try {
-			final Class<X> enhancedClass = Enhancer.enhance(this);
+			final Class<X> enhancedClass = Enhancer.enhance(this, this.getMetamodel().getEntityManagerFactory().getEnhancedClassCache());
 			final Constructor<X> constructor = enhancedClass.getConstructor(Class.class, // type
 				SessionImpl.class, // session
 				Object.class, // id
@@ -255,6 +273,48 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 		}
 	}
 
+	private CriteriaQueryImpl<X> createCriteriaSelect(FetchGraph graph, boolean loadGraph) {
+		final CriteriaBuilderImpl cb = this.getMetamodel().getEntityManagerFactory().getCriteriaBuilder();
+		CriteriaQueryImpl<X> q = cb.createQuery(this.getJavaType());
+		q.internal();
+		final RootImpl<X> r = q.from(this);
+		q = q.select(r);
+		r.alias(BatooUtils.acronym(this.name).toLowerCase());
+
+		// fetch graphs replace the eager joins, load graphs add to them
+		if ((graph == null) || loadGraph) {
+			this.prepareEagerJoins(r, 0, null);
+		}
+
+		if (graph != null) {
+			r.getFetchRoot().applyFetchGraph(graph, loadGraph);
+		}
+
+		// has single id mapping
+		if (this.getRootType().hasSingleIdAttribute()) {
+			final SingularMappingEx<? super X, ?> _idMapping = this.getRootType().getIdMapping();
+			final ParameterExpressionImpl<?> pe = cb.parameter(_idMapping.getAttribute().getJavaType());
+			final Path<?> path = r.get(_idMapping.getAttribute().getName());
+			final PredicateImpl predicate = cb.equal(path, pe);
+
+			return q.where(predicate);
+		}
+
+		// has multiple id mappings
+		final List<PredicateImpl> predicates = Lists.newArrayList();
+		for (final Pair<SingularMapping<?, ?>, AbstractAccessor> pair : this.getIdMappings()) {
+			final SingularMapping<?, ?> _idMapping = pair.getFirst();
+			final ParameterExpressionImpl<?> pe = cb.parameter(_idMapping.getJavaType());
+
+			final Path<?> path = r.get(_idMapping.getName());
+			final PredicateImpl predicate = cb.equal(path, pe);
+
+			predicates.add(predicate);
+		}
+
+		return q.where(predicates.toArray(new PredicateImpl[predicates.size()]));
+	}
+
 	/**
 	 * Returns if this entity extends the parent entity.
 	 * 
@@ -278,20 +338,6 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 		return false;
 	}
 
-	/**
-	 * Fires the callbacks.
-	 * 
-	 * @param instance
-	 *            the instance
-	 * @param type
-	 *            the type
-	 * 
-	 * @since 2.0.0
-	 */
-	public void fireCallbacks(Object instance, EntityListenerType type) {
-		this.fireCallbacks(true, instance, type);
-	}
-
 	/**
 	 * Returns all the tables in the inheritance chain.
 	 * 
@@ -820,42 +866,23 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 				return this.selectCriteria;
 			}
 
-			final CriteriaBuilderImpl cb = this.getMetamodel().getEntityManagerFactory().getCriteriaBuilder();
-			CriteriaQueryImpl<X> q = cb.createQuery(this.getJavaType());
-			q.internal();
-			final RootImpl<X> r = q.from(this);
-			q = q.select(r);
-			r.alias(BatooUtils.acronym(this.name).toLowerCase());
-
-			this.prepareEagerJoins(r, 0, null);
-
-			// has single id mapping
-			if (this.getRootType().hasSingleIdAttribute()) {
-				final SingularMappingEx<? super X, ?> _idMapping = this.getRootType().getIdMapping();
-				final ParameterExpressionImpl<?> pe = cb.parameter(_idMapping.getAttribute().getJavaType());
-				final Path<?> path = r.get(_idMapping.getAttribute().getName());
-				final PredicateImpl predicate = cb.equal(path, pe);
-
-				this.selectCriteria = q.where(predicate);
+			this.selectCriteria = this.createCriteriaSelect(null, false);
 
-				return this.selectCriteria;
-			}
-
-			// has multiple id mappings
-			final List<PredicateImpl> predicates = Lists.newArrayList();
-			for (final Pair<SingularMapping<?, ?>, AbstractAccessor> pair : this.getIdMappings()) {
-				final SingularMapping<?, ?> _idMapping = pair.getFirst();
-				final ParameterExpressionImpl<?> pe = cb.parameter(_idMapping.getJavaType());
+			return this.selectCriteria;
+		}
+	}
 
-				final Path<?> path = r.get(_idMapping.getName());
-				final PredicateImpl predicate = cb.equal(path, pe);
+	private CriteriaQueryImpl<X> getCriteriaSelect(FetchGraph graph, boolean loadGraph) {
+		final String key = (loadGraph ? "load:" : "fetch:") + graph.getKey();
 
-				predicates.add(predicate);
+		synchronized (this.graphSelectCriterias) {
+			CriteriaQueryImpl<X> q = this.graphSelectCriterias.get(key);
+			if (q == null) {
+				q = this.createCriteriaSelect(graph, loadGraph);
+				this.graphSelectCriterias.put(key, q);
 			}
 
-			this.selectCriteria = q.where(predicates.toArray(new PredicateImpl[predicates.size()]));
-
-			return this.selectCriteria;
+			return q;
 		}
 	}
 
@@ -926,6 +953,59 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 	 * @since 2.0.0
 	 */
 	public ManagedId<X> getId(Object instance) {
+		final Object id = this.getIdValue(instance);
+
+		return id != null ? new ManagedId<X>(id, this) : null;
+	}
+
+	/**
+	 * Returns the id of the entity from the resultset row.
+	 * 
+	 * @param session
+	 *            the session
+	 * @param row
+	 *            the row
+	 * @return the managedId or null
+	 * @throws SQLException
+	 *             if an SQL error occurrs
+	 * 
+	 * @since 2.0.0
+	 */
+	public ManagedId<X> getId(SessionImpl session, ResultSet row) throws SQLException {
+		return this.getId(session, row, this.getPrimaryTable().getIdFields());
+	}
+
+	/**
+	 * Returns the id of the entity from the resultset row.
+	 * 
+	 * @param session
+	 *            the session
+	 * @param row
+	 *            the row
+	 * @param idFields
+	 *            the id fields
+	 * @return the managedId or null
+	 * @throws SQLException
+	 *             if an SQL error occurrs
+	 * 
+	 * @since 2.0.0
+	 */
+	public ManagedId<X> getId(SessionImpl session, ResultSet row, HashMap<AbstractColumn, String> idFields) throws SQLException {
+		final Object id = this.getIdValue(session, row, idFields);
+
+		return id != null ? new ManagedId<X>(id, this) : null;
+	}
+
+	/**
+	 * Returns the raw id of the entity from the instance.
+	 * 
+	 * @param instance
+	 *            the instance
+	 * @return the id or null
+	 * 
+	 * @since 2.0.1
+	 */
+	public Object getIdValue(Object instance) {
 		Object id;
 		final MutableBoolean allNull = new MutableBoolean(true);
 
@@ -952,28 +1032,11 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 			return null;
 		}
 
-		return new ManagedId<X>(id, this);
+		return id;
 	}
 
 	/**
-	 * Returns the id of the entity from the resultset row.
-	 * 
-	 * @param session
-	 *            the session
-	 * @param row
-	 *            the row
-	 * @return the managedId or null
-	 * @throws SQLException
-	 *             if an SQL error occurrs
-	 * 
-	 * @since 2.0.0
-	 */
-	public ManagedId<X> getId(SessionImpl session, ResultSet row) throws SQLException {
-		return this.getId(session, row, this.getPrimaryTable().getIdFields());
-	}
-
-	/**
-	 * Returns the id of the entity from the resultset row.
+	 * Returns the raw id of the entity from the resultset row.
 	 * 
 	 * @param session
 	 *            the session
@@ -981,13 +1044,13 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 	 *            the row
 	 * @param idFields
 	 *            the id fields
-	 * @return the managedId or null
+	 * @return the id or null
 	 * @throws SQLException
 	 *             if an SQL error occurrs
 	 * 
-	 * @since 2.0.0
+	 * @since 2.0.1
 	 */
-	public ManagedId<X> getId(SessionImpl session, ResultSet row, HashMap<AbstractColumn, String> idFields) throws SQLException {
+	public Object getIdValue(SessionImpl session, ResultSet row, HashMap<AbstractColumn, String> idFields) throws SQLException {
 		Object id;
 		final MutableBoolean allNull = new MutableBoolean(true);
 
@@ -1014,7 +1077,7 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 			return null;
 		}
 
-		return new ManagedId<X>(id, this);
+		return id;
 	}
 
 	private Object getIdImpl(Object instance, SingularMapping<?, ?> idMapping, MutableBoolean allNull) {
@@ -1225,6 +1288,188 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 		return this.getIdMapping().get(instance);
 	}
 
+	/**
+	 * Returns the ordinal of the joined mapping that is used to track the loaded joins of the managed instances.
+	 * <p>
+	 * The plural mappings occupy the first ordinals in the order of {@link #getMappingsPlural()}, followed by the singular associations
+	 * in the order of {@link #getAssociationsSingular()}. The ordinals are resolved once onto the mappings of the type, the mappings of
+	 * the super types are resolved by their path.
+	 * 
+	 * @param mapping
+	 *            the joined mapping
+	 * @return the ordinal of the mapping or <code>-1</code> if the type has no such joined mapping
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getJoinOrdinal(JoinedMapping<?, ?, ?> mapping) {
+		final AbstractMapping<?, ?, ?> _mapping = (AbstractMapping<?, ?, ?>) mapping;
+
+		if (_mapping.getRoot() == this.entityMapping) {
+			final int ordinal = _mapping.getJoinOrdinal();
+			if (ordinal >= 0) {
+				return ordinal;
+			}
+
+			// not a join of the type or not resolved yet
+			this.getJoinOrdinals();
+
+			return _mapping.getJoinOrdinal();
+		}
+
+		final Integer ordinal = this.getJoinOrdinals().get(mapping.getPath());
+
+		return ordinal != null ? ordinal : -1;
+	}
+
+	private HashMap<String, Integer> getJoinOrdinals() {
+		FinalWrapper<HashMap<String, Integer>> wrapper = this.joinOrdinals;
+
+		if (wrapper == null) {
+			synchronized (this) {
+				if (this.joinOrdinals == null) {
+
+					final HashMap<String, Integer> _joinOrdinals = Maps.newHashMap();
+
+					int ordinal = 0;
+					for (final PluralMappingEx<?, ?, ?> mapping : this.getMappingsPlural()) {
+						((AbstractMapping<?, ?, ?>) mapping).setJoinOrdinal(ordinal);
+						_joinOrdinals.put(mapping.getPath(), ordinal++);
+					}
+
+					for (final SingularAssociationMappingImpl<?, ?> mapping : this.getAssociationsSingular()) {
+						mapping.setJoinOrdinal(ordinal);
+						_joinOrdinals.put(mapping.getPath(), ordinal++);
+					}
+
+					this.joinOrdinals = new FinalWrapper<HashMap<String, Integer>>(_joinOrdinals);
+				}
+
+				wrapper = this.joinOrdinals;
+			}
+		}
+
+		return wrapper.value;
+	}
+
+	/**
+	 * Returns the number of the lazy attribute groups of the type.
+	 * 
+	 * @return the number of the lazy attribute groups of the type
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getLazyGroupCount() {
+		return this.lazyGroupNames.length;
+	}
+
+	/**
+	 * Returns the ordinal of the lazy attribute group the attribute belongs to.
+	 * 
+	 * @param attribute
+	 *            the attribute
+	 * @return the ordinal of the lazy group or <code>-1</code> if the attribute is not lazy
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getLazyGroupOrdinal(BasicAttribute<?, ?> attribute) {
+		if (!attribute.isLazy()) {
+			return -1;
+		}
+
+		return Arrays.binarySearch(this.lazyGroupNames, attribute.getLazyGroup());
+	}
+
+	/**
+	 * Returns the ordinal of the lazy attribute group the method accesses.
+	 * 
+	 * @param methodName
+	 *            the name of the method
+	 * @return the ordinal of the lazy group or <code>-1</code> if the method is not an accessor of a lazy attribute
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getLazyGroupOrdinal(String methodName) {
+		final Integer ordinal = this.lazyMethods.get(methodName);
+
+		return ordinal != null ? ordinal : -1;
+	}
+
+	/**
+	 * Returns the ordinals of the singular mappings in the lazy attribute group.
+	 * 
+	 * @param group
+	 *            the ordinal of the lazy group
+	 * @return the ordinals of the singular mappings in the lazy group
+	 * 
+	 * @since 2.0.1
+	 */
+	public int[] getLazyGroupMappings(int group) {
+		return this.getLazyGroups()[group].getOrdinals();
+	}
+
+	private LazyAttributeGroup[] getLazyGroups() {
+		FinalWrapper<LazyAttributeGroup[]> wrapper = this.lazyGroups;
+
+		if (wrapper == null) {
+			synchronized (this) {
+				if (this.lazyGroups == null) {
+					final AbstractMapping<?, ?, ?>[] mappings = this.getMappingsSingular();
+
+					final LazyAttributeGroup[] _lazyGroups = new LazyAttributeGroup[this.lazyGroupNames.length];
+					for (int i = 0; i < _lazyGroups.length; i++) {
+						_lazyGroups[i] = new LazyAttributeGroup(this.lazyGroupNames[i], mappings);
+					}
+
+					this.lazyGroups = new FinalWrapper<LazyAttributeGroup[]>(_lazyGroups);
+				}
+
+				wrapper = this.lazyGroups;
+			}
+		}
+
+		return wrapper.value;
+	}
+
+	/**
+	 * Returns the ordinal of the singular mapping of the lazy attribute the method sets.
+	 * 
+	 * @param methodName
+	 *            the name of the method
+	 * @return the ordinal of the singular mapping or <code>-1</code> if the method is not the setter of a lazy attribute
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getLazySetterOrdinal(String methodName) {
+		FinalWrapper<HashMap<String, Integer>> wrapper = this.lazySetters;
+
+		if (wrapper == null) {
+			synchronized (this) {
+				if (this.lazySetters == null) {
+					final AbstractMapping<?, ?, ?>[] mappings = this.getMappingsSingular();
+
+					final HashMap<String, Integer> _lazySetters = Maps.newHashMap();
+					for (int i = 0; i < mappings.length; i++) {
+						final AbstractMapping<?, ?, ?> mapping = mappings[i];
+
+						// only the attributes of the entity have setters intercepted
+						if ((mapping instanceof BasicMappingImpl) && (mapping.getParent() instanceof EntityMapping)
+							&& ((BasicMappingImpl<?, ?>) mapping).getAttribute().isLazy()) {
+							_lazySetters.put("set" + StringUtils.capitalize(mapping.getName()), i);
+						}
+					}
+
+					this.lazySetters = new FinalWrapper<HashMap<String, Integer>>(_lazySetters);
+				}
+
+				wrapper = this.lazySetters;
+			}
+		}
+
+		final Integer ordinal = wrapper.value.get(methodName);
+
+		return ordinal != null ? ordinal : -1;
+	}
+
 	/**
 	 * Returns the managed instance for the instance.
 	 * 
@@ -1401,6 +1646,8 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 
 	/**
 	 * Returns the singular mappings.
+	 * <p>
+	 * The index of a mapping in the returned array is its ordinal in the snapshots of the managed instances.
 	 * 
 	 * @return the singular mappings
 	 * 
@@ -1509,6 +1756,43 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 		return this.rootType;
 	}
 
+	/**
+	 * Returns the ordinals of the singular mappings that are streaming lobs.
+	 * 
+	 * @return the ordinals of the singular mappings that are streaming lobs
+	 * 
+	 * @since 2.0.1
+	 */
+	public int[] getStreamingLobOrdinals() {
+		FinalWrapper<int[]> wrapper = this.streamingLobOrdinals;
+
+		if (wrapper == null) {
+			synchronized (this) {
+				if (this.streamingLobOrdinals == null) {
+					final AbstractMapping<?, ?, ?>[] mappings = this.getMappingsSingular();
+
+					final List<Integer> ordinals = Lists.newArrayList();
+					for (int i = 0; i < mappings.length; i++) {
+						if ((mappings[i] instanceof BasicMappingImpl) && ((BasicMappingImpl<?, ?>) mappings[i]).getColumn().isStreamingLob()) {
+							ordinals.add(i);
+						}
+					}
+
+					final int[] _streamingLobOrdinals = new int[ordinals.size()];
+					for (int i = 0; i < _streamingLobOrdinals.length; i++) {
+						_streamingLobOrdinals[i] = ordinals.get(i);
+					}
+
+					this.streamingLobOrdinals = new FinalWrapper<int[]>(_streamingLobOrdinals);
+				}
+
+				wrapper = this.streamingLobOrdinals;
+			}
+		}
+
+		return wrapper.value;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1565,6 +1849,102 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 		return wrapper.value;
 	}
 
+	/**
+	 * Returns if the type has constraints for the persist, update and remove validation groups, in the order of the validation
+	 * ordinals.
+	 * 
+	 * @param entityManagerFactory
+	 *            the entity manager factory
+	 * @return the array of flags indexed by the validation ordinals
+	 * 
+	 * @since 2.0.1
+	 */
+	private boolean[] getValidationGroups(EntityManagerFactoryImpl entityManagerFactory) {
+		FinalWrapper<boolean[]> wrapper = this.validationGroups;
+
+		if (wrapper == null) {
+			synchronized (this) {
+				if (this.validationGroups == null) {
+					final BeanDescriptor descriptor = entityManagerFactory.getValidator().getConstraintsForClass(this.getJavaType());
+
+					final boolean[] _validationGroups = new boolean[3];
+					_validationGroups[EntityTypeImpl.VALIDATION_PERSIST] = this.hasConstraints(descriptor, entityManagerFactory.getPersistValidators());
+					_validationGroups[EntityTypeImpl.VALIDATION_UPDATE] = this.hasConstraints(descriptor, entityManagerFactory.getUpdateValidators());
+					_validationGroups[EntityTypeImpl.VALIDATION_REMOVE] = this.hasConstraints(descriptor, entityManagerFactory.getRemoveValidators());
+
+					this.validationGroups = new FinalWrapper<boolean[]>(_validationGroups);
+				}
+
+				wrapper = this.validationGroups;
+			}
+		}
+
+		return wrapper.value;
+	}
+
+	private boolean hasConstraints(BeanDescriptor descriptor, Class<?>[] groups) {
+		if (!descriptor.isBeanConstrained()) {
+			return false;
+		}
+
+		// group sequences, including the redefined default group, are left to the validator
+		if (this.getJavaType().isAnnotationPresent(GroupSequence.class)) {
+			return true;
+		}
+
+		for (final Class<?> group : groups) {
+			if (group.isAnnotationPresent(GroupSequence.class)) {
+				return true;
+			}
+		}
+
+		if (descriptor.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()) {
+			return true;
+		}
+
+		for (final PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+			if (property.isCascaded() || property.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Maps the accessor methods of the lazy attributes to the lazy groups they load.
+	 * 
+	 * @return the sorted names of the lazy groups
+	 * 
+	 * @since 2.0.1
+	 */
+	private String[] initLazyMethods() {
+		final TreeSet<String> _lazyGroupNames = Sets.newTreeSet();
+
+		for (final Attribute<? super X, ?> attribute : this.getAttributes()) {
+			if ((attribute instanceof BasicAttribute) && ((BasicAttribute<?, ?>) attribute).isLazy()) {
+				_lazyGroupNames.add(((BasicAttribute<?, ?>) attribute).getLazyGroup());
+			}
+		}
+
+		final String[] _lazyGroupNamesArray = _lazyGroupNames.toArray(new String[_lazyGroupNames.size()]);
+
+		for (final Attribute<? super X, ?> attribute : this.getAttributes()) {
+			if (!(attribute instanceof BasicAttribute) || !((BasicAttribute<?, ?>) attribute).isLazy()) {
+				continue;
+			}
+
+			final int ordinal = Arrays.binarySearch(_lazyGroupNamesArray, ((BasicAttribute<?, ?>) attribute).getLazyGroup());
+			final String name = StringUtils.capitalize(attribute.getName());
+
+			this.lazyMethods.put("get" + name, ordinal);
+			this.lazyMethods.put("is" + name, ordinal);
+			this.lazyMethods.put("set" + name, ordinal);
+		}
+
+		return _lazyGroupNamesArray;
+	}
+
 	/**
 	 * Initializes the custom indexes
 	 * 
@@ -1839,6 +2219,29 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 		}
 	}
 
+	/**
+	 * Loads the lazy attributes of the group for the instance.
+	 * 
+	 * @param connection
+	 *            the connection to use
+	 * @param instance
+	 *            the managed instance
+	 * @param group
+	 *            the ordinal of the lazy group
+	 * @return the ordinals of the loaded mappings in the snapshot of the managed instance
+	 * @throws SQLException
+	 *             thrown in case of an SQL Error
+	 * 
+	 * @since 2.0.1
+	 */
+	public int[] performLazyLoad(Connection connection, ManagedInstance<?> instance, int group) throws SQLException {
+		final LazyAttributeGroup lazyGroup = this.getLazyGroups()[group];
+
+		lazyGroup.load(connection, instance.getInstance());
+
+		return lazyGroup.getOrdinals();
+	}
+
 	/**
 	 * @param connection
 	 *            the connection to use
@@ -1882,7 +2285,28 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 	 * @since 2.0.0
 	 */
 	public X performSelect(EntityManagerImpl entityManager, Object id, LockModeType lockMode) {
-		final QueryImpl<X> q = entityManager.createQuery(this.getCriteriaSelect());
+		return this.performSelect(entityManager, id, lockMode, null, false);
+	}
+
+	/**
+	 * Performs select to find the instance with the fetch graph.
+	 * 
+	 * @param entityManager
+	 *            the entity manager to use
+	 * @param id
+	 *            the id of the instance to select
+	 * @param lockMode
+	 *            the lock mode
+	 * @param graph
+	 *            the fetch graph or <code>null</code> to fetch the eager associations
+	 * @param loadGraph
+	 *            true if the graph is a load graph, false if it is a fetch graph
+	 * @return the instance found or null
+	 * 
+	 * @since 2.0.1
+	 */
+	public X performSelect(EntityManagerImpl entityManager, Object id, LockModeType lockMode, FetchGraph graph, boolean loadGraph) {
+		final QueryImpl<X> q = entityManager.createQuery(graph != null ? this.getCriteriaSelect(graph, loadGraph) : this.getCriteriaSelect());
 
 		q.setLockMode(lockMode);
 
@@ -1917,13 +2341,14 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 
 		final Object instance = managedInstance.getInstance();
 		final Object oldVersion = managedInstance.getOldVersion();
+		final Set<BasicMappingImpl<?, ?>> skippedMappings = managedInstance.getSkippedMappings();
 
 		if (wrapper == null) {
 			synchronized (this) {
 				if (this.updateTables == null) {
 					final List<EntityTable> _updateTables = Lists.newArrayList(this.getTables());
 					for (final Iterator<EntityTable> i = _updateTables.iterator(); i.hasNext();) {
-						if (!i.next().performUpdateWithUpdatability(connection, this, managedInstance.getInstance(), oldVersion)) {
+						if (!i.next().performUpdateWithUpdatability(connection, this, managedInstance.getInstance(), oldVersion, skippedMappings)) {
 							i.remove();
 						}
 					}
@@ -1936,7 +2361,7 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 		}
 		else {
 			for (final EntityTable table : wrapper.value) {
-				table.performUpdate(connection, this, instance, oldVersion);
+				table.performUpdate(connection, this, instance, oldVersion, skippedMappings);
 			}
 		}
 	}
@@ -2056,6 +2481,8 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 
 	/**
 	 * Runs the validators for the instance.
+	 * <p>
+	 * Types without constraints for the validation groups of the instance status are skipped without consulting the validator.
 	 * 
 	 * @param entityManagerFactory
 	 *            the entity manager factory
@@ -2066,25 +2493,29 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 	 * @since 2.0.0
 	 */
 	public Set<ConstraintViolation<Object>> runValidators(EntityManagerFactoryImpl entityManagerFactory, ManagedInstance<?> instance) {
-		final ValidatorFactory factory = entityManagerFactory.getValidationFactory();
-
-		final Validator validator = factory.usingContext().getValidator();
-
-		Class<?>[] groups;
+		final Class<?>[] groups;
+		final int ordinal;
 
 		switch (instance.getStatus()) {
 			case NEW:
 				groups = entityManagerFactory.getPersistValidators();
+				ordinal = EntityTypeImpl.VALIDATION_PERSIST;
 				break;
 			case MANAGED:
 				groups = entityManagerFactory.getUpdateValidators();
+				ordinal = EntityTypeImpl.VALIDATION_UPDATE;
 				break;
 			default:
 				groups = entityManagerFactory.getRemoveValidators();
+				ordinal = EntityTypeImpl.VALIDATION_REMOVE;
 				break;
 		}
 
-		return validator.validate((Object) instance.getInstance(), groups);
+		if (!this.getValidationGroups(entityManagerFactory)[ordinal]) {
+			return Collections.emptySet();
+		}
+
+		return entityManagerFactory.getValidator().validate((Object) instance.getInstance(), groups);
 	}
 
 	/**
@@ -2167,4 +2598,33 @@ public class EntityTypeImpl<X> extends IdentifiableTypeImpl<X> implements Entity
 	public String toString() {
 		return "EntityTypeImpl [name=" + this.name + "]";
 	}
+
+	/**
+	 * Prepares the lazily built structures of the type ahead of the first operations.
+	 * <p>
+	 * Builds the mapping arrays, the insert, update, remove and version SQL statements of the tables and the select by id and refresh
+	 * queries together with their eager join plans.
+	 * 
+	 * @since 2.0.1
+	 */
+	public void warmUp() {
+		this.getAllTables();
+		this.getBasicMappings();
+		this.getMappingsJoined();
+		this.getMappingsPluralSorted();
+		this.getMappingsSingular();
+		this.getAssociationsDetachable();
+		this.getAssociationsJoined();
+		this.getAssociationsNotPersistable();
+		this.getAssociationsPersistable();
+		this.getAssociationsRemovable();
+		this.getAssociationsSingularOwnerLazy();
+
+		for (final EntityTable table : this.getTables()) {
+			table.warmUp(this);
+		}
+
+		this.getCriteriaSelect().getSql();
+		this.getCriteriaRefresh().getSql();
+	}
 }
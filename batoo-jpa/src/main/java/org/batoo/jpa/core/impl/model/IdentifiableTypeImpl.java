@@ -19,6 +19,8 @@
 
 package org.batoo.jpa.core.impl.model;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,6 +32,7 @@ import javax.persistence.metamodel.Type;
 import org.apache.commons.lang.StringUtils;
 import org.batoo.common.reflect.ConstructorAccessor;
 import org.batoo.common.reflect.ReflectHelper;
+import org.batoo.jpa.core.impl.manager.Callback;
 import org.batoo.jpa.core.impl.manager.CallbackAvailability;
 import org.batoo.jpa.core.impl.manager.CallbackManager;
 import org.batoo.jpa.core.impl.model.attribute.AssociatedSingularAttribute;
@@ -47,6 +50,7 @@ import org.batoo.jpa.parser.metadata.attribute.VersionAttributeMetadata;
 import org.batoo.jpa.parser.metadata.type.IdentifiableTypeMetadata;
 import org.batoo.jpa.parser.metadata.type.ManagedTypeMetadata;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -77,6 +81,7 @@ public abstract class IdentifiableTypeImpl<X> extends ManagedTypeImpl<X> impleme
 	private VersionType versionType;
 	private final CallbackManager callbackManager;
 	private CallbackAvailability callbackAvailability;
+	private volatile Callback[][] callbacks;
 
 	/**
 	 * @param metamodel
@@ -252,26 +257,23 @@ public abstract class IdentifiableTypeImpl<X> extends ManagedTypeImpl<X> impleme
 
 	/**
 	 * Fires the callbacks.
+	 * <p>
+	 * The callbacks of the default listeners, the super types and the type are linked into a single chain per listener type on the first
+	 * invocation, so that types without callbacks cost an empty loop.
 	 * 
 	 * @param instance
 	 *            the instance
 	 * @param type
 	 *            the listener type
-	 * @param self
-	 *            if the object belongs to this type
 	 * 
 	 * @since 2.0.0
 	 */
-	public void fireCallbacks(boolean self, Object instance, EntityListenerType type) {
-		if (!this.callbackManager.excludeDefaultListeners() && self) {
-			this.getMetamodel().fireCallbacks(instance, type);
-		}
+	public void fireCallbacks(Object instance, EntityListenerType type) {
+		final Callback[] callbacks = this.getCallbacks(type);
 
-		if ((this.getSupertype() != null) && !this.callbackManager.excludeSuperclassListeners()) {
-			this.getSupertype().fireCallbacks(false, instance, type);
+		for (int i = 0; i < callbacks.length; i++) {
+			callbacks[i].fire(instance);
 		}
-
-		this.callbackManager.fireCallbacks(instance, type);
 	}
 
 	/**
@@ -295,6 +297,22 @@ public abstract class IdentifiableTypeImpl<X> extends ManagedTypeImpl<X> impleme
 		}
 	}
 
+	private Callback[] getCallbacks(EntityListenerType type) {
+		Callback[][] callbacks = this.callbacks;
+
+		if (callbacks == null) {
+			synchronized (this) {
+				if (this.callbacks == null) {
+					this.callbacks = this.linkCallbacks();
+				}
+
+				callbacks = this.callbacks;
+			}
+		}
+
+		return callbacks[type.ordinal()];
+	}
+
 	/**
 	 * Returns the callbackManager.
 	 * 
@@ -496,6 +514,50 @@ public abstract class IdentifiableTypeImpl<X> extends ManagedTypeImpl<X> impleme
 		return this.versionAttribute != null;
 	}
 
+	private Callback[][] linkCallbacks() {
+		final EntityListenerType[] types = EntityListenerType.values();
+		final Callback[][] callbacks = new Callback[types.length][];
+
+		for (final EntityListenerType type : types) {
+			final List<Callback> chain = Lists.newArrayList();
+			this.linkCallbacks(true, type, chain);
+
+			callbacks[type.ordinal()] = chain.toArray(new Callback[chain.size()]);
+		}
+
+		return callbacks;
+	}
+
+	/**
+	 * Links the callbacks of the type into the chain in the order they are fired.
+	 * 
+	 * @param self
+	 *            if the chain belongs to this type
+	 * @param type
+	 *            the listener type
+	 * @param chain
+	 *            the chain to link into
+	 * 
+	 * @since 2.0.1
+	 */
+	protected void linkCallbacks(boolean self, EntityListenerType type, List<Callback> chain) {
+		if (!this.callbackManager.excludeDefaultListeners() && self) {
+			final Callback[] defaultCallbacks = this.getMetamodel().getCallbackManager().getCallbacks(type);
+			if (defaultCallbacks != null) {
+				Collections.addAll(chain, defaultCallbacks);
+			}
+		}
+
+		if ((this.getSupertype() != null) && !this.callbackManager.excludeSuperclassListeners()) {
+			this.getSupertype().linkCallbacks(false, type, chain);
+		}
+
+		final Callback[] callbacks = this.callbackManager.getCallbacks(type);
+		if (callbacks != null) {
+			Collections.addAll(chain, callbacks);
+		}
+	}
+
 	/**
 	 * Returns a generated idClass instance based on the id class.
 	 * 
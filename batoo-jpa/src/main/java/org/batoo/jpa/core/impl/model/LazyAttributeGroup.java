@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.impl.model;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.batoo.jpa.core.impl.model.mapping.AbstractMapping;
+import org.batoo.jpa.core.impl.model.mapping.BasicMappingImpl;
+import org.batoo.jpa.jdbc.AbstractColumn;
+import org.batoo.jpa.jdbc.BasicColumn;
+import org.batoo.jpa.jdbc.EntityTable;
+import org.batoo.jpa.parser.metadata.ColumnTransformerMetadata;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * The group of lazy basic attributes of an entity that are loaded together.
+ * <p>
+ * The group keeps its own select statements, as the entities sharing a table may have different lazy columns under the same group name.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+class LazyAttributeGroup {
+
+	private final int[] ordinals;
+	private final EntityTable[] tables;
+	private final AbstractColumn[][] columns;
+	private final String[] selectSqls;
+
+	/**
+	 * @param name
+	 *            the name of the group
+	 * @param mappings
+	 *            the singular mappings of the entity
+	 * 
+	 * @since 2.0.1
+	 */
+	LazyAttributeGroup(String name, AbstractMapping<?, ?, ?>[] mappings) {
+		super();
+
+		final List<Integer> _ordinals = Lists.newArrayList();
+		final Map<EntityTable, List<BasicColumn>> _columns = Maps.newLinkedHashMap();
+		final Map<BasicColumn, String> _selections = Maps.newHashMap();
+
+		for (int i = 0; i < mappings.length; i++) {
+			if (!(mappings[i] instanceof BasicMappingImpl)) {
+				continue;
+			}
+
+			final BasicMappingImpl<?, ?> mapping = (BasicMappingImpl<?, ?>) mappings[i];
+			if (!name.equals(mapping.getAttribute().getLazyGroup())) {
+				continue;
+			}
+
+			_ordinals.add(i);
+
+			final BasicColumn column = mapping.getColumn();
+			final EntityTable table = (EntityTable) column.getTable();
+
+			List<BasicColumn> tableColumns = _columns.get(table);
+			if (tableColumns == null) {
+				tableColumns = Lists.newArrayList();
+				_columns.put(table, tableColumns);
+			}
+
+			tableColumns.add(column);
+
+			final ColumnTransformerMetadata columnTransformer = mapping.getAttribute().getColumnTransformer();
+			if ((columnTransformer != null) && !Strings.isNullOrEmpty(columnTransformer.getRead())) {
+				_selections.put(column, columnTransformer.getRead());
+			}
+			else {
+				_selections.put(column, column.getName());
+			}
+		}
+
+		this.ordinals = new int[_ordinals.size()];
+		for (int i = 0; i < this.ordinals.length; i++) {
+			this.ordinals[i] = _ordinals.get(i);
+		}
+
+		this.tables = new EntityTable[_columns.size()];
+		this.columns = new AbstractColumn[_columns.size()][];
+		this.selectSqls = new String[_columns.size()];
+
+		int i = 0;
+		for (final Entry<EntityTable, List<BasicColumn>> entry : _columns.entrySet()) {
+			final List<BasicColumn> tableColumns = entry.getValue();
+
+			this.tables[i] = entry.getKey();
+			this.columns[i] = tableColumns.toArray(new AbstractColumn[tableColumns.size()]);
+
+			final String[] selections = new String[tableColumns.size()];
+			for (int j = 0; j < tableColumns.size(); j++) {
+				selections[j] = _selections.get(tableColumns.get(j));
+			}
+
+			this.selectSqls[i] = this.tables[i].getLazySelectSql(selections);
+
+			i++;
+		}
+	}
+
+	/**
+	 * Returns the ordinals of the mappings of the group in the snapshots of the managed instances.
+	 * 
+	 * @return the ordinals of the mappings of the group
+	 * 
+	 * @since 2.0.1
+	 */
+	int[] getOrdinals() {
+		return this.ordinals;
+	}
+
+	/**
+	 * Loads the attributes of the group with a single select per table.
+	 * 
+	 * @param connection
+	 *            the connection to use
+	 * @param instance
+	 *            the instance to load the attributes of
+	 * @throws SQLException
+	 *             thrown in case of an SQL Error
+	 * 
+	 * @since 2.0.1
+	 */
+	void load(Connection connection, Object instance) throws SQLException {
+		for (int i = 0; i < this.tables.length; i++) {
+			this.tables[i].performLazySelect(connection, instance, this.selectSqls[i], this.columns[i]);
+		}
+	}
+}
@@ -28,12 +28,15 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.persistence.Embeddable;
 import javax.persistence.Entity;
@@ -48,9 +51,12 @@ import javax.persistence.metamodel.Metamodel;
 import javax.persistence.metamodel.StaticMetamodel;
 import javax.sql.DataSource;
 
+import org.apache.commons.lang.StringUtils;
 import org.batoo.common.BatooException;
 import org.batoo.common.log.BLogger;
 import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.BJPASettings;
+import org.batoo.jpa.annotations.IdOptimizerType;
 import org.batoo.jpa.core.impl.manager.CallbackAvailability;
 import org.batoo.jpa.core.impl.manager.CallbackManager;
 import org.batoo.jpa.core.impl.manager.EntityManagerFactoryImpl;
@@ -68,9 +74,10 @@ import org.batoo.jpa.jdbc.generator.SequenceGenerator;
 import org.batoo.jpa.jdbc.generator.SequenceQueue;
 import org.batoo.jpa.jdbc.generator.TableGenerator;
 import org.batoo.jpa.jdbc.generator.TableIdQueue;
+import org.batoo.jpa.jdbc.generator.TimeOrderedIdGenerator;
 import org.batoo.jpa.parser.MappingException;
 import org.batoo.jpa.parser.impl.metadata.MetadataImpl;
-import org.batoo.jpa.parser.metadata.EntityListenerMetadata.EntityListenerType;
+import org.batoo.jpa.parser.metadata.GeneratorMetadata;
 import org.batoo.jpa.parser.metadata.NamedNativeQueryMetadata;
 import org.batoo.jpa.parser.metadata.NamedQueryMetadata;
 import org.batoo.jpa.parser.metadata.SequenceGeneratorMetadata;
@@ -136,6 +143,8 @@ public class MetamodelImpl implements Metamodel {
 	private final Map<String, SequenceQueue> sequenceQueues = Maps.newHashMap();
 
 	private final Map<String, TableIdQueue> tableIdQueues = Maps.newHashMap();
+
+	private final TimeOrderedIdGenerator timeOrderedIdGenerator;
 	private ThreadPoolExecutor idGeneratorExecuter;
 
 	/**
@@ -154,6 +163,7 @@ public class MetamodelImpl implements Metamodel {
 
 		this.emf = entityManagerFactory;
 		this.jdbcAdaptor = jdbcAdaptor;
+		this.timeOrderedIdGenerator = new TimeOrderedIdGenerator(entityManagerFactory.getNodeId());
 
 		final List<ManagedTypeMetadata> entities = Lists.newArrayList(metadata.getEntityMappings());
 		final List<ManagedTypeMetadata> sortedEntities = Lists.newArrayList();
@@ -205,6 +215,10 @@ public class MetamodelImpl implements Metamodel {
 		}
 		catch (final Exception e) {} // not possible at this stage
 
+		if (entityManagerFactory.isParallelEnhancement()) {
+			this.warmUpEnhancer(sortedEntities);
+		}
+
 		for (final ManagedTypeMetadata type : sortedEntities) {
 			try {
 				final Class<?> clazz = this.emf.getClassloader().loadClass(type.getClassName());
@@ -304,7 +318,7 @@ public class MetamodelImpl implements Metamodel {
 	 * @since 2.0.0
 	 */
 	public synchronized void addSequenceGenerator(SequenceGeneratorMetadata metadata) {
-		final SequenceGenerator sequenceGenerator = new SequenceGenerator(metadata);
+		final SequenceGenerator sequenceGenerator = new SequenceGenerator(metadata, this.getOptimizer(metadata));
 		this.sequenceGenerators.put(sequenceGenerator.getName(), sequenceGenerator);
 	}
 
@@ -344,7 +358,7 @@ public class MetamodelImpl implements Metamodel {
 	 * @since 2.0.0
 	 */
 	public synchronized void addTableGenerator(TableGeneratorMetadata metadata) {
-		final TableGenerator tableGenerator = new TableGenerator(metadata);
+		final TableGenerator tableGenerator = new TableGenerator(metadata, this.getOptimizer(metadata));
 		this.tableGenerators.put(tableGenerator.getName(), tableGenerator);
 	}
 
@@ -460,20 +474,6 @@ public class MetamodelImpl implements Metamodel {
 		return (EntityTypeImpl<X>) this.entitiesByName.get(name);
 	}
 
-	/**
-	 * Fires the callbacks.
-	 * 
-	 * @param instance
-	 *            the instance
-	 * @param type
-	 *            the type
-	 * 
-	 * @since 2.0.0
-	 */
-	public void fireCallbacks(Object instance, EntityListenerType type) {
-		this.callbackManager.fireCallbacks(instance, type);
-	}
-
 	private Set<AbstractTable> getAllTables() {
 		final Set<AbstractTable> tableSet = Sets.newHashSet();
 
@@ -665,6 +665,9 @@ public class MetamodelImpl implements Metamodel {
 		catch (final InterruptedException e) {
 			throw new PersistenceException("Unable to retrieve next sequence " + generator + " in allowed " + MetamodelImpl.POLL_TIMEOUT + " seconds");
 		}
+		catch (final TimeoutException e) {
+			throw new PersistenceException("Unable to retrieve next sequence " + generator + " in allowed " + MetamodelImpl.POLL_TIMEOUT + " seconds");
+		}
 	}
 
 	/**
@@ -683,6 +686,59 @@ public class MetamodelImpl implements Metamodel {
 		catch (final InterruptedException e) {
 			throw new PersistenceException("Unable to retrieve next sequence " + generator + " in allowed " + MetamodelImpl.POLL_TIMEOUT + " seconds");
 		}
+		catch (final TimeoutException e) {
+			throw new PersistenceException("Unable to retrieve next sequence " + generator + " in allowed " + MetamodelImpl.POLL_TIMEOUT + " seconds");
+		}
+	}
+
+	/**
+	 * Returns the next time-ordered 64-bit id.
+	 * 
+	 * @return the next time-ordered 64-bit id
+	 * 
+	 * @since 2.0.1
+	 */
+	public long getNextTimeOrderedId() {
+		return this.timeOrderedIdGenerator.nextLong();
+	}
+
+	/**
+	 * Returns the next time-ordered UUID.
+	 * 
+	 * @return the next time-ordered UUID
+	 * 
+	 * @since 2.0.1
+	 */
+	public UUID getNextTimeOrderedUuid() {
+		return this.timeOrderedIdGenerator.nextUuid();
+	}
+
+	/**
+	 * Returns the optimizer set for the generator with the {@link BJPASettings#ID_OPTIMIZER} property.
+	 * 
+	 * @param metadata
+	 *            the generator metadata
+	 * @return the optimizer or <code>null</code> if not set
+	 * 
+	 * @since 2.0.1
+	 */
+	private IdOptimizerType getOptimizer(GeneratorMetadata metadata) {
+		if (metadata == null) {
+			return null;
+		}
+
+		final String optimizer = (String) this.emf.getProperty(BJPASettings.ID_OPTIMIZER + "." + metadata.getName());
+		if (StringUtils.isBlank(optimizer)) {
+			return null;
+		}
+
+		// accepts both pooled-lo and POOLED_LO forms
+		try {
+			return IdOptimizerType.valueOf(optimizer.trim().replace('-', '_').toUpperCase(Locale.ENGLISH));
+		}
+		catch (final IllegalArgumentException e) {
+			throw new MappingException("Invalid optimizer " + optimizer + " for the generator " + metadata.getName(), metadata.getLocator());
+		}
 	}
 
 	/**
@@ -882,6 +938,26 @@ public class MetamodelImpl implements Metamodel {
 		}
 	}
 
+	/**
+	 * Reads the metadata of the existing tables with a single sweep per schema prior to the DDL operations.
+	 * 
+	 * @param datasource
+	 *            the datasource
+	 * @param ddlMode
+	 *            the DDL Mode
+	 * 
+	 * @since 2.0.1
+	 */
+	public void performSchemaRead(DataSource datasource, DDLMode ddlMode) {
+		if ((ddlMode == DDLMode.NONE)) {
+			return;
+		}
+
+		MetamodelImpl.LOG.info("Reading the schema metadata, mode {0}", ddlMode);
+
+		this.jdbcAdaptor.readSchemaMetadata(datasource, this.getAllTables());
+	}
+
 	/**
 	 * Performs the sequence generators DDL operations.
 	 * 
@@ -994,12 +1070,17 @@ public class MetamodelImpl implements Metamodel {
 			new GeneratorThreadFactory());
 
 		for (final SequenceGenerator generator : this.sequenceGenerators.values()) {
-			this.sequenceQueues.put(generator.getName(), new SequenceQueue(this.jdbcAdaptor, datasource, this.idGeneratorExecuter, generator.getSequenceName(),
-				generator.getAllocationSize()));
+			final SequenceQueue queue = new SequenceQueue(this.jdbcAdaptor, datasource, this.idGeneratorExecuter, generator);
+			this.sequenceQueues.put(generator.getName(), queue);
+
+			queue.prefill();
 		}
 
 		for (final TableGenerator generator : this.tableGenerators.values()) {
-			this.tableIdQueues.put(generator.getName(), new TableIdQueue(this.jdbcAdaptor, datasource, this.idGeneratorExecuter, generator));
+			final TableIdQueue queue = new TableIdQueue(this.jdbcAdaptor, datasource, this.idGeneratorExecuter, generator);
+			this.tableIdQueues.put(generator.getName(), queue);
+
+			queue.prefill();
 		}
 	}
 
@@ -1049,4 +1130,19 @@ public class MetamodelImpl implements Metamodel {
 	public CallbackAvailability updateAvailability(CallbackAvailability availability) {
 		return availability.updateAvailability(this.callbackManager);
 	}
+
+	private void warmUpEnhancer(List<ManagedTypeMetadata> types) {
+		final List<Class<?>> classes = Lists.newArrayList();
+
+		for (final ManagedTypeMetadata type : types) {
+			if (type instanceof EntityMetadata) {
+				try {
+					classes.add(this.emf.getClassloader().loadClass(type.getClassName()));
+				}
+				catch (final ClassNotFoundException e) {} // not possible at this time
+			}
+		}
+
+		this.emf.getEnhancedClassCache().warmUp(classes);
+	}
 }
@@ -25,6 +25,7 @@ import java.util.Calendar;
 import java.util.Date;
 
 import javax.persistence.EnumType;
+import javax.persistence.FetchType;
 import javax.persistence.PersistenceException;
 import javax.persistence.TemporalType;
 import javax.persistence.metamodel.SingularAttribute;
@@ -41,6 +42,7 @@ import org.batoo.jpa.jdbc.AbstractGenerator;
 import org.batoo.jpa.jdbc.IdType;
 import org.batoo.jpa.jdbc.TypeFactory;
 import org.batoo.jpa.jdbc.adapter.JdbcAdaptor;
+import org.batoo.jpa.parser.MappingException;
 import org.batoo.jpa.parser.metadata.ColumnTransformerMetadata;
 import org.batoo.jpa.parser.metadata.GeneratedValueMetadata;
 import org.batoo.jpa.parser.metadata.IndexMetadata;
@@ -72,6 +74,7 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 	private final EnumType enumType;
 	private final IndexMetadata index;
 	private final ColumnTransformerMetadata columnTransformer;
+	private final String lazyGroup;
 
 	/**
 	 * Constructor for version attributes.
@@ -94,6 +97,7 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 		this.enumType = null;
 		this.index = null;
 		this.columnTransformer = null;
+		this.lazyGroup = null;
 
 		this.type = this.getDeclaringType().getMetamodel().createBasicType(this.getJavaType());
 
@@ -136,6 +140,14 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 		this.index = metadata.getIndex();
 		this.columnTransformer = metadata.getColumnTransformer();
 
+		// lazy basic attributes are only supported on entities, where the enhanced instances load them on first access
+		if ((metadata.getFetchType() == FetchType.LAZY) && (declaringType instanceof IdentifiableTypeImpl)) {
+			this.lazyGroup = metadata.getLazyGroup() != null ? metadata.getLazyGroup() : "";
+		}
+		else {
+			this.lazyGroup = null;
+		}
+
 		if (Date.class.isAssignableFrom(this.getJavaType()) || Calendar.class.isAssignableFrom(this.getJavaType())) {
 			if (metadata.getTemporalType() == null) {
 				this.temporalType = TemporalType.TIMESTAMP;
@@ -182,6 +194,7 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 		this.enumType = null;
 		this.index = null;
 		this.columnTransformer = null;
+		this.lazyGroup = null;
 
 		this.type = this.getDeclaringType().getMetamodel().createBasicType(this.getJavaType());
 		this.temporalType = metadata.getTemporalType();
@@ -190,7 +203,16 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 		final MetamodelImpl metamodel = declaringType.getMetamodel();
 
 		final GeneratedValueMetadata generatedValue = metadata.getGeneratedValue();
-		if (generatedValue != null) {
+		if (metadata.isTimeOrdered()) {
+			final Class<T> javaType = this.getJavaType();
+			if ((javaType != Long.class) && (javaType != Long.TYPE) && (javaType != String.class)) {
+				throw new MappingException("Time-ordered ids must be of type long or String: " + javaType.getName(), metadata.getLocator());
+			}
+
+			this.generator = null;
+			this.idType = IdType.TIME_ORDERED;
+		}
+		else if (generatedValue != null) {
 			this.idType = jdbcAdaptor.supports(generatedValue.getStrategy());
 
 			// if generator is not specified then assign the default name
@@ -295,6 +317,15 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 				id = this.getMetamodel().getNextTableValue(this.generator);
 				this.set(instance, ReflectHelper.convertNumber(id, this.getJavaType()));
 				break;
+			case TIME_ORDERED:
+				// fill in-process, no database access required
+				if (this.getJavaType() == String.class) {
+					this.set(instance, (T) this.getMetamodel().getNextTimeOrderedUuid().toString());
+				}
+				else {
+					this.set(instance, (T) Long.valueOf(this.getMetamodel().getNextTimeOrderedId()));
+				}
+				break;
 			case MANUAL:
 				// not possible, manual already handled
 				break;
@@ -314,6 +345,17 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 		return this.columnTransformer;
 	}
 
+	/**
+	 * Returns the name of the lazy group the attribute is loaded with.
+	 * 
+	 * @return the name of the lazy group, empty string for the default group or <code>null</code> if the attribute is eager
+	 * 
+	 * @since 2.0.1
+	 */
+	public String getLazyGroup() {
+		return this.lazyGroup;
+	}
+
 	/**
 	 * Returns the enum type of the attribute.
 	 * 
@@ -386,7 +428,7 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 	}
 
 	private boolean inferLobType(boolean lob) {
-		if (lob) {
+		if (lob || TypeFactory.isStreamingLob(this.getJavaType())) {
 			return true;
 		}
 
@@ -422,6 +464,17 @@ public class BasicAttribute<X, T> extends SingularAttributeImpl<X, T> {
 		return this.idType != null;
 	}
 
+	/**
+	 * Returns if the attribute is lazy.
+	 * 
+	 * @return true if the attribute is lazy, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean isLazy() {
+		return this.lazyGroup != null;
+	}
+
 	/**
 	 * Returns if the attribute is lob.
 	 * 
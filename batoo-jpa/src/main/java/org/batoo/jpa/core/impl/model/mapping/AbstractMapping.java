@@ -54,6 +54,7 @@ public abstract class AbstractMapping<Z, X, Y> implements Mapping<Z, X, Y> {
 	private final boolean inherited;
 	private final EntityTypeImpl<?> entity;
 	private final AttributeImpl<? super Z, X> attribute;
+	private volatile int joinOrdinal = -1;
 
 	/**
 	 * @param parent
@@ -148,6 +149,17 @@ public abstract class AbstractMapping<Z, X, Y> implements Mapping<Z, X, Y> {
 		return this.javaType;
 	}
 
+	/**
+	 * Returns the join ordinal of the mapping within its entity.
+	 * 
+	 * @return the join ordinal of the mapping or <code>-1</code> if not resolved
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getJoinOrdinal() {
+		return this.joinOrdinal;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -214,6 +226,18 @@ public abstract class AbstractMapping<Z, X, Y> implements Mapping<Z, X, Y> {
 		return this.attribute.isCollection();
 	}
 
+	/**
+	 * Sets the join ordinal of the mapping within its entity.
+	 * 
+	 * @param joinOrdinal
+	 *            the join ordinal
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setJoinOrdinal(int joinOrdinal) {
+		this.joinOrdinal = joinOrdinal;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
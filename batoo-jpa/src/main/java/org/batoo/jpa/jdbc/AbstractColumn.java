@@ -18,7 +18,6 @@
  */
 package org.batoo.jpa.jdbc;
 
-import java.lang.reflect.Method;
 import java.sql.Connection;
 
 import javax.persistence.EnumType;
@@ -36,15 +35,13 @@ import org.batoo.jpa.parser.MappingException;
  */
 public abstract class AbstractColumn implements Column {
 
-	private final Class<?> javaType;
 	private IdType idType;
-	private final TemporalType temporalType;
-	private final EnumType enumType;
 	private final boolean lob;
+	private final boolean streamingLob;
 	private final AbstractLocator locator;
 
-	private final Enum<?>[] values;
-	private final Method method;
+	private final ValueConverter converter;
+	private ParameterBinder binder;
 
 	/**
 	 * @param locator
@@ -57,14 +54,11 @@ public abstract class AbstractColumn implements Column {
 	public AbstractColumn(AbstractLocator locator, boolean id) {
 		super();
 
-		this.javaType = null;
 		this.idType = id ? IdType.MANUAL : null;
 		this.locator = locator;
-		this.temporalType = null;
-		this.enumType = null;
 		this.lob = false;
-		this.values = null;
-		this.method = null;
+		this.streamingLob = false;
+		this.converter = ValueConverter.create(null, null, null, false);
 	}
 
 	/**
@@ -83,38 +77,19 @@ public abstract class AbstractColumn implements Column {
 	 * 
 	 * @since 2.0.0
 	 */
-	@SuppressWarnings("unchecked")
 	public AbstractColumn(Class<?> javaType, IdType idType, TemporalType temporalType, EnumType enumType, boolean lob, AbstractLocator locator) {
 		super();
 
-		this.javaType = javaType;
-
 		this.idType = idType;
-		this.temporalType = temporalType;
-		this.enumType = enumType;
 		this.lob = lob;
+		this.streamingLob = lob && (javaType != null) && TypeFactory.isStreamingLob(javaType);
 		this.locator = locator;
 
-		if (this.enumType != null) {
-			Class<Enum<?>> enumJavaType;
-			enumJavaType = (Class<Enum<?>>) javaType;
-			try {
-				if (this.enumType == EnumType.ORDINAL) {
-					this.values = (Enum<?>[]) enumJavaType.getMethod("values").invoke(null);
-					this.method = null;
-				}
-				else {
-					this.values = null;
-					this.method = enumJavaType.getMethod("valueOf", String.class);
-				}
-			}
-			catch (final Exception e) {
-				throw new MappingException("Unable to map enum type", this.locator);
-			}
+		try {
+			this.converter = ValueConverter.create(javaType, temporalType, enumType, lob);
 		}
-		else {
-			this.values = null;
-			this.method = null;
+		catch (final IllegalArgumentException e) {
+			throw new MappingException("Unable to map enum type", this.locator);
 		}
 	}
 
@@ -124,7 +99,23 @@ public abstract class AbstractColumn implements Column {
 	 */
 	@Override
 	public Object convertValue(Connection connection, final Object value) {
-		return ValueConverter.toJdbc(value, this.javaType, this.temporalType, this.enumType, this.lob);
+		return this.converter.toJdbc(value);
+	}
+
+	/**
+	 * Returns the binder for the values of the column.
+	 * 
+	 * @return the binder for the values of the column
+	 * 
+	 * @since 2.0.1
+	 */
+	public ParameterBinder getBinder() {
+		// binders are immutable, racing threads resolve the same binder
+		if (this.binder == null) {
+			this.binder = ParameterBinder.forSqlType(this.getSqlType());
+		}
+
+		return this.binder;
 	}
 
 	/**
@@ -137,7 +128,7 @@ public abstract class AbstractColumn implements Column {
 	 * @since 2.0.0
 	 */
 	public Object convertValueForSet(Object value) {
-		return ValueConverter.fromJdbc(value, this.javaType, this.temporalType, this.enumType, this.values, this.method, this.lob);
+		return this.converter.fromJdbc(value);
 	}
 
 	/**
@@ -260,6 +251,17 @@ public abstract class AbstractColumn implements Column {
 		return this.idType != null;
 	}
 
+	/**
+	 * Returns if the column is a lob that is streamed to and from the database.
+	 * 
+	 * @return true if the column is a streaming lob, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean isStreamingLob() {
+		return this.streamingLob;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -19,6 +19,7 @@
 package org.batoo.jpa.jdbc;
 
 import org.apache.commons.lang.StringUtils;
+import org.batoo.jpa.annotations.IdOptimizerType;
 import org.batoo.jpa.parser.AbstractLocator;
 import org.batoo.jpa.parser.metadata.GeneratorMetadata;
 
@@ -41,14 +42,17 @@ public abstract class AbstractGenerator {
 	private final String name;
 	private final int initialValue;
 	private final int allocationSize;
+	private final IdOptimizerType optimizer;
 
 	/**
 	 * @param metadata
 	 *            the metadata
+	 * @param optimizer
+	 *            the optimizer overriding the one of the metadata or <code>null</code>
 	 * 
 	 * @since 2.0.0
 	 */
-	public AbstractGenerator(GeneratorMetadata metadata) {
+	public AbstractGenerator(GeneratorMetadata metadata, IdOptimizerType optimizer) {
 		super();
 
 		this.locator = metadata != null ? metadata.getLocator() : null;
@@ -57,6 +61,12 @@ public abstract class AbstractGenerator {
 		this.schema = (metadata != null) && StringUtils.isNotBlank(metadata.getSchema()) ? metadata.getSchema() : null;
 		this.initialValue = metadata != null ? metadata.getInitialValue() : 1;
 		this.allocationSize = metadata != null ? metadata.getAllocationSize() : 50;
+		if (optimizer != null) {
+			this.optimizer = optimizer;
+		}
+		else {
+			this.optimizer = (metadata != null) && (metadata.getOptimizer() != null) ? metadata.getOptimizer() : IdOptimizerType.POOLED_LO;
+		}
 	}
 
 	/**
@@ -81,6 +91,17 @@ public abstract class AbstractGenerator {
 		return this.catalog;
 	}
 
+	/**
+	 * Returns the amount the database value of the generator increments by on each block fetched.
+	 * 
+	 * @return the increment size of the generator
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getIncrementSize() {
+		return this.optimizer == IdOptimizerType.HILO ? 1 : this.allocationSize;
+	}
+
 	/**
 	 * Returns the initialValue of the generator.
 	 * 
@@ -114,6 +135,17 @@ public abstract class AbstractGenerator {
 		return this.name;
 	}
 
+	/**
+	 * Returns the optimizer type of the generator.
+	 * 
+	 * @return the optimizer type of the generator
+	 * 
+	 * @since 2.0.1
+	 */
+	public IdOptimizerType getOptimizer() {
+		return this.optimizer;
+	}
+
 	/**
 	 * Returns the qualified name of the table or sequence.
 	 * 
@@ -20,10 +20,10 @@ package org.batoo.jpa.jdbc;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.batoo.common.util.FinalWrapper;
@@ -60,17 +60,15 @@ public abstract class AbstractTable {
 	private final List<ForeignKey> foreignKeys = Lists.newArrayList();
 	private BasicColumn versionColumn;
 
-	private final HashMap<String, String> insertSqlMap = Maps.newHashMap();
-	private final HashMap<EntityTypeDescriptor, String> updateSqlMap = Maps.newHashMap();
-	private String updateSql;
+	private final ConcurrentMap<EntityTypeDescriptor, SqlTemplateArray> insertTemplates = Maps.newConcurrentMap();
+	private final SqlTemplateArray genericInsertTemplates = new SqlTemplateArray();
+	private final ConcurrentMap<EntityTypeDescriptor, SqlTemplate> updateTemplates = Maps.newConcurrentMap();
+	private volatile SqlTemplate genericUpdateTemplate;
 	private FinalWrapper<String> versionUpdateSql;
 	private FinalWrapper<String> versionSelectSql;
 	private FinalWrapper<AbstractColumn[]> columns;
 
-	private AbstractColumn[] updateColumns;
 	private AbstractColumn[] selectVersionColumns;
-	private final Map<String, AbstractColumn[]> insertColumnsMap = Maps.newHashMap();
-	private final Map<EntityTypeDescriptor, AbstractColumn[]> updateColumnsMap = Maps.newHashMap();
 
 	private FinalWrapper<String> restrictionSql;
 	private AbstractColumn[] restrictionColumns;
@@ -172,18 +170,14 @@ public abstract class AbstractTable {
 	 * 
 	 * @param type
 	 *            the type to generate the insert statement for
-	 * @param pkColumns
-	 *            the primary key columns
+	 * @param size
+	 *            the batch size
+	 * @return the insert template
 	 * 
 	 * @since 2.0.0
 	 */
-	private synchronized void generateInsertSql(final EntityTypeDescriptor type, int size) {
-		final String sqlKey = type != null ? type.getName() + size : "" + size;
-
-		String sql = this.insertSqlMap.get(sqlKey);
-		if (sql != null) { // other thread finished the job for us
-			return;
-		}
+	private SqlTemplate generateInsertSql(final EntityTypeDescriptor type, int size) {
+		String sql;
 
 		final List<AbstractColumn> insertColumns = Lists.newArrayList();
 
@@ -245,8 +239,7 @@ public abstract class AbstractTable {
 				+ "\nVALUES\n" + parametersStr;
 		}
 
-		this.insertSqlMap.put(sqlKey, sql);
-		this.insertColumnsMap.put(sqlKey, insertColumns.toArray(new AbstractColumn[insertColumns.size()]));
+		return new SqlTemplate(sql, insertColumns.toArray(new AbstractColumn[insertColumns.size()]));
 	}
 
 	/**
@@ -254,16 +247,13 @@ public abstract class AbstractTable {
 	 * 
 	 * @param type
 	 *            the type to generate the update statement for
+	 * @param pkColumns
+	 *            the primary key columns
+	 * @return the update template
 	 * 
 	 * @since 2.0.0
-	 * @param pkColumns
 	 */
-	private synchronized void generateUpdateSql(final EntityTypeDescriptor type, Map<String, AbstractColumn> pkColumns) {
-		String sql = this.updateSqlMap.get(type);
-		if (sql != null) { // other thread finished the job for us
-			return;
-		}
-
+	private SqlTemplate generateUpdateSql(final EntityTypeDescriptor type, Map<String, AbstractColumn> pkColumns) {
 		final List<AbstractColumn> updateColumns = Lists.newArrayList();
 		// Filter out the identity physicalColumns
 		final Collection<AbstractColumn> filteredColumns = type == null ? this.columnMap.values() : Collections2.filter(this.columnMap.values(),
@@ -295,18 +285,11 @@ public abstract class AbstractTable {
 		// UPDATE SCHEMA.TABLE SET
 		// (COL [, COL]*)
 		// WHERE ID = ? [, ID = ?]*)
-		sql = "UPDATE " + this.getQName() + " SET"//
+		final String sql = "UPDATE " + this.getQName() + " SET"//
 			+ "\n" + columnNamesStr //
 			+ "\nWHERE " + this.getRestrictionSql(pkColumns);
 
-		if (type != null) {
-			this.updateSqlMap.put(type, sql);
-			this.updateColumnsMap.put(type, updateColumns.toArray(new AbstractColumn[updateColumns.size()]));
-		}
-		else {
-			this.updateSql = sql;
-			this.updateColumns = updateColumns.toArray(new AbstractColumn[updateColumns.size()]);
-		}
+		return new SqlTemplate(sql, updateColumns.toArray(new AbstractColumn[updateColumns.size()]));
 	}
 
 	/**
@@ -394,7 +377,7 @@ public abstract class AbstractTable {
 	 * @since 2.0.0
 	 */
 	protected AbstractColumn[] getInsertColumns(final EntityTypeDescriptor entity, int size) {
-		return this.insertColumnsMap.get(entity != null ? entity.getName() + size : "" + size);
+		return this.getInsertTemplate(entity, size).getColumns();
 	}
 
 	/**
@@ -409,16 +392,27 @@ public abstract class AbstractTable {
 	 * @since 2.0.0
 	 */
 	protected String getInsertSql(EntityTypeDescriptor entity, int size) {
-		final String sqlKey = entity != null ? entity.getName() + size : "" + size;
+		return this.getInsertTemplate(entity, size).getSql();
+	}
 
-		final String sql = this.insertSqlMap.get(sqlKey);
-		if (sql != null) { // other thread finished the job for us
-			return sql;
+	private SqlTemplate getInsertTemplate(EntityTypeDescriptor entity, int size) {
+		SqlTemplateArray templates = entity != null ? this.insertTemplates.get(entity) : this.genericInsertTemplates;
+		if (templates == null) {
+			final SqlTemplateArray newTemplates = new SqlTemplateArray();
+
+			templates = this.insertTemplates.putIfAbsent(entity, newTemplates);
+			if (templates == null) {
+				templates = newTemplates;
+			}
 		}
 
-		this.generateInsertSql(entity, size);
+		final SqlTemplate template = templates.get(size);
+		if (template != null) {
+			return template;
+		}
 
-		return this.insertSqlMap.get(sqlKey);
+		// generation is idempotent, if other thread wins the race its template is used
+		return templates.put(size, this.generateInsertSql(entity, size));
 	}
 
 	/**
@@ -516,7 +510,7 @@ public abstract class AbstractTable {
 			}
 		}
 
-		return this.restrictionSql.value;
+		return wrapper.value;
 	}
 
 	/**
@@ -618,11 +612,9 @@ public abstract class AbstractTable {
 	 * @since 2.0.0
 	 */
 	protected AbstractColumn[] getUpdateColumns(final EntityTypeDescriptor entity) {
-		if (entity == null) {
-			return this.updateColumns;
-		}
+		final SqlTemplate template = entity != null ? this.updateTemplates.get(entity) : this.genericUpdateTemplate;
 
-		return this.updateColumnsMap.get(entity);
+		return template != null ? template.getColumns() : null;
 	}
 
 	/**
@@ -638,21 +630,26 @@ public abstract class AbstractTable {
 	 */
 	protected String getUpdateSql(EntityTypeDescriptor entity, Map<String, AbstractColumn> pkColumns) {
 		if (entity == null) {
-			if (this.updateSql == null) {
-				this.generateUpdateSql(null, pkColumns);
+			SqlTemplate template = this.genericUpdateTemplate;
+			if (template == null) {
+				this.genericUpdateTemplate = template = this.generateUpdateSql(null, pkColumns);
 			}
 
-			return this.updateSql;
+			return template.getSql();
 		}
 
-		String sql = this.updateSqlMap.get(entity);
-		if (sql == null) {
-			this.generateUpdateSql(entity, pkColumns);
+		SqlTemplate template = this.updateTemplates.get(entity);
+		if (template == null) {
+			final SqlTemplate newTemplate = this.generateUpdateSql(entity, pkColumns);
 
-			sql = this.updateSqlMap.get(entity);
+			// generation is idempotent, if other thread wins the race its template is used
+			template = this.updateTemplates.putIfAbsent(entity, newTemplate);
+			if (template == null) {
+				template = newTemplate;
+			}
 		}
 
-		return sql;
+		return template.getSql();
 	}
 
 	/**
@@ -741,6 +738,34 @@ public abstract class AbstractTable {
 		return parent.isAssignableFrom(javaType);
 	}
 
+	/**
+	 * Generates the insert, update, restriction and version SQL statements ahead of their first use.
+	 * 
+	 * @param entity
+	 *            the entity to generate the statements for
+	 * @param pkColumns
+	 *            the primary key columns
+	 * @param insertBatchSize
+	 *            the insert batch size
+	 * 
+	 * @since 2.0.1
+	 */
+	protected void prepareSql(EntityTypeDescriptor entity, Map<String, AbstractColumn> pkColumns, int insertBatchSize) {
+		this.getRestrictionSql(pkColumns);
+
+		this.getInsertSql(entity, 1);
+		if (insertBatchSize > 1) {
+			this.getInsertSql(entity, insertBatchSize);
+		}
+
+		this.getUpdateSql(entity, pkColumns);
+
+		if (this.versionColumn != null) {
+			this.getVersionUpdateSql(pkColumns);
+			this.getSelectVersionSql(pkColumns);
+		}
+	}
+
 	/**
 	 * Updates the name of the table.
 	 * 
@@ -19,23 +19,30 @@
 package org.batoo.jpa.jdbc;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 
+import org.apache.commons.dbutils.ResultSetHandler;
 import org.apache.commons.lang.StringUtils;
 import org.batoo.common.util.FinalWrapper;
 import org.batoo.jpa.jdbc.adapter.JdbcAdaptor;
 import org.batoo.jpa.jdbc.dbutils.QueryRunner;
 import org.batoo.jpa.jdbc.dbutils.SingleValueHandler;
+import org.batoo.jpa.jdbc.mapping.Mapping;
 import org.batoo.jpa.jdbc.model.EntityTypeDescriptor;
 import org.batoo.jpa.parser.metadata.TableMetadata;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 /**
@@ -50,12 +57,41 @@ public class EntityTable extends AbstractTable {
 	private final Map<String, AbstractColumn> pkColumns = Maps.newHashMap();
 
 	private final JdbcAdaptor jdbcAdaptor;
+	private final QueryRunner runner;
 	private BasicColumn identityColumn;
 	private final Map<String, BasicColumn[]> indexes = Maps.newHashMap();
 
-	private final HashMap<Integer, String> removeSqlMap = Maps.newHashMap();
+	private final SqlTemplateArray removeTemplates = new SqlTemplateArray();
+	private final ConcurrentMap<EntityTypeDescriptor, ConcurrentMap<BitSet, SqlTemplate>> partialUpdateTemplates = Maps.newConcurrentMap();
 	private FinalWrapper<HashMap<AbstractColumn, String>> idColumns;
 
+	/**
+	 * Returns the mask of the update columns whose mappings are skipped.
+	 * <p>
+	 * The skipped mappings are the streaming lobs that have not changed and the lazy attributes that have not been loaded. Rebinding such
+	 * a lob would rewrite the content or, worse, bind a stream that is already consumed or whose locator is no longer valid, while binding
+	 * a lazy attribute not loaded would overwrite the column with <code>null</code>.
+	 */
+	private static BitSet getSkippedColumns(AbstractColumn[] updateColumns, Set<? extends Mapping<?, ?, ?>> skippedMappings) {
+		if ((skippedMappings == null) || skippedMappings.isEmpty()) {
+			return null;
+		}
+
+		BitSet skipped = null;
+		for (int i = 0; i < updateColumns.length; i++) {
+			final Mapping<?, ?, ?> mapping = updateColumns[i].getMapping();
+			if ((mapping != null) && skippedMappings.contains(mapping)) {
+				if (skipped == null) {
+					skipped = new BitSet(updateColumns.length);
+				}
+
+				skipped.set(i);
+			}
+		}
+
+		return skipped;
+	}
+
 	/**
 	 * @param jdbcAdaptor
 	 *            the jdbc adaptor
@@ -70,6 +106,7 @@ public class EntityTable extends AbstractTable {
 		super(entity.getName(), metadata);
 
 		this.jdbcAdaptor = jdbcAdaptor;
+		this.runner = new QueryRunner(jdbcAdaptor, false);
 		this.entity = entity;
 	}
 
@@ -198,31 +235,91 @@ public class EntityTable extends AbstractTable {
 		return this.pkColumns.values();
 	}
 
-	private String getRemoveSql(int size) {
-		String sql = this.removeSqlMap.get(size);
-		if (sql != null) {
-			return sql;
-		}
+	/**
+	 * Returns the SQL to select the lazy columns from the table.
+	 * <p>
+	 * The SQL is kept by the lazy group of the entity type, as the entities sharing the table may have different lazy columns in the
+	 * groups with the same name.
+	 * 
+	 * @param selections
+	 *            the select expressions of the columns
+	 * @return the SQL to select the lazy columns
+	 * 
+	 * @since 2.0.1
+	 */
+	public String getLazySelectSql(String[] selections) {
+		final String restriction = Joiner.on(" AND ").join(Collections2.transform(this.pkColumns.values(), new Function<AbstractColumn, String>() {
 
-		synchronized (this) {
-			sql = this.removeSqlMap.get(size);
-			if (sql != null) {
-				return sql;
+			@Override
+			public String apply(AbstractColumn input) {
+				return input.getName() + " = ?";
 			}
+		}));
+
+		return "SELECT " + Joiner.on(", ").join(selections) //
+			+ " FROM " + this.getQName() //
+			+ "\nWHERE " + restriction;
+	}
 
-			String restriction;
-			if (size == 1) {
-				restriction = this.getRestrictionSql(this.pkColumns);
+	private SqlTemplate getPartialUpdateTemplate(EntityTypeDescriptor type, AbstractColumn[] updateColumns, BitSet skipped) {
+		ConcurrentMap<BitSet, SqlTemplate> templates = this.partialUpdateTemplates.get(type);
+		if (templates == null) {
+			final ConcurrentMap<BitSet, SqlTemplate> newTemplates = Maps.newConcurrentMap();
+
+			templates = this.partialUpdateTemplates.putIfAbsent(type, newTemplates);
+			if (templates == null) {
+				templates = newTemplates;
 			}
-			else {
-				restriction = this.pkColumns.values().iterator().next().getName() + " IN (" + StringUtils.repeat("?", ", ", size) + ")";
+		}
+
+		final SqlTemplate template = templates.get(skipped);
+		if (template != null) {
+			return template;
+		}
+
+		final List<AbstractColumn> columns = Lists.newArrayList();
+		for (int i = 0; i < updateColumns.length; i++) {
+			if (!skipped.get(i)) {
+				columns.add(updateColumns[i]);
 			}
+		}
 
-			sql = "DELETE FROM " + this.getQName() + " WHERE " + restriction;
-			this.removeSqlMap.put(size, sql);
+		final String columnNamesStr = Joiner.on(", ").join(Collections2.transform(columns, new Function<AbstractColumn, String>() {
 
-			return sql;
+			@Override
+			public String apply(AbstractColumn input) {
+				return input.getName() + " = ?";
+			}
+		}));
+
+		final String sql = "UPDATE " + this.getQName() + " SET"//
+			+ "\n" + columnNamesStr //
+			+ "\nWHERE " + this.getRestrictionSql(this.pkColumns);
+
+		final SqlTemplate newTemplate = new SqlTemplate(sql, columns.toArray(new AbstractColumn[columns.size()]));
+
+		// generation is idempotent, if other thread wins the race its template is used
+		final SqlTemplate existing = templates.putIfAbsent(skipped, newTemplate);
+
+		return existing != null ? existing : newTemplate;
+	}
+
+	private String getRemoveSql(int size) {
+		final SqlTemplate template = this.removeTemplates.get(size);
+		if (template != null) {
+			return template.getSql();
+		}
+
+		// also prepares the restriction columns
+		String restriction = this.getRestrictionSql(this.pkColumns);
+		if (size > 1) {
+			restriction = this.pkColumns.values().iterator().next().getName() + " IN (" + StringUtils.repeat("?", ", ", size) + ")";
 		}
+
+		final String sql = "DELETE FROM " + this.getQName() + " WHERE " + restriction;
+
+		// generation is idempotent, if other thread wins the race its template is used
+		return this.removeTemplates.put(size, new SqlTemplate(sql, this.getRestrictionColumns())).getSql();
 	}
 
 	/**
@@ -248,36 +345,77 @@ public class EntityTable extends AbstractTable {
 
 		// prepare the parameters
 		final Object[] params = new Object[insertColumns.length * size];
+		final ParameterBinder[] binders = new ParameterBinder[params.length];
 
-		boolean hasLob = false;
 		for (int i = 0; i < size; i++) {
 			final Object instance = instances[i];
 
 			for (int j = 0; j < insertColumns.length; j++) {
 				final AbstractColumn column = insertColumns[j];
+				final int paramNo = (i * insertColumns.length) + j;
 
 				if (column instanceof DiscriminatorColumn) {
-					params[(i * insertColumns.length) + j] = entityType.getDiscriminatorValue();
+					params[paramNo] = entityType.getDiscriminatorValue();
 				}
 				else {
-					params[(i * insertColumns.length) + j] = column.getValue(connection, instance);
+					params[paramNo] = column.getValue(connection, instance);
 				}
 
-				hasLob |= column.isLob();
+				binders[paramNo] = column.getBinder();
 			}
 		}
 
-		new QueryRunner(this.jdbcAdaptor, hasLob).update(connection, insertSql, params);
+		this.runner.update(connection, insertSql, binders, params);
 
 		// if there is an identity column, extract the identity and set it back to the instance
 		if (this.identityColumn != null) {
 			final String selectLastIdSql = this.jdbcAdaptor.getSelectLastIdentitySql(this.identityColumn);
-			final Number id = new QueryRunner(this.jdbcAdaptor, false).query(connection, selectLastIdSql, new SingleValueHandler<Number>());
+			final Number id = this.runner.query(connection, selectLastIdSql, new SingleValueHandler<Number>());
 
 			this.identityColumn.setValue(instances[0], id);
 		}
 	}
 
+	/**
+	 * Selects the lazy columns of the group from the table and sets them to the instance.
+	 * 
+	 * @param connection
+	 *            the connection to use
+	 * @param instance
+	 *            the instance to load the lazy columns of
+	 * @param selectSql
+	 *            the SQL to select the lazy columns, as returned by {@link #getLazySelectSql(String[])}
+	 * @param columns
+	 *            the lazy columns of the group in the table, in the order of the selections
+	 * @throws SQLException
+	 *             thrown in case of underlying SQLException
+	 * 
+	 * @since 2.0.1
+	 */
+	public void performLazySelect(Connection connection, final Object instance, String selectSql, final AbstractColumn[] columns)
+		throws SQLException {
+		// prepare the parameters in the order of the restriction
+		final Object[] params = new Object[this.pkColumns.size()];
+		int i = 0;
+		for (final AbstractColumn column : this.pkColumns.values()) {
+			params[i++] = column.getValue(connection, instance);
+		}
+
+		this.runner.query(connection, selectSql, new ResultSetHandler<Void>() {
+
+			@Override
+			public Void handle(ResultSet rs) throws SQLException {
+				if (rs.next()) {
+					for (int j = 0; j < columns.length; j++) {
+						columns[j].setValue(instance, rs.getObject(j + 1));
+					}
+				}
+
+				return null;
+			}
+		}, params);
+	}
+
 	/**
 	 * Performs removes from the table for the managed instance or joins.
 	 * 
@@ -298,17 +436,18 @@ public class EntityTable extends AbstractTable {
 		// prepare the parameters
 		final AbstractColumn[] restrictionColumns = this.getRestrictionColumns();
 		final Object[] params = new Object[size * restrictionColumns.length];
+		final ParameterBinder[] binders = new ParameterBinder[params.length];
 		for (int i = 0; i < size; i++) {
 			final Object instance = instances[i];
 
 			for (int j = 0; j < restrictionColumns.length; j++) {
 				final AbstractColumn column = restrictionColumns[j];
 				params[(i * restrictionColumns.length) + j] = column.getValue(connection, instance);
+				binders[(i * restrictionColumns.length) + j] = column.getBinder();
 			}
 		}
 
-		final QueryRunner runner = new QueryRunner(this.jdbcAdaptor, false);
-		if (size != runner.update(connection, removeSql, params)) {
+		if (size != this.runner.update(connection, removeSql, binders, params)) {
 			throw new OptimisticLockFailedException();
 		}
 	}
@@ -324,29 +463,51 @@ public class EntityTable extends AbstractTable {
 	 *            the instance to perform update for
 	 * @param oldVersion
 	 *            the old version value
+	 * @param skippedMappings
+	 *            the mappings of the unchanged streaming lobs and the lazy attributes not loaded, which are left out of the update
 	 * @throws SQLException
 	 *             thrown in case of underlying SQLException
 	 * 
 	 * @since 2.0.0
 	 */
-	public void performUpdate(Connection connection, EntityTypeDescriptor type, Object instance, Object oldVersion) throws SQLException {
+	public void performUpdate(Connection connection, EntityTypeDescriptor type, Object instance, Object oldVersion,
+		Set<? extends Mapping<?, ?, ?>> skippedMappings) throws SQLException {
 		// Do not inline, generation of the update SQL will initialize the insertColumns!
 		final String updateSql = this.getUpdateSql(type, this.pkColumns);
 		final AbstractColumn[] updateColumns = this.getUpdateColumns(type);
+
+		this.performUpdate(connection, type, updateSql, updateColumns, instance, oldVersion, skippedMappings);
+	}
+
+	private void performUpdate(Connection connection, EntityTypeDescriptor type, String updateSql, AbstractColumn[] updateColumns, Object instance,
+		Object oldVersion, Set<? extends Mapping<?, ?, ?>> skippedMappings) throws SQLException {
+		final BitSet skipped = EntityTable.getSkippedColumns(updateColumns, skippedMappings);
+		if (skipped != null) {
+			// nothing left to write
+			if (skipped.cardinality() == updateColumns.length) {
+				return;
+			}
+
+			final SqlTemplate template = this.getPartialUpdateTemplate(type, updateColumns, skipped);
+
+			updateSql = template.getSql();
+			updateColumns = template.getColumns();
+		}
+
 		final AbstractColumn[] restrictionColumns = this.getRestrictionColumns();
 
-		boolean hasLob = false;
 		int nextParamNo = 0;
 
 		// prepare the parameters
 		final Object[] params = new Object[updateColumns.length + restrictionColumns.length];
+		final ParameterBinder[] binders = new ParameterBinder[params.length];
 		for (final AbstractColumn column : updateColumns) {
+			binders[nextParamNo] = column.getBinder();
 			params[nextParamNo++] = column.getValue(connection, instance);
-
-			hasLob |= column.isLob();
 		}
 
 		for (final AbstractColumn column : restrictionColumns) {
+			binders[nextParamNo] = column.getBinder();
 			if (column.isVersion()) {
 				params[nextParamNo++] = oldVersion;
 			}
@@ -356,8 +517,7 @@ public class EntityTable extends AbstractTable {
 		}
 
 		// execute the insert
-		final QueryRunner runner = new QueryRunner(this.jdbcAdaptor, hasLob);
-		if (1 != runner.update(connection, updateSql, params)) {
+		if (1 != this.runner.update(connection, updateSql, binders, params)) {
 			throw new OptimisticLockFailedException();
 		}
 	}
@@ -373,47 +533,25 @@ public class EntityTable extends AbstractTable {
 	 *            the instance to perform update for
 	 * @param oldVersion
 	 *            the old version value
+	 * @param skippedMappings
+	 *            the mappings of the unchanged streaming lobs and the lazy attributes not loaded, which are left out of the update
 	 * @return returns true if the table is updatable
 	 * @throws SQLException
 	 *             thrown in case of underlying SQLException
 	 * 
 	 * @since 2.0.0
 	 */
-	public boolean performUpdateWithUpdatability(Connection connection, EntityTypeDescriptor type, Object instance, Object oldVersion) throws SQLException {
+	public boolean performUpdateWithUpdatability(Connection connection, EntityTypeDescriptor type, Object instance, Object oldVersion,
+		Set<? extends Mapping<?, ?, ?>> skippedMappings) throws SQLException {
 		// Do not inline, generation of the update SQL will initialize the insertColumns!
 		final String updateSql = this.getUpdateSql(type, this.pkColumns);
 		final AbstractColumn[] updateColumns = this.getUpdateColumns(type);
-		final AbstractColumn[] restrictionColumns = this.getRestrictionColumns();
 
 		if (updateColumns.length == 0) {
 			return false;
 		}
 
-		int nextParam = 0;
-		boolean hasLob = false;
-
-		// prepare the parameters
-		final Object[] params = new Object[updateColumns.length + restrictionColumns.length];
-		for (final AbstractColumn column : updateColumns) {
-			params[nextParam++] = column.getValue(connection, instance);
-
-			hasLob |= column.isLob();
-		}
-
-		for (final AbstractColumn column : restrictionColumns) {
-			if (column.isVersion()) {
-				params[nextParam++] = oldVersion;
-			}
-			else {
-				params[nextParam++] = column.getValue(connection, instance);
-			}
-		}
-
-		// execute the insert
-		final QueryRunner runner = new QueryRunner(this.jdbcAdaptor, hasLob);
-		if (1 != runner.update(connection, updateSql, params)) {
-			throw new OptimisticLockFailedException();
-		}
+		this.performUpdate(connection, type, updateSql, updateColumns, instance, oldVersion, skippedMappings);
 
 		return true;
 	}
@@ -450,7 +588,7 @@ public class EntityTable extends AbstractTable {
 		params[params.length - 1] = oldVersion;
 
 		// execute the update
-		if (1 != new QueryRunner(this.jdbcAdaptor, false).update(connection, updateSql, params)) {
+		if (1 != this.runner.update(connection, updateSql, params)) {
 			throw new OptimisticLockFailedException();
 		}
 	}
@@ -482,4 +620,23 @@ public class EntityTable extends AbstractTable {
 			+ ", name=" + this.getQName() //
 			+ ", columns=[" + columns + "]]";
 	}
+
+	/**
+	 * Generates the SQL statements of the table for the entity ahead of their first use.
+	 * 
+	 * @param type
+	 *            the entity type
+	 * 
+	 * @since 2.0.1
+	 */
+	public void warmUp(EntityTypeDescriptor type) {
+		this.getIdFields();
+
+		this.prepareSql(type, this.pkColumns, this.jdbcAdaptor.getInsertBatchSize());
+
+		this.getRemoveSql(1);
+		if (this.jdbcAdaptor.getRemoveBatchSize() > 1) {
+			this.getRemoveSql(this.jdbcAdaptor.getRemoveBatchSize());
+		}
+	}
 }
@@ -41,6 +41,11 @@ public enum IdType {
 	 */
 	TABLE,
 
+	/**
+	 * Id is a time-ordered value generated in-process.
+	 */
+	TIME_ORDERED,
+
 	/**
 	 * Id is provided manually.
 	 */
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Binds the values of a column to statement parameters with the setter matching the SQL type of the column.
+ * <p>
+ * Binders are resolved once per column from the SQL type known at link time, so that binding requires neither
+ * {@link PreparedStatement#setObject(int, Object)} type inspection by the driver nor {@link java.sql.ParameterMetaData} lookups for null
+ * values. Values of an unexpected java type fall back to {@link PreparedStatement#setObject(int, Object)}.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class ParameterBinder {
+
+	private static class BigDecimalBinder extends ParameterBinder {
+
+		public BigDecimalBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof BigDecimal) {
+				statement.setBigDecimal(index, (BigDecimal) value);
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static class BooleanBinder extends ParameterBinder {
+
+		public BooleanBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof Boolean) {
+				statement.setBoolean(index, (Boolean) value);
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static class DateBinder extends ParameterBinder {
+
+		public DateBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof java.sql.Date) {
+				statement.setDate(index, (java.sql.Date) value);
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static class DoubleBinder extends ParameterBinder {
+
+		public DoubleBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof Double) {
+				statement.setDouble(index, (Double) value);
+			}
+			else if (value instanceof Float) {
+				statement.setFloat(index, (Float) value);
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static class IntegerBinder extends ParameterBinder {
+
+		public IntegerBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof Integer) {
+				statement.setInt(index, (Integer) value);
+			}
+			else if (value instanceof Short) {
+				statement.setShort(index, (Short) value);
+			}
+			else if (value instanceof Byte) {
+				statement.setByte(index, (Byte) value);
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static class LongBinder extends ParameterBinder {
+
+		public LongBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof Long) {
+				statement.setLong(index, (Long) value);
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static class StringBinder extends ParameterBinder {
+
+		public StringBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof String) {
+				statement.setString(index, (String) value);
+			}
+			else if (value instanceof Character) {
+				statement.setString(index, value.toString());
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static class TimeBinder extends ParameterBinder {
+
+		public TimeBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof Time) {
+				statement.setTime(index, (Time) value);
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static class TimestampBinder extends ParameterBinder {
+
+		public TimestampBinder(int sqlType) {
+			super(sqlType);
+		}
+
+		@Override
+		public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+			if (value instanceof Timestamp) {
+				statement.setTimestamp(index, (Timestamp) value);
+			}
+			else {
+				super.bind(statement, index, value);
+			}
+		}
+	}
+
+	private static final HashMap<Integer, ParameterBinder> BINDERS = Maps.newHashMap();
+
+	static {
+		ParameterBinder.register(new BigDecimalBinder(Types.DECIMAL));
+		ParameterBinder.register(new BigDecimalBinder(Types.NUMERIC));
+		ParameterBinder.register(new BooleanBinder(Types.BOOLEAN));
+		ParameterBinder.register(new BooleanBinder(Types.BIT));
+		ParameterBinder.register(new DateBinder(Types.DATE));
+		ParameterBinder.register(new DoubleBinder(Types.DOUBLE));
+		ParameterBinder.register(new DoubleBinder(Types.FLOAT));
+		ParameterBinder.register(new DoubleBinder(Types.REAL));
+		ParameterBinder.register(new IntegerBinder(Types.INTEGER));
+		ParameterBinder.register(new IntegerBinder(Types.SMALLINT));
+		ParameterBinder.register(new IntegerBinder(Types.TINYINT));
+		ParameterBinder.register(new LongBinder(Types.BIGINT));
+		ParameterBinder.register(new StringBinder(Types.CHAR));
+		ParameterBinder.register(new StringBinder(Types.VARCHAR));
+		ParameterBinder.register(new StringBinder(Types.LONGVARCHAR));
+		ParameterBinder.register(new TimeBinder(Types.TIME));
+		ParameterBinder.register(new TimestampBinder(Types.TIMESTAMP));
+	}
+
+	/**
+	 * Returns the binder for the SQL type.
+	 * 
+	 * @param sqlType
+	 *            the SQL type
+	 * @return the binder
+	 * 
+	 * @since 2.0.1
+	 */
+	public static ParameterBinder forSqlType(int sqlType) {
+		final ParameterBinder binder = ParameterBinder.BINDERS.get(sqlType);
+
+		return binder != null ? binder : new ParameterBinder(sqlType);
+	}
+
+	private static void register(ParameterBinder binder) {
+		ParameterBinder.BINDERS.put(binder.getSqlType(), binder);
+	}
+
+	private final int sqlType;
+
+	/**
+	 * @param sqlType
+	 *            the SQL type
+	 * 
+	 * @since 2.0.1
+	 */
+	protected ParameterBinder(int sqlType) {
+		super();
+
+		this.sqlType = sqlType;
+	}
+
+	/**
+	 * Binds the non-null value to the statement parameter.
+	 * 
+	 * @param statement
+	 *            the statement
+	 * @param index
+	 *            the 1-based index of the parameter
+	 * @param value
+	 *            the value
+	 * @throws SQLException
+	 *             thrown in case of underlying SQLException
+	 * 
+	 * @since 2.0.1
+	 */
+	public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+		statement.setObject(index, value);
+	}
+
+	/**
+	 * Returns the SQL type of the binder.
+	 * 
+	 * @return the SQL type of the binder
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getSqlType() {
+		return this.sqlType;
+	}
+}
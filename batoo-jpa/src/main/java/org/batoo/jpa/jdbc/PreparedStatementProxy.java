@@ -678,7 +678,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setBigDecimal(parameterIndex, x);
 	}
 
 	/**
@@ -749,7 +753,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setBoolean(int parameterIndex, boolean x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setBoolean(parameterIndex, x);
 	}
 
 	/**
@@ -758,7 +766,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setByte(int parameterIndex, byte x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setByte(parameterIndex, x);
 	}
 
 	/**
@@ -847,7 +859,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setDate(int parameterIndex, Date x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setDate(parameterIndex, x);
 	}
 
 	/**
@@ -865,7 +881,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setDouble(int parameterIndex, double x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setDouble(parameterIndex, x);
 	}
 
 	/**
@@ -901,7 +921,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setFloat(int parameterIndex, float x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setFloat(parameterIndex, x);
 	}
 
 	/**
@@ -910,7 +934,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setInt(int parameterIndex, int x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setInt(parameterIndex, x);
 	}
 
 	/**
@@ -919,7 +947,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setLong(int parameterIndex, long x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setLong(parameterIndex, x);
 	}
 
 	/**
@@ -1106,7 +1138,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setShort(int parameterIndex, short x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setShort(parameterIndex, x);
 	}
 
 	/**
@@ -1124,7 +1160,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setString(int parameterIndex, String x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setString(parameterIndex, x);
 	}
 
 	/**
@@ -1133,7 +1173,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setTime(int parameterIndex, Time x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setTime(parameterIndex, x);
 	}
 
 	/**
@@ -1151,7 +1195,11 @@ public class PreparedStatementProxy implements PreparedStatement {
 	 */
 	@Override
 	public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
-		this.throwNotImplemented();
+		if ((this.debug || (this.sqlStream != null)) && (this.parameters != null)) {
+			this.parameters[parameterIndex - 1] = x;
+		}
+
+		this.statement.setTimestamp(parameterIndex, x);
 	}
 
 	/**
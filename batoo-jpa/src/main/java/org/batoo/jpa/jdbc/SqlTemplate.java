@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.jdbc;
+
+/**
+ * Immutable pair of an SQL statement and the columns of its parameters.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+final class SqlTemplate {
+
+	private final String sql;
+	private final AbstractColumn[] columns;
+
+	/**
+	 * @param sql
+	 *            the SQL statement
+	 * @param columns
+	 *            the columns of the parameters
+	 * 
+	 * @since 2.0.1
+	 */
+	SqlTemplate(String sql, AbstractColumn[] columns) {
+		super();
+
+		this.sql = sql;
+		this.columns = columns;
+	}
+
+	/**
+	 * Returns the columns of the parameters.
+	 * 
+	 * @return the columns of the parameters
+	 * 
+	 * @since 2.0.1
+	 */
+	AbstractColumn[] getColumns() {
+		return this.columns;
+	}
+
+	/**
+	 * Returns the SQL statement.
+	 * 
+	 * @return the SQL statement
+	 * 
+	 * @since 2.0.1
+	 */
+	String getSql() {
+		return this.sql;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.jdbc;
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write array of SQL templates indexed by the batch size.
+ * <p>
+ * Lookups neither lock nor allocate, a template is added by publishing a grown copy of the array.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+final class SqlTemplateArray {
+
+	private volatile SqlTemplate[] templates = new SqlTemplate[0];
+
+	/**
+	 * Returns the template for the batch size.
+	 * 
+	 * @param size
+	 *            the batch size
+	 * @return the template or null if not yet generated
+	 * 
+	 * @since 2.0.1
+	 */
+	SqlTemplate get(int size) {
+		final SqlTemplate[] _templates = this.templates;
+
+		return size < _templates.length ? _templates[size] : null;
+	}
+
+	/**
+	 * Adds the template for the batch size unless another thread added one already.
+	 * 
+	 * @param size
+	 *            the batch size
+	 * @param template
+	 *            the template
+	 * @return the template in effect for the batch size
+	 * 
+	 * @since 2.0.1
+	 */
+	synchronized SqlTemplate put(int size, SqlTemplate template) {
+		final SqlTemplate[] _templates = this.templates;
+		if ((size < _templates.length) && (_templates[size] != null)) {
+			return _templates[size];
+		}
+
+		final SqlTemplate[] newTemplates = Arrays.copyOf(_templates, Math.max(_templates.length, size + 1));
+		newTemplates[size] = template;
+
+		this.templates = newTemplates;
+
+		return template;
+	}
+}
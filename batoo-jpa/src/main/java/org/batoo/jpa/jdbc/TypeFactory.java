@@ -18,8 +18,12 @@
  */
 package org.batoo.jpa.jdbc;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.Types;
 import java.util.Calendar;
 import java.util.Date;
@@ -53,6 +57,8 @@ public class TypeFactory {
 		if (isLob) {
 			if (Character.class.isAssignableFrom(javaType) //
 				|| String.class.isAssignableFrom(javaType) //
+				|| Clob.class.isAssignableFrom(javaType) //
+				|| Reader.class.isAssignableFrom(javaType) //
 				|| (javaType.isArray() && char.class.isAssignableFrom(javaType.getComponentType()))) {
 				return Types.CLOB;
 			}
@@ -145,4 +151,19 @@ public class TypeFactory {
 
 		throw new IllegalArgumentException("Cannot determine sql type: " + javaType);
 	}
+
+	/**
+	 * Returns if the java type is a lob type that is streamed to and from the database rather than materialized.
+	 * <p>
+	 * The streaming lob types are {@link Blob}, {@link Clob}, {@link InputStream} and {@link Reader}.
+	 * 
+	 * @param javaType
+	 *            the java type
+	 * @return true if the java type is a streaming lob type, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	public static boolean isStreamingLob(Class<?> javaType) {
+		return (javaType == Blob.class) || (javaType == Clob.class) || (javaType == InputStream.class) || (javaType == Reader.class);
+	}
 }
@@ -21,14 +21,18 @@ package org.batoo.jpa.jdbc;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.CharArrayWriter;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
-import java.lang.reflect.Method;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 
 import javax.persistence.EnumType;
 import javax.persistence.PersistenceException;
@@ -39,94 +43,209 @@ import javax.sql.rowset.serial.SerialClob;
 import org.apache.commons.io.IOUtils;
 import org.batoo.common.reflect.ReflectHelper;
 
+import com.google.common.collect.Maps;
+
 /**
  * Converts Basic Java values to Jdbc friendly values<br/>
  * 
  * handling Temporal types, Enums and Date types
+ * <p>
+ * Columns obtain a converter specialized for their java type, temporal type, enum type and lob flag through
+ * {@link #create(Class, TemporalType, EnumType, boolean)} once at link time and convert each value with {@link #fromJdbc(Object)} and
+ * {@link #toJdbc(Object)} without further type inspection.
  * 
  * @author asimarslan
  * @since 2.0.1
  */
-public class ValueConverter {
+public abstract class ValueConverter {
+
+	private static class CalendarConverter extends TemporalConverter {
+
+		private final Calendar prototype = Calendar.getInstance();
+
+		public CalendarConverter(TemporalType temporalType) {
+			super(temporalType);
+		}
+
+		@Override
+		public Object fromJdbc(Object value) {
+			if (value instanceof Date) {
+				final Calendar calendarValue = (Calendar) this.prototype.clone();
+				calendarValue.setTimeInMillis(((Date) value).getTime());
+
+				return calendarValue;
+			}
+
+			return value;
+		}
+	}
+
+	private static class LobConverter extends ValueConverter {
+
+		private final Class<?> javaType;
+
+		public LobConverter(Class<?> javaType) {
+			super();
+
+			this.javaType = javaType;
+		}
+
+		@Override
+		public Object fromJdbc(Object value) {
+			return value != null ? ValueConverter.readLob(value, this.javaType) : null;
+		}
+
+		@Override
+		public Object toJdbc(Object value) {
+			return value != null ? ValueConverter.writeLob(value, this.javaType) : null;
+		}
+	}
+
+	private static class NumberConverter extends ValueConverter {
+
+		private final Class<?> javaType;
+
+		public NumberConverter(Class<?> javaType) {
+			super();
+
+			this.javaType = javaType;
+		}
+
+		@Override
+		public Object toJdbc(Object value) {
+			return value != null ? ReflectHelper.convertNumber((Number) value, this.javaType) : null;
+		}
+	}
+
+	private static class OrdinalEnumConverter extends ValueConverter {
+
+		private final Enum<?>[] values;
+
+		public OrdinalEnumConverter(Class<?> javaType) {
+			super();
+
+			this.values = (Enum<?>[]) javaType.getEnumConstants();
+		}
+
+		@Override
+		public Object fromJdbc(Object value) {
+			if (value instanceof Number) {
+				final int ordinal = ((Number) value).shortValue();
+				if ((ordinal >= 0) && (ordinal < this.values.length)) {
+					return this.values[ordinal];
+				}
+			}
+
+			return value;
+		}
+
+		@Override
+		public Object toJdbc(Object value) {
+			return value != null ? ((Enum<?>) value).ordinal() : null;
+		}
+	}
+
+	private static class StringEnumConverter extends ValueConverter {
+
+		private final HashMap<String, Enum<?>> values = Maps.newHashMap();
+
+		public StringEnumConverter(Class<?> javaType) {
+			super();
+
+			for (final Object value : javaType.getEnumConstants()) {
+				final Enum<?> enumValue = (Enum<?>) value;
+				this.values.put(enumValue.name(), enumValue);
+			}
+		}
+
+		@Override
+		public Object fromJdbc(Object value) {
+			if (value == null) {
+				return null;
+			}
+
+			final Enum<?> enumValue = this.values.get(value);
+
+			return enumValue != null ? enumValue : value;
+		}
+
+		@Override
+		public Object toJdbc(Object value) {
+			return value != null ? ((Enum<?>) value).name() : null;
+		}
+	}
+
+	private static class TemporalConverter extends ValueConverter {
+
+		private final TemporalType temporalType;
+
+		public TemporalConverter(TemporalType temporalType) {
+			super();
+
+			this.temporalType = temporalType;
+		}
+
+		@Override
+		public Object toJdbc(Object value) {
+			return value != null ? ValueConverter.toTemporal(value, this.temporalType) : null;
+		}
+	}
+
+	private static final ValueConverter IDENTITY = new ValueConverter() {
+		// no conversion
+	};
 
 	/**
-	 * convert jdbc data to entity basic values
+	 * Returns the converter specialized for the column properties.
 	 * 
-	 * @param value
-	 *            jdbc raw value
 	 * @param javaType
-	 *            type of value
+	 *            type of value, may be <code>null</code>
 	 * @param temporalType
 	 *            temporal type
 	 * @param enumType
 	 *            enum type
-	 * @param values
-	 *            EnumType values array for faster operation, leave it to be null but it will be slow
-	 * @param method
-	 *            Method for enum valueOf for faster operation, leave it to be null but it will be slow
 	 * @param lob
 	 *            is Lob
-	 * @return java value
+	 * @return the converter
+	 * @throws IllegalArgumentException
+	 *             if the enum type is specified for a non-enum java type
+	 * 
 	 * @since 2.0.1
 	 */
-	@SuppressWarnings("unchecked")
-	public static Object fromJdbc(Object value, Class<?> javaType, TemporalType temporalType, EnumType enumType, Enum<?>[] values, Method method, boolean lob) {
-		if (value == null) {
-			return null;
+	public static ValueConverter create(Class<?> javaType, TemporalType temporalType, EnumType enumType, boolean lob) {
+		if (javaType == null) {
+			return ValueConverter.IDENTITY;
 		}
 
 		if (temporalType != null) {
-			if (javaType == Calendar.class) {
-				final Calendar calendarValue = Calendar.getInstance();
-				switch (temporalType) {
-					case DATE:
-						if (value instanceof java.sql.Date) {
-							calendarValue.setTime((java.sql.Date) value);
-							return calendarValue;
-						}
-					case TIME:
-						if (value instanceof java.sql.Time) {
-							calendarValue.setTime((java.sql.Time) value);
-							return calendarValue;
-						}
-					case TIMESTAMP:
-						if (value instanceof java.sql.Timestamp) {
-							calendarValue.setTime((java.sql.Timestamp) value);
-							return calendarValue;
-						}
-				}
-			}
+			return javaType == Calendar.class ? new CalendarConverter(temporalType) : new TemporalConverter(temporalType);
 		}
 
-		if (enumType != null) {
-			try {
-				final Class<Enum<?>> enumJavaType = (Class<Enum<?>>) javaType;
-				if (enumType == EnumType.ORDINAL && values == null) {
-					values = (Enum<?>[]) enumJavaType.getMethod("values").invoke(null);
-				}
-				else if (enumType == EnumType.STRING && method == null) {
-					method = enumJavaType.getMethod("valueOf", String.class);
-				}
+		if (Number.class.isAssignableFrom(javaType)) {
+			return new NumberConverter(javaType);
+		}
 
-				if (enumType == EnumType.ORDINAL) {
-					value = values[((Number) value).shortValue()];
-				}
-				else {
-					value = method.invoke(null, value);
-				}
+		if (enumType != null) {
+			if (!javaType.isEnum()) {
+				throw new IllegalArgumentException("Not an enum type: " + javaType.getName());
 			}
-			catch (final Exception e) {}
+
+			return enumType == EnumType.ORDINAL ? new OrdinalEnumConverter(javaType) : new StringEnumConverter(javaType);
 		}
 
 		if (lob) {
-			value = readLob(value, javaType);
+			return new LobConverter(javaType);
 		}
 
-		return value;
+		return ValueConverter.IDENTITY;
 	}
 
 	private static Object readLob(Object value, Class<?> javaType) {
 		try {
+			if (TypeFactory.isStreamingLob(javaType)) {
+				return ValueConverter.readStreamingLob(value, javaType);
+			}
+
 			if (value instanceof Clob) {
 				final Clob clob = (Clob) value;
 
@@ -221,38 +340,7 @@ public class ValueConverter {
 		}
 
 		if (temporalType != null) {
-			switch (temporalType) {
-				case DATE:
-					if (value instanceof java.sql.Date) {
-						return value;
-					}
-
-					if (value instanceof Date) {
-						return new java.sql.Date(((Date) value).getTime());
-					}
-
-					return new java.sql.Date(((Calendar) value).getTimeInMillis());
-				case TIME:
-					if (value instanceof java.sql.Time) {
-						return value;
-					}
-
-					if (value instanceof Date) {
-						return new java.sql.Time(((Date) value).getTime());
-					}
-
-					return new java.sql.Time(((Calendar) value).getTimeInMillis());
-				case TIMESTAMP:
-					if (value instanceof java.sql.Timestamp) {
-						return value;
-					}
-
-					if (value instanceof Date) {
-						return new java.sql.Timestamp(((Date) value).getTime());
-					}
-
-					return new java.sql.Timestamp(((Calendar) value).getTimeInMillis());
-			}
+			return ValueConverter.toTemporal(value, temporalType);
 		}
 
 		if (Number.class.isAssignableFrom(javaType)) {
@@ -269,36 +357,134 @@ public class ValueConverter {
 		}
 
 		if (lob) {
-			try {
-				if (javaType == String.class) {
-					return new SerialClob(((String) value).toCharArray());
+			return ValueConverter.writeLob(value, javaType);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns the lob without materializing its content.
+	 * <p>
+	 * Drivers returning lob locators have the content read on access; drivers that materialize the lob as <code>byte[]</code> or
+	 * {@link String} are wrapped without copying where possible.
+	 */
+	private static Object readStreamingLob(Object value, Class<?> javaType) throws SQLException {
+		if (javaType == InputStream.class) {
+			if (value instanceof Blob) {
+				return ((Blob) value).getBinaryStream();
+			}
+
+			return new ByteArrayInputStream((byte[]) value);
+		}
+
+		if (javaType == Reader.class) {
+			if (value instanceof Clob) {
+				return ((Clob) value).getCharacterStream();
+			}
+
+			return new StringReader((String) value);
+		}
+
+		if (javaType == Blob.class) {
+			return value instanceof Blob ? value : new SerialBlob((byte[]) value);
+		}
+
+		return value instanceof Clob ? value : new SerialClob(((String) value).toCharArray());
+	}
+
+	private static Object toTemporal(Object value, TemporalType temporalType) {
+		switch (temporalType) {
+			case DATE:
+				if (value instanceof java.sql.Date) {
+					return value;
 				}
-				else if (javaType == char[].class) {
-					return new SerialClob((char[]) value);
+
+				if (value instanceof Date) {
+					return new java.sql.Date(((Date) value).getTime());
 				}
-				else if (javaType == byte[].class) {
-					return new SerialBlob((byte[]) value);
+
+				return new java.sql.Date(((Calendar) value).getTimeInMillis());
+			case TIME:
+				if (value instanceof java.sql.Time) {
+					return value;
 				}
-				else {
-					final ByteArrayOutputStream os = new ByteArrayOutputStream();
-					final ObjectOutputStream oos = new ObjectOutputStream(os);
-					try {
-						oos.writeObject(value);
-					}
-					finally {
-						oos.close();
-					}
 
-					return new SerialBlob(os.toByteArray());
+				if (value instanceof Date) {
+					return new java.sql.Time(((Date) value).getTime());
 				}
+
+				return new java.sql.Time(((Calendar) value).getTimeInMillis());
+			default:
+				if (value instanceof java.sql.Timestamp) {
+					return value;
+				}
+
+				if (value instanceof Date) {
+					return new java.sql.Timestamp(((Date) value).getTime());
+				}
+
+				return new java.sql.Timestamp(((Calendar) value).getTimeInMillis());
+		}
+	}
+
+	private static Object writeLob(Object value, Class<?> javaType) {
+		// streamed to the driver as is
+		if (TypeFactory.isStreamingLob(javaType)) {
+			return value;
+		}
+
+		try {
+			if (javaType == String.class) {
+				return new SerialClob(((String) value).toCharArray());
+			}
+			else if (javaType == char[].class) {
+				return new SerialClob((char[]) value);
 			}
-			catch (final Exception e) {
-				throw new PersistenceException("Cannot set parameter", e);
+			else if (javaType == byte[].class) {
+				return new SerialBlob((byte[]) value);
+			}
+			else {
+				final ByteArrayOutputStream os = new ByteArrayOutputStream();
+				final ObjectOutputStream oos = new ObjectOutputStream(os);
+				try {
+					oos.writeObject(value);
+				}
+				finally {
+					oos.close();
+				}
+
+				return new SerialBlob(os.toByteArray());
 			}
 		}
-		else {
-			return value;
+		catch (final Exception e) {
+			throw new PersistenceException("Cannot set parameter", e);
 		}
+	}
 
+	/**
+	 * Converts the jdbc value to the entity basic value.
+	 * 
+	 * @param value
+	 *            jdbc raw value
+	 * @return java value
+	 * 
+	 * @since 2.0.1
+	 */
+	public Object fromJdbc(Object value) {
+		return value;
+	}
+
+	/**
+	 * Converts the java value to jdbc friendly value.
+	 * 
+	 * @param value
+	 *            java value
+	 * @return jdbc friendly value
+	 * 
+	 * @since 2.0.1
+	 */
+	public Object toJdbc(Object value) {
+		return value;
 	}
 }
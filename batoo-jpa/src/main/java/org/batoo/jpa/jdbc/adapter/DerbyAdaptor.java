@@ -18,6 +18,7 @@
  */
 package org.batoo.jpa.jdbc.adapter;
 
+import java.sql.Connection;
 import java.sql.ParameterMetaData;
 import java.sql.SQLException;
 import java.util.List;
@@ -132,7 +133,7 @@ public class DerbyAdaptor extends JdbcAdaptor {
 		try {
 			final String sql = "CREATE SEQUENCE " + sequence.getQName() //
 				+ " START WITH " + sequence.getInitialValue() //
-				+ " INCREMENT BY " + sequence.getAllocationSize();
+				+ " INCREMENT BY " + sequence.getIncrementSize();
 
 			new QueryRunner(datasource).update(sql);
 		}
@@ -150,6 +151,15 @@ public class DerbyAdaptor extends JdbcAdaptor {
 		runner.update("DROP SEQUENCE " + sequence.getQName() + " RESTRICT");
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String getCurrentSchema(Connection connection) throws SQLException {
+		return new QueryRunner().query(connection, "VALUES CURRENT SCHEMA", new SingleValueHandler<String>());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
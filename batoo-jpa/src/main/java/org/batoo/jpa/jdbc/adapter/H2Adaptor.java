@@ -18,6 +18,7 @@
  */
 package org.batoo.jpa.jdbc.adapter;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.List;
@@ -159,7 +160,7 @@ public class H2Adaptor extends JdbcAdaptor {
 	public void createSequenceIfNecessary(DataSource datasource, SequenceGenerator sequence) {
 		final String sql = "CREATE SEQUENCE " + sequence.getQName() // ;
 			+ " START WITH " + sequence.getInitialValue() //
-			+ " INCREMENT BY " + sequence.getAllocationSize();
+			+ " INCREMENT BY " + sequence.getIncrementSize();
 
 		try {
 			new QueryRunner(datasource).update(sql);
@@ -228,6 +229,15 @@ public class H2Adaptor extends JdbcAdaptor {
 		throw new IllegalArgumentException("Unhandled sql type: " + sqlType);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String getCurrentSchema(Connection connection) throws SQLException {
+		return new QueryRunner().query(connection, "CALL SCHEMA()", new SingleValueHandler<String>());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -18,6 +18,7 @@
  */
 package org.batoo.jpa.jdbc.adapter;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Collection;
@@ -184,7 +185,7 @@ public class HsqlAdaptor extends JdbcAdaptor {
 		final String sql = "CREATE SEQUENCE " //
 			+ sequence.getQName() + " AS BIGINT"// ;
 			+ " START WITH " + sequence.getInitialValue() //
-			+ " INCREMENT BY " + sequence.getAllocationSize();
+			+ " INCREMENT BY " + sequence.getIncrementSize();
 
 		try {
 			new QueryRunner(datasource).update(sql);
@@ -234,6 +235,21 @@ public class HsqlAdaptor extends JdbcAdaptor {
 		throw new IllegalArgumentException("Unhandled sql type: " + sqlType);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String getCurrentSchema(Connection connection) throws SQLException {
+		try {
+			return new QueryRunner().query(connection, "CALL CURRENT_SCHEMA", new SingleValueHandler<String>());
+		}
+		catch (final SQLException e) {
+			// versions before 2.0 do not have the function
+			return null;
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
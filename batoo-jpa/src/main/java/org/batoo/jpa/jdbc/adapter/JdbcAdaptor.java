@@ -39,6 +39,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -131,7 +132,8 @@ public abstract class JdbcAdaptor extends AbstractJdbcAdaptor {
 
 	private List<String> words;
 
-	private final Map<AbstractTable, JdbcTable> tables = Maps.newHashMap();
+	private final ConcurrentMap<AbstractTable, JdbcTable> tables = Maps.newConcurrentMap();
+	private final Set<AbstractTable> missingTables = Sets.newSetFromMap(Maps.<AbstractTable, Boolean> newConcurrentMap());
 
 	private int insertBatchSize;
 	private int removeBatchSize;
@@ -442,6 +444,10 @@ public abstract class JdbcAdaptor extends AbstractJdbcAdaptor {
 		catch (final SQLException e) {
 			this.logRelaxed(e, "Cannot create table " + table.getQName());
 		}
+		finally {
+			// the table is no longer missing, the next lookup should read it from the database
+			this.missingTables.remove(table);
+		}
 
 		this.createIndexes(datasource, table);
 	}
@@ -755,6 +761,40 @@ public abstract class JdbcAdaptor extends AbstractJdbcAdaptor {
 		return "CURRENT_DATE";
 	}
 
+	/**
+	 * Returns the current catalog of the connection, for the databases that keep the tables in catalogs rather than schemas.
+	 * <p>
+	 * Used to restrict the schema metadata sweep for the tables without an explicit catalog and schema.
+	 * 
+	 * @param connection
+	 *            the connection
+	 * @return the current catalog or <code>null</code> if the database keeps the tables in schemas
+	 * @throws SQLException
+	 *             thrown in case of an underlying SQL error
+	 * 
+	 * @since 2.0.1
+	 */
+	protected String getCurrentCatalog(Connection connection) throws SQLException {
+		return null;
+	}
+
+	/**
+	 * Returns the current schema of the connection.
+	 * <p>
+	 * Used to restrict the schema metadata sweep for the tables without an explicit schema.
+	 * 
+	 * @param connection
+	 *            the connection
+	 * @return the current schema or <code>null</code> if the adaptor cannot tell
+	 * @throws SQLException
+	 *             thrown in case of an underlying SQL error
+	 * 
+	 * @since 2.0.1
+	 */
+	protected String getCurrentSchema(Connection connection) throws SQLException {
+		return null;
+	}
+
 	/**
 	 * Returns the current time literal
 	 * 
@@ -960,18 +1000,25 @@ public abstract class JdbcAdaptor extends AbstractJdbcAdaptor {
 	 */
 	public abstract String getSelectLastIdentitySql(BasicColumn identityColumn);
 
-	private synchronized JdbcTable getTableMetadata(DataSource datasource, AbstractTable table) throws SQLException {
-		JdbcTable tableMetadata = this.tables.get(table);
+	private JdbcTable getTableMetadata(DataSource datasource, AbstractTable table) throws SQLException {
+		final JdbcTable tableMetadata = this.tables.get(table);
 		if (tableMetadata != null) {
 			return tableMetadata;
 		}
 
-		tableMetadata = this.getTableMetadata(datasource, table.getCatalog(), table.getSchema(), table.getName());
-		if (tableMetadata != null) {
-			this.tables.put(table, tableMetadata);
+		// the schema sweep found out that the table does not exist
+		if (this.missingTables.contains(table)) {
+			return null;
 		}
 
-		return tableMetadata;
+		final JdbcTable newTableMetadata = this.getTableMetadata(datasource, table.getCatalog(), table.getSchema(), table.getName());
+		if (newTableMetadata != null) {
+			final JdbcTable existing = this.tables.putIfAbsent(table, newTableMetadata);
+
+			return existing != null ? existing : newTableMetadata;
+		}
+
+		return null;
 	}
 
 	private JdbcTable getTableMetadata(DataSource datasource, String catalog, String schema, String table) throws SQLException {
@@ -1262,6 +1309,171 @@ public abstract class JdbcAdaptor extends AbstractJdbcAdaptor {
 		return schema + "." + jdbcClassName;
 	}
 
+	/**
+	 * Reads the metadata of the tables with a single sweep per schema.
+	 * <p>
+	 * Rather than querying the database metadata table by table, the tables and the columns of each schema are read with one call each
+	 * over a single connection. The DDL operations that follow then diff against this snapshot, querying the database only for the tables
+	 * created in the meantime.
+	 * <p>
+	 * The tables without a schema are read from the current schema, or the current catalog, when the adaptor can tell it. Otherwise they
+	 * are left to the table by table lookup, as the sweep would read the tables of all the schemas.
+	 * 
+	 * @param datasource
+	 *            the datasource
+	 * @param tables
+	 *            the tables of the persistence unit
+	 * 
+	 * @since 2.0.1
+	 */
+	public void readSchemaMetadata(DataSource datasource, Collection<AbstractTable> tables) {
+		this.tables.clear();
+		this.missingTables.clear();
+
+		final Map<String, List<AbstractTable>> schemas = Maps.newHashMap();
+		for (final AbstractTable table : tables) {
+			final String key = StringUtils.defaultString(table.getCatalog()) + "." + StringUtils.defaultString(table.getSchema());
+
+			List<AbstractTable> schemaTables = schemas.get(key);
+			if (schemaTables == null) {
+				schemaTables = Lists.newArrayList();
+				schemas.put(key, schemaTables);
+			}
+
+			schemaTables.add(table);
+		}
+
+		Connection connection = null;
+		try {
+			connection = datasource.getConnection();
+
+			final DatabaseMetaData dbMetadata = connection.getMetaData();
+			final String currentCatalog = this.getCurrentCatalog(connection);
+			final String currentSchema = this.getCurrentSchema(connection);
+
+			for (final List<AbstractTable> schemaTables : schemas.values()) {
+				final AbstractTable first = schemaTables.get(0);
+
+				String catalog = first.getCatalog();
+				String schema = first.getSchema();
+
+				// without a schema the tables live in the current schema
+				if (StringUtils.isBlank(schema)) {
+					schema = currentSchema;
+
+					if (StringUtils.isBlank(catalog)) {
+						catalog = currentCatalog;
+					}
+
+					if ((schema == null) && (catalog == null)) {
+						continue;
+					}
+				}
+
+				this.readSchemaMetadata(dbMetadata, catalog, schema, schemaTables);
+			}
+		}
+		catch (final SQLException e) {
+			// fall back to table by table lookup
+			this.tables.clear();
+			this.missingTables.clear();
+
+			this.logRelaxed(e, "Cannot read the schema metadata");
+		}
+		finally {
+			DbUtils.closeQuietly(connection);
+		}
+	}
+
+	private void readSchemaMetadata(DatabaseMetaData dbMetadata, String catalog, String schema, List<AbstractTable> schemaTables)
+		throws SQLException {
+		catalog = this.toStoredCase(dbMetadata, catalog);
+		schema = this.toStoredCase(dbMetadata, schema);
+
+		// read the existing tables of the schema
+		final Map<String, String[]> existingTables = Maps.newHashMap();
+		final Set<String> ambiguousTables = Sets.newHashSet();
+
+		ResultSet rs = null;
+		try {
+			rs = dbMetadata.getTables(catalog, schema, "%", JdbcAdaptor.TABLE_OR_VIEW);
+			while (rs.next()) {
+				final String tableName = rs.getString(JdbcAdaptor.TABLE_NAME);
+
+				final String[] names = new String[] { rs.getString("TABLE_CAT"), rs.getString("TABLE_SCHEM"), tableName };
+
+				// without a schema the tables of all the schemas are returned, a table name in more than one schema is ambiguous
+				if (existingTables.put(tableName.toUpperCase(), names) != null) {
+					ambiguousTables.add(tableName.toUpperCase());
+				}
+			}
+		}
+		finally {
+			DbUtils.closeQuietly(rs);
+		}
+
+		final Map<String, AbstractTable> tablesToRead = Maps.newHashMap();
+		for (final AbstractTable table : schemaTables) {
+			final String tableName = table.getName().toUpperCase();
+
+			// leave the ambiguous tables to the table by table lookup
+			if (ambiguousTables.contains(tableName)) {
+				continue;
+			}
+
+			if (existingTables.containsKey(tableName)) {
+				tablesToRead.put(tableName, table);
+			}
+			else {
+				this.missingTables.add(table);
+			}
+		}
+
+		if (tablesToRead.isEmpty()) {
+			return;
+		}
+
+		// read the columns of all the tables in the schema at once
+		final Map<String, List<JdbcColumn>> columns = Maps.newHashMap();
+		try {
+			rs = dbMetadata.getColumns(catalog, schema, "%", "%");
+			while (rs.next()) {
+				final String tableName = rs.getString(JdbcAdaptor.TABLE_NAME).toUpperCase();
+				if (!tablesToRead.containsKey(tableName)) {
+					continue;
+				}
+
+				// skip the columns of the tables with the same name in the other schemas
+				final String[] names = existingTables.get(tableName);
+				if (!StringUtils.equals(names[0], rs.getString("TABLE_CAT")) || !StringUtils.equals(names[1], rs.getString("TABLE_SCHEM"))) {
+					continue;
+				}
+
+				List<JdbcColumn> tableColumns = columns.get(tableName);
+				if (tableColumns == null) {
+					tableColumns = Lists.newArrayList();
+					columns.put(tableName, tableColumns);
+				}
+
+				tableColumns.add(new JdbcColumn(rs));
+			}
+		}
+		finally {
+			DbUtils.closeQuietly(rs);
+		}
+
+		// JDBC requires the table name for the primary keys, indexes and foreign keys, read them over the same connection
+		for (final Entry<String, AbstractTable> entry : tablesToRead.entrySet()) {
+			final String[] names = existingTables.get(entry.getKey());
+			List<JdbcColumn> tableColumns = columns.get(entry.getKey());
+			if (tableColumns == null) {
+				tableColumns = Collections.emptyList();
+			}
+
+			this.tables.put(entry.getValue(), new JdbcTable(dbMetadata, names[0], names[1], names[2], tableColumns));
+		}
+	}
+
 	/**
 	 * Sets the insertBatchSize of the JdbcAdaptor.
 	 * 
@@ -1324,6 +1536,22 @@ public abstract class JdbcAdaptor extends AbstractJdbcAdaptor {
 		return true;
 	}
 
+	private String toStoredCase(DatabaseMetaData dbMetadata, String name) throws SQLException {
+		if (StringUtils.isBlank(name)) {
+			return null;
+		}
+
+		if (dbMetadata.storesUpperCaseIdentifiers()) {
+			return BatooUtils.upper(name);
+		}
+
+		if (dbMetadata.storesLowerCaseIdentifiers()) {
+			return BatooUtils.lower(name);
+		}
+
+		return name;
+	}
+
 	private void updateTable(DataSource datasource, AbstractTable table) {
 		final QueryRunner runner = new QueryRunner(datasource, this.isPmdBroken());
 
@@ -77,16 +77,45 @@ public class JdbcTable {
 	 * @since 2.0.0
 	 */
 	public JdbcTable(DatabaseMetaData dbMetadata, ResultSet metadata) throws SQLException {
+		this(dbMetadata, metadata.getString(JdbcTable.TABLE_CAT), metadata.getString(JdbcTable.TABLE_SCHEM), metadata.getString(JdbcTable.TABLE_NAME),
+			null);
+	}
+
+	/**
+	 * @param dbMetadata
+	 *            the JDBC database metadata
+	 * @param catalog
+	 *            the catalog of the table
+	 * @param schema
+	 *            the schema of the table
+	 * @param name
+	 *            the name of the table
+	 * @param columns
+	 *            the columns already read in a bulk sweep of the schema, or <code>null</code> to read them
+	 * @throws SQLException
+	 *             thrown in case of an SQL error.
+	 * 
+	 * @since 2.0.1
+	 */
+	public JdbcTable(DatabaseMetaData dbMetadata, String catalog, String schema, String name, Collection<JdbcColumn> columns) throws SQLException {
 		super();
 
-		this.catalog = metadata.getString(JdbcTable.TABLE_CAT);
-		this.schema = metadata.getString(JdbcTable.TABLE_SCHEM);
-		this.name = metadata.getString(JdbcTable.TABLE_NAME);
+		this.catalog = catalog;
+		this.schema = schema;
+		this.name = name;
 		this.pkName = this.readPrimaryKeyColumn(dbMetadata);
 
-		this.readColumns(dbMetadata);
+		if (columns != null) {
+			for (final JdbcColumn column : columns) {
+				this.columns.put(column.getName().toUpperCase(), column);
+			}
+		}
+		else {
+			this.readColumns(dbMetadata);
+		}
+
 		this.readIndexes(dbMetadata);
-		this.readForeignKeys(dbMetadata, metadata);
+		this.readForeignKeys(dbMetadata);
 	}
 
 	/**
@@ -213,7 +242,7 @@ public class JdbcTable {
 		}
 	}
 
-	private void readForeignKeys(DatabaseMetaData dbMetadata, ResultSet metadata) throws SQLException {
+	private void readForeignKeys(DatabaseMetaData dbMetadata) throws SQLException {
 		ResultSet rs = null;
 		try {
 			rs = dbMetadata.getImportedKeys(this.catalog, this.schema, this.name);
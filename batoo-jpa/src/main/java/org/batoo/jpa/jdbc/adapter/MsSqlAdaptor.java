@@ -18,6 +18,7 @@
  */
 package org.batoo.jpa.jdbc.adapter;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.List;
@@ -33,6 +34,8 @@ import org.batoo.jpa.jdbc.AbstractColumn;
 import org.batoo.jpa.jdbc.BasicColumn;
 import org.batoo.jpa.jdbc.IdType;
 import org.batoo.jpa.jdbc.NumericFunctionType;
+import org.batoo.jpa.jdbc.dbutils.QueryRunner;
+import org.batoo.jpa.jdbc.dbutils.SingleValueHandler;
 import org.batoo.jpa.jdbc.generator.SequenceGenerator;
 
 import com.google.common.base.Joiner;
@@ -262,6 +265,15 @@ public class MsSqlAdaptor extends JdbcAdaptor {
 		return "CURRENT_TIMESTAMP";
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String getCurrentSchema(Connection connection) throws SQLException {
+		return new QueryRunner().query(connection, "SELECT SCHEMA_NAME()", new SingleValueHandler<String>());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -18,6 +18,7 @@
  */
 package org.batoo.jpa.jdbc.adapter;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.List;
@@ -169,6 +170,16 @@ public class MySqlAdaptor extends JdbcAdaptor {
 		throw new IllegalArgumentException("Unhandled sql type: " + sqlType);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String getCurrentCatalog(Connection connection) throws SQLException {
+		// the databases are the catalogs of MySQL
+		return connection.getCatalog();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -18,6 +18,7 @@
  */
 package org.batoo.jpa.jdbc.adapter;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.List;
@@ -165,7 +166,7 @@ public class OracleAdaptor extends JdbcAdaptor {
 	public void createSequenceIfNecessary(DataSource datasource, SequenceGenerator sequence) {
 		final String sql = "CREATE SEQUENCE " + sequence.getQName() // ;
 			+ " START WITH " + sequence.getInitialValue() //
-			+ " INCREMENT BY " + sequence.getAllocationSize();
+			+ " INCREMENT BY " + sequence.getIncrementSize();
 
 		try {
 			new QueryRunner(datasource).update(sql);
@@ -223,6 +224,15 @@ public class OracleAdaptor extends JdbcAdaptor {
 		return "CURRENT_TIMESTAMP";
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String getCurrentSchema(Connection connection) throws SQLException {
+		return new QueryRunner().query(connection, "SELECT SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA') FROM DUAL", new SingleValueHandler<String>());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
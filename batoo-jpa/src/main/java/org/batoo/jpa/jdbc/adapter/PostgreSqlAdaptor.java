@@ -18,6 +18,7 @@
  */
 package org.batoo.jpa.jdbc.adapter;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.List;
@@ -130,7 +131,7 @@ public class PostgreSqlAdaptor extends JdbcAdaptor {
 		final String sql = "CREATE SEQUENCE " //
 			+ sequence.getSequenceName() // ;
 			+ " START WITH " + sequence.getInitialValue() //
-			+ " INCREMENT BY " + sequence.getAllocationSize();
+			+ " INCREMENT BY " + sequence.getIncrementSize();
 
 		try {
 			new QueryRunner(datasource).update(sql);
@@ -200,6 +201,15 @@ public class PostgreSqlAdaptor extends JdbcAdaptor {
 		throw new IllegalArgumentException("Unhandled sql type: " + sqlType);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String getCurrentSchema(Connection connection) throws SQLException {
+		return new QueryRunner().query(connection, "SELECT CURRENT_SCHEMA()", new SingleValueHandler<String>());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -18,6 +18,7 @@
  */
 package org.batoo.jpa.jdbc.adapter;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.List;
@@ -193,7 +194,7 @@ public class SawSqlAdaptor extends JdbcAdaptor {
 		final String sql = "CREATE SEQUENCE " //
 			+ sequence.getSequenceName() // ;
 			+ " START WITH " + sequence.getInitialValue() //
-			+ " INCREMENT BY " + sequence.getAllocationSize();
+			+ " INCREMENT BY " + sequence.getIncrementSize();
 
 		try {
 			new QueryRunner(datasource).update(sql);
@@ -269,6 +270,15 @@ public class SawSqlAdaptor extends JdbcAdaptor {
 		return "CURRENT_TIMESTAMP";
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected String getCurrentSchema(Connection connection) throws SQLException {
+		return new QueryRunner().query(connection, "SELECT CURRENT USER", new SingleValueHandler<String>());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
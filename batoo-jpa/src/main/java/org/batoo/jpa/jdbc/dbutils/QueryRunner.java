@@ -18,6 +18,8 @@
  */
 package org.batoo.jpa.jdbc.dbutils;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
@@ -32,12 +34,14 @@ import javax.sql.DataSource;
 
 import org.apache.commons.dbutils.DbUtils;
 import org.apache.commons.dbutils.ResultSetHandler;
+import org.batoo.jpa.jdbc.ParameterBinder;
 import org.batoo.jpa.jdbc.PreparedStatementProxy;
 import org.batoo.jpa.jdbc.adapter.JdbcAdaptor;
 import org.batoo.jpa.jdbc.adapter.OracleAdaptor;
 
 /**
- * Executes SQL queries with pluggable strategies for handling <code>ResultSet</code>s. This class is thread safe.
+ * Executes SQL queries with pluggable strategies for handling <code>ResultSet</code>s. This class is thread safe and instances can be shared
+ * across statements.
  * <p>
  * This class's code is based on original Apache DBUtils {@link org.apache.commons.dbutils.QueryRunner} class.
  * 
@@ -50,7 +54,6 @@ public class QueryRunner {
 
 	private JdbcAdaptor jdbcAdaptor;
 	private boolean pmdKnownBroken = false;
-	private ParameterMetaData pmd;
 
 	/**
 	 * Constructor for QueryRunner.
@@ -179,7 +182,7 @@ public class QueryRunner {
 	private void fillStatement(PreparedStatement statement, Object... params) throws SQLException {
 		// use local variable for performance
 		boolean pmdKnownBroken = this.pmdKnownBroken;
-		ParameterMetaData pmd = this.pmd;
+		ParameterMetaData pmd = null;
 		final boolean hasLob = this.hasLob;
 
 		if (pmdKnownBroken) {
@@ -192,7 +195,7 @@ public class QueryRunner {
 		// if the jdbc adaptor wants to modify the parameters we let it do it its own way
 		final JdbcAdaptor jdbcAdaptor = this.jdbcAdaptor;
 		if ((jdbcAdaptor != null) && jdbcAdaptor.modifiesParameters()) {
-			pmd = this.pmd = statement.getParameterMetaData();
+			pmd = statement.getParameterMetaData();
 
 			jdbcAdaptor.modifyParameters(pmd, params);
 		}
@@ -200,21 +203,8 @@ public class QueryRunner {
 		for (int i = 0; i < params.length; i++) {
 			final Object param = params[i];
 			if ((param != null) && (param != Void.TYPE)) {
-				if (hasLob && (param instanceof Clob)) {
-					if (this.jdbcAdaptor instanceof OracleAdaptor) {
-						statement.setCharacterStream(i + 1, ((Clob) param).getCharacterStream());
-					}
-					else {
-						statement.setClob(i + 1, (Clob) param);
-					}
-				}
-				else if (hasLob && (param instanceof Blob)) {
-					if (this.jdbcAdaptor instanceof OracleAdaptor) {
-						statement.setBinaryStream(i + 1, ((Blob) param).getBinaryStream());
-					}
-					else {
-						statement.setBlob(i + 1, (Blob) param);
-					}
+				if (hasLob && ((param instanceof Clob) || (param instanceof Blob) || (param instanceof InputStream) || (param instanceof Reader))) {
+					this.setLob(statement, i + 1, param);
 				}
 				else {
 					statement.setObject(i + 1, param);
@@ -222,7 +212,7 @@ public class QueryRunner {
 			}
 			else {
 				if (!pmdKnownBroken && (pmd == null)) {
-					pmd = this.pmd = statement.getParameterMetaData();
+					pmd = statement.getParameterMetaData();
 				}
 
 				// VARCHAR works with many drivers regardless of the actual column type.
@@ -243,6 +233,71 @@ public class QueryRunner {
 		}
 	}
 
+	/**
+	 * Fill the <code>PreparedStatement</code> replacement parameters with the given objects using the binders.
+	 * 
+	 * @param statement
+	 *            PreparedStatement to fill
+	 * @param binders
+	 *            the binders of the parameters
+	 * @param params
+	 *            Query replacement parameters
+	 * @throws SQLException
+	 *             if a database access error occurs
+	 */
+	private void fillStatement(PreparedStatement statement, ParameterBinder[] binders, Object[] params) throws SQLException {
+		final boolean pmdKnownBroken = this.pmdKnownBroken;
+
+		if (pmdKnownBroken) {
+			((PreparedStatementProxy) statement).setParamCount(params.length);
+		}
+		else {
+			((PreparedStatementProxy) statement).setParamCount(-1);
+		}
+
+		for (int i = 0; i < params.length; i++) {
+			final Object param = params[i];
+			final ParameterBinder binder = binders[i];
+
+			if (param == null) {
+				// Oracle's drivers accept only VARCHAR for nulls of some types
+				statement.setNull(i + 1, pmdKnownBroken ? Types.VARCHAR : binder.getSqlType());
+			}
+			else if ((param instanceof Clob) || (param instanceof Blob) || (param instanceof InputStream) || (param instanceof Reader)) {
+				this.setLob(statement, i + 1, param);
+			}
+			else {
+				binder.bind(statement, i + 1, param);
+			}
+		}
+	}
+
+	private void setLob(PreparedStatement statement, int index, Object param) throws SQLException {
+		// streams are handed to the driver without intermediate copies
+		if (param instanceof InputStream) {
+			statement.setBinaryStream(index, (InputStream) param);
+		}
+		else if (param instanceof Reader) {
+			statement.setCharacterStream(index, (Reader) param);
+		}
+		else if (param instanceof Clob) {
+			if (this.jdbcAdaptor instanceof OracleAdaptor) {
+				statement.setCharacterStream(index, ((Clob) param).getCharacterStream());
+			}
+			else {
+				statement.setClob(index, (Clob) param);
+			}
+		}
+		else {
+			if (this.jdbcAdaptor instanceof OracleAdaptor) {
+				statement.setBinaryStream(index, ((Blob) param).getBinaryStream());
+			}
+			else {
+				statement.setBlob(index, (Blob) param);
+			}
+		}
+	}
+
 	/**
 	 * Calls query after checking the parameters to ensure nothing is null.
 	 * 
@@ -431,6 +486,43 @@ public class QueryRunner {
 		return this.update(connection, false, sql, (Object[]) null);
 	}
 
+	/**
+	 * Execute an SQL INSERT, UPDATE, or DELETE query binding the parameters with the binders.
+	 * <p>
+	 * Unlike {@link #update(Connection, String, Object...)}, neither the parameter metadata is consulted nor the
+	 * {@link JdbcAdaptor#modifyParameters(ParameterMetaData, Object[])} is called, the binders are expected to bind the values as per the
+	 * SQL types of the columns.
+	 * 
+	 * @param connection
+	 *            The connection to use to run the query.
+	 * @param sql
+	 *            The SQL to execute.
+	 * @param binders
+	 *            The binders of the parameters.
+	 * @param params
+	 *            The query replacement parameters.
+	 * @return The number of rows updated.
+	 * @throws SQLException
+	 *             if a database access error occurs
+	 * 
+	 * @since 2.0.1
+	 */
+	public int update(Connection connection, String sql, ParameterBinder[] binders, Object[] params) throws SQLException {
+		PreparedStatement statement = null;
+		try {
+			statement = connection.prepareStatement(sql);
+			this.fillStatement(statement, binders, params);
+
+			return statement.executeUpdate();
+		}
+		catch (final SQLException e) {
+			throw this.convertSqlException(e, sql, params);
+		}
+		finally {
+			DbUtils.close(statement);
+		}
+	}
+
 	/**
 	 * Execute an SQL INSERT, UPDATE, or DELETE query.
 	 * 
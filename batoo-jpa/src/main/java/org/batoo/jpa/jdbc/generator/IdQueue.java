@@ -20,18 +20,51 @@ package org.batoo.jpa.jdbc.generator;
 
 import java.sql.SQLException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.batoo.common.log.BLogger;
 import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.annotations.IdOptimizerType;
+import org.batoo.jpa.jdbc.AbstractGenerator;
 
 /**
+ * Id generator that hands out ids from the blocks of <code>[lo, hi)</code> that are pre-fetched from the database.
+ * <p>
+ * Each block is derived from a single value obtained from the database as per the {@link AbstractGenerator#getOptimizer() optimizer}
+ * of the generator.
+ * <p>
+ * Ids are served from the current block through an atomic counter. As soon as a block is taken into use the next block is fetched
+ * asynchronously, so that the consumers only wait for the database if the ids are consumed faster than the blocks can be fetched. The
+ * consumers switch the current block atomically and wait for the blocks each within its own timeout.
  * 
  * @author hceylan
  * @since 2.0.0
  */
-public abstract class IdQueue extends LinkedBlockingQueue<Long> {
+public abstract class IdQueue {
+
+	/**
+	 * A block of ids in the range of <code>[lo, hi)</code>.
+	 * 
+	 * @author hceylan
+	 * @since 2.0.1
+	 */
+	private static final class Block {
+
+		private final AtomicLong next;
+		private final long hi;
+
+		private Block(long lo, long hi) {
+			super();
+
+			this.next = new AtomicLong(lo);
+			this.hi = hi;
+		}
+	}
 
 	/**
 	 * 
@@ -42,107 +75,225 @@ public abstract class IdQueue extends LinkedBlockingQueue<Long> {
 
 		@Override
 		public void run() {
-			IdQueue.this.doTopUp(this);
+			IdQueue.this.doTopUp();
 		}
 	}
 
-	private static final long serialVersionUID = 1L;
-
 	private static final BLogger LOG = BLoggerFactory.getLogger(IdQueue.class);
 
+	private static final long RETRY_INTERVAL = 1000;
+
 	private final String name;
 	private final int allocationSize;
+	private final int initialValue;
+	private final IdOptimizerType optimizer;
 
 	private final ExecutorService idExecuter;
 
+	private final AtomicReference<Block> current = new AtomicReference<Block>(new Block(0, 0));
+	private final LinkedBlockingDeque<Block> blocks = new LinkedBlockingDeque<Block>();
+	private final AtomicBoolean topUpScheduled = new AtomicBoolean();
+	private final Object monitor = new Object();
+
 	/**
 	 * @param idExecuter
 	 *            the executor service to submit refill tasks
 	 * @param name
 	 *            the physical name of the sequence or pkvalue of the table
-	 * @param allocationSize
-	 *            the allocations size
+	 * @param generator
+	 *            the generator
 	 * 
 	 * @since 2.0.0
 	 */
-	public IdQueue(ExecutorService idExecuter, String name, int allocationSize) {
+	public IdQueue(ExecutorService idExecuter, String name, AbstractGenerator generator) {
 		super();
 
 		this.idExecuter = idExecuter;
 		this.name = name;
-		this.allocationSize = allocationSize;
-
-		this.idExecuter.execute(new TopUpTask());
+		this.allocationSize = generator.getAllocationSize();
+		this.initialValue = generator.getInitialValue();
+		this.optimizer = generator.getOptimizer();
 	}
 
 	/**
-	 * Tops up the queue.
-	 * 
-	 * @param runnable
-	 *            the runnable to run to top-up
+	 * Fetches the next block from the database.
 	 * 
 	 * @since 2.0.0
 	 */
-	protected void doTopUp(Runnable runnable) {
-		if (this.idExecuter.isShutdown()) {
-			return;
-		}
+	protected void doTopUp() {
+		Block block = null;
+
+		try {
+			if (this.idExecuter.isShutdown()) {
+				return;
+			}
 
-		if (this.size() <= (this.allocationSize)) {
 			IdQueue.LOG.debug("Ids will be fetched for {0} from the database...", this.name);
 
-			try {
-				final long nextSequence = this.getNextId();
-				for (int i = 0; i < this.allocationSize; i++) {
-					this.put(nextSequence + i);
-				}
-			}
-			catch (final InterruptedException e) {
+			block = this.toBlock(this.getNextId());
+		}
+		catch (final Exception e) {
+			if (this.idExecuter.isShutdown()) {
 				return;
 			}
-			catch (final Exception e) {
-				try {
-					Thread.currentThread();
-					Thread.sleep(1000);
-				}
-				catch (final InterruptedException e1) {}
 
-				if (this.idExecuter.isShutdown()) {
-					return;
+			IdQueue.LOG.fatal(e, "Cannot get next id from the database!");
+		}
+		finally {
+			// cleared before the block is visible, so that the consumer taking it can schedule the next top up
+			this.topUpScheduled.set(false);
+		}
+
+		if (block != null) {
+			this.blocks.offer(block);
+
+			this.signal();
+		}
+	}
+
+	/**
+	 * Returns the next value of the sequence or the table from the database.
+	 * 
+	 * @return the next value
+	 * @throws SQLException
+	 *             thrown in case of an underlying SQL error
+	 * 
+	 * @since 2.0.0
+	 */
+	protected abstract long getNextId() throws SQLException;
+
+	/**
+	 * Switches to the next block once the <code>exhausted</code> block is used up.
+	 * 
+	 * @param exhausted
+	 *            the block that is used up
+	 * @param timeout
+	 *            the time to wait for the next block
+	 * @param unit
+	 *            the unit of the timeout
+	 * @return the block to serve the ids from
+	 * @throws InterruptedException
+	 *             thrown if interrupted while waiting
+	 * @throws TimeoutException
+	 *             thrown if no block is fetched in the allowed time
+	 * 
+	 * @since 2.0.1
+	 */
+	private Block nextBlock(Block exhausted, long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+		final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+		while (true) {
+			// another consumer already switched the block
+			final Block current = this.current.get();
+			if (current != exhausted) {
+				return current;
+			}
+
+			final Block block = this.blocks.poll();
+			if (block != null) {
+				if (this.current.compareAndSet(exhausted, block)) {
+					// prefetch the next block while the current one is used
+					if (this.blocks.isEmpty()) {
+						this.scheduleTopUp();
+					}
+
+					this.signal();
+
+					return block;
 				}
 
-				IdQueue.LOG.fatal(e, "Cannot get next id from the database!");
+				// lost the race to another consumer, give the block back to be served next
+				this.blocks.offerFirst(block);
+
+				continue;
 			}
-		}
 
-		try {
-			Thread.sleep(1);
-		}
-		catch (final InterruptedException e) {
-			return;
+			final long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				throw new TimeoutException();
+			}
+
+			// retry in case the previous attempt failed
+			this.scheduleTopUp();
+
+			// the monitor is released while waiting, so that the other consumers wait within their own timeouts
+			synchronized (this.monitor) {
+				if ((this.current.get() == exhausted) && this.blocks.isEmpty()) {
+					TimeUnit.NANOSECONDS.timedWait(this.monitor, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(IdQueue.RETRY_INTERVAL)));
+				}
+			}
 		}
 	}
 
 	/**
-	 * Returns the next value from the database.
+	 * Returns the next id.
 	 * 
+	 * @param timeout
+	 *            the time to wait for the ids to be fetched
+	 * @param unit
+	 *            the unit of the timeout
 	 * @return the next id
-	 * @throws SQLException
+	 * @throws InterruptedException
+	 *             thrown if interrupted while waiting
+	 * @throws TimeoutException
+	 *             thrown if the ids cannot be fetched in the allowed time
 	 * 
 	 * @since 2.0.0
 	 */
-	protected abstract Long getNextId() throws SQLException;
+	public long poll(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+		Block block = this.current.get();
+
+		while (true) {
+			final long id = block.next.getAndIncrement();
+			if (id < block.hi) {
+				return id;
+			}
+
+			block = this.nextBlock(block, timeout, unit);
+		}
+	}
+
+	/**
+	 * Starts fetching the first block of ids.
+	 * 
+	 * @since 2.0.1
+	 */
+	public void prefill() {
+		this.scheduleTopUp();
+	}
 
 	/**
-	 * {@inheritDoc}
+	 * Returns the block of ids for the <code>value</code> obtained from the database.
+	 * 
+	 * @param value
+	 *            the value obtained from the database
+	 * @return the block of ids
 	 * 
+	 * @since 2.0.1
 	 */
-	@Override
-	public Long poll(long timeout, TimeUnit unit) throws InterruptedException {
-		if (this.size() < (this.allocationSize * 2)) {
+	private Block toBlock(long value) {
+		switch (this.optimizer) {
+			case HILO:
+				final long lo = this.initialValue + ((value - this.initialValue) * this.allocationSize);
+
+				return new Block(lo, lo + this.allocationSize);
+			case POOLED:
+				// values below the initial value are never given out by the database
+				return new Block(Math.max(this.initialValue, (value - this.allocationSize) + 1), value + 1);
+			default:
+				return new Block(value, value + this.allocationSize);
+		}
+	}
+
+	private void scheduleTopUp() {
+		if (!this.idExecuter.isShutdown() && this.topUpScheduled.compareAndSet(false, true)) {
 			this.idExecuter.execute(new TopUpTask());
 		}
+	}
 
-		return super.poll(timeout, unit);
+	private void signal() {
+		synchronized (this.monitor) {
+			this.monitor.notifyAll();
+		}
 	}
 }
@@ -19,6 +19,7 @@
 package org.batoo.jpa.jdbc.generator;
 
 import org.apache.commons.lang.StringUtils;
+import org.batoo.jpa.annotations.IdOptimizerType;
 import org.batoo.jpa.jdbc.AbstractGenerator;
 import org.batoo.jpa.parser.metadata.SequenceGeneratorMetadata;
 
@@ -39,11 +40,13 @@ public class SequenceGenerator extends AbstractGenerator {
 	/**
 	 * @param metadata
 	 *            the metadata
+	 * @param optimizer
+	 *            the optimizer overriding the one of the metadata or <code>null</code>
 	 * 
 	 * @since 2.0.0
 	 */
-	public SequenceGenerator(SequenceGeneratorMetadata metadata) {
-		super(metadata);
+	public SequenceGenerator(SequenceGeneratorMetadata metadata, IdOptimizerType optimizer) {
+		super(metadata, optimizer);
 
 		this.sequenceName = (metadata != null) && StringUtils.isNotBlank(metadata.getName()) ? metadata.getName() : SequenceGenerator.DEFAULT_SEQUENCE_NAME;
 	}
@@ -33,8 +33,7 @@ import org.batoo.jpa.jdbc.adapter.JdbcAdaptor;
  */
 public class SequenceQueue extends IdQueue {
 
-	private static final long serialVersionUID = 1L;
-	private transient final JdbcAdaptor jdbcAdaptor;
+	private final JdbcAdaptor jdbcAdaptor;
 	private final DataSource datasource;
 	private final String sequenceName;
 
@@ -45,19 +44,17 @@ public class SequenceQueue extends IdQueue {
 	 *            the datasource to use
 	 * @param idExecuter
 	 *            the executor service to submit refill tasks
-	 * @param sequenceName
-	 *            the physical name of the sequence
-	 * @param allocationSize
-	 *            the allocations size
+	 * @param generator
+	 *            the sequence generator
 	 * 
 	 * @since 2.0.0
 	 */
-	public SequenceQueue(JdbcAdaptor jdbcAdaptor, DataSource datasource, ExecutorService idExecuter, String sequenceName, int allocationSize) {
-		super(idExecuter, sequenceName, allocationSize);
+	public SequenceQueue(JdbcAdaptor jdbcAdaptor, DataSource datasource, ExecutorService idExecuter, SequenceGenerator generator) {
+		super(idExecuter, generator.getSequenceName(), generator);
 
 		this.jdbcAdaptor = jdbcAdaptor;
 		this.datasource = datasource;
-		this.sequenceName = sequenceName;
+		this.sequenceName = generator.getSequenceName();
 	}
 
 	/**
@@ -65,7 +62,7 @@ public class SequenceQueue extends IdQueue {
 	 * 
 	 */
 	@Override
-	protected Long getNextId() throws SQLException {
+	protected long getNextId() throws SQLException {
 		return this.jdbcAdaptor.getNextSequence(this.datasource, this.sequenceName);
 	}
 }
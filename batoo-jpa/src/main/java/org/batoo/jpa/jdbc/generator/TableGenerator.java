@@ -19,6 +19,7 @@
 package org.batoo.jpa.jdbc.generator;
 
 import org.apache.commons.lang.StringUtils;
+import org.batoo.jpa.annotations.IdOptimizerType;
 import org.batoo.jpa.jdbc.AbstractGenerator;
 import org.batoo.jpa.parser.metadata.TableGeneratorMetadata;
 
@@ -44,11 +45,13 @@ public class TableGenerator extends AbstractGenerator {
 	/**
 	 * @param metadata
 	 *            the metadata
+	 * @param optimizer
+	 *            the optimizer overriding the one of the metadata or <code>null</code>
 	 * 
 	 * @since 2.0.0
 	 */
-	public TableGenerator(TableGeneratorMetadata metadata) {
-		super(metadata);
+	public TableGenerator(TableGeneratorMetadata metadata, IdOptimizerType optimizer) {
+		super(metadata, optimizer);
 
 		this.table = (metadata != null) && StringUtils.isNotBlank(metadata.getTable()) ? metadata.getTable() : TableGenerator.DEFAULT_TABLE_NAME;
 
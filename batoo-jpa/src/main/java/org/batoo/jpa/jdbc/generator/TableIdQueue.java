@@ -35,18 +35,14 @@ import org.batoo.jpa.jdbc.dbutils.SingleValueHandler;
  */
 public class TableIdQueue extends IdQueue {
 
-	private static final long serialVersionUID = 1L;
-
 	private final DataSource datasource;
-	private transient final TableGenerator generator;
-	private transient final JdbcAdaptor jdbcAdaptor;
+	private final TableGenerator generator;
+	private final JdbcAdaptor jdbcAdaptor;
 
 	private String selectSql;
 	private String insertSql;
 	private String updateSql;
 
-	private Long nextId;
-
 	/**
 	 * @param jdbcAdaptor
 	 *            the JDBC adaptor
@@ -60,7 +56,7 @@ public class TableIdQueue extends IdQueue {
 	 * @since 2.0.0
 	 */
 	public TableIdQueue(JdbcAdaptor jdbcAdaptor, DataSource datasource, ExecutorService idExecuter, TableGenerator generator) {
-		super(idExecuter, generator.getName(), generator.getAllocationSize());
+		super(idExecuter, generator.getName(), generator);
 
 		this.jdbcAdaptor = jdbcAdaptor;
 		this.datasource = datasource;
@@ -77,24 +73,39 @@ public class TableIdQueue extends IdQueue {
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The value is incremented with a compare-and-set update so that the generator stays correct when the table is shared with other
+	 * writers.
 	 * 
 	 */
 	@Override
-	protected synchronized Long getNextId() throws SQLException {
+	protected synchronized long getNextId() throws SQLException {
 		final QueryRunner runner = new QueryRunner(this.datasource, this.jdbcAdaptor.isPmdBroken());
-
-		final Number nextId = runner.query(this.getSelectSql(), new SingleValueHandler<Number>(), this.generator.getPkColumnValue());
-		if (nextId == null) {
-			runner.update(this.getInsertSql(), this.generator.getPkColumnValue(), this.generator.getAllocationSize() + 1);
-			this.nextId = 1l;
+		final String pkColumnValue = this.generator.getPkColumnValue();
+
+		while (true) {
+			final Number value = runner.query(this.getSelectSql(), new SingleValueHandler<Number>(), pkColumnValue);
+			if (value == null) {
+				try {
+					runner.update(this.getInsertSql(), pkColumnValue, this.generator.getInitialValue());
+
+					return this.generator.getInitialValue();
+				}
+				catch (final SQLException e) {
+					// rethrow unless another writer has inserted the row in the meantime
+					if (runner.query(this.getSelectSql(), new SingleValueHandler<Number>(), pkColumnValue) == null) {
+						throw e;
+					}
+
+					continue;
+				}
+			}
+
+			final long nextValue = value.longValue() + this.generator.getIncrementSize();
+			if (runner.update(this.getUpdateSql(), nextValue, pkColumnValue, value.longValue()) == 1) {
+				return nextValue;
+			}
 		}
-		else {
-			this.nextId = nextId.longValue();
-			this.nextId += this.generator.getAllocationSize();
-			runner.update(this.getUpdateSql(), this.nextId, this.generator.getPkColumnValue());
-		}
-
-		return this.nextId;
 	}
 
 	private String getSelectSql() {
@@ -108,7 +119,7 @@ public class TableIdQueue extends IdQueue {
 	}
 
 	/**
-	 * Returns the query to update the id table.
+	 * Returns the query to update the id table provided that the value has not been changed by another writer.
 	 * 
 	 * @return the query to update the id table
 	 * 
@@ -118,7 +129,8 @@ public class TableIdQueue extends IdQueue {
 		if (this.updateSql == null) {
 			this.updateSql = "UPDATE " + this.generator.getTable() + //
 				"\nSET " + this.generator.getValueColumnName() + " = ?" + //
-				"\nWHERE " + this.generator.getPkColumnName() + " = ?";
+				"\nWHERE " + this.generator.getPkColumnName() + " = ?" + //
+				"\nAND " + this.generator.getValueColumnName() + " = ?";
 		}
 
 		return this.updateSql;
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.jdbc.generator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process generator for time-ordered ids that requires no database round trip.
+ * <p>
+ * The generator produces either 64-bit ids laid out as 41 bits of milliseconds since {@link #EPOCH}, 10 bits of node id and 12 bits of
+ * sequence, or UUID version 7 values whose random part carries the node id. Ids generated by a single generator are strictly
+ * increasing; should the sequence within a millisecond overflow or the clock move backwards, the generator keeps counting on the last
+ * timestamp rather than waiting for the clock.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class TimeOrderedIdGenerator {
+
+	/**
+	 * The epoch of the 64-bit ids, 2012-01-01T00:00:00Z.
+	 */
+	public static final long EPOCH = 1325376000000l;
+
+	/**
+	 * The maximum node id allowed.
+	 */
+	public static final int MAX_NODE_ID = 1023;
+
+	private static final int NODE_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	private static final long SEQUENCE_MASK = (1l << TimeOrderedIdGenerator.SEQUENCE_BITS) - 1;
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	/**
+	 * Returns a random node id.
+	 * 
+	 * @return a random node id
+	 * 
+	 * @since 2.0.1
+	 */
+	public static int randomNodeId() {
+		return TimeOrderedIdGenerator.RANDOM.nextInt(TimeOrderedIdGenerator.MAX_NODE_ID + 1);
+	}
+
+	private final int nodeId;
+	private final long uuidLsb;
+
+	// the last unix timestamp in the high bits and the sequence in the lower bits
+	private final AtomicLong state = new AtomicLong();
+
+	/**
+	 * @param nodeId
+	 *            the id of the node between <code>0</code> and {@link #MAX_NODE_ID}
+	 * 
+	 * @since 2.0.1
+	 */
+	public TimeOrderedIdGenerator(int nodeId) {
+		super();
+
+		if ((nodeId < 0) || (nodeId > TimeOrderedIdGenerator.MAX_NODE_ID)) {
+			throw new IllegalArgumentException("Node id must be between 0 and " + TimeOrderedIdGenerator.MAX_NODE_ID + ": " + nodeId);
+		}
+
+		this.nodeId = nodeId;
+
+		// variant, node id and a random part that tells apart the generators of the same node
+		final long random = TimeOrderedIdGenerator.RANDOM.nextLong() & ((1l << (62 - TimeOrderedIdGenerator.NODE_BITS)) - 1);
+		this.uuidLsb = 0x8000000000000000l | ((long) nodeId << (62 - TimeOrderedIdGenerator.NODE_BITS)) | random;
+	}
+
+	/**
+	 * Returns the node id of the generator.
+	 * 
+	 * @return the node id of the generator
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getNodeId() {
+		return this.nodeId;
+	}
+
+	/**
+	 * Returns the next 64-bit id.
+	 * 
+	 * @return the next 64-bit id
+	 * 
+	 * @since 2.0.1
+	 */
+	public long nextLong() {
+		final long next = this.nextState();
+		final long time = (next >>> TimeOrderedIdGenerator.SEQUENCE_BITS) - TimeOrderedIdGenerator.EPOCH;
+
+		return (time << (TimeOrderedIdGenerator.NODE_BITS + TimeOrderedIdGenerator.SEQUENCE_BITS)) //
+			| ((long) this.nodeId << TimeOrderedIdGenerator.SEQUENCE_BITS) //
+			| (next & TimeOrderedIdGenerator.SEQUENCE_MASK);
+	}
+
+	private long nextState() {
+		final long now = System.currentTimeMillis() << TimeOrderedIdGenerator.SEQUENCE_BITS;
+
+		while (true) {
+			final long last = this.state.get();
+			final long next = Math.max(last + 1, now);
+
+			if (this.state.compareAndSet(last, next)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * Returns the next UUID version 7 value.
+	 * 
+	 * @return the next UUID version 7 value
+	 * 
+	 * @since 2.0.1
+	 */
+	public UUID nextUuid() {
+		final long next = this.nextState();
+
+		// 48 bits of unix milliseconds, the version and 12 bits of sequence
+		final long msb = ((next >>> TimeOrderedIdGenerator.SEQUENCE_BITS) << 16) | 0x7000l | (next & TimeOrderedIdGenerator.SEQUENCE_MASK);
+
+		return new UUID(msb, this.uuidLsb);
+	}
+}
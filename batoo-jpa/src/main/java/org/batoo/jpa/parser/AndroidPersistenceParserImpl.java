@@ -150,6 +150,15 @@ public class AndroidPersistenceParserImpl implements PersistenceParser {
 		return cacheMode == null ? SharedCacheMode.NONE : SharedCacheMode.valueOf(cacheMode.name());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public DeploymentSnapshot getSnapshot() {
+		return null;
+	}
+
 	/**
 	 * Returns if the persistence unit has validators
 	 * 
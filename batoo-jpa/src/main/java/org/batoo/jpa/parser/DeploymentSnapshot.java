@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.parser;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.PersistenceException;
+import javax.persistence.spi.PersistenceUnitInfo;
+
+import org.batoo.common.BatooVersion;
+import org.batoo.common.log.BLogger;
+import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.parser.impl.metadata.MetadataImpl;
+import org.batoo.jpa.parser.metadata.type.ManagedTypeMetadata;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Snapshot of the resolved deployment of a persistence unit, created at build time by the Batoo maven plugin.
+ * <p>
+ * The snapshot records the managed classes of the persistence unit. When the checksum of the snapshot matches the classes and mapping
+ * files at runtime, the managed classes are not resolved again. The checksum covers the classes listed in the persistence unit, the
+ * class files of the managed classes and the mapping files, so that the snapshot is verified without scanning the persistence roots. As
+ * the roots are not scanned, an annotated class added to the roots after the build is not noticed until the snapshot is created again.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class DeploymentSnapshot implements Serializable {
+
+	private static final long serialVersionUID = BatooVersion.SERIAL_VERSION_UID;
+
+	/**
+	 * The resource folder of the snapshots.
+	 */
+	public static final String SNAPSHOT_FOLDER = "META-INF/batoo/";
+
+	/**
+	 * The extension of the snapshot resources.
+	 */
+	public static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+	private static final int FORMAT_VERSION = 3;
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final BLogger LOG = BLoggerFactory.getLogger(DeploymentSnapshot.class);
+
+	/**
+	 * Creates the snapshot of the parsed persistence unit.
+	 * 
+	 * @param puInfo
+	 *            the persistence unit info
+	 * @param parser
+	 *            the persistence parser that parsed the unit
+	 * @param ormMappingFiles
+	 *            the ORM mapping files of the persistence unit
+	 * @return the snapshot
+	 * 
+	 * @since 2.0.1
+	 */
+	public static DeploymentSnapshot create(PersistenceUnitInfo puInfo, PersistenceParser parser, List<String> ormMappingFiles) {
+		final MetadataImpl metadata = parser.getMetadata();
+
+		final List<String> managedClasses = Lists.newArrayList();
+		for (final ManagedTypeMetadata type : metadata.getEntityMappings()) {
+			managedClasses.add(type.getClassName());
+		}
+
+		Collections.sort(managedClasses);
+
+		final String checksum = DeploymentSnapshot.computeChecksum(puInfo, managedClasses, ormMappingFiles);
+
+		return new DeploymentSnapshot(puInfo.getPersistenceUnitName(), checksum, managedClasses);
+	}
+
+	private static String computeChecksum(PersistenceUnitInfo puInfo, List<String> managedClasses, List<String> ormMappingFiles) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("MD5");
+			final ClassLoader classloader = puInfo.getClassLoader();
+
+			digest.update(Integer.toString(DeploymentSnapshot.FORMAT_VERSION).getBytes("UTF-8"));
+
+			final String version = DeploymentSnapshot.class.getPackage().getImplementationVersion();
+			if (version != null) {
+				digest.update(version.getBytes("UTF-8"));
+			}
+
+			// the classes listed in the persistence unit, the roots are not scanned
+			digest.update(Boolean.toString(puInfo.excludeUnlistedClasses()).getBytes("UTF-8"));
+
+			final List<String> listedClasses = Lists.newArrayList(puInfo.getManagedClassNames());
+			Collections.sort(listedClasses);
+
+			for (final String className : listedClasses) {
+				digest.update(className.getBytes("UTF-8"));
+			}
+
+			for (final String className : managedClasses) {
+				digest.update(className.getBytes("UTF-8"));
+				DeploymentSnapshot.digestResource(digest, classloader, className.replace('.', '/') + ".class");
+			}
+
+			for (final String ormMappingFile : ormMappingFiles) {
+				digest.update(ormMappingFile.getBytes("UTF-8"));
+				DeploymentSnapshot.digestResource(digest, classloader, ormMappingFile);
+			}
+
+			final StringBuilder checksum = new StringBuilder();
+			for (final byte b : digest.digest()) {
+				checksum.append(Integer.toHexString((b & 0xff) | 0x100).substring(1));
+			}
+
+			return checksum.toString();
+		}
+		catch (final Exception e) {
+			throw new PersistenceException("Cannot compute the checksum of the persistence unit " + puInfo.getPersistenceUnitName(), e);
+		}
+	}
+
+	private static void digestResource(MessageDigest digest, ClassLoader classloader, String resource) throws IOException {
+		final InputStream is = classloader.getResourceAsStream(resource);
+		if (is == null) {
+			return;
+		}
+
+		try {
+			final byte[] buffer = new byte[DeploymentSnapshot.BUFFER_SIZE];
+
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		finally {
+			is.close();
+		}
+	}
+
+	/**
+	 * Returns the resource name of the snapshot of the persistence unit.
+	 * 
+	 * @param unitName
+	 *            the name of the persistence unit
+	 * @return the resource name of the snapshot
+	 * 
+	 * @since 2.0.1
+	 */
+	public static String getResourceName(String unitName) {
+		return DeploymentSnapshot.SNAPSHOT_FOLDER + unitName + DeploymentSnapshot.SNAPSHOT_EXTENSION;
+	}
+
+	/**
+	 * Loads the snapshot of the persistence unit.
+	 * 
+	 * @param puInfo
+	 *            the persistence unit info
+	 * @param ormMappingFiles
+	 *            the ORM mapping files of the persistence unit
+	 * @return the snapshot or <code>null</code> if there is no snapshot or the snapshot does not match the persistence unit
+	 * 
+	 * @since 2.0.1
+	 */
+	public static DeploymentSnapshot load(PersistenceUnitInfo puInfo, List<String> ormMappingFiles) {
+		final String resourceName = DeploymentSnapshot.getResourceName(puInfo.getPersistenceUnitName());
+
+		final InputStream is = puInfo.getClassLoader().getResourceAsStream(resourceName);
+		if (is == null) {
+			return null;
+		}
+
+		final DeploymentSnapshot snapshot;
+		try {
+			try {
+				snapshot = (DeploymentSnapshot) new ObjectInputStream(is).readObject();
+			}
+			finally {
+				is.close();
+			}
+		}
+		catch (final Exception e) {
+			DeploymentSnapshot.LOG.warn(e, "Cannot read the deployment snapshot {0}, performing full deployment", resourceName);
+
+			return null;
+		}
+
+		if (snapshot.formatVersion != DeploymentSnapshot.FORMAT_VERSION) {
+			DeploymentSnapshot.LOG.info("Deployment snapshot {0} has format version {1}, performing full deployment", resourceName, snapshot.formatVersion);
+
+			return null;
+		}
+
+		if (!snapshot.checksum.equals(DeploymentSnapshot.computeChecksum(puInfo, snapshot.managedClasses, ormMappingFiles))) {
+			DeploymentSnapshot.LOG.info("Deployment snapshot {0} is out of date, performing full deployment", resourceName);
+
+			return null;
+		}
+
+		DeploymentSnapshot.LOG.debug("Using deployment snapshot {0}", resourceName);
+
+		return snapshot;
+	}
+
+	private final int formatVersion;
+	private final String unitName;
+	private final String checksum;
+	private final List<String> managedClasses;
+
+	private DeploymentSnapshot(String unitName, String checksum, List<String> managedClasses) {
+		super();
+
+		this.formatVersion = DeploymentSnapshot.FORMAT_VERSION;
+		this.unitName = unitName;
+		this.checksum = checksum;
+		this.managedClasses = managedClasses;
+	}
+
+	/**
+	 * Returns the managed classes of the persistence unit.
+	 * 
+	 * @return the managed classes of the persistence unit
+	 * 
+	 * @since 2.0.1
+	 */
+	public Collection<String> getManagedClasses() {
+		return Collections.unmodifiableList(this.managedClasses);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public String toString() {
+		return "DeploymentSnapshot [unitName=" + this.unitName + ", checksum=" + this.checksum + ", managedClasses="
+			+ this.managedClasses.size() + "]";
+	}
+
+	/**
+	 * Writes the snapshot under the output folder.
+	 * 
+	 * @param outputFolder
+	 *            the output folder, typically the classes folder of the build
+	 * @return the file written
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	public File write(File outputFolder) throws IOException {
+		final File file = new File(outputFolder, DeploymentSnapshot.getResourceName(this.unitName));
+		file.getParentFile().mkdirs();
+
+		final OutputStream os = new FileOutputStream(file);
+		try {
+			final ObjectOutputStream oos = new ObjectOutputStream(os);
+			oos.writeObject(this);
+			oos.flush();
+		}
+		finally {
+			os.close();
+		}
+
+		return file;
+	}
+}
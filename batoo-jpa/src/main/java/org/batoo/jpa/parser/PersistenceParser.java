@@ -96,6 +96,15 @@ public interface PersistenceParser {
 	 */
 	SharedCacheMode getSharedCacheMode();
 
+	/**
+	 * Returns the deployment snapshot of the persistence unit.
+	 * 
+	 * @return the deployment snapshot or <code>null</code> if there is no snapshot matching the persistence unit
+	 * 
+	 * @since 2.0.1
+	 */
+	DeploymentSnapshot getSnapshot();
+
 	/**
 	 * Returns if the persistence unit has validators
 	 * 
@@ -29,9 +29,11 @@ import javax.sql.DataSource;
 
 import org.batoo.common.log.BLogger;
 import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.BJPASettings;
 import org.batoo.jpa.parser.impl.OrmParser;
 import org.batoo.jpa.parser.impl.metadata.MetadataImpl;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 /**
@@ -60,6 +62,7 @@ public class PersistenceParserImpl implements PersistenceParser {
 
 	private final MetadataImpl metadata;
 	private final List<String> ormMappingFiles;
+	private final DeploymentSnapshot snapshot;
 
 	private final boolean hasValidators;
 
@@ -92,10 +95,17 @@ public class PersistenceParserImpl implements PersistenceParser {
 		this.hasValidators = this.createHasValidators(puInfo);
 		this.metadata = new MetadataImpl();
 		this.ormMappingFiles = puInfo.getMappingFileNames();
+		this.snapshot = this.loadSnapshot(puInfo);
 
 		this.parseOrmXmls();
 
-		this.metadata.parse(puInfo);
+		// the snapshot lists the managed classes so the classpath need not be scanned
+		if (this.snapshot != null) {
+			this.metadata.parse(puInfo.getClassLoader(), this.snapshot.getManagedClasses());
+		}
+		else {
+			this.metadata.parse(puInfo);
+		}
 	}
 
 	/**
@@ -171,6 +181,21 @@ public class PersistenceParserImpl implements PersistenceParser {
 		return this.puInfo.getNonJtaDataSource();
 	}
 
+	/**
+	 * Returns the ORM mapping files of the persistence unit.
+	 * 
+	 * @return the ORM mapping files of the persistence unit
+	 * 
+	 * @since 2.0.1
+	 */
+	public List<String> getOrmMappingFiles() {
+		if (this.ormMappingFiles.size() > 0) {
+			return this.ormMappingFiles;
+		}
+
+		return Lists.newArrayList(PersistenceParserImpl.ORM_XML);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -198,6 +223,15 @@ public class PersistenceParserImpl implements PersistenceParser {
 		return this.puInfo.getSharedCacheMode();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public DeploymentSnapshot getSnapshot() {
+		return this.snapshot;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -207,6 +241,15 @@ public class PersistenceParserImpl implements PersistenceParser {
 		return this.hasValidators;
 	}
 
+	private DeploymentSnapshot loadSnapshot(PersistenceUnitInfo puInfo) {
+		final Object useSnapshot = this.properties.get(BJPASettings.DEPLOYMENT_SNAPSHOT);
+		if ((useSnapshot != null) && !Boolean.valueOf(String.valueOf(useSnapshot))) {
+			return null;
+		}
+
+		return DeploymentSnapshot.load(puInfo, this.getOrmMappingFiles());
+	}
+
 	/**
 	 * Parses a single ORM XML File.
 	 * 
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.parser.impl.acl;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Set;
+
+import javax.persistence.PersistenceException;
+
+import org.batoo.common.log.BLogger;
+import org.batoo.common.log.BLoggerFactory;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Index of the annotated persistent classes in a persistence root, created at build time by the Batoo maven plugin.
+ * <p>
+ * The index is a UTF-8 text resource listing the names of the classes annotated with {@link javax.persistence.Entity},
+ * {@link javax.persistence.Embeddable} or {@link javax.persistence.MappedSuperclass}, one per line. When the index is present in a
+ * persistence root the root is not scanned.
+ * <p>
+ * The index reflects the classes at the time the plugin ran. If a listed class can no longer be loaded the index is considered out of
+ * date and the root is scanned instead. Classes annotated after the index was created are not detected until the index is regenerated;
+ * set {@link org.batoo.jpa.BJPASettings#ANNOTATED_CLASS_INDEX} to <code>false</code> when the classes change without a build, for
+ * example in IDEs compiling incrementally.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class AnnotatedClassIndex {
+
+	/**
+	 * The resource name of the index in the persistence root.
+	 */
+	public static final String INDEX = "META-INF/batoo/annotated-classes.idx";
+
+	private static final String HEADER = "# Batoo JPA annotated class index";
+
+	private static final BLogger LOG = BLoggerFactory.getLogger(AnnotatedClassIndex.class);
+
+	private static InputStream openIndex(URL root) {
+		try {
+			final String rootForm = root.toExternalForm();
+
+			final URL index;
+			if (root.getProtocol().equals("file")) {
+				final File file = new File(root.getPath());
+				if (file.isDirectory()) {
+					final File indexFile = new File(file, AnnotatedClassIndex.INDEX);
+					if (!indexFile.isFile()) {
+						return null;
+					}
+
+					index = indexFile.toURI().toURL();
+				}
+				else {
+					index = new URL("jar:" + rootForm + "!/" + AnnotatedClassIndex.INDEX);
+				}
+			}
+			else {
+				index = new URL(rootForm + (rootForm.endsWith("/") ? "" : "/") + AnnotatedClassIndex.INDEX);
+			}
+
+			return index.openStream();
+		}
+		catch (final IOException e) {
+			// no index in the root
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the index of the persistence root.
+	 * 
+	 * @param classloader
+	 *            the class loader to load the classes
+	 * @param root
+	 *            the url of the persistence root
+	 * @return the classes in the index or <code>null</code> if the root has no index or the index is out of date
+	 * 
+	 * @since 2.0.1
+	 */
+	public static Set<Class<?>> read(ClassLoader classloader, URL root) {
+		final InputStream is = AnnotatedClassIndex.openIndex(root);
+		if (is == null) {
+			return null;
+		}
+
+		final Set<Class<?>> classes = Sets.newHashSet();
+
+		try {
+			try {
+				final BufferedReader reader = new BufferedReader(new InputStreamReader(is, "UTF-8"));
+
+				String line;
+				while ((line = reader.readLine()) != null) {
+					final String className = line.trim();
+					if ((className.length() == 0) || className.startsWith("#")) {
+						continue;
+					}
+
+					classes.add(classloader.loadClass(className));
+				}
+			}
+			finally {
+				is.close();
+			}
+		}
+		catch (final ClassNotFoundException e) {
+			AnnotatedClassIndex.LOG.warn("Annotated class index of {0} is out of date, class not found: {1}, scanning the root", root,
+				e.getMessage());
+
+			return null;
+		}
+		catch (final IOException e) {
+			throw new PersistenceException("Unable to read the annotated class index of " + root, e);
+		}
+
+		AnnotatedClassIndex.LOG.info("Found persistent classes {0} in the index of {1}", classes, root);
+
+		return classes;
+	}
+
+	/**
+	 * Writes the index under the output folder.
+	 * 
+	 * @param outputFolder
+	 *            the output folder, typically the classes folder of the build
+	 * @param classNames
+	 *            the names of the annotated classes
+	 * @return the file written
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	public static File write(File outputFolder, Collection<String> classNames) throws IOException {
+		final File file = new File(outputFolder, AnnotatedClassIndex.INDEX);
+		file.getParentFile().mkdirs();
+
+		final Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(AnnotatedClassIndex.HEADER);
+			writer.write("\n");
+
+			for (final String className : classNames) {
+				writer.write(className);
+				writer.write("\n");
+			}
+		}
+		finally {
+			writer.close();
+		}
+
+		return file;
+	}
+
+	private AnnotatedClassIndex() {
+		super();
+	}
+}
@@ -31,6 +31,7 @@ import javax.persistence.spi.PersistenceUnitInfo;
 
 import org.batoo.common.log.BLogger;
 import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.BJPASettings;
 import org.batoo.jpa.spi.AnnotatedClassLocator;
 
 import com.google.common.collect.Sets;
@@ -46,6 +47,16 @@ public abstract class BaseAnnotatedClassLocator implements AnnotatedClassLocator
 	private static final BLogger LOG = BLoggerFactory.getLogger(BaseAnnotatedClassLocator.class);
 
 	private static void locateClasses(PersistenceUnitInfo puInfo, final Set<Class<?>> classes, final URL jarUrl) {
+		// the index created at build time saves scanning the root
+		if (BaseAnnotatedClassLocator.useIndex(puInfo)) {
+			final Set<Class<?>> indexedClasses = AnnotatedClassIndex.read(puInfo.getClassLoader(), jarUrl);
+			if (indexedClasses != null) {
+				classes.addAll(indexedClasses);
+
+				return;
+			}
+		}
+
 		AnnotatedClassLocator locator = null;
 
 		if (jarUrl.getProtocol().equals("file")) {
@@ -108,6 +119,12 @@ public abstract class BaseAnnotatedClassLocator implements AnnotatedClassLocator
 		return classes;
 	}
 
+	private static boolean useIndex(PersistenceUnitInfo puInfo) {
+		final String useIndex = puInfo.getProperties() != null ? puInfo.getProperties().getProperty(BJPASettings.ANNOTATED_CLASS_INDEX) : null;
+
+		return (useIndex == null) || Boolean.valueOf(useIndex);
+	}
+
 	/**
 	 * 
 	 * @since 2.0.0
@@ -19,6 +19,7 @@
 package org.batoo.jpa.parser.impl.metadata;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -375,6 +376,28 @@ public class MetadataImpl implements Metadata {
 		}
 	}
 
+	/**
+	 * Parses the types in the metamodel and the given managed classes.
+	 * 
+	 * @param classloader
+	 *            the class loader
+	 * @param classes
+	 *            the names of the managed classes
+	 * 
+	 * @since 2.0.1
+	 */
+	public void parse(ClassLoader classloader, Collection<String> classes) {
+		for (final String className : classes) {
+			final String simpleName = className.substring(className.lastIndexOf('.') + 1);
+
+			if (!this.entityMap.containsKey(className) && !this.entityMap.containsKey(simpleName)) {
+				this.entityMap.put(className, null);
+			}
+		}
+
+		this.parse(classloader);
+	}
+
 	/**
 	 * Parses the types in the metamodel and in the jar files.
 	 * 
@@ -20,6 +20,8 @@ package org.batoo.jpa.parser.impl.metadata;
 
 import javax.persistence.SequenceGenerator;
 
+import org.batoo.jpa.annotations.IdOptimizer;
+import org.batoo.jpa.annotations.IdOptimizerType;
 import org.batoo.jpa.parser.AbstractLocator;
 import org.batoo.jpa.parser.metadata.SequenceGeneratorMetadata;
 
@@ -38,16 +40,19 @@ public class SequenceGeneratorMetadataImpl implements SequenceGeneratorMetadata
 	private final String sequenceName;
 	private final int initialValue;
 	private final int allocationSize;
+	private final IdOptimizerType optimizer;
 
 	/**
 	 * @param locator
 	 *            the java locator
 	 * @param annotation
 	 *            the annotation
+	 * @param optimizer
+	 *            the optimizer annotation or <code>null</code>
 	 * 
 	 * @since 2.0.0
 	 */
-	public SequenceGeneratorMetadataImpl(AbstractLocator locator, SequenceGenerator annotation) {
+	public SequenceGeneratorMetadataImpl(AbstractLocator locator, SequenceGenerator annotation, IdOptimizer optimizer) {
 		super();
 
 		this.locator = locator;
@@ -57,6 +62,7 @@ public class SequenceGeneratorMetadataImpl implements SequenceGeneratorMetadata
 		this.sequenceName = annotation.sequenceName();
 		this.initialValue = annotation.initialValue();
 		this.allocationSize = annotation.allocationSize();
+		this.optimizer = optimizer != null ? optimizer.value() : IdOptimizerType.POOLED_LO;
 	}
 
 	/**
@@ -104,6 +110,15 @@ public class SequenceGeneratorMetadataImpl implements SequenceGeneratorMetadata
 		return this.name;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public IdOptimizerType getOptimizer() {
+		return this.optimizer;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -23,6 +23,8 @@ import java.util.List;
 import javax.persistence.TableGenerator;
 import javax.persistence.UniqueConstraint;
 
+import org.batoo.jpa.annotations.IdOptimizer;
+import org.batoo.jpa.annotations.IdOptimizerType;
 import org.batoo.jpa.parser.AbstractLocator;
 import org.batoo.jpa.parser.metadata.TableGeneratorMetadata;
 import org.batoo.jpa.parser.metadata.UniqueConstraintMetadata;
@@ -46,6 +48,7 @@ public class TableGeneratorMetadataImpl implements TableGeneratorMetadata {
 	private final String valueColumnName;
 	private final int initialValue;
 	private final int allocationSize;
+	private final IdOptimizerType optimizer;
 	private final String table;
 	private final List<UniqueConstraintMetadata> uniqueConstraints = Lists.newArrayList();
 
@@ -54,10 +57,12 @@ public class TableGeneratorMetadataImpl implements TableGeneratorMetadata {
 	 *            the java locator
 	 * @param annotation
 	 *            the annotation
+	 * @param optimizer
+	 *            the optimizer annotation or <code>null</code>
 	 * 
 	 * @since 2.0.0
 	 */
-	public TableGeneratorMetadataImpl(AbstractLocator locator, TableGenerator annotation) {
+	public TableGeneratorMetadataImpl(AbstractLocator locator, TableGenerator annotation, IdOptimizer optimizer) {
 		this.locator = locator;
 		this.catalog = annotation.catalog();
 		this.schema = annotation.schema();
@@ -68,6 +73,7 @@ public class TableGeneratorMetadataImpl implements TableGeneratorMetadata {
 		this.valueColumnName = annotation.valueColumnName();
 		this.initialValue = annotation.initialValue();
 		this.allocationSize = annotation.allocationSize();
+		this.optimizer = optimizer != null ? optimizer.value() : IdOptimizerType.POOLED_LO;
 
 		for (final UniqueConstraint constraint : annotation.uniqueConstraints()) {
 			this.uniqueConstraints.add(new UniqueConstraintMetadataImpl(locator, constraint));
@@ -119,6 +125,15 @@ public class TableGeneratorMetadataImpl implements TableGeneratorMetadata {
 		return this.name;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public IdOptimizerType getOptimizer() {
+		return this.optimizer;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
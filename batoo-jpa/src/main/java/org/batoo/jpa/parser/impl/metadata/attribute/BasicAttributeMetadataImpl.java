@@ -31,6 +31,7 @@ import javax.persistence.Lob;
 import org.batoo.common.reflect.ReflectHelper;
 import org.batoo.jpa.annotations.ColumnTransformer;
 import org.batoo.jpa.annotations.Index;
+import org.batoo.jpa.annotations.LazyGroup;
 import org.batoo.jpa.parser.impl.metadata.ColumnTransformerMetadataImpl;
 import org.batoo.jpa.parser.impl.metadata.IndexMetadataImpl;
 import org.batoo.jpa.parser.metadata.ColumnTransformerMetadata;
@@ -49,6 +50,7 @@ public class BasicAttributeMetadataImpl extends PhysicalAttributeMetadataImpl im
 	private final EnumType enumType;
 	private final boolean optional;
 	private final FetchType fetchType;
+	private final String lazyGroup;
 	private final IndexMetadata index;
 	private final ColumnTransformerMetadata columnTransformer;
 
@@ -67,6 +69,7 @@ public class BasicAttributeMetadataImpl extends PhysicalAttributeMetadataImpl im
 		this.enumType = metadata.getEnumType();
 		this.optional = metadata.isOptional();
 		this.fetchType = metadata.getFetchType();
+		this.lazyGroup = metadata.getLazyGroup();
 		this.index = metadata.getIndex();
 		this.columnTransformer = metadata.getColumnTransformer();
 	}
@@ -89,6 +92,7 @@ public class BasicAttributeMetadataImpl extends PhysicalAttributeMetadataImpl im
 		final Enumerated enumerated = ReflectHelper.getAnnotation(member, Enumerated.class);
 		final Index index = ReflectHelper.getAnnotation(member, Index.class);
 		final ColumnTransformer columnTransformer = ReflectHelper.getAnnotation(member, ColumnTransformer.class);
+		final LazyGroup lazyGroup = ReflectHelper.getAnnotation(member, LazyGroup.class);
 
 		parsed.add(Lob.class);
 		parsed.add(Basic.class);
@@ -96,9 +100,11 @@ public class BasicAttributeMetadataImpl extends PhysicalAttributeMetadataImpl im
 		parsed.add(Basic.class);
 		parsed.add(Index.class);
 		parsed.add(ColumnTransformer.class);
+		parsed.add(LazyGroup.class);
 
 		this.optional = basic != null ? basic.optional() : true;
 		this.fetchType = basic != null ? basic.fetch() : FetchType.EAGER;
+		this.lazyGroup = lazyGroup != null ? lazyGroup.value() : null;
 		this.lob = lob != null;
 		this.enumType = enumerated != null ? enumerated.value() : null;
 		this.index = index != null ? new IndexMetadataImpl(this.getLocator(), index, this.getName()) : null;
@@ -132,6 +138,15 @@ public class BasicAttributeMetadataImpl extends PhysicalAttributeMetadataImpl im
 		return this.fetchType;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public String getLazyGroup() {
+		return this.lazyGroup;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -28,6 +28,8 @@ import javax.persistence.SequenceGenerator;
 import javax.persistence.TableGenerator;
 
 import org.batoo.common.reflect.ReflectHelper;
+import org.batoo.jpa.annotations.IdOptimizer;
+import org.batoo.jpa.annotations.TimeOrderedId;
 import org.batoo.jpa.parser.impl.metadata.GeneratedValueMetadataImpl;
 import org.batoo.jpa.parser.impl.metadata.SequenceGeneratorMetadataImpl;
 import org.batoo.jpa.parser.impl.metadata.TableGeneratorMetadataImpl;
@@ -47,6 +49,7 @@ public class IdAttributeMetadataImpl extends PhysicalAttributeMetadataImpl imple
 	private final GeneratedValueMetadata generatedValue;
 	private final SequenceGeneratorMetadata sequenceGenerator;
 	private final TableGeneratorMetadata tableGenerator;
+	private final boolean timeOrdered;
 
 	/**
 	 * @param member
@@ -62,6 +65,7 @@ public class IdAttributeMetadataImpl extends PhysicalAttributeMetadataImpl imple
 		this.generatedValue = metadata.getGeneratedValue();
 		this.sequenceGenerator = metadata.getSequenceGenerator();
 		this.tableGenerator = metadata.getTableGenerator();
+		this.timeOrdered = metadata.isTimeOrdered();
 	}
 
 	/**
@@ -80,15 +84,19 @@ public class IdAttributeMetadataImpl extends PhysicalAttributeMetadataImpl imple
 		final TableGenerator tableGenerator = ReflectHelper.getAnnotation(member, TableGenerator.class);
 		final SequenceGenerator sequenceGenerator = ReflectHelper.getAnnotation(member, SequenceGenerator.class);
 		final GeneratedValue generatedValue = ReflectHelper.getAnnotation(member, GeneratedValue.class);
+		final IdOptimizer optimizer = ReflectHelper.getAnnotation(member, IdOptimizer.class);
 
 		parsed.add(Id.class);
 		parsed.add(TableGenerator.class);
 		parsed.add(SequenceGenerator.class);
 		parsed.add(GeneratedValue.class);
+		parsed.add(IdOptimizer.class);
+		parsed.add(TimeOrderedId.class);
 
 		this.generatedValue = generatedValue != null ? new GeneratedValueMetadataImpl(this.getLocator(), generatedValue) : null;
-		this.tableGenerator = tableGenerator != null ? new TableGeneratorMetadataImpl(this.getLocator(), tableGenerator) : null;
-		this.sequenceGenerator = sequenceGenerator != null ? new SequenceGeneratorMetadataImpl(this.getLocator(), sequenceGenerator) : null;
+		this.tableGenerator = tableGenerator != null ? new TableGeneratorMetadataImpl(this.getLocator(), tableGenerator, optimizer) : null;
+		this.sequenceGenerator = sequenceGenerator != null ? new SequenceGeneratorMetadataImpl(this.getLocator(), sequenceGenerator, optimizer) : null;
+		this.timeOrdered = ReflectHelper.getAnnotation(member, TimeOrderedId.class) != null;
 	}
 
 	/**
@@ -117,4 +125,13 @@ public class IdAttributeMetadataImpl extends PhysicalAttributeMetadataImpl imple
 	public TableGeneratorMetadata getTableGenerator() {
 		return this.tableGenerator;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public boolean isTimeOrdered() {
+		return this.timeOrdered;
+	}
 }
@@ -46,6 +46,7 @@ import javax.persistence.Table;
 import javax.persistence.TableGenerator;
 
 import org.apache.commons.lang.StringUtils;
+import org.batoo.jpa.annotations.IdOptimizer;
 import org.batoo.jpa.annotations.Index;
 import org.batoo.jpa.annotations.Indexes;
 import org.batoo.jpa.parser.impl.metadata.AssociationOverrideMetadataImpl;
@@ -625,8 +626,9 @@ public class EntityMetadataImpl extends IdentifiableMetadataImpl implements Enti
 		final SequenceGenerator annotation = this.getClazz().getAnnotation(SequenceGenerator.class);
 		if (annotation != null) {
 			parsed.add(SequenceGenerator.class);
+			parsed.add(IdOptimizer.class);
 
-			return new SequenceGeneratorMetadataImpl(this.getLocator(), annotation);
+			return new SequenceGeneratorMetadataImpl(this.getLocator(), annotation, this.getClazz().getAnnotation(IdOptimizer.class));
 		}
 
 		return null;
@@ -720,8 +722,9 @@ public class EntityMetadataImpl extends IdentifiableMetadataImpl implements Enti
 		final TableGenerator annotation = this.getClazz().getAnnotation(TableGenerator.class);
 		if (annotation != null) {
 			parsed.add(TableGenerator.class);
+			parsed.add(IdOptimizer.class);
 
-			return new TableGeneratorMetadataImpl(this.getLocator(), annotation);
+			return new TableGeneratorMetadataImpl(this.getLocator(), annotation, this.getClazz().getAnnotation(IdOptimizer.class));
 		}
 
 		return null;
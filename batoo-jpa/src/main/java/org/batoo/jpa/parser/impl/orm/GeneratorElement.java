@@ -20,6 +20,7 @@ package org.batoo.jpa.parser.impl.orm;
 
 import java.util.Map;
 
+import org.batoo.jpa.annotations.IdOptimizerType;
 import org.batoo.jpa.parser.metadata.GeneratorMetadata;
 
 /**
@@ -114,6 +115,15 @@ public abstract class GeneratorElement extends ParentElement implements Generato
 		return this.name;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public IdOptimizerType getOptimizer() {
+		return IdOptimizerType.POOLED_LO;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
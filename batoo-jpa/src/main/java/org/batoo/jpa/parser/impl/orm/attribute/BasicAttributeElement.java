@@ -100,6 +100,15 @@ public class BasicAttributeElement extends PhysicalAttributeElement implements B
 		return this.fetchType;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public String getLazyGroup() {
+		return null;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
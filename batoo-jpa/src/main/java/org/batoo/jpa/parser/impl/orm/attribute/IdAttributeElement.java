@@ -86,6 +86,16 @@ public class IdAttributeElement extends PhysicalAttributeElement implements IdAt
 		return this.tableGenerator;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	public boolean isTimeOrdered() {
+		// the orm schema has no element for the time-ordered ids
+		return false;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
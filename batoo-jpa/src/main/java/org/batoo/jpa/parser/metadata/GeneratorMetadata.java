@@ -18,6 +18,8 @@
  */
 package org.batoo.jpa.parser.metadata;
 
+import org.batoo.jpa.annotations.IdOptimizerType;
+
 /**
  * The common definition of the generators.
  * 
@@ -53,6 +55,15 @@ public interface GeneratorMetadata extends BindableMetadata {
 	 */
 	int getInitialValue();
 
+	/**
+	 * Returns the optimizer type of the generator.
+	 * 
+	 * @return the optimizer type of the generator
+	 * 
+	 * @since 2.0.1
+	 */
+	IdOptimizerType getOptimizer();
+
 	/**
 	 * Returns the name of the schema of the generator.
 	 * 
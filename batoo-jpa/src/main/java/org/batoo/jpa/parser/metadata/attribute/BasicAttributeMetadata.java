@@ -59,6 +59,15 @@ public interface BasicAttributeMetadata extends PhysicalAttributeMetadata {
 	 */
 	FetchType getFetchType();
 
+	/**
+	 * Returns the name of the group the lazy attribute is loaded with.
+	 * 
+	 * @return the name of the group the lazy attribute is loaded with or <code>null</code> for the default group
+	 * 
+	 * @since 2.0.1
+	 */
+	String getLazyGroup();
+
 	/**
 	 * Returns the index definition.
 	 * 
@@ -57,4 +57,12 @@ public interface IdAttributeMetadata extends PhysicalAttributeMetadata {
 	 */
 	TableGeneratorMetadata getTableGenerator();
 
+	/**
+	 * Returns if the id attribute is generated in-process as a time-ordered value.
+	 * 
+	 * @return true if the id attribute is generated in-process as a time-ordered value, false otherwise
+	 * 
+	 * @since 2.0.1
+	 */
+	boolean isTimeOrdered();
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.accessor;
+
+import java.lang.reflect.InvocationTargetException;
+
+import junit.framework.Assert;
+
+import org.batoo.common.reflect.AbstractAccessor;
+import org.batoo.common.reflect.GeneratedFieldAccessor;
+import org.batoo.common.reflect.MethodAccessor;
+import org.batoo.common.reflect.PropertyAccessor;
+import org.batoo.common.reflect.ReflectHelper;
+import org.batoo.common.reflect.SimpleMethodAccessor;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class AccessorTest extends BaseCoreTest {
+
+	/**
+	 * Tests the generated accessors read and write the fields.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of an underlying error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testGeneratedAccessor() throws Exception {
+		final AbstractAccessor accessor = ReflectHelper.getAccessor(Foo.class.getDeclaredField("longValue"));
+		Assert.assertTrue(accessor instanceof GeneratedFieldAccessor);
+
+		final Foo foo = new Foo();
+
+		accessor.set(foo, Long.valueOf(5));
+		Assert.assertEquals(5l, foo.longValue);
+
+		accessor.set(foo, Integer.valueOf(6));
+		Assert.assertEquals(Long.valueOf(6), accessor.get(foo));
+
+		final AbstractAccessor boxedAccessor = ReflectHelper.getAccessor(Foo.class.getDeclaredField("boxedValue"));
+		boxedAccessor.set(foo, Integer.valueOf(7));
+		Assert.assertEquals(Long.valueOf(7), foo.boxedValue);
+	}
+
+	/**
+	 * Tests the accessors of the private fields read and write the fields, generated if the JDK supports hidden classes.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of an underlying error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testGeneratedPrivateAccessor() throws Exception {
+		final AbstractAccessor accessor = ReflectHelper.getAccessor(Bar.class.getDeclaredField("longValue"));
+		if (this.hasHiddenClasses()) {
+			Assert.assertTrue(accessor instanceof GeneratedFieldAccessor);
+		}
+
+		final Bar bar = new Bar();
+
+		accessor.set(bar, Integer.valueOf(6));
+		Assert.assertEquals(6l, bar.getLongValue());
+		Assert.assertEquals(Long.valueOf(6), accessor.get(bar));
+
+		final AbstractAccessor booleanAccessor = ReflectHelper.getAccessor(Bar.class.getDeclaredField("booleanValue"));
+		booleanAccessor.set(bar, Integer.valueOf(1));
+		Assert.assertTrue(bar.isBooleanValue());
+		Assert.assertEquals(Boolean.TRUE, booleanAccessor.get(bar));
+
+		final AbstractAccessor charAccessor = ReflectHelper.getAccessor(Bar.class.getDeclaredField("charValue"));
+		charAccessor.set(bar, 'c');
+		Assert.assertEquals('c', bar.getCharValue());
+		charAccessor.set(bar, null);
+		Assert.assertEquals('\u0000', bar.getCharValue());
+
+		final AbstractAccessor boxedAccessor = ReflectHelper.getAccessor(Bar.class.getDeclaredField("boxedValue"));
+		boxedAccessor.set(bar, Integer.valueOf(7));
+		Assert.assertEquals(Long.valueOf(7), bar.getBoxedValue());
+		boxedAccessor.set(bar, null);
+		Assert.assertNull(bar.getBoxedValue());
+
+		final AbstractAccessor valueAccessor = ReflectHelper.getAccessor(Bar.class.getDeclaredField("value"));
+		valueAccessor.set(bar, "Bar");
+		Assert.assertEquals("Bar", bar.getValue());
+		Assert.assertEquals("Bar", valueAccessor.get(bar));
+	}
+
+	/**
+	 * Tests the generated method accessors invoke the methods and wrap the exceptions of the methods.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of an underlying error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testGeneratedMethodAccessor() throws Exception {
+		final MethodAccessor accessor = ReflectHelper.createMethodAccessor(Foo.class.getMethod("addLong", Integer.TYPE));
+		Assert.assertFalse(accessor instanceof SimpleMethodAccessor);
+
+		final Foo foo = new Foo();
+		foo.longValue = 5l;
+
+		Assert.assertEquals(Long.valueOf(8), accessor.invoke(foo, new Object[] { Integer.valueOf(3) }));
+		Assert.assertEquals(8l, foo.longValue);
+
+		try {
+			ReflectHelper.createMethodAccessor(Foo.class.getMethod("fail")).invoke(foo, null);
+
+			Assert.fail("InvocationTargetException expected");
+		}
+		catch (final InvocationTargetException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	private boolean hasHiddenClasses() {
+		try {
+			Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+
+			return true;
+		}
+		catch (final ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Tests the entity with package private fields persists and loads.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPersistAndFind() {
+		final Foo foo = new Foo();
+		foo.intValue = 1;
+		foo.longValue = 2l;
+		foo.booleanValue = true;
+		foo.doubleValue = 3.5;
+		foo.charValue = 'c';
+		foo.boxedValue = 4l;
+		foo.value = "Foo";
+
+		this.persist(foo);
+		this.commit();
+		this.close();
+
+		final Foo foo2 = this.find(Foo.class, foo.key);
+		Assert.assertEquals(1, foo2.intValue);
+		Assert.assertEquals(2l, foo2.longValue);
+		Assert.assertTrue(foo2.booleanValue);
+		Assert.assertEquals(3.5, foo2.doubleValue);
+		Assert.assertEquals('c', foo2.charValue);
+		Assert.assertEquals(Long.valueOf(4), foo2.boxedValue);
+		Assert.assertEquals("Foo", foo2.value);
+	}
+
+	/**
+	 * Tests the entity with private fields persists and loads.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPersistAndFindPrivate() {
+		final Bar bar = new Bar();
+		bar.setIntValue(1);
+		bar.setLongValue(2l);
+		bar.setBooleanValue(true);
+		bar.setCharValue('c');
+		bar.setBoxedValue(4l);
+		bar.setValue("Bar");
+
+		this.persist(bar);
+		this.commit();
+		this.close();
+
+		final Bar bar2 = this.find(Bar.class, bar.getKey());
+		Assert.assertEquals(1, bar2.getIntValue());
+		Assert.assertEquals(2l, bar2.getLongValue());
+		Assert.assertTrue(bar2.isBooleanValue());
+		Assert.assertEquals('c', bar2.getCharValue());
+		Assert.assertEquals(Long.valueOf(4), bar2.getBoxedValue());
+		Assert.assertEquals("Bar", bar2.getValue());
+	}
+
+	/**
+	 * Tests the property accessors read and write the properties through the method accessors, converting the numbers.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of an underlying error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPropertyAccessor() throws Exception {
+		final AbstractAccessor accessor = ReflectHelper.getAccessor(Bar.class.getMethod("getLongValue"));
+		Assert.assertTrue(accessor instanceof PropertyAccessor);
+
+		final Bar bar = new Bar();
+
+		accessor.set(bar, Integer.valueOf(6));
+		Assert.assertEquals(6l, bar.getLongValue());
+		Assert.assertEquals(Long.valueOf(6), accessor.get(bar));
+
+		final AbstractAccessor boxedAccessor = ReflectHelper.getAccessor(Bar.class.getMethod("getBoxedValue"));
+		boxedAccessor.set(bar, Integer.valueOf(7));
+		Assert.assertEquals(Long.valueOf(7), bar.getBoxedValue());
+		boxedAccessor.set(bar, null);
+		Assert.assertNull(boxedAccessor.get(bar));
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.accessor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+/**
+ * Ordinary entity with private fields.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Bar {
+
+	@Id
+	@GeneratedValue
+	private Integer key;
+
+	private int intValue;
+
+	private long longValue;
+
+	private boolean booleanValue;
+
+	private char charValue;
+
+	private Long boxedValue;
+
+	private String value;
+
+	/**
+	 * Returns the boxedValue of the Bar.
+	 * 
+	 * @return the boxedValue of the Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public Long getBoxedValue() {
+		return this.boxedValue;
+	}
+
+	/**
+	 * Returns the charValue of the Bar.
+	 * 
+	 * @return the charValue of the Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public char getCharValue() {
+		return this.charValue;
+	}
+
+	/**
+	 * Returns the intValue of the Bar.
+	 * 
+	 * @return the intValue of the Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public int getIntValue() {
+		return this.intValue;
+	}
+
+	/**
+	 * Returns the key of the Bar.
+	 * 
+	 * @return the key of the Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public Integer getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Returns the longValue of the Bar.
+	 * 
+	 * @return the longValue of the Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public long getLongValue() {
+		return this.longValue;
+	}
+
+	/**
+	 * Returns the value of the Bar.
+	 * 
+	 * @return the value of the Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public String getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Returns the booleanValue of the Bar.
+	 * 
+	 * @return the booleanValue of the Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public boolean isBooleanValue() {
+		return this.booleanValue;
+	}
+
+	/**
+	 * Sets the booleanValue of the Bar.
+	 * 
+	 * @param booleanValue
+	 *            the booleanValue to set for Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setBooleanValue(boolean booleanValue) {
+		this.booleanValue = booleanValue;
+	}
+
+	/**
+	 * Sets the boxedValue of the Bar.
+	 * 
+	 * @param boxedValue
+	 *            the boxedValue to set for Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setBoxedValue(Long boxedValue) {
+		this.boxedValue = boxedValue;
+	}
+
+	/**
+	 * Sets the charValue of the Bar.
+	 * 
+	 * @param charValue
+	 *            the charValue to set for Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setCharValue(char charValue) {
+		this.charValue = charValue;
+	}
+
+	/**
+	 * Sets the intValue of the Bar.
+	 * 
+	 * @param intValue
+	 *            the intValue to set for Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setIntValue(int intValue) {
+		this.intValue = intValue;
+	}
+
+	/**
+	 * Sets the longValue of the Bar.
+	 * 
+	 * @param longValue
+	 *            the longValue to set for Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setLongValue(long longValue) {
+		this.longValue = longValue;
+	}
+
+	/**
+	 * Sets the value of the Bar.
+	 * 
+	 * @param value
+	 *            the value to set for Bar
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setValue(String value) {
+		this.value = value;
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.accessor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+/**
+ * Entity with package private fields that are accessed by the generated accessors.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Foo {
+
+	@Id
+	@GeneratedValue
+	Integer key;
+
+	int intValue;
+
+	long longValue;
+
+	boolean booleanValue;
+
+	double doubleValue;
+
+	char charValue;
+
+	Long boxedValue;
+
+	String value;
+
+	/**
+	 * Adds the delta to the long value.
+	 * 
+	 * @param delta
+	 *            the delta
+	 * @return the new long value
+	 * 
+	 * @since 2.0.1
+	 */
+	public long addLong(int delta) {
+		return this.longValue += delta;
+	}
+
+	/**
+	 * Fails with an illegal state.
+	 * 
+	 * @since 2.0.1
+	 */
+	public void fail() {
+		throw new IllegalStateException("fail");
+	}
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.binder;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+/**
+ * Entity with a column for each of the specialized parameter binders.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Foo {
+
+	@Id
+	@GeneratedValue
+	private Integer id;
+
+	private Long longValue;
+
+	private Integer intValue;
+
+	private Short shortValue;
+
+	private Byte byteValue;
+
+	private Double doubleValue;
+
+	private Float floatValue;
+
+	private BigDecimal decimalValue;
+
+	private Boolean booleanValue;
+
+	private Character charValue;
+
+	private String stringValue;
+
+	@Temporal(TemporalType.DATE)
+	private Date dateValue;
+
+	@Temporal(TemporalType.TIME)
+	private Date timeValue;
+
+	@Temporal(TemporalType.TIMESTAMP)
+	private Date timestampValue;
+
+	/**
+	 * Returns the boolean value of the Foo.
+	 * 
+	 * @return the boolean value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Boolean getBooleanValue() {
+		return this.booleanValue;
+	}
+
+	/**
+	 * Returns the byte value of the Foo.
+	 * 
+	 * @return the byte value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Byte getByteValue() {
+		return this.byteValue;
+	}
+
+	/**
+	 * Returns the char value of the Foo.
+	 * 
+	 * @return the char value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Character getCharValue() {
+		return this.charValue;
+	}
+
+	/**
+	 * Returns the date value of the Foo.
+	 * 
+	 * @return the date value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Date getDateValue() {
+		return this.dateValue;
+	}
+
+	/**
+	 * Returns the decimal value of the Foo.
+	 * 
+	 * @return the decimal value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public BigDecimal getDecimalValue() {
+		return this.decimalValue;
+	}
+
+	/**
+	 * Returns the double value of the Foo.
+	 * 
+	 * @return the double value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Double getDoubleValue() {
+		return this.doubleValue;
+	}
+
+	/**
+	 * Returns the float value of the Foo.
+	 * 
+	 * @return the float value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Float getFloatValue() {
+		return this.floatValue;
+	}
+
+	/**
+	 * Returns the id of the Foo.
+	 * 
+	 * @return the id of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Integer getId() {
+		return this.id;
+	}
+
+	/**
+	 * Returns the int value of the Foo.
+	 * 
+	 * @return the int value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Integer getIntValue() {
+		return this.intValue;
+	}
+
+	/**
+	 * Returns the long value of the Foo.
+	 * 
+	 * @return the long value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Long getLongValue() {
+		return this.longValue;
+	}
+
+	/**
+	 * Returns the short value of the Foo.
+	 * 
+	 * @return the short value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Short getShortValue() {
+		return this.shortValue;
+	}
+
+	/**
+	 * Returns the string value of the Foo.
+	 * 
+	 * @return the string value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public String getStringValue() {
+		return this.stringValue;
+	}
+
+	/**
+	 * Returns the time value of the Foo.
+	 * 
+	 * @return the time value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Date getTimeValue() {
+		return this.timeValue;
+	}
+
+	/**
+	 * Returns the timestamp value of the Foo.
+	 * 
+	 * @return the timestamp value of the Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public Date getTimestampValue() {
+		return this.timestampValue;
+	}
+
+	/**
+	 * Sets the boolean value of the Foo.
+	 * 
+	 * @param booleanValue
+	 *            the boolean value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setBooleanValue(Boolean booleanValue) {
+		this.booleanValue = booleanValue;
+	}
+
+	/**
+	 * Sets the byte value of the Foo.
+	 * 
+	 * @param byteValue
+	 *            the byte value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setByteValue(Byte byteValue) {
+		this.byteValue = byteValue;
+	}
+
+	/**
+	 * Sets the char value of the Foo.
+	 * 
+	 * @param charValue
+	 *            the char value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setCharValue(Character charValue) {
+		this.charValue = charValue;
+	}
+
+	/**
+	 * Sets the date value of the Foo.
+	 * 
+	 * @param dateValue
+	 *            the date value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setDateValue(Date dateValue) {
+		this.dateValue = dateValue;
+	}
+
+	/**
+	 * Sets the decimal value of the Foo.
+	 * 
+	 * @param decimalValue
+	 *            the decimal value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setDecimalValue(BigDecimal decimalValue) {
+		this.decimalValue = decimalValue;
+	}
+
+	/**
+	 * Sets the double value of the Foo.
+	 * 
+	 * @param doubleValue
+	 *            the double value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setDoubleValue(Double doubleValue) {
+		this.doubleValue = doubleValue;
+	}
+
+	/**
+	 * Sets the float value of the Foo.
+	 * 
+	 * @param floatValue
+	 *            the float value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setFloatValue(Float floatValue) {
+		this.floatValue = floatValue;
+	}
+
+	/**
+	 * Sets the int value of the Foo.
+	 * 
+	 * @param intValue
+	 *            the int value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setIntValue(Integer intValue) {
+		this.intValue = intValue;
+	}
+
+	/**
+	 * Sets the long value of the Foo.
+	 * 
+	 * @param longValue
+	 *            the long value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setLongValue(Long longValue) {
+		this.longValue = longValue;
+	}
+
+	/**
+	 * Sets the short value of the Foo.
+	 * 
+	 * @param shortValue
+	 *            the short value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setShortValue(Short shortValue) {
+		this.shortValue = shortValue;
+	}
+
+	/**
+	 * Sets the string value of the Foo.
+	 * 
+	 * @param stringValue
+	 *            the string value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setStringValue(String stringValue) {
+		this.stringValue = stringValue;
+	}
+
+	/**
+	 * Sets the time value of the Foo.
+	 * 
+	 * @param timeValue
+	 *            the time value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setTimeValue(Date timeValue) {
+		this.timeValue = timeValue;
+	}
+
+	/**
+	 * Sets the timestamp value of the Foo.
+	 * 
+	 * @param timestampValue
+	 *            the timestamp value to set for Foo
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setTimestampValue(Date timestampValue) {
+		this.timestampValue = timestampValue;
+	}
+}
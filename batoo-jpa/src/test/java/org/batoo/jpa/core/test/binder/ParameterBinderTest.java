@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.binder;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * Tests the binding of the entity table parameters with the specialized parameter binders.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class ParameterBinderTest extends BaseCoreTest {
+
+	private static final String DATE = "2012-01-31";
+	private static final String TIME = "10:20:30";
+	private static final String TIMESTAMP = "2012-01-31 10:20:30.0";
+
+	private void assertNulls(Foo foo) {
+		Assert.assertNull(foo.getLongValue());
+		Assert.assertNull(foo.getIntValue());
+		Assert.assertNull(foo.getShortValue());
+		Assert.assertNull(foo.getByteValue());
+		Assert.assertNull(foo.getDoubleValue());
+		Assert.assertNull(foo.getFloatValue());
+		Assert.assertNull(foo.getDecimalValue());
+		Assert.assertNull(foo.getBooleanValue());
+		Assert.assertNull(foo.getCharValue());
+		Assert.assertNull(foo.getStringValue());
+		Assert.assertNull(foo.getDateValue());
+		Assert.assertNull(foo.getTimeValue());
+		Assert.assertNull(foo.getTimestampValue());
+	}
+
+	private void assertValues(Foo foo) {
+		Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), foo.getLongValue());
+		Assert.assertEquals(Integer.valueOf(Integer.MIN_VALUE), foo.getIntValue());
+		Assert.assertEquals(Short.valueOf((short) 12), foo.getShortValue());
+		Assert.assertEquals(Byte.valueOf((byte) 3), foo.getByteValue());
+		Assert.assertEquals(Double.valueOf(1.5), foo.getDoubleValue());
+		Assert.assertEquals(Float.valueOf(2.5f), foo.getFloatValue());
+		Assert.assertEquals(0, new BigDecimal(1234).compareTo(foo.getDecimalValue()));
+		Assert.assertEquals(Boolean.TRUE, foo.getBooleanValue());
+		Assert.assertEquals(Character.valueOf('c'), foo.getCharValue());
+		Assert.assertEquals("string", foo.getStringValue());
+		Assert.assertEquals(ParameterBinderTest.DATE, new java.sql.Date(foo.getDateValue().getTime()).toString());
+		Assert.assertEquals(ParameterBinderTest.TIME, new Time(foo.getTimeValue().getTime()).toString());
+		Assert.assertEquals(ParameterBinderTest.TIMESTAMP, new Timestamp(foo.getTimestampValue().getTime()).toString());
+	}
+
+	private void setNulls(Foo foo) {
+		foo.setLongValue(null);
+		foo.setIntValue(null);
+		foo.setShortValue(null);
+		foo.setByteValue(null);
+		foo.setDoubleValue(null);
+		foo.setFloatValue(null);
+		foo.setDecimalValue(null);
+		foo.setBooleanValue(null);
+		foo.setCharValue(null);
+		foo.setStringValue(null);
+		foo.setDateValue(null);
+		foo.setTimeValue(null);
+		foo.setTimestampValue(null);
+	}
+
+	private void setValues(Foo foo) {
+		foo.setLongValue(Long.MAX_VALUE);
+		foo.setIntValue(Integer.MIN_VALUE);
+		foo.setShortValue((short) 12);
+		foo.setByteValue((byte) 3);
+		foo.setDoubleValue(1.5);
+		foo.setFloatValue(2.5f);
+		foo.setDecimalValue(new BigDecimal(1234));
+		foo.setBooleanValue(Boolean.TRUE);
+		foo.setCharValue('c');
+		foo.setStringValue("string");
+		foo.setDateValue(java.sql.Date.valueOf(ParameterBinderTest.DATE));
+		foo.setTimeValue(Time.valueOf(ParameterBinderTest.TIME));
+		foo.setTimestampValue(Timestamp.valueOf(ParameterBinderTest.TIMESTAMP));
+	}
+
+	/**
+	 * Tests that the null values are bound with the sql types of the columns.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testNulls() {
+		final Foo foo = new Foo();
+		this.persist(foo);
+
+		this.commit();
+		this.close();
+
+		this.assertNulls(this.find(Foo.class, foo.getId()));
+	}
+
+	/**
+	 * Tests that the values are bound with the typed setters.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPersist() {
+		final Foo foo = new Foo();
+		this.setValues(foo);
+		this.persist(foo);
+
+		this.commit();
+		this.close();
+
+		this.assertValues(this.find(Foo.class, foo.getId()));
+	}
+
+	/**
+	 * Tests that the update binds values and nulls alike.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testUpdate() {
+		Foo foo = new Foo();
+		this.persist(foo);
+
+		this.commit();
+		this.close();
+
+		this.begin();
+		foo = this.find(Foo.class, foo.getId());
+		this.setValues(foo);
+
+		this.commit();
+		this.close();
+
+		this.begin();
+		foo = this.find(Foo.class, foo.getId());
+		this.assertValues(foo);
+
+		this.setNulls(foo);
+
+		this.commit();
+		this.close();
+
+		this.assertNulls(this.find(Foo.class, foo.getId()));
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.classindex;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import junit.framework.Assert;
+
+import org.apache.commons.io.FileUtils;
+import org.batoo.jpa.BJPASettings;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.batoo.jpa.parser.PersistenceUnitInfoImpl;
+import org.batoo.jpa.parser.impl.acl.AnnotatedClassIndex;
+import org.batoo.jpa.parser.impl.acl.BaseAnnotatedClassLocator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class ClassIndexTest extends BaseCoreTest {
+
+	/**
+	 * Persistence unit rooted at a folder.
+	 * 
+	 * @author hceylan
+	 * @since 2.0.1
+	 */
+	private static class IndexUnitInfo extends PersistenceUnitInfoImpl {
+
+		private final URL root;
+
+		public IndexUnitInfo(File root) throws IOException {
+			super("default");
+
+			this.root = root.toURI().toURL();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 */
+		@Override
+		public boolean excludeUnlistedClasses() {
+			return false;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 */
+		@Override
+		public List<String> getManagedClassNames() {
+			return Collections.emptyList();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 */
+		@Override
+		public URL getPersistenceUnitRootUrl() {
+			return this.root;
+		}
+	}
+
+	/**
+	 * The temporary folder for the persistence root.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private File createRoot() throws IOException {
+		final File root = this.folder.newFolder("root");
+
+		for (final Class<?> clazz : new Class<?>[] { Foo.class, Bar.class }) {
+			final String resource = clazz.getName().replace('.', '/') + ".class";
+
+			FileUtils.copyURLToFile(clazz.getClassLoader().getResource(resource), new File(root, resource));
+		}
+
+		return root;
+	}
+
+	/**
+	 * Tests that the index is used instead of scanning the root.
+	 * 
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testIndex() throws IOException {
+		final File root = this.createRoot();
+
+		AnnotatedClassIndex.write(root, Lists.newArrayList(Foo.class.getName()));
+
+		final Set<Class<?>> classes = BaseAnnotatedClassLocator.locatePersistentClasses(new IndexUnitInfo(root));
+
+		Assert.assertEquals(Sets.<Class<?>> newHashSet(Foo.class), classes);
+	}
+
+	/**
+	 * Tests that the root is scanned when the index is disabled.
+	 * 
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testIndexDisabled() throws IOException {
+		final File root = this.createRoot();
+
+		AnnotatedClassIndex.write(root, Lists.newArrayList(Foo.class.getName()));
+
+		final IndexUnitInfo puInfo = new IndexUnitInfo(root);
+		puInfo.getProperties().put(BJPASettings.ANNOTATED_CLASS_INDEX, "false");
+
+		final Set<Class<?>> classes = BaseAnnotatedClassLocator.locatePersistentClasses(puInfo);
+
+		Assert.assertEquals(Sets.<Class<?>> newHashSet(Foo.class, Bar.class), classes);
+	}
+
+	/**
+	 * Tests that the root is scanned when there is no index.
+	 * 
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testNoIndex() throws IOException {
+		final File root = this.createRoot();
+
+		final Set<Class<?>> classes = BaseAnnotatedClassLocator.locatePersistentClasses(new IndexUnitInfo(root));
+
+		Assert.assertEquals(Sets.<Class<?>> newHashSet(Foo.class, Bar.class), classes);
+	}
+
+	/**
+	 * Tests that the root is scanned when the index lists a class that no longer exists.
+	 * 
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testStaleIndex() throws IOException {
+		final File root = this.createRoot();
+
+		AnnotatedClassIndex.write(root, Lists.newArrayList(Foo.class.getName(), "org.batoo.jpa.core.test.classindex.Removed"));
+
+		final Set<Class<?>> classes = BaseAnnotatedClassLocator.locatePersistentClasses(new IndexUnitInfo(root));
+
+		Assert.assertEquals(Sets.<Class<?>> newHashSet(Foo.class, Bar.class), classes);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.count;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+/**
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Book {
+
+	@Id
+	@GeneratedValue
+	private Integer key;
+
+	private String name;
+
+	@ManyToOne
+	private Author author;
+
+	/**
+	 * @since 2.0.1
+	 */
+	public Book() {
+		super();
+	}
+
+	/**
+	 * @param author
+	 *            the author
+	 * @param name
+	 *            the name
+	 * 
+	 * @since 2.0.1
+	 */
+	public Book(Author author, String name) {
+		super();
+
+		this.author = author;
+		this.name = name;
+
+		author.getBooks().add(this);
+	}
+
+	/**
+	 * Returns the author.
+	 * 
+	 * @return the author
+	 * @since 2.0.1
+	 */
+	public Author getAuthor() {
+		return this.author;
+	}
+
+	/**
+	 * Returns the key.
+	 * 
+	 * @return the key
+	 * @since 2.0.1
+	 */
+	public Integer getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Returns the name.
+	 * 
+	 * @return the name
+	 * @since 2.0.1
+	 */
+	public String getName() {
+		return this.name;
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.count;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.impl.criteria.CriteriaBuilderImpl;
+import org.batoo.jpa.core.impl.criteria.CriteriaQueryImpl;
+import org.batoo.jpa.core.impl.criteria.QueryImpl;
+import org.batoo.jpa.core.impl.criteria.RootImpl;
+import org.batoo.jpa.core.impl.criteria.expression.ParameterExpressionImpl;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class CountTest extends BaseCoreTest {
+
+	private QueryImpl<Long> count(String qlString, Class<?> resultClass) {
+		return ((QueryImpl<?>) this.cq(qlString, resultClass)).createCountQuery();
+	}
+
+	private void persistAuthors() {
+		for (int i = 0; i < 3; i++) {
+			final Author author = new Author();
+			author.setName("Author" + i);
+
+			for (int j = 0; j <= i; j++) {
+				new Book(author, "Book" + j);
+			}
+
+			this.persist(author);
+		}
+
+		this.commit();
+
+		this.close();
+	}
+
+	/**
+	 * Tests the count of a plain query.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCount() {
+		this.persistAuthors();
+
+		Assert.assertEquals(6, this.count("select b from Book b", Book.class).getSingleResult().longValue());
+	}
+
+	/**
+	 * Tests that the parameters of a criteria query without names are bound to the count query each to its own parameter.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCountCriteriaParameters() {
+		this.persistAuthors();
+
+		final CriteriaBuilderImpl cb = this.em().getCriteriaBuilder();
+		final CriteriaQueryImpl<Book> cq = cb.createQuery(Book.class);
+
+		final RootImpl<Book> r = cq.from(Book.class);
+
+		final ParameterExpressionImpl<String> name = cb.parameter(String.class);
+		final ParameterExpressionImpl<String> author = cb.parameter(String.class);
+		cq.where(cb.or(cb.equal(r.get("name"), name), cb.equal(r.get("author").get("name"), author)));
+
+		final QueryImpl<Book> q = this.em().createQuery(cq);
+		q.setParameter(name, "Book2");
+		q.setParameter(author, "Author1");
+
+		Assert.assertEquals(3, q.createCountQuery().getSingleResult().longValue());
+	}
+
+	/**
+	 * Tests that the count of a distinct query counts the distinct results.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCountDistinct() {
+		this.persistAuthors();
+
+		Assert.assertEquals(3, this.count("select distinct a from Author a join a.books b", Author.class).getSingleResult().longValue());
+	}
+
+	/**
+	 * Tests that the fetches are dropped from the count query.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCountFetchJoin() {
+		this.persistAuthors();
+
+		final QueryImpl<Long> count = this.count("select a from Author a left join fetch a.books", Author.class);
+		Assert.assertFalse(count.getCriteriaQuery().getSql().contains("JOIN"));
+
+		Assert.assertEquals(3, count.getSingleResult().longValue());
+	}
+
+	/**
+	 * Tests that the count of a query with a join counts the joined rows.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCountJoin() {
+		this.persistAuthors();
+
+		Assert.assertEquals(6, this.count("select a from Author a join a.books b", Author.class).getSingleResult().longValue());
+		Assert.assertEquals(2, this.count("select a from Author a join a.books b where b.name = 'Book1'", Author.class).getSingleResult().longValue());
+	}
+
+	/**
+	 * Tests that the ordering is dropped from the count query.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCountOrderBy() {
+		this.persistAuthors();
+
+		final QueryImpl<Long> count = this.count("select b from Book b order by b.name", Book.class);
+		Assert.assertFalse(count.getCriteriaQuery().getSql().contains("ORDER BY"));
+
+		Assert.assertEquals(6, count.getSingleResult().longValue());
+	}
+
+	/**
+	 * Tests that the parameters bound to the query are bound to the count query by their names.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCountParameters() {
+		this.persistAuthors();
+
+		final QueryImpl<?> q = (QueryImpl<?>) this.cq("select b from Book b where b.name = :name and b.author.name <> :author", Book.class);
+		q.setParameter("author", "Author0");
+		q.setParameter("name", "Book0");
+
+		Assert.assertEquals(2, q.createCountQuery().getSingleResult().longValue());
+	}
+
+	/**
+	 * Tests that the positional parameters bound to the query are bound to the count query by their positions.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCountPositionalParameters() {
+		this.persistAuthors();
+
+		final QueryImpl<?> q = (QueryImpl<?>) this.cq("select b from Book b where b.author.name = ?2 or b.name = ?1", Book.class);
+		q.setParameter(1, "Book2");
+		q.setParameter(2, "Author1");
+
+		Assert.assertEquals(3, q.createCountQuery().getSingleResult().longValue());
+	}
+}
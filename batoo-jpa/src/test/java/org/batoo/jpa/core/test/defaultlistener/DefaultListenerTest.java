@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"; you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.batoo.jpa.core.test.defaultlistener;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * Tests the default entity listeners declared in the orm.xml.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class DefaultListenerTest extends BaseCoreTest {
+
+	/**
+	 * Tests the post update and post remove callbacks of the default listeners are fired.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPostUpdateAndPostRemove() {
+		Foo foo = new Foo();
+		foo.setValue("Foo");
+
+		this.persist(foo);
+		this.commit();
+		this.close();
+
+		Assert.assertEquals("", foo.getEvents());
+
+		foo = this.find(Foo.class, foo.getId());
+
+		this.begin();
+		foo.setValue("Foo2");
+		this.commit();
+
+		Assert.assertEquals("postUpdate", foo.getEvents());
+
+		this.begin();
+		this.remove(foo);
+		this.commit();
+
+		Assert.assertEquals("postUpdatepostRemove", foo.getEvents());
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"; you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.batoo.jpa.core.test.defaultlistener;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * The default listener declared in the orm.xml.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class FooListener {
+
+	/**
+	 * @param instance
+	 *            the instance
+	 * 
+	 * @since 2.0.1
+	 */
+	@PostRemove
+	public void postRemove(Object instance) {
+		this.update(instance, "postRemove");
+	}
+
+	/**
+	 * @param instance
+	 *            the instance
+	 * 
+	 * @since 2.0.1
+	 */
+	@PostUpdate
+	public void postUpdate(Object instance) {
+		this.update(instance, "postUpdate");
+	}
+
+	private void update(Object instance, String event) {
+		final Foo foo = (Foo) instance;
+		foo.setEvents(foo.getEvents() + event);
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.deployment;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.metamodel.ManagedType;
+
+import junit.framework.Assert;
+
+import org.batoo.common.BatooException;
+import org.batoo.common.log.BLoggerFactory;
+import org.batoo.jpa.core.impl.deployment.DeploymentManager;
+import org.batoo.jpa.core.impl.model.MetamodelImpl;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class DeploymentTest extends BaseCoreTest {
+
+	private static class RecordingManager extends DeploymentManager<ManagedType<?>> {
+
+		private final List<Class<?>> performed = Collections.synchronizedList(Lists.<Class<?>> newArrayList());
+		private final Class<?> failing;
+
+		public RecordingManager(MetamodelImpl metamodel, Class<?> failing) {
+			super(BLoggerFactory.getLogger(RecordingManager.class), "Recording Manager", metamodel, Context.ENTITIES);
+
+			this.failing = failing;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 */
+		@Override
+		public Void perform(ManagedType<?> type) throws BatooException {
+			if (type.getJavaType() == this.failing) {
+				throw new BatooException("Deployment failed for " + type.getJavaType().getSimpleName());
+			}
+
+			this.performed.add(type.getJavaType());
+
+			return null;
+		}
+
+		private void run() throws BatooException {
+			this.perform();
+		}
+	}
+
+	private void assertBefore(List<Class<?>> performed, Class<?> first, Class<?> second) {
+		Assert.assertTrue(first.getSimpleName() + " must be performed before " + second.getSimpleName(),
+			performed.indexOf(first) < performed.indexOf(second));
+	}
+
+	/**
+	 * Tests that a failure in a deployment unit propagates and the units depending on it are not performed.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testFailure() {
+		final RecordingManager manager = new RecordingManager(this.emf().getMetamodel(), Dog.class);
+
+		try {
+			manager.run();
+
+			Assert.fail("Deployment must fail");
+		}
+		catch (final BatooException e) {
+			Assert.assertEquals("Deployment failed for Dog", e.getCause().getMessage());
+		}
+
+		Assert.assertTrue(manager.performed.contains(Animal.class));
+		Assert.assertFalse(manager.performed.contains(Dog.class));
+		Assert.assertFalse(manager.performed.contains(Puppy.class));
+	}
+
+	/**
+	 * Tests that the super types and the id dependencies are performed before the types that depend on them.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testOrder() throws BatooException {
+		final RecordingManager manager = new RecordingManager(this.emf().getMetamodel(), null);
+
+		manager.run();
+
+		final List<Class<?>> performed = manager.performed;
+
+		Assert.assertEquals(5, performed.size());
+
+		this.assertBefore(performed, Animal.class, Dog.class);
+		this.assertBefore(performed, Dog.class, Puppy.class);
+		this.assertBefore(performed, Employee.class, Dependent.class);
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.distinct;
+
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.JPASettings;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class DistinctTest extends BaseCoreTest {
+
+	private static final String QUERY = "select distinct b from Basket b left join fetch b.lines order by b.name";
+
+	private void assertBaskets(final List<Basket> baskets, int size) {
+		Assert.assertEquals(size, baskets.size());
+
+		for (int i = 0; i < baskets.size(); i++) {
+			Assert.assertEquals("Basket" + i, baskets.get(i).getName());
+			Assert.assertEquals(4, baskets.get(i).getLines().size());
+
+			for (int j = 0; j < i; j++) {
+				Assert.assertNotSame(baskets.get(j), baskets.get(i));
+			}
+		}
+	}
+
+	private void persistBaskets(int size) {
+		for (int i = 0; i < size; i++) {
+			final Basket basket = new Basket();
+			basket.setName("Basket" + i);
+
+			for (int j = 0; j < 4; j++) {
+				new Line(basket, "Line" + j);
+			}
+
+			this.persist(basket);
+		}
+
+		this.commit();
+
+		this.close();
+	}
+
+	/**
+	 * Tests that the entities repeated by the fetched collection are returned once in the order of their first appearance.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testDistinctEntities() {
+		this.persistBaskets(3);
+
+		this.assertBaskets(this.cq(DistinctTest.QUERY, Basket.class).getResultList(), 3);
+	}
+
+	/**
+	 * Tests that the entities are de-duplicated when the results exceed the size the results are pre-sized for.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testDistinctEntitiesManyResults() {
+		this.persistBaskets(25);
+
+		final List<Basket> baskets = this.cq(DistinctTest.QUERY, Basket.class).getResultList();
+		Assert.assertEquals(25, baskets.size());
+
+		for (final Basket basket : baskets) {
+			Assert.assertEquals(4, basket.getLines().size());
+		}
+	}
+
+	/**
+	 * Tests that the entities are de-duplicated when the results are pre-sized by the max results.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testDistinctEntitiesMaxResults() {
+		this.persistBaskets(3);
+
+		this.assertBaskets(this.cq("select distinct b from Basket b left join b.lines l order by b.name", Basket.class) //
+			.setMaxResults(2) //
+			.getResultList(), 2);
+	}
+
+	/**
+	 * Tests that the entities are de-duplicated when the fetch size is smaller than the number of rows.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testDistinctEntitiesSmallFetchSize() {
+		this.persistBaskets(3);
+
+		this.assertBaskets(this.cq(DistinctTest.QUERY, Basket.class) //
+			.setHint(JPASettings.FETCH_SIZE, 2) //
+			.getResultList(), 3);
+	}
+
+	/**
+	 * Tests that the values that are not entities are de-duplicated by equality.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testDistinctValues() {
+		this.persistBaskets(3);
+
+		final List<String> names = this.cq("select distinct l.name from Line l order by l.name", String.class) //
+			.setHint(JPASettings.FETCH_SIZE, 2) //
+			.getResultList();
+
+		Assert.assertEquals(4, names.size());
+		for (int i = 0; i < names.size(); i++) {
+			Assert.assertEquals("Line" + i, names.get(i));
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.enhance.cache;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.Arrays;
+
+import junit.framework.Assert;
+
+import org.apache.commons.io.FileUtils;
+import org.batoo.jpa.core.impl.instance.EnhancedClassCache;
+import org.batoo.jpa.core.impl.instance.Enhancer;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class EnhancedClassCacheTest extends BaseCoreTest {
+
+	private static final byte[] MARKER = new byte[] { 1, 2, 3 };
+
+	/**
+	 * The temporary folder for the cache.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private File[] listEntries(File cacheFolder) {
+		return cacheFolder.listFiles(new FilenameFilter() {
+
+			@Override
+			public boolean accept(File dir, String name) {
+				return name.startsWith(Person.class.getName() + Enhancer.SUFFIX_ENHANCED) && name.endsWith(".class");
+			}
+		});
+	}
+
+	/**
+	 * Tests that the enhanced class is read from the cache folder.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of failure
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCacheHit() throws Exception {
+		final File cacheFolder = this.folder.newFolder("cache");
+
+		final byte[] byteCode = new EnhancedClassCache(cacheFolder).getByteCode(Person.class);
+
+		final File[] entries = this.listEntries(cacheFolder);
+		Assert.assertEquals(1, entries.length);
+		Assert.assertTrue(Arrays.equals(byteCode, FileUtils.readFileToByteArray(entries[0])));
+
+		// a new cache must read the entry rather than enhancing the class again
+		FileUtils.writeByteArrayToFile(entries[0], EnhancedClassCacheTest.MARKER);
+
+		Assert.assertTrue(Arrays.equals(EnhancedClassCacheTest.MARKER, new EnhancedClassCache(cacheFolder).getByteCode(Person.class)));
+	}
+
+	/**
+	 * Tests that an entry with a different hash is not used.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of failure
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCacheInvalidated() throws Exception {
+		final File cacheFolder = this.folder.newFolder("cache");
+
+		final File staleEntry = new File(cacheFolder, Person.class.getName() + Enhancer.SUFFIX_ENHANCED + "-stale.class");
+		FileUtils.writeByteArrayToFile(staleEntry, EnhancedClassCacheTest.MARKER);
+
+		final byte[] byteCode = new EnhancedClassCache(cacheFolder).getByteCode(Person.class);
+
+		Assert.assertFalse(Arrays.equals(EnhancedClassCacheTest.MARKER, byteCode));
+		Assert.assertTrue(Arrays.equals(Enhancer.create(Person.class), byteCode));
+		Assert.assertEquals(2, this.listEntries(cacheFolder).length);
+	}
+
+	/**
+	 * Tests that the cache without a folder enhances the class.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of failure
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testNoCacheFolder() throws Exception {
+		Assert.assertTrue(Arrays.equals(Enhancer.create(Person.class), new EnhancedClassCache(null).getByteCode(Person.class)));
+	}
+}
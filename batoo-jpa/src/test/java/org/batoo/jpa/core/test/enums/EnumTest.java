@@ -20,6 +20,7 @@
 package org.batoo.jpa.core.test.enums;
 
 import java.sql.SQLException;
+import java.util.List;
 
 import javax.persistence.EntityManager;
 import javax.sql.DataSource;
@@ -77,6 +78,34 @@ public class EnumTest extends BaseCoreTest {
 		Assert.assertEquals(FooType.TYPE2, foo.getFootype2());
 	}
 
+	/**
+	 * Tests that every constant of the enum is read back for both ordinal and string columns.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testFindAll() {
+		final FooType[] values = FooType.values();
+		for (int i = 0; i < values.length; i++) {
+			final Foo foo = new Foo();
+			foo.setFootype(values[i]);
+			foo.setFootype2(values[values.length - i - 1]);
+
+			this.persist(foo);
+		}
+
+		this.commit();
+		this.close();
+
+		final List<Foo> foos = this.cq("select f from Foo f order by f.footype", Foo.class).getResultList();
+		Assert.assertEquals(values.length, foos.size());
+
+		for (int i = 0; i < values.length; i++) {
+			Assert.assertSame(values[i], foos.get(i).getFootype());
+			Assert.assertSame(values[values.length - i - 1], foos.get(i).getFootype2());
+		}
+	}
+
 	/**
 	 * Tests to {@link EntityManager#persist(Object)}.
 	 * 
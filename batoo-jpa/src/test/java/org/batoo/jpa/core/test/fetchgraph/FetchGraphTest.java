@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.fetchgraph;
+
+import java.util.Collections;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.JPASettings;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class FetchGraphTest extends BaseCoreTest {
+
+	private static final String SALES = "Sales";
+
+	private Department persistDepartment() {
+		final Department department = new Department();
+		department.setName(FetchGraphTest.SALES);
+
+		new Employee(department, "Employee1");
+		new Employee(department, "Employee2");
+
+		this.persist(department);
+
+		this.commit();
+
+		this.close();
+
+		return department;
+	}
+
+	/**
+	 * Tests that {@link javax.persistence.EntityManager#find(Class, Object, java.util.Map)} join fetches the lazy associations in the
+	 * fetch graph.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testFind() {
+		final Department department = this.persistDepartment();
+
+		final Department department2 = this.em().find(Department.class, department.getKey(),
+			Collections.<String, Object> singletonMap(JPASettings.FETCH_GRAPH, "employees"));
+
+		Assert.assertTrue(this.emf().getPersistenceUnitUtil().isLoaded(department2, "employees"));
+		Assert.assertEquals(2, department2.getEmployees().size());
+
+		this.close();
+
+		final Department department3 = this.find(Department.class, department.getKey());
+		Assert.assertFalse(this.emf().getPersistenceUnitUtil().isLoaded(department3, "employees"));
+		Assert.assertEquals(2, department3.getEmployees().size());
+	}
+
+	/**
+	 * Tests that {@link javax.persistence.EntityManager#find(Class, Object, java.util.Map)} leaves the eager associations out of the
+	 * fetch graph unloaded.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testFindOutsideGraph() {
+		final Department department = this.persistDepartment();
+		final Employee employee = department.getEmployees().get(0);
+
+		final Employee employee2 = this.em().find(Employee.class, employee.getKey(),
+			Collections.<String, Object> singletonMap(JPASettings.FETCH_GRAPH, "name"));
+
+		Assert.assertFalse(this.emf().getPersistenceUnitUtil().isLoaded(employee2, "department"));
+		Assert.assertFalse(this.emf().getPersistenceUnitUtil().isLoaded(employee2.getDepartment()));
+
+		this.close();
+
+		final Employee employee3 = this.find(Employee.class, employee.getKey());
+		Assert.assertTrue(this.emf().getPersistenceUnitUtil().isLoaded(employee3, "department"));
+		Assert.assertEquals(FetchGraphTest.SALES, employee3.getDepartment().getName());
+	}
+
+	/**
+	 * Tests that the query hint join fetches the lazy associations in the load graph.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testQuery() {
+		this.persistDepartment();
+
+		final Department department = this.cq("select d from Department d where d.name = :name", Department.class) //
+			.setHint(JPASettings.LOAD_GRAPH, "employees") //
+			.setParameter("name", FetchGraphTest.SALES) //
+			.getSingleResult();
+
+		Assert.assertTrue(this.emf().getPersistenceUnitUtil().isLoaded(department, "employees"));
+		Assert.assertEquals(2, department.getEmployees().size());
+	}
+
+	/**
+	 * Tests that the graph hints cannot be applied after the parameters are bound.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testHintAfterParameters() {
+		this.cq("select d from Department d where d.name = :name", Department.class) //
+			.setParameter("name", FetchGraphTest.SALES) //
+			.setHint(JPASettings.FETCH_GRAPH, "employees");
+	}
+
+	/**
+	 * Tests the join fetched and not fetched lazy associations are tracked by their join ordinals.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testJoinLoaded() {
+		this.persistDepartment();
+
+		final Department department = this.cq("select d from Department d left join fetch d.employees where d.name = :name", Department.class) //
+			.setParameter("name", FetchGraphTest.SALES) //
+			.getSingleResult();
+
+		Assert.assertTrue(this.emf().getPersistenceUnitUtil().isLoaded(department, "employees"));
+		Assert.assertEquals(2, department.getEmployees().size());
+
+		this.close();
+
+		final Department department2 = this.cq("select d from Department d where d.name = :name", Department.class) //
+			.setParameter("name", FetchGraphTest.SALES) //
+			.getSingleResult();
+
+		Assert.assertFalse(this.emf().getPersistenceUnitUtil().isLoaded(department2, "employees"));
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.fetchsize;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.JPASettings;
+import org.batoo.jpa.core.impl.criteria.QueryImpl;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class FetchSizeTest extends BaseCoreTest {
+
+	private static final String QUERY = "select i from Item i where i.priority < :priority";
+
+	private int getFetchSizeEstimate() {
+		return ((QueryImpl<Item>) this.cq(FetchSizeTest.QUERY, Item.class)).getCriteriaQuery().getFetchSizeEstimate();
+	}
+
+	private void persistItems() {
+		for (int i = 0; i < 20; i++) {
+			this.persist(new Item(i % 5));
+		}
+
+		this.commit();
+
+		this.close();
+	}
+
+	private int run(int priority, Object adaptiveFetchSize, Object fetchSize) {
+		final QueryImpl<Item> q = (QueryImpl<Item>) this.cq(FetchSizeTest.QUERY, Item.class);
+
+		if (adaptiveFetchSize != null) {
+			q.setHint(JPASettings.ADAPTIVE_FETCH_SIZE, adaptiveFetchSize);
+		}
+
+		if (fetchSize != null) {
+			q.setHint(JPASettings.FETCH_SIZE, fetchSize);
+		}
+
+		return q.setParameter("priority", priority).getResultList().size();
+	}
+
+	/**
+	 * Tests that the fetch size estimate follows the moving average of the result sizes.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testAdaptive() {
+		this.persistItems();
+
+		Assert.assertEquals(0, this.getFetchSizeEstimate());
+
+		Assert.assertEquals(20, this.run(5, true, null));
+		Assert.assertEquals(21, this.getFetchSizeEstimate());
+
+		// (3 * 20 + 4) / 4 rounded up, plus one row
+		Assert.assertEquals(4, this.run(1, "true", null));
+		Assert.assertEquals(17, this.getFetchSizeEstimate());
+
+		Assert.assertEquals(0, this.run(0, true, null));
+		Assert.assertEquals(13, this.getFetchSizeEstimate());
+	}
+
+	/**
+	 * Tests that the result sizes are not recorded when the fetch size is set by the hint.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testFixed() {
+		this.persistItems();
+
+		Assert.assertEquals(20, this.run(5, true, 5));
+		Assert.assertEquals(20, this.run(5, true, "50"));
+
+		Assert.assertEquals(0, this.getFetchSizeEstimate());
+	}
+
+	/**
+	 * Tests that the result sizes are not recorded when the adaptive fetch size is not turned on.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testNotAdaptive() {
+		this.persistItems();
+
+		Assert.assertEquals(20, this.run(5, null, null));
+		Assert.assertEquals(20, this.run(5, false, null));
+
+		Assert.assertEquals(0, this.getFetchSizeEstimate());
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.fetchsize;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+/**
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Item {
+
+	@Id
+	@GeneratedValue
+	private Integer id;
+
+	private int priority;
+
+	/**
+	 * @since 2.0.1
+	 */
+	public Item() {
+		super();
+	}
+
+	/**
+	 * @param priority
+	 *            the priority
+	 * 
+	 * @since 2.0.1
+	 */
+	public Item(int priority) {
+		super();
+
+		this.priority = priority;
+	}
+
+	/**
+	 * Returns the id.
+	 * 
+	 * @return the id
+	 * @since 2.0.1
+	 */
+	public Integer getId() {
+		return this.id;
+	}
+
+	/**
+	 * Returns the priority.
+	 * 
+	 * @return the priority
+	 * @since 2.0.1
+	 */
+	public int getPriority() {
+		return this.priority;
+	}
+}
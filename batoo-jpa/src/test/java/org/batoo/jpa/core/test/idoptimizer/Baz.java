@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.idoptimizer;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.TableGenerator;
+
+import org.batoo.jpa.annotations.IdOptimizer;
+import org.batoo.jpa.annotations.IdOptimizerType;
+
+/**
+ * Entity with an id generated by a pooled-lo table generator.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Baz {
+
+	@Id
+	@IdOptimizer(IdOptimizerType.POOLED_LO)
+	@TableGenerator(name = "bazGen", table = "BAZ_GEN", pkColumnName = "GEN_KEY", valueColumnName = "GEN_VALUE", pkColumnValue = "BAZ", allocationSize = 5)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "bazGen")
+	private Long id;
+
+	private String value;
+
+	/**
+	 * Returns the id of the Baz.
+	 * 
+	 * @return the id of the Baz
+	 * 
+	 * @since 2.0.1
+	 */
+	public Long getId() {
+		return this.id;
+	}
+
+	/**
+	 * Returns the value of the Baz.
+	 * 
+	 * @return the value of the Baz
+	 * 
+	 * @since 2.0.1
+	 */
+	public String getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Sets the value of the Baz.
+	 * 
+	 * @param value
+	 *            the value to set for Baz
+	 * 
+	 * @since 2.0.1
+	 */
+	public void setValue(String value) {
+		this.value = value;
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.idoptimizer;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.batoo.jpa.jdbc.dbutils.QueryRunner;
+import org.batoo.jpa.jdbc.dbutils.SingleValueHandler;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests the id optimizers of the table generators.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+public class IdOptimizerTest extends BaseCoreTest {
+
+	private static final int COUNT = 12;
+
+	private void assertContiguous(List<Long> ids) {
+		for (int i = 0; i < IdOptimizerTest.COUNT; i++) {
+			Assert.assertEquals(Long.valueOf(i + 1), ids.get(i));
+		}
+	}
+
+	private long getGeneratorValue(String table, String key) throws SQLException {
+		return new QueryRunner(this.em().unwrap(DataSource.class)).query("SELECT GEN_VALUE FROM " + table + " WHERE GEN_KEY = ?",
+			new SingleValueHandler<Number>(), key).longValue();
+	}
+
+	/**
+	 * Tests the hilo optimizer set by the persistence unit property for the generator defined in the orm.xml.
+	 * <p>
+	 * The hilo optimizer increments the table value by one for each block of ids.
+	 * 
+	 * @throws SQLException
+	 *             thrown in case of an underlying SQL error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testHilo() throws SQLException {
+		final List<Long> ids = Lists.newArrayList();
+		for (int i = 0; i < IdOptimizerTest.COUNT; i++) {
+			final Foo foo = new Foo();
+			this.persist(foo);
+
+			ids.add(foo.getId());
+		}
+
+		this.commit();
+
+		this.assertContiguous(ids);
+
+		// three blocks are used, at most one more is prefetched
+		final long value = this.getGeneratorValue("FOO_GEN", "FOO");
+		Assert.assertTrue(value >= 3);
+		Assert.assertTrue(value <= 4);
+	}
+
+	/**
+	 * Tests the orm.xml declaring the hilo generator conforms to the orm schema.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of an underlying error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testOrmSchema() throws Exception {
+		final Schema schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(
+			this.getClass().getClassLoader().getResource("xsd/orm_2_0.xsd"));
+
+		schema.newValidator().validate(new StreamSource(IdOptimizerTest.class.getResourceAsStream("orm.xml")));
+	}
+
+	/**
+	 * Tests the pooled optimizer.
+	 * <p>
+	 * The pooled optimizer treats the table value as the high end of the block.
+	 * 
+	 * @throws SQLException
+	 *             thrown in case of an underlying SQL error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPooled() throws SQLException {
+		final List<Long> ids = Lists.newArrayList();
+		for (int i = 0; i < IdOptimizerTest.COUNT; i++) {
+			final Bar bar = new Bar();
+			this.persist(bar);
+
+			ids.add(bar.getId());
+		}
+
+		this.commit();
+
+		this.assertContiguous(ids);
+
+		// the initial value is a block of its own, followed by [2, 7), [7, 12) and [12, 17)
+		final long value = this.getGeneratorValue("BAR_GEN", "BAR");
+		Assert.assertTrue(value >= 16);
+		Assert.assertTrue(value <= 21);
+	}
+
+	/**
+	 * Tests the pooled-lo optimizer.
+	 * <p>
+	 * The pooled-lo optimizer treats the table value as the low end of the block.
+	 * 
+	 * @throws SQLException
+	 *             thrown in case of an underlying SQL error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPooledLo() throws SQLException {
+		final List<Long> ids = Lists.newArrayList();
+		for (int i = 0; i < IdOptimizerTest.COUNT; i++) {
+			final Baz baz = new Baz();
+			this.persist(baz);
+
+			ids.add(baz.getId());
+		}
+
+		this.commit();
+
+		this.assertContiguous(ids);
+
+		// blocks [1, 6), [6, 11) and [11, 16) are used, at most one more is prefetched
+		final long value = this.getGeneratorValue("BAZ_GEN", "BAZ");
+		Assert.assertTrue(value >= 11);
+		Assert.assertTrue(value <= 16);
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.keyset;
+
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.Keyset;
+import org.batoo.jpa.core.impl.criteria.QueryImpl;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class KeysetTest extends BaseCoreTest {
+
+	private static final int COUNT = 25;
+	private static final int PAGE_SIZE = 10;
+
+	private void persistItems() {
+		for (int i = 0; i < KeysetTest.COUNT; i++) {
+			this.persist(new Item(i % 3));
+		}
+
+		this.commit();
+
+		this.close();
+	}
+
+	/**
+	 * Tests that turning off the keyset after the subsequent pages runs the query itself.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testKeysetOff() {
+		this.persistItems();
+
+		final QueryImpl<Item> q = (QueryImpl<Item>) this.cq("select i from Item i order by i.priority, i.id", Item.class);
+		q.setKeyset(Keyset.first()).setMaxResults(KeysetTest.PAGE_SIZE);
+		Assert.assertEquals(KeysetTest.PAGE_SIZE, q.getResultList().size());
+
+		q.setKeyset(q.getNextKeyset());
+		Assert.assertEquals(KeysetTest.PAGE_SIZE, q.getResultList().size());
+
+		q.setKeyset(null).setMaxResults(Integer.MAX_VALUE);
+		Assert.assertEquals(KeysetTest.COUNT, q.getResultList().size());
+	}
+
+	/**
+	 * Tests that the pages follow each other in the order of the query.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPages() {
+		this.persistItems();
+
+		final List<Item> items = Lists.newArrayList();
+
+		Keyset keyset = Keyset.first();
+		int pages = 0;
+		while (keyset != null) {
+			final QueryImpl<Item> q = (QueryImpl<Item>) this.cq("select i from Item i order by i.priority, i.id", Item.class);
+			q.setKeyset(keyset).setMaxResults(KeysetTest.PAGE_SIZE);
+
+			final List<Item> page = q.getResultList();
+			Assert.assertTrue(page.size() <= KeysetTest.PAGE_SIZE);
+
+			items.addAll(page);
+			keyset = q.getNextKeyset();
+			pages++;
+		}
+
+		Assert.assertEquals(4, pages);
+		Assert.assertEquals(KeysetTest.COUNT, items.size());
+
+		for (int i = 1; i < items.size(); i++) {
+			final Item previous = items.get(i - 1);
+			final Item current = items.get(i);
+
+			Assert.assertTrue((previous.getPriority() < current.getPriority())
+				|| ((previous.getPriority() == current.getPriority()) && (previous.getId() < current.getId())));
+		}
+	}
+
+	/**
+	 * Tests that the pages of a query with parameters and keys in different directions follow each other in the order of the query.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPagesWithParameter() {
+		this.persistItems();
+
+		final List<Item> items = Lists.newArrayList();
+
+		Keyset keyset = Keyset.first();
+		while (keyset != null) {
+			final QueryImpl<Item> q = (QueryImpl<Item>) this.cq("select i from Item i where i.priority > :priority order by i.priority desc, i.id",
+				Item.class);
+			q.setParameter("priority", 0).setMaxResults(KeysetTest.PAGE_SIZE);
+			q.setKeyset(keyset);
+
+			items.addAll(q.getResultList());
+			keyset = q.getNextKeyset();
+		}
+
+		// priorities 1 and 2 of the 25 items
+		Assert.assertEquals(16, items.size());
+
+		for (int i = 1; i < items.size(); i++) {
+			final Item previous = items.get(i - 1);
+			final Item current = items.get(i);
+
+			Assert.assertTrue(current.getPriority() > 0);
+			Assert.assertTrue((previous.getPriority() > current.getPriority())
+				|| ((previous.getPriority() == current.getPriority()) && (previous.getId() < current.getId())));
+		}
+	}
+}
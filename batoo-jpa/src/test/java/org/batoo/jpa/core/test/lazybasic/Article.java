@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.lazybasic;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+import org.batoo.jpa.annotations.LazyGroup;
+
+/**
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Article {
+
+	@Id
+	@GeneratedValue
+	private Integer key;
+
+	private String title;
+
+	@Basic(fetch = FetchType.LAZY)
+	private String body;
+
+	@Basic(fetch = FetchType.LAZY)
+	@LazyGroup("extra")
+	private String summary;
+
+	@Basic(fetch = FetchType.LAZY)
+	@LazyGroup("extra")
+	private String notes;
+
+	/**
+	 * Returns the body.
+	 * 
+	 * @return the body
+	 * @since 2.0.1
+	 */
+	public String getBody() {
+		return this.body;
+	}
+
+	/**
+	 * Returns the key.
+	 * 
+	 * @return the key
+	 * @since 2.0.1
+	 */
+	public Integer getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Returns the notes.
+	 * 
+	 * @return the notes
+	 * @since 2.0.1
+	 */
+	public String getNotes() {
+		return this.notes;
+	}
+
+	/**
+	 * Returns the summary.
+	 * 
+	 * @return the summary
+	 * @since 2.0.1
+	 */
+	public String getSummary() {
+		return this.summary;
+	}
+
+	/**
+	 * Returns the title.
+	 * 
+	 * @return the title
+	 * @since 2.0.1
+	 */
+	public String getTitle() {
+		return this.title;
+	}
+
+	/**
+	 * Sets the body.
+	 * 
+	 * @param body
+	 *            the body to set
+	 * @since 2.0.1
+	 */
+	public void setBody(String body) {
+		this.body = body;
+	}
+
+	/**
+	 * Sets the notes.
+	 * 
+	 * @param notes
+	 *            the notes to set
+	 * @since 2.0.1
+	 */
+	public void setNotes(String notes) {
+		this.notes = notes;
+	}
+
+	/**
+	 * Sets the summary.
+	 * 
+	 * @param summary
+	 *            the summary to set
+	 * @since 2.0.1
+	 */
+	public void setSummary(String summary) {
+		this.summary = summary;
+	}
+
+	/**
+	 * Sets the title.
+	 * 
+	 * @param title
+	 *            the title to set
+	 * @since 2.0.1
+	 */
+	public void setTitle(String title) {
+		this.title = title;
+	}
+}
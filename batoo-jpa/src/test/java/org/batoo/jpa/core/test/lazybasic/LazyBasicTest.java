@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.lazybasic;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class LazyBasicTest extends BaseCoreTest {
+
+	private static final String TITLE = "Title";
+	private static final String TITLE2 = "Title2";
+	private static final String BODY = "Body";
+	private static final String BODY2 = "Body2";
+	private static final String SUMMARY = "Summary";
+	private static final String SUMMARY2 = "Summary2";
+	private static final String NOTES = "Notes";
+	private static final String NOTES2 = "Notes2";
+
+	private Article newArticle() {
+		final Article article = new Article();
+
+		article.setTitle(LazyBasicTest.TITLE);
+		article.setBody(LazyBasicTest.BODY);
+		article.setSummary(LazyBasicTest.SUMMARY);
+		article.setNotes(LazyBasicTest.NOTES);
+
+		return article;
+	}
+
+	/**
+	 * Tests that the lazy attributes are loaded on first access.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testLazyLoad() {
+		final Article article = this.newArticle();
+		this.persist(article);
+
+		this.commit();
+
+		this.close();
+
+		final Article article2 = this.find(Article.class, article.getKey());
+		Assert.assertEquals(LazyBasicTest.TITLE, article2.getTitle());
+		Assert.assertEquals(LazyBasicTest.BODY, article2.getBody());
+		Assert.assertEquals(LazyBasicTest.SUMMARY, article2.getSummary());
+		Assert.assertEquals(LazyBasicTest.NOTES, article2.getNotes());
+	}
+
+	/**
+	 * Tests that merging a detached entity writes the lazy attributes it has loaded and keeps the ones it has not.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testMerge() {
+		final Article article = this.newArticle();
+		this.persist(article);
+
+		this.commit();
+
+		this.close();
+
+		final Article article2 = this.find(Article.class, article.getKey());
+		Assert.assertEquals(LazyBasicTest.BODY, article2.getBody());
+
+		this.close();
+
+		// the extra group is never loaded by the detached instance
+		article2.setBody(LazyBasicTest.BODY2);
+
+		this.begin();
+
+		final Article article3 = this.find(Article.class, article.getKey());
+		Assert.assertSame(article3, this.merge(article2));
+
+		this.commit();
+
+		this.close();
+
+		final Article article4 = this.find(Article.class, article.getKey());
+		Assert.assertEquals(LazyBasicTest.BODY2, article4.getBody());
+		Assert.assertEquals(LazyBasicTest.SUMMARY, article4.getSummary());
+		Assert.assertEquals(LazyBasicTest.NOTES, article4.getNotes());
+	}
+
+	/**
+	 * Tests that the setters of lazy attributes do not load, and values set survive the load of the rest of the group.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSetter() {
+		final Article article = this.newArticle();
+		this.persist(article);
+
+		this.commit();
+
+		this.close();
+
+		final Article article2 = this.find(Article.class, article.getKey());
+
+		this.close();
+
+		// detached instances cannot load, setters must not attempt to
+		article2.setBody(LazyBasicTest.BODY2);
+		article2.setSummary(LazyBasicTest.SUMMARY2);
+		article2.setNotes(LazyBasicTest.NOTES2);
+
+		Assert.assertEquals(LazyBasicTest.BODY2, article2.getBody());
+		Assert.assertEquals(LazyBasicTest.SUMMARY2, article2.getSummary());
+		Assert.assertEquals(LazyBasicTest.NOTES2, article2.getNotes());
+
+		this.begin();
+
+		final Article article3 = this.find(Article.class, article.getKey());
+
+		// only part of the group is set, loading the rest must not overwrite it
+		article3.setSummary(LazyBasicTest.SUMMARY2);
+		Assert.assertEquals(LazyBasicTest.NOTES, article3.getNotes());
+		Assert.assertEquals(LazyBasicTest.SUMMARY2, article3.getSummary());
+
+		// setter only update
+		article3.setBody(LazyBasicTest.BODY2);
+
+		this.commit();
+
+		this.close();
+
+		final Article article4 = this.find(Article.class, article.getKey());
+		Assert.assertEquals(LazyBasicTest.BODY2, article4.getBody());
+		Assert.assertEquals(LazyBasicTest.SUMMARY2, article4.getSummary());
+		Assert.assertEquals(LazyBasicTest.NOTES, article4.getNotes());
+	}
+
+	/**
+	 * Tests that updates do not overwrite the lazy attributes that are not loaded.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testUpdate() {
+		final Article article = this.newArticle();
+		this.persist(article);
+
+		this.commit();
+
+		this.close();
+
+		this.begin();
+
+		final Article article2 = this.find(Article.class, article.getKey());
+		article2.setTitle(LazyBasicTest.TITLE2);
+
+		// methods other than the lazy getters do not load
+		article2.hashCode();
+		article2.toString();
+
+		this.commit();
+
+		// the update leaves out the lazy attributes rather than loading them
+		Assert.assertFalse(this.emf().getPersistenceUnitUtil().isLoaded(article2, "body"));
+		Assert.assertFalse(this.emf().getPersistenceUnitUtil().isLoaded(article2, "notes"));
+
+		this.close();
+
+		final Article article3 = this.find(Article.class, article.getKey());
+		Assert.assertEquals(LazyBasicTest.TITLE2, article3.getTitle());
+		Assert.assertEquals(LazyBasicTest.BODY, article3.getBody());
+		Assert.assertEquals(LazyBasicTest.NOTES, article3.getNotes());
+	}
+}
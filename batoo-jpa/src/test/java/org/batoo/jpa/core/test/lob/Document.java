@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.lob;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+
+/**
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Document {
+
+	@Id
+	@GeneratedValue
+	private Integer key;
+
+	@Lob
+	private InputStream content;
+
+	@Lob
+	private Reader text;
+
+	private String title;
+
+	/**
+	 * Returns the content.
+	 * 
+	 * @return the content
+	 * @since 2.0.1
+	 */
+	public InputStream getContent() {
+		return this.content;
+	}
+
+	/**
+	 * Returns the key.
+	 * 
+	 * @return the key
+	 * @since 2.0.1
+	 */
+	public Integer getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Returns the text.
+	 * 
+	 * @return the text
+	 * @since 2.0.1
+	 */
+	public Reader getText() {
+		return this.text;
+	}
+
+	/**
+	 * Returns the title.
+	 * 
+	 * @return the title
+	 * @since 2.0.1
+	 */
+	public String getTitle() {
+		return this.title;
+	}
+
+	/**
+	 * Sets the content.
+	 * 
+	 * @param content
+	 *            the content to set
+	 * @since 2.0.1
+	 */
+	public void setContent(InputStream content) {
+		this.content = content;
+	}
+
+	/**
+	 * Sets the text.
+	 * 
+	 * @param text
+	 *            the text to set
+	 * @since 2.0.1
+	 */
+	public void setText(Reader text) {
+		this.text = text;
+	}
+
+	/**
+	 * Sets the title.
+	 * 
+	 * @param title
+	 *            the title to set
+	 * @since 2.0.1
+	 */
+	public void setTitle(String title) {
+		this.title = title;
+	}
+}
@@ -19,12 +19,15 @@
 
 package org.batoo.jpa.core.test.lob;
 
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
 import java.util.Arrays;
 
 import javax.persistence.EntityManager;
 
 import junit.framework.Assert;
 
+import org.apache.commons.io.IOUtils;
 import org.batoo.jpa.core.test.BaseCoreTest;
 import org.junit.Test;
 
@@ -68,4 +71,60 @@ public class LobTest extends BaseCoreTest {
 		Assert.assertEquals(Arrays.toString(LobTest.BLOB_DATA.getBytes()), Arrays.toString(foo2.getBlob()));
 		Assert.assertEquals(LobTest.CLOB_DATA, foo2.getClob());
 	}
+
+	/**
+	 * Tests to {@link EntityManager#persist(Object)} then {@link EntityManager#find(Class, Object)} with streamed lob values
+	 * 
+	 * @throws Exception
+	 *             thrown in case of an underlying error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testStreamingLob() throws Exception {
+		final Document document = new Document();
+		document.setContent(new ByteArrayInputStream(LobTest.BLOB_DATA.getBytes()));
+		document.setText(new StringReader(LobTest.CLOB_DATA));
+
+		this.persist(document);
+
+		this.commit();
+
+		this.close();
+
+		this.begin();
+
+		final Document document2 = this.find(Document.class, document.getKey());
+		Assert.assertEquals(LobTest.BLOB_DATA, new String(IOUtils.toByteArray(document2.getContent())));
+		Assert.assertEquals(LobTest.CLOB_DATA, IOUtils.toString(document2.getText()));
+
+		// the streams are consumed, updating another attribute must leave the lobs untouched
+		document2.setTitle("title");
+
+		this.commit();
+
+		this.close();
+
+		this.begin();
+
+		final Document document3 = this.find(Document.class, document.getKey());
+		Assert.assertEquals("title", document3.getTitle());
+		Assert.assertEquals(LobTest.BLOB_DATA, new String(IOUtils.toByteArray(document3.getContent())));
+		Assert.assertEquals(LobTest.CLOB_DATA, IOUtils.toString(document3.getText()));
+
+		// a replaced lob is still written
+		document3.setText(new StringReader(LobTest.BLOB_DATA));
+
+		this.commit();
+
+		this.close();
+
+		this.begin();
+
+		final Document document4 = this.find(Document.class, document.getKey());
+		Assert.assertEquals(LobTest.BLOB_DATA, new String(IOUtils.toByteArray(document4.getContent())));
+		Assert.assertEquals(LobTest.BLOB_DATA, IOUtils.toString(document4.getText()));
+
+		this.commit();
+	}
 }
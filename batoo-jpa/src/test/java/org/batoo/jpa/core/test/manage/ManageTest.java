@@ -19,6 +19,9 @@
 
 package org.batoo.jpa.core.test.manage;
 
+import java.util.List;
+
+import org.batoo.jpa.core.impl.instance.ManagedInstance;
 import org.batoo.jpa.core.test.BaseCoreTest;
 import org.junit.Assert;
 import org.junit.Test;
@@ -30,6 +33,8 @@ import org.junit.Test;
  */
 public class ManageTest extends BaseCoreTest {
 
+	private static final int LOADED_COUNT = 10;
+
 	private Person person() {
 		final Person person = new Person("Ceylan");
 		new Address(person, "Istanbul");
@@ -98,6 +103,28 @@ public class ManageTest extends BaseCoreTest {
 		Assert.assertEquals(4, person2.getAddresses().size());
 	}
 
+	/**
+	 * Tests that the instances loaded but not changed are not dirty.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testLoadedUnchanged() {
+		for (int i = 0; i < ManageTest.LOADED_COUNT; i++) {
+			this.persist(this.person());
+		}
+
+		this.commit();
+		this.close();
+
+		final List<Person> persons = this.cq("select p from Person p", Person.class).getResultList();
+		Assert.assertEquals(ManageTest.LOADED_COUNT, persons.size());
+
+		for (final Person person : persons) {
+			Assert.assertFalse(this.em().getSession().get(person).hasSelfUpdate());
+		}
+	}
+
 	/**
 	 * Tests that a basic type changed
 	 * 
@@ -120,4 +147,41 @@ public class ManageTest extends BaseCoreTest {
 
 		this.commit();
 	}
+
+	/**
+	 * Tests that the snapshot detects the changes and the reverted changes.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSnapshot() {
+		Person person = this.person();
+		this.persist(person);
+
+		this.commit();
+		this.close();
+
+		this.begin();
+
+		person = this.find(Person.class, person.getId());
+		final ManagedInstance<Person> instance = this.em().getSession().get(person);
+		Assert.assertFalse(instance.hasSelfUpdate());
+
+		person.setName("Ceylan");
+		Assert.assertFalse(instance.hasSelfUpdate());
+
+		person.setName("Hasan");
+		Assert.assertTrue(instance.hasSelfUpdate());
+
+		person.setName("Ceylan");
+		Assert.assertFalse(instance.hasSelfUpdate());
+
+		person.setName("Hasan");
+
+		this.commit();
+		this.close();
+
+		person = this.find(Person.class, person.getId());
+		Assert.assertEquals("Hasan", person.getName());
+	}
 }
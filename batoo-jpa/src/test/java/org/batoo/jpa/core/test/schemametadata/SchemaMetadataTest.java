@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.schemametadata;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.batoo.jpa.jdbc.dbutils.QueryRunner;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class SchemaMetadataTest extends BaseCoreTest {
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 */
+	@Override
+	protected boolean lazySetup() {
+		return true;
+	}
+
+	/**
+	 * Tests that the columns of a table with the same name in another schema are not mistaken for the columns of the table.
+	 * 
+	 * @throws SQLException
+	 *             thrown in case of an underlying SQL error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSameTableInTwoSchemas() throws SQLException {
+		if (!"h2".equals(System.getProperty("testMode"))) {
+			return;
+		}
+
+		// keep the in memory database open until the entity manager factory is created
+		final Connection connection = DriverManager.getConnection(System.getProperty("javax.persistence.jdbc.url"),
+			System.getProperty("javax.persistence.jdbc.user"), System.getProperty("javax.persistence.jdbc.password"));
+
+		try {
+			final QueryRunner qr = new QueryRunner();
+
+			qr.update(connection, "CREATE SCHEMA OTHER");
+			qr.update(connection, "CREATE TABLE OTHER.ITEM (ID INTEGER PRIMARY KEY, NAME VARCHAR(255))");
+			qr.update(connection, "CREATE TABLE ITEM (ID INTEGER PRIMARY KEY)");
+
+			final Item item = new Item();
+			item.setId(1);
+			item.setName("Item1");
+
+			this.persist(item);
+			this.commit();
+
+			this.close();
+
+			Assert.assertEquals("Item1", this.find(Item.class, 1).getName());
+		}
+		finally {
+			connection.close();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.session;
+
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class SessionRepositoryTest extends BaseCoreTest {
+
+	// well above the initial capacity of the partitions so that they grow
+	private static final int COUNT = 100;
+
+	/**
+	 * Tests the identity of the instances in the session through growing, removals and clear.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testIdentity() {
+		final List<Foo> foos = Lists.newArrayList();
+		final List<Bar> bars = Lists.newArrayList();
+
+		for (int i = 0; i < SessionRepositoryTest.COUNT; i++) {
+			final Foo foo = new Foo();
+			foo.setValue("Foo" + i);
+			this.persist(foo);
+			foos.add(foo);
+
+			final Bar bar = new Bar("Bar" + i);
+			this.persist(bar);
+			bars.add(bar);
+		}
+
+		this.commit();
+
+		for (int i = 0; i < SessionRepositoryTest.COUNT; i++) {
+			Assert.assertSame(foos.get(i), this.find(Foo.class, foos.get(i).getKey()));
+			Assert.assertSame(bars.get(i), this.find(Bar.class, bars.get(i).getKey()));
+		}
+
+		// removals from the middle of the probe sequences must keep the rest reachable
+		for (int i = 0; i < SessionRepositoryTest.COUNT; i += 2) {
+			this.detach(foos.get(i));
+			this.detach(bars.get(i));
+		}
+
+		for (int i = 0; i < SessionRepositoryTest.COUNT; i++) {
+			final boolean detached = (i % 2) == 0;
+
+			Assert.assertEquals(!detached, this.contains(foos.get(i)));
+			Assert.assertEquals(!detached, this.contains(bars.get(i)));
+
+			final Foo foo = this.find(Foo.class, foos.get(i).getKey());
+			Assert.assertEquals(!detached, foo == foos.get(i));
+			Assert.assertEquals("Foo" + i, foo.getValue());
+
+			final Bar bar = this.find(Bar.class, bars.get(i).getKey());
+			Assert.assertEquals(!detached, bar == bars.get(i));
+		}
+
+		this.em().clear();
+
+		for (int i = 0; i < SessionRepositoryTest.COUNT; i++) {
+			Assert.assertFalse(this.contains(foos.get(i)));
+			Assert.assertNotSame(foos.get(i), this.find(Foo.class, foos.get(i).getKey()));
+		}
+	}
+
+	/**
+	 * Tests the removed instances leave the session.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testRemove() {
+		final Foo foo = new Foo();
+		foo.setValue("Foo");
+		this.persist(foo);
+
+		final Bar bar = new Bar("Bar");
+		this.persist(bar);
+
+		this.commit();
+
+		this.begin();
+
+		this.em().remove(foo);
+		this.em().remove(bar);
+
+		this.commit();
+
+		Assert.assertNull(this.find(Foo.class, foo.getKey()));
+		Assert.assertNull(this.find(Bar.class, bar.getKey()));
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.commons.io.FileUtils;
+import org.batoo.jpa.BJPASettings;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.batoo.jpa.parser.DeploymentSnapshot;
+import org.batoo.jpa.parser.PersistenceParserImpl;
+import org.batoo.jpa.parser.PersistenceUnitInfoImpl;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class SnapshotTest extends BaseCoreTest {
+
+	/**
+	 * Persistence unit rooted at a folder, with the snapshots read from the output folder.
+	 * 
+	 * @author hceylan
+	 * @since 2.0.1
+	 */
+	private static class SnapshotUnitInfo extends PersistenceUnitInfoImpl {
+
+		private final URL root;
+		private final ClassLoader classloader;
+		private final List<String> managedClassNames = Lists.newArrayList();
+
+		public SnapshotUnitInfo(File root, File output) throws IOException {
+			super("default");
+
+			this.root = root.toURI().toURL();
+			this.classloader = new URLClassLoader(new URL[] { output.toURI().toURL() }, super.getClassLoader());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 */
+		@Override
+		public boolean excludeUnlistedClasses() {
+			return false;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 */
+		@Override
+		public ClassLoader getClassLoader() {
+			return this.classloader;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 */
+		@Override
+		public List<String> getManagedClassNames() {
+			return this.managedClassNames;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 */
+		@Override
+		public URL getPersistenceUnitRootUrl() {
+			return this.root;
+		}
+	}
+
+	/**
+	 * The temporary folder for the persistence root and the snapshots.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private void addClass(File root, Class<?> clazz) throws IOException {
+		final String resource = clazz.getName().replace('.', '/') + ".class";
+
+		FileUtils.copyURLToFile(clazz.getClassLoader().getResource(resource), new File(root, resource));
+	}
+
+	private SnapshotUnitInfo createSnapshot(File root, File output) throws IOException {
+		final Map<String, Object> properties = Maps.newHashMap();
+		properties.put(BJPASettings.DEPLOYMENT_SNAPSHOT, "false");
+
+		final SnapshotUnitInfo puInfo = new SnapshotUnitInfo(root, output);
+		final PersistenceParserImpl parser = new PersistenceParserImpl(puInfo, properties);
+
+		Assert.assertNull(parser.getSnapshot());
+
+		DeploymentSnapshot.create(puInfo, parser, parser.getOrmMappingFiles()).write(output);
+
+		return puInfo;
+	}
+
+	/**
+	 * Tests that the snapshot is used when it matches the persistence unit.
+	 * 
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSnapshot() throws IOException {
+		final File root = this.folder.newFolder("root");
+		final File output = this.folder.newFolder("output");
+
+		this.addClass(root, Foo.class);
+
+		final SnapshotUnitInfo puInfo = this.createSnapshot(root, output);
+
+		final DeploymentSnapshot snapshot = new PersistenceParserImpl(puInfo, null).getSnapshot();
+
+		Assert.assertNotNull(snapshot);
+		Assert.assertEquals(Lists.newArrayList(Foo.class.getName()), Lists.newArrayList(snapshot.getManagedClasses()));
+	}
+
+	/**
+	 * Tests that the snapshot is not used when the mapping files change.
+	 * 
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSnapshotMappingFiles() throws IOException {
+		final File root = this.folder.newFolder("root");
+		final File output = this.folder.newFolder("output");
+
+		this.addClass(root, Foo.class);
+
+		final SnapshotUnitInfo puInfo = this.createSnapshot(root, output);
+
+		Assert.assertNull(DeploymentSnapshot.load(puInfo, Lists.newArrayList("META-INF/other-orm.xml")));
+	}
+
+	/**
+	 * Tests that a new entity listed in the persistence unit invalidates the snapshot.
+	 * 
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSnapshotListedEntity() throws IOException {
+		final File root = this.folder.newFolder("root");
+		final File output = this.folder.newFolder("output");
+
+		this.addClass(root, Foo.class);
+
+		final SnapshotUnitInfo puInfo = this.createSnapshot(root, output);
+
+		puInfo.managedClassNames.add(Bar.class.getName());
+
+		final PersistenceParserImpl parser = new PersistenceParserImpl(puInfo, null);
+
+		Assert.assertNull(parser.getSnapshot());
+		Assert.assertEquals(2, parser.getMetadata().getEntityMappings().size());
+	}
+
+	/**
+	 * Tests that the snapshot is verified without scanning the persistence root.
+	 * 
+	 * @throws IOException
+	 *             thrown in case of an I/O error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSnapshotNoScan() throws IOException {
+		final File root = this.folder.newFolder("root");
+		final File output = this.folder.newFolder("output");
+
+		this.addClass(root, Foo.class);
+
+		final SnapshotUnitInfo puInfo = this.createSnapshot(root, output);
+
+		// the class added to the root after the snapshot is not located
+		this.addClass(root, Bar.class);
+
+		final PersistenceParserImpl parser = new PersistenceParserImpl(puInfo, null);
+
+		Assert.assertNotNull(parser.getSnapshot());
+		Assert.assertEquals(1, parser.getMetadata().getEntityMappings().size());
+	}
+}
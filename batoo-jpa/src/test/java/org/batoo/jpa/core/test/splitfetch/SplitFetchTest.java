@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.splitfetch;
+
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.JPASettings;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class SplitFetchTest extends BaseCoreTest {
+
+	private static final String QUERY = "select p from Product p left join fetch p.parts left join fetch p.reviews";
+	private static final String DISTINCT_QUERY = "select distinct p from Product p left join fetch p.parts left join fetch p.reviews";
+
+	private void persistProducts() {
+		for (int i = 0; i < 2; i++) {
+			final Product product = new Product();
+			product.setName("Product" + i);
+
+			new Part(product, "Part1");
+			new Part(product, "Part2");
+
+			new Review(product, "Review1");
+			new Review(product, "Review2");
+			new Review(product, "Review3");
+
+			this.persist(product);
+		}
+
+		this.commit();
+
+		this.close();
+	}
+
+	private void assertSplit(final List<Product> products) {
+		Assert.assertEquals(2, products.size());
+
+		for (final Product product : products) {
+			Assert.assertTrue(this.emf().getPersistenceUnitUtil().isLoaded(product, "parts"));
+			Assert.assertTrue(this.emf().getPersistenceUnitUtil().isLoaded(product, "reviews"));
+
+			Assert.assertEquals(2, product.getParts().size());
+			Assert.assertEquals(3, product.getReviews().size());
+		}
+	}
+
+	/**
+	 * Tests that the collections of a query that is not distinct are join fetched if not specified, as splitting would change the
+	 * number of results.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testNoSplitByDefault() {
+		this.persistProducts();
+
+		final List<Product> products = this.cq(SplitFetchTest.QUERY, Product.class).getResultList();
+		Assert.assertEquals(12, products.size());
+
+		Assert.assertEquals(2, products.get(0).getParts().size());
+		Assert.assertEquals(3, products.get(0).getReviews().size());
+	}
+
+	/**
+	 * Tests that the collections are loaded with separate queries and the root entities are not repeated when the split is turned on
+	 * by the hint.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSplit() {
+		this.persistProducts();
+
+		this.assertSplit(this.cq(SplitFetchTest.QUERY, Product.class) //
+			.setHint(JPASettings.SPLIT_FETCHES, true) //
+			.getResultList());
+	}
+
+	/**
+	 * Tests that the collections of a distinct query are loaded with separate queries if not specified.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSplitDistinct() {
+		this.persistProducts();
+
+		this.assertSplit(this.cq(SplitFetchTest.DISTINCT_QUERY, Product.class).getResultList());
+	}
+
+	/**
+	 * Tests that the split and the load graph hints compose regardless of the order they are set.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSplitWithGraph() {
+		this.persistProducts();
+
+		this.assertSplit(this.cq("select p from Product p", Product.class) //
+			.setHint(JPASettings.SPLIT_FETCHES, true) //
+			.setHint(JPASettings.LOAD_GRAPH, "parts, reviews") //
+			.getResultList());
+
+		this.close();
+
+		this.assertSplit(this.cq("select p from Product p", Product.class) //
+			.setHint(JPASettings.LOAD_GRAPH, "parts, reviews") //
+			.setHint(JPASettings.SPLIT_FETCHES, true) //
+			.getResultList());
+	}
+
+	/**
+	 * Tests that the collections are loaded with separate queries under the pessimistic lock of the query.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSplitWithLock() {
+		this.persistProducts();
+
+		this.begin();
+
+		this.assertSplit(this.cq(SplitFetchTest.QUERY, Product.class) //
+			.setHint(JPASettings.SPLIT_FETCHES, true) //
+			.setLockMode(LockModeType.PESSIMISTIC_WRITE) //
+			.getResultList());
+
+		this.commit();
+	}
+
+	/**
+	 * Tests that the collections are join fetched when the split is turned off by the hint.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testSplitOff() {
+		this.persistProducts();
+
+		final List<Product> products = this.cq(SplitFetchTest.QUERY, Product.class) //
+			.setHint(JPASettings.SPLIT_FETCHES, false) //
+			.getResultList();
+		Assert.assertEquals(12, products.size());
+
+		Assert.assertEquals(2, products.get(0).getParts().size());
+		Assert.assertEquals(3, products.get(0).getReviews().size());
+	}
+}
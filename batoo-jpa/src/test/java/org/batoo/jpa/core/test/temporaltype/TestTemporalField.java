@@ -20,6 +20,7 @@
 package org.batoo.jpa.core.test.temporaltype;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 
 import java.util.Calendar;
 
@@ -56,4 +57,40 @@ public class TestTemporalField extends BaseCoreTest {
 		assertEquals(testStartInstant.getTime(), mainEntityReloaded.getDate());
 		assertEquals(testStartInstant, mainEntityReloaded.getCalendar());
 	}
+
+	/**
+	 * Test that each calendar read from the database is an independent instance
+	 */
+	@Test
+	public void testTemporalCalendars() {
+		final Calendar first = Calendar.getInstance();
+		first.set(2012, Calendar.JANUARY, 1, 10, 0, 0);
+		first.set(Calendar.MILLISECOND, 0);
+
+		final Calendar second = (Calendar) first.clone();
+		second.add(Calendar.DAY_OF_MONTH, 1);
+
+		final TemporalFieldEntity firstEntity = new TemporalFieldEntity();
+		firstEntity.setCalendar(first);
+		persist(firstEntity);
+
+		final TemporalFieldEntity secondEntity = new TemporalFieldEntity();
+		secondEntity.setCalendar(second);
+		persist(secondEntity);
+
+		this.commit();
+
+		this.close();
+
+		final Calendar firstReloaded = find(TemporalFieldEntity.class, firstEntity.getId()).getCalendar();
+		final Calendar secondReloaded = find(TemporalFieldEntity.class, secondEntity.getId()).getCalendar();
+
+		assertNotSame(firstReloaded, secondReloaded);
+		assertEquals(first.getTimeInMillis(), firstReloaded.getTimeInMillis());
+		assertEquals(second.getTimeInMillis(), secondReloaded.getTimeInMillis());
+
+		// modifying one must not leak into the other
+		firstReloaded.add(Calendar.YEAR, 1);
+		assertEquals(second.getTimeInMillis(), secondReloaded.getTimeInMillis());
+	}
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.timeorderedid;
+
+import java.util.UUID;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class TimeOrderedIdTest extends BaseCoreTest {
+
+	/**
+	 * Tests the 64-bit time-ordered ids are assigned in increasing order.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testLongIds() {
+		final Foo foo = new Foo();
+		foo.setValue("Foo");
+
+		final Foo foo2 = new Foo();
+		foo2.setValue("Foo2");
+
+		this.persist(foo);
+		this.persist(foo2);
+
+		Assert.assertNotNull(foo.getKey());
+		Assert.assertTrue(foo.getKey() < foo2.getKey());
+
+		this.commit();
+		this.close();
+
+		Assert.assertEquals("Foo2", this.find(Foo.class, foo2.getKey()).getValue());
+	}
+
+	/**
+	 * Tests the UUID version 7 ids are assigned in increasing order.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testUuidIds() {
+		final Bar bar = new Bar();
+		bar.setValue("Bar");
+
+		final Bar bar2 = new Bar();
+		bar2.setValue("Bar2");
+
+		this.persist(bar);
+		this.persist(bar2);
+
+		Assert.assertEquals(7, UUID.fromString(bar.getKey()).version());
+		Assert.assertTrue(bar.getKey().compareTo(bar2.getKey()) < 0);
+
+		this.commit();
+		this.close();
+
+		Assert.assertEquals("Bar2", this.find(Bar.class, bar2.getKey()).getValue());
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.validation;
+
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.validation.Valid;
+
+/**
+ * Entity that has no constraints of its own but cascades the validation to its address.
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@Entity
+public class Cascaded {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.AUTO)
+	private Integer id;
+
+	@Valid
+	@Embedded
+	private Address address = new Address();
+
+	/**
+	 * Returns the address of the Cascaded.
+	 * 
+	 * @return the address of the Cascaded
+	 * 
+	 * @since 2.0.1
+	 */
+	public Address getAddress() {
+		return this.address;
+	}
+
+	/**
+	 * Returns the id of the Cascaded.
+	 * 
+	 * @return the id of the Cascaded
+	 * 
+	 * @since 2.0.1
+	 */
+	public Integer getId() {
+		return this.id;
+	}
+}
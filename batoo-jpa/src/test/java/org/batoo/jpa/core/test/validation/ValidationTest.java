@@ -21,6 +21,8 @@ package org.batoo.jpa.core.test.validation;
 
 import javax.validation.ConstraintViolationException;
 
+import junit.framework.Assert;
+
 import org.batoo.jpa.core.test.BaseCoreTest;
 import org.junit.Test;
 
@@ -158,4 +160,59 @@ public class ValidationTest extends BaseCoreTest {
 		foo.setValue2(1);
 		this.commit();
 	}
+
+	/**
+	 * Tests the validation cascades to the embedded address of an entity without constraints of its own
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test(expected = ConstraintViolationException.class)
+	public void testCascaded() {
+		this.persist(new Cascaded());
+		this.commit();
+	}
+
+	/**
+	 * Tests the entity with a valid embedded address persists
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testCascadedOk() {
+		final Cascaded cascaded = new Cascaded();
+		cascaded.getAddress().setStreet("street");
+
+		this.persist(cascaded);
+		this.commit();
+	}
+
+	/**
+	 * Tests the entity without constraints persists, updates and removes
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testUnconstrained() {
+		Plain plain = new Plain();
+		this.persist(plain);
+
+		this.commit();
+		this.close();
+		this.begin();
+
+		plain = this.find(Plain.class, plain.getId());
+		plain.setValue("value");
+
+		this.commit();
+		this.close();
+		this.begin();
+
+		plain = this.find(Plain.class, plain.getId());
+		this.remove(plain);
+
+		this.commit();
+		this.close();
+
+		Assert.assertNull(this.find(Plain.class, plain.getId()));
+	}
 }
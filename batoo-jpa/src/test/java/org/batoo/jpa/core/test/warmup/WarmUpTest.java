@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.core.test.warmup;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.batoo.jpa.core.impl.criteria.BaseQueryImpl;
+import org.batoo.jpa.core.impl.model.EntityTypeImpl;
+import org.batoo.jpa.core.test.BaseCoreTest;
+import org.batoo.jpa.jdbc.AbstractTable;
+import org.batoo.jpa.jdbc.EntityTable;
+import org.junit.Test;
+
+/**
+ * @author hceylan
+ * 
+ * @since 2.0.1
+ */
+public class WarmUpTest extends BaseCoreTest {
+
+	private Object getField(Object instance, Class<?> clazz, String name) throws Exception {
+		final Field field = clazz.getDeclaredField(name);
+		field.setAccessible(true);
+
+		return field.get(instance);
+	}
+
+	private boolean isPrepared(EntityTypeImpl<?> type) throws Exception {
+		final EntityTable table = type.getPrimaryTable();
+
+		final Object selectCriteria = this.getField(type, EntityTypeImpl.class, "selectCriteria");
+		final Object refreshCriteria = this.getField(type, EntityTypeImpl.class, "refreshCriteria");
+
+		return (selectCriteria != null) && (this.getField(selectCriteria, BaseQueryImpl.class, "sql") != null) //
+			&& (refreshCriteria != null) && (this.getField(refreshCriteria, BaseQueryImpl.class, "sql") != null) //
+			&& ((Map<?, ?>) this.getField(table, AbstractTable.class, "insertTemplates")).containsKey(type) //
+			&& ((Map<?, ?>) this.getField(table, AbstractTable.class, "updateTemplates")).containsKey(type);
+	}
+
+	/**
+	 * Tests the warm up prepares the SQL statements and the select plans of the entities ahead of their first use.
+	 * 
+	 * @throws Exception
+	 *             thrown in case of an underlying error
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testPrepared() throws Exception {
+		final EntityTypeImpl<Foo> foo = this.emf().getMetamodel().entity(Foo.class);
+		final EntityTypeImpl<Bar> bar = this.emf().getMetamodel().entity(Bar.class);
+
+		Assert.assertFalse(this.isPrepared(foo));
+		Assert.assertFalse(this.isPrepared(bar));
+
+		this.emf().warmUp();
+
+		Assert.assertTrue(this.isPrepared(foo));
+		Assert.assertTrue(this.isPrepared(bar));
+	}
+
+	/**
+	 * Tests the entities persist, update, find and remove after the entity manager factory is warmed up.
+	 * 
+	 * @since 2.0.1
+	 */
+	@Test
+	public void testWarmUp() {
+		Assert.assertTrue(this.emf().warmUp() >= 0);
+
+		final Foo foo = new Foo();
+		foo.setValue("Foo");
+
+		final Bar bar = new Bar();
+		bar.setFoo(foo);
+
+		this.persist(foo);
+		this.persist(bar);
+		this.commit();
+		this.close();
+
+		final Bar bar2 = this.find(Bar.class, bar.getKey());
+		Assert.assertEquals("Foo", bar2.getFoo().getValue());
+
+		final Integer version = bar2.getFoo().getVersion();
+
+		bar2.getFoo().setValue("Foo2");
+		this.commit();
+		this.close();
+
+		final Foo foo2 = this.find(Foo.class, foo.getKey());
+		Assert.assertEquals("Foo2", foo2.getValue());
+		Assert.assertFalse(version.equals(foo2.getVersion()));
+
+		this.remove(this.find(Bar.class, bar.getKey()));
+		this.remove(foo2);
+		this.commit();
+		this.close();
+
+		Assert.assertNull(this.find(Foo.class, foo.getKey()));
+	}
+}
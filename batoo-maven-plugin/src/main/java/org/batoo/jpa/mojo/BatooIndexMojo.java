@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.mojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.MappedSuperclass;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.batoo.jpa.core.impl.instance.Enhancer;
+import org.batoo.jpa.parser.impl.acl.AnnotatedClassIndex;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * Generates the index of the annotated persistent classes.
+ * <p>
+ * The index lists the classes annotated with {@link Entity}, {@link Embeddable} or {@link MappedSuperclass} so that the persistence
+ * units rooted at the classes do not scan them at runtime.
+ * 
+ * @goal index
+ * @phase process-classes
+ * @requiresDependencyResolution compile
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class BatooIndexMojo extends AbstractMojo {
+
+	/**
+	 * File location for the persistence classes.
+	 * 
+	 * @parameter expression="${batoojpa.classes}" default-value="${project.build.outputDirectory}"
+	 * @required
+	 */
+	protected File classes;
+
+	/**
+	 * Classpath elements to use for loading the classes.
+	 * 
+	 * @parameter default-value="${project.compileClasspathElements}"
+	 * @required
+	 * @readonly
+	 */
+	protected List compileClasspathElements;
+
+	/**
+	 * Skip the exeution.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean skip;
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @see org.apache.maven.plugin.Mojo#execute()
+	 */
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		if (this.skip) {
+			this.getLog().info("Skiping index execution");
+
+			return;
+		}
+
+		final URLClassLoader cl = this.extendRealmClasspath();
+		final int classRootLength = this.classes.toString().length() + 1;
+
+		final List<String> annotatedClasses = new ArrayList<String>();
+
+		for (final File classPath : this.findClassFiles()) {
+			final String absolutePath = classPath.getAbsolutePath();
+
+			if (absolutePath.endsWith(Enhancer.SUFFIX_ENHANCED + ".class")) {
+				continue;
+			}
+
+			final String className = absolutePath.substring(classRootLength, absolutePath.length() - 6).replace('\\', '.').replace('/', '.');
+
+			try {
+				final Class<?> clazz = cl.loadClass(className);
+
+				if ((clazz.getAnnotation(Entity.class) != null) || //
+					(clazz.getAnnotation(Embeddable.class) != null) || //
+					(clazz.getAnnotation(MappedSuperclass.class) != null)) {
+					this.getLog().info("Indexing : " + className);
+
+					annotatedClasses.add(className);
+				}
+			}
+			catch (final Throwable e) {
+				// classes with missing optional dependencies cannot be loaded, the runtime scan skips them as well
+				this.getLog().warn("Skipping : " + className + ", cannot load class: " + e);
+			}
+		}
+
+		Collections.sort(annotatedClasses);
+
+		try {
+			this.getLog().info("Writing  : " + AnnotatedClassIndex.write(this.classes, annotatedClasses));
+		}
+		catch (final IOException e) {
+			throw new MojoExecutionException("Cannot write the annotated class index", e);
+		}
+	}
+
+	/**
+	 * Prepares the class loader with the compile classpath elements.
+	 * 
+	 * @return the class loader
+	 * 
+	 * @throws MojoExecutionException
+	 *             on any error inside the mojo
+	 */
+	protected URLClassLoader extendRealmClasspath() throws MojoExecutionException {
+		final List urls = new ArrayList();
+
+		for (final Iterator itor = this.compileClasspathElements.iterator(); itor.hasNext();) {
+			final File pathElem = new File((String) itor.next());
+			try {
+				final URL url = pathElem.toURI().toURL();
+				urls.add(url);
+				this.getLog().debug("Added classpathElement URL " + url);
+			}
+			catch (final MalformedURLException e) {
+				throw new MojoExecutionException("Error in adding the classpath " + pathElem, e);
+			}
+		}
+
+		return new URLClassLoader((URL[]) urls.toArray(new URL[urls.size()]), this.getClass().getClassLoader());
+	}
+
+	private List<File> findClassFiles() throws MojoExecutionException {
+		try {
+			return FileUtils.getFiles(this.classes, "**/*.class", "");
+		}
+		catch (final IOException e) {
+			throw new MojoExecutionException("Error while scanning for classes in '" + this.classes.getAbsolutePath() + "'.", e);
+		}
+	}
+}
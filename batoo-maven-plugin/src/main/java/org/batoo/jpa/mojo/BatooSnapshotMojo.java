@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2012-2013, Batu Alp Ceylan
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.batoo.jpa.mojo;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.batoo.jpa.BJPASettings;
+import org.batoo.jpa.core.impl.criteria.jpql.JpqlQuery;
+import org.batoo.jpa.parser.DeploymentSnapshot;
+import org.batoo.jpa.parser.PersistenceParserImpl;
+import org.batoo.jpa.parser.PersistenceUnitInfoImpl;
+import org.batoo.jpa.parser.metadata.NamedQueryMetadata;
+
+/**
+ * Generates the deployment snapshots of the persistence units.
+ * <p>
+ * The snapshot lists the managed classes of the persistence unit, so that the runtime can skip resolving them. The syntax of the named
+ * queries is checked at build time, they are still compiled during the deployment.
+ * 
+ * @goal snapshot
+ * @phase process-classes
+ * @requiresDependencyResolution compile
+ * 
+ * @author hceylan
+ * @since 2.0.1
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class BatooSnapshotMojo extends AbstractMojo {
+
+	/**
+	 * File location for the persistence classes.
+	 * 
+	 * @parameter expression="${batoojpa.classes}" default-value="${project.build.outputDirectory}"
+	 * @required
+	 */
+	protected File classes;
+
+	/**
+	 * Classpath elements to use for the deployment.
+	 * 
+	 * @parameter default-value="${project.compileClasspathElements}"
+	 * @required
+	 * @readonly
+	 */
+	protected List compileClasspathElements;
+
+	/**
+	 * Comma seperated names of the persistence units.
+	 * 
+	 * @parameter
+	 * @required
+	 */
+	private String persistenceUnits;
+
+	/**
+	 * Skip the exeution.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean skip;
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @see org.apache.maven.plugin.Mojo#execute()
+	 */
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		if (this.skip) {
+			this.getLog().info("Skiping snapshot execution");
+
+			return;
+		}
+
+		final Thread thread = Thread.currentThread();
+		final ClassLoader oldClassLoader = thread.getContextClassLoader();
+
+		thread.setContextClassLoader(this.extendRealmClasspath());
+		try {
+			for (final String unitName : this.persistenceUnits.split(",")) {
+				this.snapshot(unitName.trim());
+			}
+		}
+		finally {
+			thread.setContextClassLoader(oldClassLoader);
+		}
+	}
+
+	/**
+	 * Prepares the class loader with the compile classpath elements.
+	 * 
+	 * @return the class loader
+	 * 
+	 * @throws MojoExecutionException
+	 *             on any error inside the mojo
+	 */
+	protected URLClassLoader extendRealmClasspath() throws MojoExecutionException {
+		final List urls = new ArrayList();
+
+		for (final Iterator itor = this.compileClasspathElements.iterator(); itor.hasNext();) {
+			final File pathElem = new File((String) itor.next());
+			try {
+				final URL url = pathElem.toURI().toURL();
+				urls.add(url);
+				this.getLog().debug("Added classpathElement URL " + url);
+			}
+			catch (final MalformedURLException e) {
+				throw new MojoExecutionException("Error in adding the classpath " + pathElem, e);
+			}
+		}
+
+		return new URLClassLoader((URL[]) urls.toArray(new URL[urls.size()]), this.getClass().getClassLoader());
+	}
+
+	private void snapshot(String unitName) throws MojoExecutionException {
+		this.getLog().info("Creating snapshot: " + unitName);
+
+		try {
+			// never use a stale snapshot from a previous build
+			final Map<String, Object> properties = new HashMap<String, Object>();
+			properties.put(BJPASettings.DEPLOYMENT_SNAPSHOT, "false");
+
+			final PersistenceUnitInfoImpl puInfo = new PersistenceUnitInfoImpl(unitName);
+			final PersistenceParserImpl parser = new PersistenceParserImpl(puInfo, properties);
+
+			for (final NamedQueryMetadata namedQuery : parser.getMetadata().getNamedQueries()) {
+				JpqlQuery.checkSyntax(namedQuery.getQuery());
+			}
+
+			final DeploymentSnapshot snapshot = DeploymentSnapshot.create(puInfo, parser, parser.getOrmMappingFiles());
+
+			this.getLog().info("Writing  : " + snapshot.write(this.classes));
+		}
+		catch (final Exception e) {
+			throw new MojoExecutionException("Snapshot failed for " + unitName + ": " + e.getMessage(), e);
+		}
+	}
+}